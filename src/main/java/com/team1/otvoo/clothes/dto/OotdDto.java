@@ -8,11 +8,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.jackson.Jacksonized;
 
 @AllArgsConstructor
 @Getter
 @Setter
 @Builder
+@Jacksonized
 public class OotdDto{
   UUID clothesId;
   String name;
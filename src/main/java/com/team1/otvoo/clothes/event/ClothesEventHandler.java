@@ -9,6 +9,7 @@ import com.team1.otvoo.clothes.repository.ClothesRepository;
 import com.team1.otvoo.exception.ErrorCode;
 import com.team1.otvoo.exception.RestException;
 import com.team1.otvoo.feed.elasticsearch.document.FeedDocument;
+import com.team1.otvoo.feed.elasticsearch.index.FeedIndexManager;
 import com.team1.otvoo.feed.entity.Feed;
 import com.team1.otvoo.feed.entity.FeedClothes;
 import com.team1.otvoo.feed.repository.FeedClothesRepository;
@@ -48,6 +49,7 @@ public class ClothesEventHandler {
   private final ClothesImageRepository clothesImageRepository;
   private final ElasticsearchOperations elasticsearchOperations;
   private final ClothesMapper clothesMapper;
+  private final FeedIndexManager feedIndexManager;
 
   @TransactionalEventListener
   @Async
@@ -85,7 +87,9 @@ public class ClothesEventHandler {
           clothes.getSelectedValues().stream().map(clothesMapper::toAttributeDefDto).toList()
       );
 
-      var index = IndexCoordinates.of("feed_index");
+      var index = feedIndexManager.readIndex();
+      List<String> writeIndices = feedIndexManager.writeIndices();
+      feedIndexManager.markDirty(feedIds.stream().map(UUID::toString).toList());
 
       // 3) feedIds를 500개씩 배치로 나눠서 처리
       final int BATCH_SIZE = 500;
@@ -146,6 +150,14 @@ public class ClothesEventHandler {
 
         if (!queries.isEmpty()) {
           elasticsearchOperations.bulkUpdate(queries, index);
+          // 재색인 중인 새 인덱스에는 아직 없는 문서가 있을 수 있어 실패해도 따라잡기 단계에서 반영
+          for (String rebuildingIndex : writeIndices.subList(1, writeIndices.size())) {
+            try {
+              elasticsearchOperations.bulkUpdate(queries, IndexCoordinates.of(rebuildingIndex));
+            } catch (DataAccessException | ElasticsearchException e) {
+              log.warn("재색인 중인 인덱스 부분 업데이트 실패 - index={}", rebuildingIndex, e);
+            }
+          }
           log.info("ES 부분 업데이트 BULK 완료(batch) - clothesId={}, updatedDocs={}", clothesId,
               queries.size());
         }
@@ -11,9 +11,11 @@ import com.team1.otvoo.exception.ErrorCode;
 import com.team1.otvoo.exception.RestException;
 import com.team1.otvoo.feed.entity.Feed;
 import com.team1.otvoo.feed.repository.FeedRepository;
+import com.team1.otvoo.storage.S3ImageStorage;
 import com.team1.otvoo.user.dto.AuthorDto;
 import com.team1.otvoo.user.entity.User;
 import com.team1.otvoo.user.repository.UserRepository;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +34,7 @@ public class CommentServiceImpl implements CommentService{
   private final CommentRepository commentRepository;
   private final CommentMapper commentMapper;
   private final ApplicationEventPublisher eventPublisher;
+  private final S3ImageStorage s3ImageStorage;
 
   @Override
   @Transactional
@@ -58,6 +61,20 @@ public class CommentServiceImpl implements CommentService{
   @Override
   @Transactional(readOnly = true)
   public Slice<CommentDto> getCommentsWithCursor(CommentCursor cursor, UUID feedId) {
-      return commentRepository.findCommentsWithCursor(cursor, feedId);
+    Slice<CommentDto> comments = commentRepository.findCommentsWithCursor(cursor, feedId);
+
+    // 목록 조회 쿼리가 이미 가져온 작성자 프로필 이미지 objectKey를 키별로 한 번씩만 presign
+    // 이미지가 없는 작성자는 null 유지
+    Map<String, String> presignedUrlMap = new HashMap<>();
+    comments.forEach(comment -> {
+      AuthorDto author = comment.author();
+      String objectKey = author.getProfileImageUrl();
+      if (objectKey != null) {
+        author.setProfileImageUrl(
+            presignedUrlMap.computeIfAbsent(objectKey, s3ImageStorage::getPresignedUrl));
+      }
+    });
+
+    return comments;
   }
 }
@@ -0,0 +1,20 @@
+package com.team1.otvoo.common.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 식별자를 시간 순 정렬이 가능한 UUIDv7로 생성한다.
+ * 랜덤 UUIDv4와 달리 insert가 B-tree 인덱스 끝에 몰리고, id만으로도 생성 순서 비교가 가능하다.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface GeneratedUuidV7 {
+
+}
@@ -0,0 +1,50 @@
+package com.team1.otvoo.common.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 UUIDv7 생성기.
+ * 상위 48비트는 unix epoch millis, 이어서 version(7) 4비트와 12비트 시퀀스, variant 2비트와 62비트 난수로 구성된다.
+ * 같은 millisecond 안에서도 시퀀스를 증가시켜 프로세스 내 생성 순서가 정렬 순서와 일치하도록 한다.
+ * API로 노출되는 식별자이므로 난수 비트는 RFC 9562 권고대로 SecureRandom에서 얻어 추측할 수 없게 한다.
+ */
+public final class UuidV7 {
+
+  private static final int SEQUENCE_BITS = 12;
+  private static final long TIMESTAMP_MASK = 0xFFFF_FFFF_FFFFL;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000_0000_0000_0000L;
+  private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  // (timestamp << 12) | sequence
+  private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+  private UuidV7() {
+  }
+
+  public static UUID randomUUID() {
+    long now = System.currentTimeMillis() << SEQUENCE_BITS;
+    // 시퀀스가 넘치면 다음 millisecond로 넘어가며 단조 증가를 유지
+    long next = LAST_TIMESTAMP_AND_SEQUENCE.updateAndGet(prev -> now > prev ? now : prev + 1);
+
+    long timestamp = (next >>> SEQUENCE_BITS) & TIMESTAMP_MASK;
+    long sequence = next & SEQUENCE_MASK;
+
+    long mostSigBits = (timestamp << 16) | VERSION | sequence;
+    long leastSigBits = (RANDOM.nextLong() & RANDOM_MASK) | VARIANT;
+
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  public static long timestampOf(UUID uuid) {
+    if (uuid.version() != 7) {
+      throw new IllegalArgumentException("UUIDv7이 아닙니다: " + uuid);
+    }
+    return uuid.getMostSignificantBits() >>> 16;
+  }
+}
@@ -0,0 +1,12 @@
+package com.team1.otvoo.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+public class UuidV7Generator implements IdentifierGenerator {
+
+  @Override
+  public Object generate(SharedSessionContractImplementor session, Object object) {
+    return UuidV7.randomUUID();
+  }
+}
@@ -1,7 +1,9 @@
 package com.team1.otvoo.config;
 
+import com.team1.otvoo.config.props.WeatherBatchProperties;
 import com.team1.otvoo.weather.batch.WeatherForecastProcessor;
 import com.team1.otvoo.weather.batch.WeatherJobListener;
+import com.team1.otvoo.weather.batch.WeatherLocationPartitioner;
 import com.team1.otvoo.weather.batch.WeatherLocationReader;
 import com.team1.otvoo.weather.batch.WeatherForecastWriter;
 import com.team1.otvoo.weather.entity.WeatherForecast;
@@ -15,6 +17,7 @@ import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.http.converter.HttpMessageConversionException;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.client.ResourceAccessException;
@@ -30,6 +33,8 @@ public class BatchConfig {
   private final WeatherLocationReader weatherLocationReader;
   private final WeatherForecastProcessor weatherForecastProcessor;
   private final WeatherForecastWriter weatherForecastWriter;
+  private final WeatherLocationPartitioner weatherLocationPartitioner;
+  private final WeatherBatchProperties weatherBatchProperties;
 
   // Job 정의: weatherForecastJob
   @Bean
@@ -40,13 +45,29 @@ public class BatchConfig {
         .build();
   }
 
-  // Step 정의: weatherForecastStep
-  // Reader -> WeatherLocation 반환
-  // Processor -> List<WeatherForecast> 반환
+  // Step 정의: weatherForecastStep (manager)
+  // 위치를 concurrency 개의 파티션으로 나눠 worker Step 을 동시에 실행
+  // 재시작 시 완료된 파티션은 건너뛰고 실패한 파티션만 다시 실행
   @Bean
   public Step weatherForecastStep() {
+    SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("weather-batch-");
+    taskExecutor.setConcurrencyLimit(weatherBatchProperties.getConcurrency());
+
     return new StepBuilder("weatherForecastStep", jobRepository)
-        .<WeatherLocation, List<WeatherForecast>>chunk(10, transactionManager) // 10개의 위치 단위로 처리 후 Writer 실행
+        .partitioner("weatherForecastWorkerStep", weatherLocationPartitioner)
+        .step(weatherForecastWorkerStep())
+        .gridSize(weatherBatchProperties.getConcurrency())
+        .taskExecutor(taskExecutor)
+        .build();
+  }
+
+  // Step 정의: weatherForecastWorkerStep
+  // Reader -> 파티션에 속한 WeatherLocation 반환
+  // Processor -> List<WeatherForecast> 반환
+  @Bean
+  public Step weatherForecastWorkerStep() {
+    return new StepBuilder("weatherForecastWorkerStep", jobRepository)
+        .<WeatherLocation, List<WeatherForecast>>chunk(weatherBatchProperties.getChunkSize(), transactionManager) // chunk-size 개의 위치 단위로 처리 후 Writer 실행
         .reader(weatherLocationReader)
         .processor(weatherForecastProcessor)
         .writer(weatherForecastWriter)
@@ -59,7 +80,7 @@ public class BatchConfig {
         .retry(ResourceAccessException.class)           // 네트워크 타임아웃 등
 
         // Skip
-        .skipLimit(10)                                  // 최대 10건까지 Skip 허용
+        .skipLimit(10)                                  // 파티션마다 최대 10건까지 Skip 허용
         .skip(RestClientException.class)                // 재시도해도 안 되면 skip
         .skip(ResourceAccessException.class)
         .build();
@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.team1.otvoo.sse.event.RedisStreamListener;
+import com.team1.otvoo.sse.event.RedisStreamService;
 import com.team1.otvoo.sse.event.RedisSubscriber;
+import com.team1.otvoo.sse.repository.SseConnectionRegistry;
 import java.time.Duration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,8 +26,6 @@ import org.springframework.data.redis.stream.Subscription;
 @Configuration
 public class RedisConfig {
 
-  private static final String STREAM_KEY = "sse-stream";
-
   @Bean
   public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
     return new StringRedisTemplate(connectionFactory);
@@ -35,7 +35,8 @@ public class RedisConfig {
   @Bean
   public Subscription streamMessageListenerContainer(
       RedisConnectionFactory connectionFactory,
-      RedisStreamListener streamListener
+      RedisStreamListener streamListener,
+      SseConnectionRegistry sseConnectionRegistry
   ) {
     StreamMessageListenerContainer.StreamMessageListenerContainerOptions<String, ObjectRecord<String, String>> options =
         StreamMessageListenerContainer.StreamMessageListenerContainerOptions
@@ -47,10 +48,14 @@ public class RedisConfig {
     StreamMessageListenerContainer<String, ObjectRecord<String, String>> container =
         StreamMessageListenerContainer.create(connectionFactory, options);
 
-    // Consumer Group을 사용하지 않고, 모든 인스턴스가 모든 메시지를 받도록 설정
+    // 각 인스턴스는 자기 노드 전달 스트림(이 노드에 연결된 사용자 대상 메시지)과 브로드캐스트 스트림만 구독
     // StreamOffset.latest() : 리스너 시작 시점 이후의 메시지만 받음
     Subscription subscription = container.receive(
-        StreamOffset.latest(STREAM_KEY),
+        StreamOffset.latest(sseConnectionRegistry.localStreamKey()),
+        streamListener
+    );
+    container.receive(
+        StreamOffset.latest(RedisStreamService.BROADCAST_STREAM_KEY),
         streamListener
     );
 
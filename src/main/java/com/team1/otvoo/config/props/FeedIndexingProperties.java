@@ -0,0 +1,25 @@
+package com.team1.otvoo.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "feed.indexing")
+@Getter
+@Setter
+public class FeedIndexingProperties {
+  // 색인 대기열 최대 크기. 가득 차면 enqueueTimeoutMs 만큼 대기 후 dead-letter 처리
+  private int queueCapacity = 10000;
+  private long enqueueTimeoutMs = 200;
+  // _bulk 요청 하나에 담을 최대 작업 수와 최대 대기 시간
+  private int batchSize = 500;
+  private long flushIntervalMs = 500;
+  // 일시적 오류(429, 5xx, 연결 실패) 재시도
+  private int maxAttempts = 3;
+  private long retryBackoffMs = 200;
+  // 전체 재색인: keyset 스캔 단위와 동시에 색인할 chunk 수
+  private int reindexChunkSize = 1000;
+  private int reindexParallelism = 4;
+}
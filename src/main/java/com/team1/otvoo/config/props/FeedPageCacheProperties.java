@@ -0,0 +1,20 @@
+package com.team1.otvoo.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "feed.page-cache")
+@Getter
+@Setter
+public class FeedPageCacheProperties {
+  // L1(Caffeine) 보관 시간. 다른 인스턴스에서 발생한 변경은 최대 이 시간만큼 늦게 반영됨
+  private long localTtlSeconds = 3;
+  private long localMaxSize = 1000;
+  // L2(Redis) 보관 시간
+  private long remoteTtlSeconds = 60;
+  // 사용자별 좋아요 여부 Hash 보관 시간 (마지막 갱신 기준)
+  private long likedSetTtlSeconds = 3600;
+}
@@ -15,4 +15,7 @@ public class S3Props {
   private String accessKey;
   private String secretKey;
   private long presignedExpirationSeconds;
+  // Presigned URL 캐시: URL 만료 전에 캐시에서 먼저 내리기 위한 여유 시간과 최대 항목 수
+  private long presignedCacheSafetyMarginSeconds = 60;
+  private long presignedCacheMaxSize = 10000;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.team1.otvoo.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "sse.heartbeat")
+@Getter
+@Setter
+public class SseHeartbeatProperties {
+  // 연결 하나에 heartbeat 를 보내는 주기. 이 시간 안에 다른 이벤트가 나갔다면 생략
+  private long intervalMs = 30000;
+  // 타이밍 휠이 한 칸씩 이동하는 간격. 슬롯 수 = intervalMs / tickMs
+  private long tickMs = 1000;
+}
@@ -0,0 +1,23 @@
+package com.team1.otvoo.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "sse.outbound")
+@Getter
+@Setter
+public class SseOutboundProperties {
+  // 연결 하나당 전송 대기열 크기
+  private int queueCapacity = 256;
+  // 대기열이 가득 찼을 때 정책. DROP_OLDEST: 가장 오래된 메시지 버림, DISCONNECT: 연결 종료
+  private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+  // 대기열을 비우며 실제로 쓰기를 수행하는 스레드 수
+  private int writerThreads = 8;
+
+  public enum OverflowPolicy {
+    DROP_OLDEST, DISCONNECT
+  }
+}
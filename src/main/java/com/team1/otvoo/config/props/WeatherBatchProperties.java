@@ -0,0 +1,19 @@
+package com.team1.otvoo.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "weather.batch")
+@Getter
+@Setter
+public class WeatherBatchProperties {
+  // 동시에 처리할 파티션 수. 위치는 id 해시로 파티션에 나뉘고 파티션마다 하나의 스레드에서 처리
+  private int concurrency = 8;
+  // 파티션 안에서 한 번에 저장할 위치 수
+  private int chunkSize = 10;
+  // 모든 파티션이 공유하는 기상청 API 초당 최대 호출 수. 0 이하면 제한 없음
+  private double requestsPerSecond = 20;
+}
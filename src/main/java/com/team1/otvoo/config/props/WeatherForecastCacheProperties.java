@@ -0,0 +1,16 @@
+package com.team1.otvoo.config.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "weather.cache")
+@Getter
+@Setter
+public class WeatherForecastCacheProperties {
+  // 발표 시각이 3시간마다 바뀌어 키가 자연스럽게 교체되므로, 그 안에서만 재사용되도록 짧게 유지
+  private long ttlSeconds = 600;
+  private long maxSize = 5000;
+}
@@ -1,5 +1,6 @@
 package com.team1.otvoo.directmessage.entity;
 
+import com.team1.otvoo.common.id.GeneratedUuidV7;
 import com.team1.otvoo.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
@@ -16,7 +17,7 @@ import java.util.UUID;
 public class DirectMessage {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @GeneratedUuidV7
   private UUID id;
 
   @ManyToOne(fetch = FetchType.LAZY)
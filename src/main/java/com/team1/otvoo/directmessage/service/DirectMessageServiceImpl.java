@@ -8,7 +8,7 @@ import com.team1.otvoo.directmessage.event.DirectMessageEvent;
 import com.team1.otvoo.directmessage.repository.DirectMessageRepositoryCustom;
 import com.team1.otvoo.exception.ErrorCode;
 import com.team1.otvoo.exception.RestException;
-import com.team1.otvoo.storage.S3ImageStorageAdapter;
+import com.team1.otvoo.storage.S3ImageStorage;
 import com.team1.otvoo.user.dto.UserSummary;
 import com.team1.otvoo.user.entity.User;
 import com.team1.otvoo.user.repository.UserRepository;
@@ -34,7 +34,7 @@ public class DirectMessageServiceImpl implements DirectMessageService {
   private final DirectMessageRepository directMessageRepository;
   private final DirectMessageRepositoryCustom directMessageRepositoryCustom;
   private final ApplicationEventPublisher eventPublisher;
-  private final S3ImageStorageAdapter s3ImageStorageAdapter;
+  private final S3ImageStorage s3ImageStorage;
 
   @Override
   @Transactional
@@ -149,13 +149,13 @@ public class DirectMessageServiceImpl implements DirectMessageService {
     UserSummary sender = new UserSummary(
         raw.sender().userId(),
         raw.sender().name(),
-        raw.sender().profileImageUrl() != null ? s3ImageStorageAdapter.getPresignedUrl(raw.sender().profileImageUrl()) : null
+        raw.sender().profileImageUrl() != null ? s3ImageStorage.getPresignedUrl(raw.sender().profileImageUrl()) : null
     );
 
     UserSummary receiver = new UserSummary(
         raw.receiver().userId(),
         raw.receiver().name(),
-        raw.receiver().profileImageUrl() != null ? s3ImageStorageAdapter.getPresignedUrl(raw.receiver().profileImageUrl()) : null
+        raw.receiver().profileImageUrl() != null ? s3ImageStorage.getPresignedUrl(raw.receiver().profileImageUrl()) : null
     );
 
     return new DirectMessageDto(
@@ -0,0 +1,12 @@
+package com.team1.otvoo.feed.cache;
+
+import com.team1.otvoo.feed.dto.FeedDto;
+import java.util.List;
+
+// 캐시에 저장되는 사용자 공통 피드 페이지 (likedByMe는 조회 시점에 사용자별로 덮어씀)
+public record FeedPage(
+    List<FeedDto> content,
+    boolean hasNext
+) {
+
+}
@@ -0,0 +1,307 @@
+package com.team1.otvoo.feed.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team1.otvoo.config.props.FeedPageCacheProperties;
+import com.team1.otvoo.feed.dto.FeedDto;
+import com.team1.otvoo.feed.dto.FeedSearchCondition;
+import com.team1.otvoo.feed.repository.FeedLikeRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * 피드 첫 페이지 캐시
+ * - L1: 인스턴스 로컬 Caffeine (짧은 TTL), L2: 인스턴스 간 공유 Redis
+ * - 캐시된 페이지는 사용자와 무관한 내용만 담고, likedByMe / likeCount는 조회 시점에 덮어씀
+ * - 피드 생성/수정/삭제 시 Redis 버전 키를 올려 L2 전체를 무효화 (다른 인스턴스의 L1은 TTL로 만료)
+ */
+@Slf4j
+@Component
+public class FeedPageCache {
+
+  private static final String PAGE_KEY_PREFIX = "feed:page:";
+  private static final String VERSION_KEY = "feed:page:version";
+  private static final String LIKE_COUNT_KEY_PREFIX = "feed:like-count:";
+  // 사용자별 좋아요 여부 Hash (field: feedId, value: "1"/"0")
+  private static final String LIKED_KEY_PREFIX = "feed:liked-by-me:";
+  private static final String LIKED = "1";
+  private static final String NOT_LIKED = "0";
+
+  // 좋아요/취소 이벤트는 항상 최신 값으로 덮어씀
+  private static final DefaultRedisScript<Long> MARK_LIKED_SCRIPT;
+  // DB에서 읽은 값은 비어 있는 필드에만 기록 (적재 도중 도착한 좋아요/취소가 더 최신이므로 덮어쓰지 않음)
+  private static final DefaultRedisScript<Long> FILL_LIKED_SCRIPT;
+  static {
+    MARK_LIKED_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]); " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]); return 1;", Long.class);
+    FILL_LIKED_SCRIPT = new DefaultRedisScript<>(
+        "local filled = 0; " +
+            "for i = 2, #ARGV, 2 do " +
+            "filled = filled + redis.call('HSETNX', KEYS[1], ARGV[i], ARGV[i + 1]); " +
+            "end; " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]); return filled;", Long.class);
+  }
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final ObjectMapper objectMapper;
+  private final FeedLikeRepository feedLikeRepository;
+  private final FeedPageCacheProperties properties;
+  private final Cache<String, FeedPage> localCache;
+  // invalidateAll 때마다 증가하며 로컬 캐시 키에 포함됨 (무효화 이전에 시작된 로드 결과는 조회되지 않음)
+  private final AtomicLong localGeneration = new AtomicLong();
+
+  public FeedPageCache(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+      FeedLikeRepository feedLikeRepository, FeedPageCacheProperties properties) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.objectMapper = objectMapper;
+    this.feedLikeRepository = feedLikeRepository;
+    this.properties = properties;
+    this.localCache = Caffeine.newBuilder()
+        .maximumSize(properties.getLocalMaxSize())
+        .expireAfterWrite(Duration.ofSeconds(properties.getLocalTtlSeconds()))
+        .build();
+  }
+
+  // 커서/키워드가 없는 첫 페이지만 캐시 대상 (그 외 조합은 적중률이 낮음)
+  public boolean isCacheable(FeedSearchCondition condition) {
+    return !StringUtils.hasText(condition.cursor())
+        && condition.idAfter() == null
+        && !StringUtils.hasText(condition.keywordLike());
+  }
+
+  public Slice<FeedDto> getOrLoad(FeedSearchCondition condition, UUID userId,
+      Supplier<Slice<FeedDto>> loader) {
+    String conditionKey = toConditionKey(condition);
+    String localKey = localGeneration.get() + ":" + conditionKey;
+
+    FeedPage page = localCache.getIfPresent(localKey);
+    if (page == null) {
+      page = loadPage(conditionKey, loader);
+      localCache.put(localKey, page);
+    }
+
+    return new SliceImpl<>(overlay(page.content(), userId), condition.toPageable(),
+        page.hasNext());
+  }
+
+  // 버전은 로드 전에 한 번만 읽고 그 버전의 키에만 기록
+  // 로드 도중 무효화되면 이전 버전 키에 기록되므로 새 버전에서는 조회되지 않음
+  private FeedPage loadPage(String conditionKey, Supplier<Slice<FeedDto>> loader) {
+    String remoteKey = remoteKey(conditionKey);
+    if (remoteKey != null) {
+      FeedPage remote = getRemote(remoteKey);
+      if (remote != null) {
+        return remote;
+      }
+    }
+
+    Slice<FeedDto> loaded = loader.get();
+    FeedPage page = new FeedPage(loaded.getContent(), loaded.hasNext());
+    if (remoteKey != null) {
+      putRemote(remoteKey, page);
+    }
+    return page;
+  }
+
+  // 피드 생성/수정/삭제 시 호출
+  public void invalidateAll() {
+    localGeneration.incrementAndGet();
+    localCache.invalidateAll();
+    try {
+      stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+    } catch (DataAccessException e) {
+      log.warn("피드 페이지 캐시 버전 갱신 실패", e);
+    }
+  }
+
+  // 좋아요/취소 후 최신 좋아요 수를 덮어쓰기용 키에 기록
+  public void updateLikeCount(UUID feedId, long likeCount) {
+    try {
+      stringRedisTemplate.opsForValue().set(LIKE_COUNT_KEY_PREFIX + feedId,
+          String.valueOf(likeCount), Duration.ofSeconds(properties.getRemoteTtlSeconds()));
+    } catch (DataAccessException e) {
+      log.warn("피드 좋아요 수 캐시 갱신 실패 - feedId: {}", feedId, e);
+    }
+  }
+
+  public void markLiked(UUID userId, UUID feedId) {
+    mark(userId, feedId, LIKED);
+  }
+
+  public void markUnliked(UUID userId, UUID feedId) {
+    mark(userId, feedId, NOT_LIKED);
+  }
+
+  private void mark(UUID userId, UUID feedId, String liked) {
+    try {
+      stringRedisTemplate.execute(MARK_LIKED_SCRIPT, Collections.singletonList(LIKED_KEY_PREFIX + userId),
+          feedId.toString(), liked, String.valueOf(properties.getLikedSetTtlSeconds()));
+    } catch (DataAccessException e) {
+      // 갱신에 실패하면 다음 조회 때 DB 기준으로 다시 적재되도록 Hash를 제거
+      log.warn("좋아요 여부 갱신 실패 - userId: {}, feedId: {}", userId, feedId, e);
+      evictLiked(userId);
+    }
+  }
+
+  private void evictLiked(UUID userId) {
+    try {
+      stringRedisTemplate.delete(LIKED_KEY_PREFIX + userId);
+    } catch (DataAccessException e) {
+      log.warn("좋아요 여부 Hash 삭제 실패 - userId: {}", userId, e);
+    }
+  }
+
+  // 공유 페이지를 복사하면서 likeCount, likedByMe를 덮어씀
+  private List<FeedDto> overlay(List<FeedDto> content, UUID userId) {
+    if (content.isEmpty()) {
+      return List.of();
+    }
+
+    List<String> feedIds = content.stream().map(f -> f.getId().toString()).toList();
+    List<String> likeCounts = findLikeCounts(feedIds);
+    Map<String, Boolean> likedByMe = findLikedByMe(userId, feedIds);
+
+    List<FeedDto> result = new ArrayList<>(content.size());
+    for (int i = 0; i < content.size(); i++) {
+      FeedDto f = content.get(i);
+      String likeCount = likeCounts.get(i);
+      result.add(new FeedDto(
+          f.getId(),
+          f.getCreatedAt(),
+          f.getUpdatedAt(),
+          f.getAuthor(),
+          f.getWeather(),
+          f.getOotds(),
+          f.getContent(),
+          likeCount != null ? Long.parseLong(likeCount) : f.getLikeCount(),
+          f.getCommentCount(),
+          Boolean.TRUE.equals(likedByMe.get(feedIds.get(i)))
+      ));
+    }
+    return result;
+  }
+
+  private List<String> findLikeCounts(List<String> feedIds) {
+    try {
+      List<String> values = stringRedisTemplate.opsForValue().multiGet(
+          feedIds.stream().map(id -> LIKE_COUNT_KEY_PREFIX + id).toList());
+      if (values != null) {
+        return values;
+      }
+    } catch (DataAccessException e) {
+      log.warn("피드 좋아요 수 캐시 조회 실패", e);
+    }
+    return Collections.nCopies(feedIds.size(), null);
+  }
+
+  // 페이지에 포함된 피드만 조회하고, Redis에 없는 피드만 DB에서 읽어 채워 넣음
+  private Map<String, Boolean> findLikedByMe(UUID userId, List<String> feedIds) {
+    String key = LIKED_KEY_PREFIX + userId;
+    try {
+      List<Object> values = stringRedisTemplate.opsForHash()
+          .multiGet(key, new ArrayList<Object>(feedIds));
+
+      Map<String, Boolean> result = new HashMap<>();
+      List<String> missing = new ArrayList<>();
+      for (int i = 0; i < feedIds.size(); i++) {
+        Object value = values.get(i);
+        if (value == null) {
+          missing.add(feedIds.get(i));
+        } else {
+          result.put(feedIds.get(i), LIKED.equals(value));
+        }
+      }
+
+      if (!missing.isEmpty()) {
+        Map<String, Boolean> loaded = findLikedByMeFromDb(userId, missing);
+        fillLiked(key, loaded);
+        result.putAll(loaded);
+      }
+      return result;
+    } catch (DataAccessException e) {
+      log.warn("좋아요 여부 조회 실패, DB로 대체 - userId: {}", userId, e);
+    }
+    return findLikedByMeFromDb(userId, feedIds);
+  }
+
+  private void fillLiked(String key, Map<String, Boolean> loaded) {
+    List<String> args = new ArrayList<>(loaded.size() * 2 + 1);
+    args.add(String.valueOf(properties.getLikedSetTtlSeconds()));
+    loaded.forEach((feedId, liked) -> {
+      args.add(feedId);
+      args.add(liked ? LIKED : NOT_LIKED);
+    });
+    stringRedisTemplate.execute(FILL_LIKED_SCRIPT, Collections.singletonList(key), args.toArray());
+  }
+
+  private Map<String, Boolean> findLikedByMeFromDb(UUID userId, List<String> feedIds) {
+    List<UUID> ids = feedIds.stream().map(UUID::fromString).toList();
+    List<String> liked = feedLikeRepository.findLikedFeedIds(userId, ids).stream()
+        .map(UUID::toString)
+        .toList();
+    return feedIds.stream()
+        .collect(Collectors.toMap(id -> id, liked::contains));
+  }
+
+  private FeedPage getRemote(String remoteKey) {
+    try {
+      String json = stringRedisTemplate.opsForValue().get(remoteKey);
+      return json != null ? objectMapper.readValue(json, FeedPage.class) : null;
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("피드 페이지 캐시 조회 실패 - key: {}", remoteKey, e);
+      return null;
+    }
+  }
+
+  private void putRemote(String remoteKey, FeedPage page) {
+    try {
+      stringRedisTemplate.opsForValue().set(remoteKey,
+          objectMapper.writeValueAsString(page),
+          Duration.ofSeconds(properties.getRemoteTtlSeconds()));
+    } catch (DataAccessException | JsonProcessingException e) {
+      log.warn("피드 페이지 캐시 저장 실패 - key: {}", remoteKey, e);
+    }
+  }
+
+  // 버전이 바뀌면 이전 버전의 키는 조회되지 않고 TTL로 정리됨
+  // 버전을 읽을 수 없으면 null을 반환해 L2를 건너뜀
+  private String remoteKey(String conditionKey) {
+    try {
+      String version = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+      return PAGE_KEY_PREFIX + "v" + (version != null ? version : "0") + ":" + conditionKey;
+    } catch (DataAccessException e) {
+      log.warn("피드 페이지 캐시 버전 조회 실패", e);
+      return null;
+    }
+  }
+
+  private String toConditionKey(FeedSearchCondition condition) {
+    return String.join("|",
+        Objects.toString(condition.sortBy(), ""),
+        Objects.toString(condition.sortDirection(), ""),
+        String.valueOf(condition.limit()),
+        Objects.toString(condition.skyStatusEqual(), ""),
+        Objects.toString(condition.precipitationTypeEqual(), ""),
+        Objects.toString(condition.authorIdEqual(), ""));
+  }
+}
@@ -12,12 +12,14 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import lombok.extern.jackson.Jacksonized;
 
 @Getter
 @ToString
 @EqualsAndHashCode
 @Setter
 @Builder
+@Jacksonized
 @AllArgsConstructor
 public class FeedDto {
   private UUID id;
@@ -1,5 +1,6 @@
 package com.team1.otvoo.feed.elasticsearch.document;
 
+import com.team1.otvoo.feed.elasticsearch.index.FeedIndexManager;
 import com.team1.otvoo.recommendation.dto.ElasticOotdDto;
 import com.team1.otvoo.user.dto.AuthorDto;
 import com.team1.otvoo.weather.dto.WeatherSummaryDto;
@@ -11,7 +12,8 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 
-@Document(indexName = "feed_index")
+// 인덱스 생성과 alias 전환은 FeedIndexManager 가 담당
+@Document(indexName = FeedIndexManager.READ_ALIAS, createIndex = false)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -0,0 +1,249 @@
+package com.team1.otvoo.feed.elasticsearch.index;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.team1.otvoo.exception.ErrorCode;
+import com.team1.otvoo.exception.RestException;
+import com.team1.otvoo.feed.elasticsearch.document.FeedDocument;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.AliasData;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 인덱스 수명 주기 관리
+ * - 실제 인덱스는 feed_index_v{timestamp} 로 버전을 두고, 조회는 항상 feed_index alias 를 통해 수행
+ * - 재색인 중에는 새 인덱스 이름을 Redis 에 기록해 모든 인스턴스가 기존 alias 와 새 인덱스 양쪽에 쓰도록 함
+ * - 재색인 중 변경된 피드는 dirty 로 기록해 두고, 전체 색인 후 DB 기준으로 다시 맞춘 뒤 alias 를 원자적으로 전환
+ */
+@Slf4j
+@Component
+public class FeedIndexManager {
+
+  public static final String READ_ALIAS = "feed_index";
+  private static final String VERSIONED_INDEX_PREFIX = "feed_index_v";
+
+  private static final String REBUILDING_KEY = "feed:index:rebuilding";
+  private static final String DIRTY_FEEDS_KEY = "feed:index:rebuild:dirty-feeds";
+  private static final String DIRTY_AUTHORS_KEY = "feed:index:rebuild:dirty-authors";
+  // 쓰기마다 Redis 를 조회하지 않도록 재색인 상태를 잠시 로컬에 보관
+  public static final long STATE_CACHE_TTL_MS = 1000;
+  // 중단하려는 재색인이 아직 진행 중인 재색인일 때만 상태를 지움 (이후 시작된 다른 재색인은 유지)
+  private static final DefaultRedisScript<Long> ABORT_REBUILD_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end; " +
+          "redis.call('DEL', KEYS[1], KEYS[2], KEYS[3]); " +
+          "return 1;", Long.class);
+
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final ElasticsearchClient elasticsearchClient;
+  private final StringRedisTemplate stringRedisTemplate;
+
+  private volatile String cachedRebuildingIndex;
+  private volatile long cachedAt;
+
+  public FeedIndexManager(ElasticsearchOperations elasticsearchOperations,
+      ElasticsearchClient elasticsearchClient, StringRedisTemplate stringRedisTemplate) {
+    this.elasticsearchOperations = elasticsearchOperations;
+    this.elasticsearchClient = elasticsearchClient;
+    this.stringRedisTemplate = stringRedisTemplate;
+  }
+
+  // 인덱스가 전혀 없는 환경이면 첫 버전 인덱스와 alias 를 만들어 둠
+  @PostConstruct
+  public void initialize() {
+    try {
+      if (!indexOps(READ_ALIAS).exists()) {
+        String indexName = createVersionedIndex();
+        switchAlias(indexName);
+        log.info("피드 인덱스 초기화 - index: {}", indexName);
+      }
+    } catch (RuntimeException e) {
+      log.warn("피드 인덱스 초기화 실패", e);
+    }
+  }
+
+  public IndexCoordinates readIndex() {
+    return IndexCoordinates.of(READ_ALIAS);
+  }
+
+  /**
+   * 쓰기 대상 인덱스 목록
+   * - 첫 번째는 항상 조회용 alias, 재색인 중이면 새 인덱스가 뒤에 추가됨
+   */
+  public List<String> writeIndices() {
+    String rebuildingIndex = rebuildingIndex();
+    return rebuildingIndex == null
+        ? List.of(READ_ALIAS)
+        : List.of(READ_ALIAS, rebuildingIndex);
+  }
+
+  public String rebuildingIndex() {
+    long now = System.currentTimeMillis();
+    if (now - cachedAt < STATE_CACHE_TTL_MS) {
+      return cachedRebuildingIndex;
+    }
+    try {
+      cachedRebuildingIndex = stringRedisTemplate.opsForValue().get(REBUILDING_KEY);
+    } catch (DataAccessException e) {
+      log.warn("피드 재색인 상태 조회 실패", e);
+    }
+    cachedAt = now;
+    return cachedRebuildingIndex;
+  }
+
+  public boolean isRebuilding() {
+    return rebuildingIndex() != null;
+  }
+
+  // 대량 색인 동안에는 refresh 를 끄고, 전환 직전에 복구
+  public String createVersionedIndex() {
+    String indexName = VERSIONED_INDEX_PREFIX + System.currentTimeMillis();
+    IndexOperations indexOps = indexOps(indexName);
+    indexOps.create(Map.<String, Object>of("index.refresh_interval", "-1"),
+        indexOps.createMapping(FeedDocument.class));
+    return indexName;
+  }
+
+  public boolean exists(String indexName) {
+    return indexOps(indexName).exists();
+  }
+
+  // 이 시점부터 모든 인스턴스의 쓰기가 새 인덱스에도 반영되도록 기록
+  public void beginRebuild(String indexName) {
+    stringRedisTemplate.opsForValue().set(REBUILDING_KEY, indexName);
+    cachedRebuildingIndex = indexName;
+    cachedAt = System.currentTimeMillis();
+  }
+
+  public void markDirty(Collection<String> feedIds) {
+    if (feedIds.isEmpty() || !isRebuilding()) {
+      return;
+    }
+    try {
+      stringRedisTemplate.opsForSet().add(DIRTY_FEEDS_KEY, feedIds.toArray(String[]::new));
+    } catch (DataAccessException e) {
+      log.warn("재색인 dirty 피드 기록 실패 - {}건", feedIds.size(), e);
+    }
+  }
+
+  // 작성자 정보 변경은 피드 id 를 모르므로 작성자 단위로 기록
+  public void markAuthorDirty(UUID userId) {
+    if (!isRebuilding()) {
+      return;
+    }
+    try {
+      stringRedisTemplate.opsForSet().add(DIRTY_AUTHORS_KEY, userId.toString());
+    } catch (DataAccessException e) {
+      log.warn("재색인 dirty 작성자 기록 실패 - userId: {}", userId, e);
+    }
+  }
+
+  public List<UUID> popDirtyFeedIds(int count) {
+    return pop(DIRTY_FEEDS_KEY, count);
+  }
+
+  public List<UUID> popDirtyAuthorIds(int count) {
+    return pop(DIRTY_AUTHORS_KEY, count);
+  }
+
+  // 새 인덱스로 조회 alias 를 전환하고 재색인 상태를 정리
+  public void completeRebuild(String indexName) {
+    switchAlias(indexName);
+    stringRedisTemplate.delete(List.of(REBUILDING_KEY, DIRTY_FEEDS_KEY, DIRTY_AUTHORS_KEY));
+    cachedRebuildingIndex = null;
+    cachedAt = System.currentTimeMillis();
+  }
+
+  /**
+   * 실패한 재색인 상태를 정리
+   * - 상태가 남아 있으면 모든 인스턴스가 계속 새 인덱스에도 쓰고 dirty 를 쌓으므로 다음 재색인 전까지 지움
+   * - 새 인덱스는 삭제하지 않음 (alias 전환 이후 실패했을 수 있고, 기존 버전 인덱스처럼 남겨둠)
+   */
+  public void abortRebuild(String indexName) {
+    try {
+      stringRedisTemplate.execute(ABORT_REBUILD_SCRIPT,
+          List.of(REBUILDING_KEY, DIRTY_FEEDS_KEY, DIRTY_AUTHORS_KEY), indexName);
+    } catch (DataAccessException e) {
+      log.warn("피드 재색인 상태 정리 실패 - index: {}", indexName, e);
+    }
+    cachedRebuildingIndex = null;
+    cachedAt = System.currentTimeMillis();
+  }
+
+  /**
+   * 조회 alias 를 새 인덱스로 원자적으로 전환
+   * - 기존 feed_index 가 alias 가 아닌 실제 인덱스라면 같은 요청에서 삭제하고 alias 로 대체
+   * - 기존 버전 인덱스는 롤백을 위해 남겨둠
+   */
+  private void switchAlias(String indexName) {
+    try {
+      elasticsearchClient.indices().putSettings(p -> p
+          .index(indexName)
+          .settings(s -> s.refreshInterval(t -> t.time("1s"))));
+    } catch (IOException e) {
+      throw new RestException(ErrorCode.IO_EXCEPTION, Map.of("index", indexName));
+    }
+    indexOps(indexName).refresh();
+
+    IndexOperations aliasOps = indexOps(READ_ALIAS);
+    Map<String, Set<AliasData>> current = findAliasedIndices(aliasOps);
+
+    List<AliasAction> actions = new ArrayList<>();
+    actions.add(new AliasAction.Add(AliasActionParameters.builder()
+        .withIndices(indexName)
+        .withAliases(READ_ALIAS)
+        .build()));
+    if (current.isEmpty()) {
+      if (aliasOps.exists()) {
+        actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+            .withIndices(READ_ALIAS)
+            .build()));
+      }
+    } else {
+      current.keySet().stream()
+          .filter(index -> !index.equals(indexName))
+          .forEach(index -> actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+              .withIndices(index)
+              .withAliases(READ_ALIAS)
+              .build())));
+    }
+    aliasOps.alias(new AliasActions(actions.toArray(AliasAction[]::new)));
+  }
+
+  private List<UUID> pop(String key, int count) {
+    List<String> values = stringRedisTemplate.opsForSet().pop(key, count);
+    if (values == null || values.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return values.stream().map(UUID::fromString).toList();
+  }
+
+  private Map<String, Set<AliasData>> findAliasedIndices(IndexOperations aliasOps) {
+    try {
+      return aliasOps.getAliases(READ_ALIAS);
+    } catch (RuntimeException e) {
+      // alias 가 아직 없으면 404
+      return Collections.emptyMap();
+    }
+  }
+
+  private IndexOperations indexOps(String indexName) {
+    return elasticsearchOperations.indexOps(IndexCoordinates.of(indexName));
+  }
+}
@@ -6,13 +6,10 @@ import co.elastic.clients.elasticsearch._types.SortOptions;
 import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.QueryBuilders;
 import com.team1.otvoo.clothes.dto.OotdDto;
-import com.team1.otvoo.exception.ErrorCode;
-import com.team1.otvoo.exception.RestException;
 import com.team1.otvoo.feed.dto.FeedDto;
 import com.team1.otvoo.feed.dto.FeedSearchCondition;
 import com.team1.otvoo.feed.elasticsearch.document.FeedDocument;
 import com.team1.otvoo.storage.S3ImageStorage;
-import com.team1.otvoo.user.repository.ProfileRepository;
 import com.team1.otvoo.user.resolver.ProfileImageUrlResolver;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -27,14 +24,20 @@ import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilterBuilder;
 
 
 @RequiredArgsConstructor
 public class FeedSearchRepositoryCustomImpl implements FeedSearchRepositoryCustom {
+
+  // toDto 에서 읽는 필드만 가져오고 Spring Data 가 저장하는 _class 등은 제외
+  private static final String[] SOURCE_INCLUDES = {
+      "feedId", "createdAt", "updatedAt", "likeCount", "content", "author", "weather", "ootds"
+  };
+
   private final ElasticsearchOperations elasticsearchOperations;
   private final S3ImageStorage s3ImageStorage;
   private final ProfileImageUrlResolver profileImageUrlResolver;
-  private final ProfileRepository profileRepository;
 
   @Override
   public Slice<FeedDto> searchFeeds(FeedSearchCondition searchCondition) {
@@ -111,10 +114,18 @@ public class FeedSearchRepositoryCustomImpl implements FeedSearchRepositoryCusto
     }
 
     // NativeQuery 생성
+    // - 다음 페이지 존재 여부는 limit + 1 건을 조회해 판단
+    // - 전체 건수는 사용하지 않으므로 집계하지 않음
+    // - 키워드가 없는 필터 전용 조회는 결과가 같으므로 shard request cache 사용
+    boolean hasKeyword = searchCondition.keywordLike() != null
+        && !searchCondition.keywordLike().isBlank();
     NativeQueryBuilder queryBuilder = new NativeQueryBuilder()
         .withQuery(boolQuery.build()._toQuery())
         .withSort(sorts)
-        .withPageable(PageRequest.of(0, searchCondition.limit()));
+        .withPageable(PageRequest.of(0, searchCondition.limit() + 1))
+        .withTrackTotalHits(false)
+        .withSourceFilter(new FetchSourceFilterBuilder().withIncludes(SOURCE_INCLUDES).build())
+        .withRequestCache(!hasKeyword);
 
     if (searchAfter != null) {
       queryBuilder.withSearchAfter(searchAfter);
@@ -125,11 +136,19 @@ public class FeedSearchRepositoryCustomImpl implements FeedSearchRepositoryCusto
     // 실행
     SearchHits<FeedDocument> hits = elasticsearchOperations.search(query, FeedDocument.class);
 
+    boolean hasNext = hits.getSearchHits().size() > searchCondition.limit();
     List<FeedDto> content = hits.getSearchHits().stream()
+        .limit(searchCondition.limit())
         .map(hit -> toDto(hit.getContent()))
         .toList();
 
-    boolean hasNext = content.size() == searchCondition.limit();
+    // 작성자 프로필 이미지는 페이지 단위로 한 번에 조회
+    Map<UUID, String> profileImageUrlMap = profileImageUrlResolver.resolveAll(
+        content.stream()
+            .map(feedDto -> feedDto.getAuthor().getUserId())
+            .toList());
+    content.forEach(feedDto -> feedDto.getAuthor()
+        .setProfileImageUrl(profileImageUrlMap.get(feedDto.getAuthor().getUserId())));
 
     return new SliceImpl<>(content, PageRequest.of(0, searchCondition.limit()), hasNext);
   }
@@ -156,12 +175,6 @@ public class FeedSearchRepositoryCustomImpl implements FeedSearchRepositoryCusto
         0,
         false
     );
-    UUID profileId = profileRepository.findByUserId(feedDto.getAuthor().getUserId()).orElseThrow(
-        () -> new RestException(ErrorCode.PROFILE_NOT_FOUND,
-            Map.of("userId", feedDto.getAuthor().getUserId()))
-    ).getId();
-    feedDto.getAuthor().setProfileImageUrl(profileImageUrlResolver.resolve(profileId));
-
     return feedDto;
   }
 }
@@ -2,14 +2,14 @@ package com.team1.otvoo.feed.elasticsearch.service;
 
 import com.team1.otvoo.exception.ErrorCode;
 import com.team1.otvoo.exception.RestException;
+import com.team1.otvoo.feed.cache.FeedPageCache;
 import com.team1.otvoo.feed.dto.FeedDto;
 import com.team1.otvoo.feed.dto.FeedSearchCondition;
 import com.team1.otvoo.feed.elasticsearch.repository.FeedSearchRepository;
 import com.team1.otvoo.feed.repository.FeedLikeRepository;
 import com.team1.otvoo.feed.repository.FeedRepository;
+import com.team1.otvoo.feed.service.FeedLikeCountBuffer;
 import com.team1.otvoo.security.CustomUserDetails;
-import com.team1.otvoo.user.repository.ProfileRepository;
-import com.team1.otvoo.user.resolver.ProfileImageUrlResolver;
 import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -26,26 +26,35 @@ public class FeedElasticSearchService {
   private final FeedSearchRepository feedSearchRepository;
   private final FeedRepository feedRepository;
   private final FeedLikeRepository feedLikeRepository;
-  private final ProfileImageUrlResolver profileImageUrlResolver;
-  private final ProfileRepository profileRepository;
+  private final FeedPageCache feedPageCache;
+  private final FeedLikeCountBuffer feedLikeCountBuffer;
 
   public Slice<FeedDto> getFeedsWithCursor(FeedSearchCondition searchCondition) {
-    Slice<FeedDto> feedDtoSlice = feedSearchRepository.searchFeeds(searchCondition);
     UUID userId = ((CustomUserDetails) (SecurityContextHolder.getContext().getAuthentication()
         .getPrincipal())).getUser().getId();
+
+    // 첫 페이지는 사용자 공통 캐시에서 조회하고 likedByMe만 사용자별로 덮어씀
+    if (feedPageCache.isCacheable(searchCondition)) {
+      return feedPageCache.getOrLoad(searchCondition, userId,
+          () -> searchWithCommentCount(searchCondition));
+    }
+
+    Slice<FeedDto> feedDtoSlice = searchWithCommentCount(searchCondition);
+    feedDtoSlice.forEach(
+        fs -> fs.setLikedByMe(
+            feedLikeRepository.existsFeedLikeByFeed_IdAndLikedBy_Id(fs.getId(), userId))
+    );
+    return feedDtoSlice;
+  }
+
+  private Slice<FeedDto> searchWithCommentCount(FeedSearchCondition searchCondition) {
+    Slice<FeedDto> feedDtoSlice = feedSearchRepository.searchFeeds(searchCondition);
+    feedLikeCountBuffer.applyPendingDeltas(feedDtoSlice);
     feedDtoSlice.forEach(
-        fs -> {
-          fs.setCommentCount(feedRepository.findById(fs.getId())
-              .orElseThrow(
-                  () -> new RestException(ErrorCode.FEED_NOT_FOUND, Map.of("feedId", fs.getId())))
-              .getCommentCount());
-          fs.setLikedByMe(
-              feedLikeRepository.existsFeedLikeByFeed_IdAndLikedBy_Id(fs.getId(), userId));
-          UUID profileId = profileRepository.findByUserId(fs.getAuthor().getUserId()).orElseThrow(
-              () -> new RestException(ErrorCode.PROFILE_NOT_FOUND,
-                  Map.of("userId", fs.getAuthor().getUserId()))).getId();
-          fs.getAuthor().setProfileImageUrl(profileImageUrlResolver.resolve(profileId));
-        }
+        fs -> fs.setCommentCount(feedRepository.findById(fs.getId())
+            .orElseThrow(
+                () -> new RestException(ErrorCode.FEED_NOT_FOUND, Map.of("feedId", fs.getId())))
+            .getCommentCount())
     );
     return feedDtoSlice;
   }
@@ -1,125 +1,380 @@
 package com.team1.otvoo.feed.elasticsearch.service;
 
-import com.team1.otvoo.clothes.dto.clothesAttributeDef.ClothesAttributeWithDefDto;
 import com.team1.otvoo.clothes.entity.Clothes;
 import com.team1.otvoo.clothes.entity.ClothesImage;
-import com.team1.otvoo.clothes.repository.ClothesAttributeValueRepository;
+import com.team1.otvoo.clothes.mapper.ClothesMapper;
 import com.team1.otvoo.clothes.repository.ClothesImageRepository;
-import com.team1.otvoo.clothes.repository.ClothesRepository;
+import com.team1.otvoo.config.props.FeedIndexingProperties;
+import com.team1.otvoo.exception.ErrorCode;
+import com.team1.otvoo.exception.RestException;
 import com.team1.otvoo.feed.elasticsearch.document.FeedDocument;
+import com.team1.otvoo.feed.elasticsearch.index.FeedIndexManager;
 import com.team1.otvoo.feed.entity.Feed;
+import com.team1.otvoo.feed.entity.FeedClothes;
+import com.team1.otvoo.feed.repository.FeedClothesRepository;
 import com.team1.otvoo.feed.repository.FeedRepository;
 import com.team1.otvoo.recommendation.dto.ElasticOotdDto;
-import com.team1.otvoo.storage.S3ImageStorage;
 import com.team1.otvoo.user.dto.AuthorDto;
 import com.team1.otvoo.user.repository.UserRepository;
 import com.team1.otvoo.weather.dto.PrecipitationDto;
 import com.team1.otvoo.weather.dto.TemperatureDto;
 import com.team1.otvoo.weather.dto.WeatherSummaryDto;
+import com.team1.otvoo.weather.entity.WeatherForecast;
+import com.team1.otvoo.weather.entity.WeatherPrecipitation;
+import com.team1.otvoo.weather.entity.WeatherTemperature;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.IndexQuery;
 import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * 피드 전체 재색인
+ * - feeds 를 id 기준 keyset 으로 스캔하고, chunk 마다 작성자/의상/이미지/속성을 몇 번의 IN 쿼리로 한 번에 조회
+ * - chunk 는 제한된 크기의 스레드 풀에서 병렬로 새 버전 인덱스(feed_index_v{timestamp})에 bulk 색인
+ * - 연속으로 완료된 chunk 의 마지막 id 를 Redis 에 checkpoint 로 남겨, 중단되면 같은 인덱스에 이어서 색인
+ * - 재색인 중 실시간 쓰기는 기존/새 인덱스 양쪽에 반영되고, 전체 색인 후 그 사이 변경된 피드를 DB 기준으로 다시 색인
+ * - 따라잡기가 끝나면 feed_index alias 를 새 인덱스로 원자적으로 전환하므로 조회는 계속 기존 인덱스에서 처리됨
+ * - 예외로 실패하면 재색인 상태와 checkpoint 를 지워 양쪽 쓰기를 멈추고, 다음 실행은 새 인덱스부터 다시 시작
+ *   (프로세스가 종료된 경우에만 양쪽 쓰기가 이어지므로 같은 인덱스에 이어서 색인)
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class FeedMigrationService {
+
+  private static final String CHECKPOINT_KEY = "feed:reindex:checkpoint";
+  private static final String CHECKPOINT_INDEX_FIELD = "index";
+  private static final String CHECKPOINT_LAST_ID_FIELD = "lastId";
+  // UUID 최솟값부터 스캔 시작
+  private static final UUID MIN_ID = new UUID(0L, 0L);
+
   private final FeedRepository feedRepository;
+  private final FeedClothesRepository feedClothesRepository;
   private final UserRepository userRepository;
-  private final ClothesRepository clothesRepository;
   private final ClothesImageRepository clothesImageRepository;
-  private final ClothesAttributeValueRepository clothesAttributeValueRepository;
-  private final S3ImageStorage s3ImageStorage;
+  private final ClothesMapper clothesMapper;
   private final ElasticsearchOperations elasticsearchOperations;
+  private final FeedIndexManager feedIndexManager;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final FeedIndexingProperties properties;
+  private final TransactionTemplate readOnlyTransactionTemplate;
+
+  public FeedMigrationService(FeedRepository feedRepository,
+      FeedClothesRepository feedClothesRepository, UserRepository userRepository,
+      ClothesImageRepository clothesImageRepository, ClothesMapper clothesMapper,
+      ElasticsearchOperations elasticsearchOperations, FeedIndexManager feedIndexManager,
+      StringRedisTemplate stringRedisTemplate, FeedIndexingProperties properties,
+      PlatformTransactionManager transactionManager) {
+    this.feedRepository = feedRepository;
+    this.feedClothesRepository = feedClothesRepository;
+    this.userRepository = userRepository;
+    this.clothesImageRepository = clothesImageRepository;
+    this.clothesMapper = clothesMapper;
+    this.elasticsearchOperations = elasticsearchOperations;
+    this.feedIndexManager = feedIndexManager;
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.properties = properties;
+    this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+    this.readOnlyTransactionTemplate.setReadOnly(true);
+  }
 
-  public void migrateAllFeedsToElasticsearch() {
-    int pageSize = 5000;
-    int page = 0;
+  /**
+   * 전체 피드를 새 인덱스에 색인하고 alias 를 전환
+   * @return 새로 색인한 인덱스 이름
+   */
+  public String migrateAllFeedsToElasticsearch() {
+    Map<Object, Object> checkpoint = stringRedisTemplate.opsForHash().entries(CHECKPOINT_KEY);
+    String targetIndex = (String) checkpoint.get(CHECKPOINT_INDEX_FIELD);
+    UUID lastId;
+
+    if (targetIndex != null && feedIndexManager.exists(targetIndex)) {
+      lastId = UUID.fromString((String) checkpoint.get(CHECKPOINT_LAST_ID_FIELD));
+      log.info("피드 재색인 재개 - index: {}, lastId: {}", targetIndex, lastId);
+    } else {
+      targetIndex = feedIndexManager.createVersionedIndex();
+      lastId = MIN_ID;
+      saveCheckpoint(targetIndex, lastId);
+      log.info("피드 재색인 시작 - index: {}", targetIndex);
+    }
+
+    feedIndexManager.beginRebuild(targetIndex);
+    try {
+      awaitDualWrites(targetIndex);
+      reindexFrom(targetIndex, lastId);
+      catchUp(targetIndex);
+      feedIndexManager.completeRebuild(targetIndex);
+    } catch (RuntimeException e) {
+      // 양쪽 쓰기를 멈춘 뒤의 변경은 새 인덱스에 반영되지 않으므로 이 인덱스로는 재개하지 않음
+      feedIndexManager.abortRebuild(targetIndex);
+      stringRedisTemplate.delete(CHECKPOINT_KEY);
+      log.error("피드 재색인 중단 - index: {}", targetIndex, e);
+      throw e;
+    }
+    stringRedisTemplate.delete(CHECKPOINT_KEY);
 
-    while (true) {
-      Page<Feed> feedPage = feedRepository.findAll(PageRequest.of(page, pageSize));
-      if (feedPage.isEmpty()) {
-        break;
+    log.info("피드 재색인 완료 - index: {}", targetIndex);
+    return targetIndex;
+  }
+
+  private void reindexFrom(String targetIndex, UUID startId) {
+    int parallelism = properties.getReindexParallelism();
+    ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+    // 스캔이 색인보다 지나치게 앞서 나가지 않도록 대기 중인 chunk 수를 제한
+    Semaphore permits = new Semaphore(parallelism * 2);
+    ChunkTracker tracker = new ChunkTracker(targetIndex);
+    List<Future<?>> futures = new ArrayList<>();
+
+    try {
+      UUID lastId = startId;
+      long sequence = 0;
+      while (!tracker.isFailed()) {
+        List<UUID> feedIds = feedRepository.findIdsAfter(lastId,
+            PageRequest.of(0, properties.getReindexChunkSize()));
+        if (feedIds.isEmpty()) {
+          break;
+        }
+        lastId = feedIds.get(feedIds.size() - 1);
+
+        permits.acquire();
+        long chunkSequence = sequence++;
+        UUID chunkLastId = lastId;
+        futures.add(executor.submit(() -> {
+          try {
+            indexChunk(feedIds, targetIndex);
+            tracker.complete(chunkSequence, chunkLastId);
+          } catch (RuntimeException e) {
+            tracker.fail();
+            throw e;
+          } finally {
+            permits.release();
+          }
+        }));
       }
 
-      // 1. 엔티티 → Document 변환
-      List<FeedDocument> documents = feedPage.getContent().stream()
-          .map((Feed feed) -> toDocument(feed,
-              feed.getFeedClothes().stream().map(fc -> fc.getClothes().getId()).toList()))
-          .toList();
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RestException(ErrorCode.INTERNAL_SERVER_ERROR, Map.of("index", targetIndex));
+    } catch (ExecutionException e) {
+      log.error("피드 재색인 실패 - index: {}", targetIndex, e.getCause());
+      throw new RestException(ErrorCode.INTERNAL_SERVER_ERROR, Map.of("index", targetIndex));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 
-      // 2. Bulk 인덱싱
-      bulkIndexFeeds(documents);
+  // 다른 인스턴스가 재색인 상태를 읽어 양쪽 쓰기를 시작할 때까지 스캔을 미룸
+  private void awaitDualWrites(String targetIndex) {
+    try {
+      Thread.sleep(FeedIndexManager.STATE_CACHE_TTL_MS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RestException(ErrorCode.INTERNAL_SERVER_ERROR, Map.of("index", targetIndex));
+    }
+  }
 
-      page++;
+  /**
+   * 전체 색인 도중 변경된 피드를 DB 기준으로 다시 색인
+   * - chunk 가 읽은 스냅샷이 실시간 쓰기보다 늦게 반영돼 덮어쓴 경우를 바로잡음
+   * - 색인되지 않은 피드 중 별도 조회로 DB 에 없음이 확인된 것만 새 인덱스에서 삭제
+   */
+  private void catchUp(String targetIndex) {
+    int chunkSize = properties.getReindexChunkSize();
+    List<UUID> authorIds;
+    while (!(authorIds = feedIndexManager.popDirtyAuthorIds(chunkSize)).isEmpty()) {
+      List<UUID> feedIds = feedRepository.findIdsByUserIdIn(authorIds);
+      for (int start = 0; start < feedIds.size(); start += chunkSize) {
+        indexChunk(feedIds.subList(start, Math.min(start + chunkSize, feedIds.size())),
+            targetIndex);
+      }
     }
+
+    List<UUID> feedIds;
+    int resynced = 0;
+    while (!(feedIds = feedIndexManager.popDirtyFeedIds(chunkSize)).isEmpty()) {
+      Set<String> indexedIds = indexChunk(feedIds, targetIndex);
+      deleteRemovedFeeds(feedIds, indexedIds, targetIndex);
+      resynced += feedIds.size();
+    }
+    log.info("피드 재색인 따라잡기 완료 - index: {}, 피드 {}건", targetIndex, resynced);
   }
 
-  private void bulkIndexFeeds(List<FeedDocument> feeds) {
-    List<IndexQuery> queries = feeds.stream()
-        .map(feed -> new IndexQueryBuilder()
-            .withId(feed.getFeedId().toString())
-            .withObject(feed)
-            .build())
+  // 조회 결과에서 빠졌다는 이유만으로 삭제하지 않고, 실제로 DB 에서 사라졌는지 다시 확인
+  private void deleteRemovedFeeds(List<UUID> feedIds, Set<String> indexedIds, String targetIndex) {
+    List<UUID> notIndexedIds = feedIds.stream()
+        .filter(id -> !indexedIds.contains(id.toString()))
         .toList();
+    if (notIndexedIds.isEmpty()) {
+      return;
+    }
 
-    elasticsearchOperations.bulkIndex(queries, IndexCoordinates.of("feed_index"));
+    Set<UUID> existingIds = new HashSet<>(feedRepository.findIdsByIdIn(notIndexedIds));
+    for (UUID feedId : notIndexedIds) {
+      if (existingIds.contains(feedId)) {
+        log.warn("피드가 DB 에 있지만 색인되지 않아 삭제하지 않음 - index: {}, feedId: {}",
+            targetIndex, feedId);
+        continue;
+      }
+      elasticsearchOperations.delete(feedId.toString(), IndexCoordinates.of(targetIndex));
+    }
   }
 
-  private FeedDocument toDocument(Feed feed, List<UUID> clothesIds) {
-    AuthorDto authorDto = userRepository.projectionAuthorDtoById(feed.getUser().getId());
-    List<Clothes> clothes = clothesRepository.findByIdIn(clothesIds);
-    List<ElasticOotdDto> ootdDtoList = clothes.stream()
-        .map(cl -> {
-          ClothesImage clothesImage = clothesImageRepository.findByClothes_Id(cl.getId())
-              .orElse(null);
-          return ElasticOotdDto.builder()
-              .name(cl.getName())
-              .type(cl.getType())
-              .clothesId(cl.getId())
-              .imageKey(clothesImage != null ? clothesImage.getImageKey() : null)
-              .contentType(clothesImage != null ? clothesImage.getContentType() : null)
-              .attributes(cl.getSelectedValues().stream()
-                  .map(sv -> new ClothesAttributeWithDefDto(
-                      sv.getDefinition().getId(),
-                      sv.getDefinition().getName(),
-                      clothesAttributeValueRepository.findByDefinitionId(sv.getDefinition().getId())
-                          .stream().map(ca -> ca.getValue()).toList(),
-                      sv.getValue().getValue()
-                      ))
-                  .toList())
-              .build();
-        })
+  private Set<String> indexChunk(List<UUID> feedIds, String targetIndex) {
+    List<FeedDocument> documents = readOnlyTransactionTemplate.execute(
+        status -> loadDocuments(feedIds));
+    if (documents == null || documents.isEmpty()) {
+      return Collections.emptySet();
+    }
+
+    List<IndexQuery> queries = documents.stream()
+        .map(document -> new IndexQueryBuilder()
+            .withId(document.getFeedId())
+            .withObject(document)
+            .build())
         .toList();
+    elasticsearchOperations.bulkIndex(queries, IndexCoordinates.of(targetIndex));
+    return documents.stream().map(FeedDocument::getFeedId).collect(Collectors.toSet());
+  }
+
+  // chunk 하나에 필요한 연관 데이터를 IN 쿼리로 모아서 조회
+  private List<FeedDocument> loadDocuments(List<UUID> feedIds) {
+    List<Feed> feeds = feedRepository.findAllWithWeatherByIdIn(feedIds);
 
+    Map<UUID, AuthorDto> authorMap = userRepository.projectionAuthorDtosByIds(
+            feeds.stream().map(feed -> feed.getUser().getId()).collect(Collectors.toSet()))
+        .stream()
+        .collect(Collectors.toMap(AuthorDto::getUserId, author -> author, (a, b) -> a));
 
+    List<FeedClothes> feedClothesList =
+        feedClothesRepository.findAllByFeedIdInWithClothesAndSelectedValues(feedIds);
+
+    List<UUID> clothesIds = feedClothesList.stream()
+        .map(fc -> fc.getClothes().getId())
+        .distinct()
+        .toList();
+    Map<UUID, ClothesImage> imageMap = clothesIds.isEmpty()
+        ? Collections.emptyMap()
+        : clothesImageRepository.findAllByClothes_IdIn(clothesIds).stream()
+            .collect(Collectors.toMap(image -> image.getClothes().getId(), image -> image,
+                (a, b) -> a));
+
+    Map<UUID, List<ElasticOotdDto>> ootdMap = feedClothesList.stream()
+        .collect(Collectors.groupingBy(
+            fc -> fc.getFeed().getId(),
+            Collectors.mapping(fc -> toElasticOotdDto(fc.getClothes(), imageMap),
+                Collectors.toList())));
+
+    return feeds.stream()
+        .map(feed -> toDocument(feed, authorMap.get(feed.getUser().getId()),
+            ootdMap.getOrDefault(feed.getId(), Collections.emptyList())))
+        .toList();
+  }
+
+  private ElasticOotdDto toElasticOotdDto(Clothes clothes, Map<UUID, ClothesImage> imageMap) {
+    ClothesImage clothesImage = imageMap.get(clothes.getId());
+    return ElasticOotdDto.builder()
+        .name(clothes.getName())
+        .type(clothes.getType())
+        .clothesId(clothes.getId())
+        .imageKey(clothesImage != null ? clothesImage.getImageKey() : null)
+        .contentType(clothesImage != null ? clothesImage.getContentType() : null)
+        .attributes(clothesMapper.toDtoList(clothes.getSelectedValues()))
+        .build();
+  }
+
+  private FeedDocument toDocument(Feed feed, AuthorDto authorDto, List<ElasticOotdDto> ootdDtoList) {
     return FeedDocument.builder()
         .feedId(feed.getId().toString())
         .content(feed.getContent())
         .createdAt(feed.getCreatedAt() != null ? feed.getCreatedAt().toEpochMilli() : null)
         .updatedAt(feed.getUpdatedAt() != null ? feed.getUpdatedAt().toEpochMilli() : null)
         .likeCount(feed.getLikeCount())
-        .weather(new WeatherSummaryDto(
-            feed.getWeather().getId(),
-            feed.getWeather().getSkyStatus(),
-            new PrecipitationDto(
-                feed.getWeather().getPrecipitation().getType(),
-                feed.getWeather().getPrecipitation().getAmount(),
-                feed.getWeather().getPrecipitation().getProbability()),
-            new TemperatureDto(
-                feed.getWeather().getTemperature().getCurrent(),
-                feed.getWeather().getTemperature().getComparedToDayBefore() == null ? null : feed.getWeather().getTemperature().getComparedToDayBefore(),
-                feed.getWeather().getTemperature().getMin(),
-                feed.getWeather().getTemperature().getMax()
-            )))
+        .weather(toWeatherSummary(feed.getWeather()))
         .author(authorDto)
         .ootds(ootdDtoList)
         .build();
   }
+
+  // 예보가 정리되어 날씨가 없는 피드는 날씨 없이 색인
+  private WeatherSummaryDto toWeatherSummary(WeatherForecast weather) {
+    if (weather == null) {
+      return null;
+    }
+    WeatherPrecipitation precipitation = weather.getPrecipitation();
+    WeatherTemperature temperature = weather.getTemperature();
+    return new WeatherSummaryDto(
+        weather.getId(),
+        weather.getSkyStatus(),
+        precipitation != null
+            ? new PrecipitationDto(precipitation.getType(), precipitation.getAmount(),
+                precipitation.getProbability())
+            : null,
+        temperature != null
+            ? new TemperatureDto(temperature.getCurrent(), temperature.getComparedToDayBefore(),
+                temperature.getMin(), temperature.getMax())
+            : null);
+  }
+
+  private void saveCheckpoint(String targetIndex, UUID lastId) {
+    stringRedisTemplate.opsForHash().putAll(CHECKPOINT_KEY, Map.of(
+        CHECKPOINT_INDEX_FIELD, targetIndex,
+        CHECKPOINT_LAST_ID_FIELD, lastId.toString()));
+  }
+
+  /**
+   * 병렬로 끝나는 chunk 중 앞에서부터 연속으로 완료된 지점까지만 checkpoint 로 기록
+   * - 재개 시 checkpoint 이후 chunk 는 다시 색인되지만 id 기준 덮어쓰기라 결과는 같음
+   */
+  private class ChunkTracker {
+
+    private final String targetIndex;
+    private final TreeMap<Long, UUID> completed = new TreeMap<>();
+    private long nextSequence = 0;
+    private volatile boolean failed;
+
+    ChunkTracker(String targetIndex) {
+      this.targetIndex = targetIndex;
+    }
+
+    synchronized void complete(long sequence, UUID lastId) {
+      completed.put(sequence, lastId);
+      UUID watermark = null;
+      while (completed.containsKey(nextSequence)) {
+        watermark = completed.remove(nextSequence);
+        nextSequence++;
+      }
+      if (watermark != null) {
+        saveCheckpoint(targetIndex, watermark);
+      }
+    }
+
+    void fail() {
+      failed = true;
+    }
+
+    boolean isFailed() {
+      return failed;
+    }
+  }
 }
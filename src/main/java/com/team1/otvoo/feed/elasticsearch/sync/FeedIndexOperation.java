@@ -0,0 +1,31 @@
+package com.team1.otvoo.feed.elasticsearch.sync;
+
+import com.team1.otvoo.feed.elasticsearch.document.FeedDocument;
+import java.time.Instant;
+import java.util.Map;
+
+// 색인 파이프라인에 쌓이는 단위 작업 (전체 문서 저장 / 삭제 / 일부 필드 갱신)
+public record FeedIndexOperation(
+    Type type,
+    String feedId,
+    FeedDocument document,
+    Map<String, Object> partialDocument,
+    Instant enqueuedAt
+) {
+
+  public enum Type {
+    UPSERT, DELETE, PARTIAL_UPDATE
+  }
+
+  public static FeedIndexOperation upsert(FeedDocument document) {
+    return new FeedIndexOperation(Type.UPSERT, document.getFeedId(), document, null, Instant.now());
+  }
+
+  public static FeedIndexOperation delete(String feedId) {
+    return new FeedIndexOperation(Type.DELETE, feedId, null, null, Instant.now());
+  }
+
+  public static FeedIndexOperation partialUpdate(String feedId, Map<String, Object> partialDocument) {
+    return new FeedIndexOperation(Type.PARTIAL_UPDATE, feedId, null, partialDocument, Instant.now());
+  }
+}
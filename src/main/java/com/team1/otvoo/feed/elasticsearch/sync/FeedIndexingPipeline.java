@@ -0,0 +1,337 @@
+package com.team1.otvoo.feed.elasticsearch.sync;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team1.otvoo.config.props.FeedIndexingProperties;
+import com.team1.otvoo.feed.elasticsearch.document.FeedDocument;
+import com.team1.otvoo.feed.elasticsearch.index.FeedIndexManager;
+import com.team1.otvoo.feed.elasticsearch.sync.FeedIndexOperation.Type;
+import com.team1.otvoo.notification.entity.AsyncTaskFailure;
+import com.team1.otvoo.notification.repository.AsyncTaskFailureRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 문서 색인 파이프라인
+ * - 이벤트 핸들러는 작업을 제한된 크기의 대기열에 넣기만 하고, 전용 스레드 하나가 모아서 _bulk 요청으로 반영
+ * - batchSize 만큼 모이거나 flushIntervalMs 가 지나면 전송
+ * - 대기열이 가득 차면 호출 스레드를 잠시 대기시키고(backpressure), 그래도 자리가 없으면 dead-letter 처리
+ * - 일시적 오류는 지수 백오프로 재시도하고, 최종 실패 건은 재처리할 수 있도록 문서/필드까지 JSON 으로 async_task_failures 에 저장
+ * - 재색인 중에는 조회 alias 와 새 인덱스 양쪽에 같은 작업을 보냄
+ */
+@Slf4j
+@Component
+public class FeedIndexingPipeline {
+
+  private static final String METRIC_PREFIX = "feed.indexing";
+
+  private final ElasticsearchClient elasticsearchClient;
+  private final ElasticsearchOperations elasticsearchOperations;
+  private final AsyncTaskFailureRepository asyncTaskFailureRepository;
+  private final FeedIndexManager feedIndexManager;
+  private final FeedIndexingProperties properties;
+  private final ObjectMapper objectMapper;
+  private final BlockingQueue<FeedIndexOperation> queue;
+
+  private final Timer lagTimer;
+  private final Timer bulkTimer;
+  private final Counter successCounter;
+  private final Counter notFoundCounter;
+  private final Counter retryCounter;
+  private final Counter deadLetterCounter;
+  private final Counter rejectedCounter;
+
+  private volatile boolean running;
+  private Thread worker;
+
+  public FeedIndexingPipeline(ElasticsearchClient elasticsearchClient,
+      ElasticsearchOperations elasticsearchOperations,
+      AsyncTaskFailureRepository asyncTaskFailureRepository, FeedIndexManager feedIndexManager,
+      FeedIndexingProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+    this.elasticsearchClient = elasticsearchClient;
+    this.elasticsearchOperations = elasticsearchOperations;
+    this.asyncTaskFailureRepository = asyncTaskFailureRepository;
+    this.feedIndexManager = feedIndexManager;
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+    this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+
+    Gauge.builder(METRIC_PREFIX + ".queue.size", queue, BlockingQueue::size)
+        .register(meterRegistry);
+    this.lagTimer = Timer.builder(METRIC_PREFIX + ".lag")
+        .description("이벤트 발생부터 색인 반영까지 걸린 시간")
+        .register(meterRegistry);
+    this.bulkTimer = Timer.builder(METRIC_PREFIX + ".bulk").register(meterRegistry);
+    this.successCounter = operationCounter(meterRegistry, "success");
+    this.notFoundCounter = operationCounter(meterRegistry, "not_found");
+    this.retryCounter = operationCounter(meterRegistry, "retry");
+    this.deadLetterCounter = operationCounter(meterRegistry, "dead_letter");
+    this.rejectedCounter = operationCounter(meterRegistry, "rejected");
+  }
+
+  @PostConstruct
+  public void start() {
+    running = true;
+    worker = new Thread(this::runLoop, "feed-indexing-worker");
+    worker.setDaemon(true);
+    worker.start();
+  }
+
+  // 종료 시 대기열에 남은 작업을 최대한 반영
+  @PreDestroy
+  public void stop() throws InterruptedException {
+    running = false;
+    if (worker != null) {
+      worker.join(properties.getFlushIntervalMs() * 4);
+    }
+  }
+
+  public void enqueue(FeedIndexOperation operation) {
+    try {
+      if (queue.offer(operation, properties.getEnqueueTimeoutMs(), TimeUnit.MILLISECONDS)) {
+        return;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    rejectedCounter.increment();
+    log.warn("색인 대기열 포화 - feedId: {}, type: {}", operation.feedId(), operation.type());
+    deadLetter(List.of(new Target(FeedIndexManager.READ_ALIAS, operation)), "색인 대기열 포화");
+  }
+
+  public int queueSize() {
+    return queue.size();
+  }
+
+  private void runLoop() {
+    List<FeedIndexOperation> batch = new ArrayList<>(properties.getBatchSize());
+    while (running || !queue.isEmpty()) {
+      try {
+        FeedIndexOperation first = queue.poll(properties.getFlushIntervalMs(),
+            TimeUnit.MILLISECONDS);
+        if (first == null) {
+          continue;
+        }
+        batch.add(first);
+
+        long deadline = System.currentTimeMillis() + properties.getFlushIntervalMs();
+        while (batch.size() < properties.getBatchSize()) {
+          long remaining = deadline - System.currentTimeMillis();
+          FeedIndexOperation next = remaining > 0
+              ? queue.poll(remaining, TimeUnit.MILLISECONDS)
+              : null;
+          if (next == null) {
+            break;
+          }
+          batch.add(next);
+        }
+
+        processBatch(batch);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        running = false;
+      } catch (Exception e) {
+        log.error("색인 배치 처리 중 예외 발생 - {}건", batch.size(), e);
+        deadLetter(batch.stream()
+            .map(operation -> new Target(FeedIndexManager.READ_ALIAS, operation))
+            .toList(), e.getMessage());
+      } finally {
+        batch.clear();
+      }
+    }
+  }
+
+  void processBatch(List<FeedIndexOperation> batch) throws InterruptedException {
+    List<FeedIndexOperation> operations = coalesce(batch);
+    List<String> indices = feedIndexManager.writeIndices();
+    if (indices.size() > 1) {
+      // 전체 색인이 덮어쓴 문서를 따라잡기 단계에서 다시 맞출 수 있도록 기록
+      feedIndexManager.markDirty(operations.stream().map(FeedIndexOperation::feedId).toList());
+    }
+
+    List<Target> pending = new ArrayList<>(operations.size() * indices.size());
+    for (String index : indices) {
+      operations.forEach(operation -> pending.add(new Target(index, operation)));
+    }
+    String primaryIndex = indices.get(0);
+
+    for (int attempt = 1; !pending.isEmpty(); attempt++) {
+      List<Target> retryable = new ArrayList<>();
+      List<Target> failed = new ArrayList<>();
+      String lastError = null;
+
+      try {
+        BulkResponse response = bulkTimer.recordCallable(() -> sendBulk(pending));
+        List<BulkResponseItem> items = response.items();
+        Instant now = Instant.now();
+        for (int i = 0; i < items.size(); i++) {
+          BulkResponseItem item = items.get(i);
+          Target target = pending.get(i);
+          boolean primary = target.index().equals(primaryIndex);
+          if (item.status() == 404 && target.operation().type() != Type.UPSERT) {
+            // 이미 삭제된 피드에 대한 부분 갱신/삭제는 다시 보내도 결과가 같으므로 건수만 세고 종료
+            if (primary) {
+              notFoundCounter.increment();
+            }
+            continue;
+          }
+          if (item.error() == null) {
+            if (primary) {
+              successCounter.increment();
+              lagTimer.record(Duration.between(target.operation().enqueuedAt(), now));
+            }
+          } else if (!primary && item.status() == 404) {
+            // 새 인덱스에 아직 색인되지 않은 문서의 부분 갱신은 따라잡기 단계에서 반영됨
+            continue;
+          } else if (isRetryable(item.status())) {
+            retryable.add(target);
+            lastError = item.error().reason();
+          } else {
+            failed.add(target);
+            lastError = item.error().reason();
+          }
+        }
+      } catch (InterruptedException e) {
+        throw e;
+      } catch (Exception e) {
+        // 연결 실패 등 요청 자체가 실패하면 전체 재시도
+        log.warn("색인 _bulk 요청 실패 - {}건, attempt: {}", pending.size(), attempt, e);
+        retryable.addAll(pending);
+        lastError = e.getMessage();
+      }
+
+      if (!failed.isEmpty()) {
+        deadLetter(failed, lastError);
+      }
+      if (retryable.isEmpty()) {
+        return;
+      }
+      if (attempt >= properties.getMaxAttempts()) {
+        deadLetter(retryable, lastError);
+        return;
+      }
+
+      retryCounter.increment(retryable.size());
+      Thread.sleep(properties.getRetryBackoffMs() * (1L << (attempt - 1)));
+      pending.clear();
+      pending.addAll(retryable);
+    }
+  }
+
+  // 같은 문서에 대한 작업은 마지막 전체 저장/삭제 이후의 것만 남김
+  private List<FeedIndexOperation> coalesce(List<FeedIndexOperation> batch) {
+    Map<String, List<FeedIndexOperation>> byFeedId = new LinkedHashMap<>();
+    for (FeedIndexOperation operation : batch) {
+      if (operation.type() == Type.PARTIAL_UPDATE) {
+        byFeedId.computeIfAbsent(operation.feedId(), k -> new ArrayList<>()).add(operation);
+      } else {
+        List<FeedIndexOperation> operations = new ArrayList<>();
+        operations.add(operation);
+        byFeedId.put(operation.feedId(), operations);
+      }
+    }
+
+    List<FeedIndexOperation> result = new ArrayList<>(batch.size());
+    byFeedId.values().forEach(result::addAll);
+    return result;
+  }
+
+  private BulkResponse sendBulk(List<Target> targets) throws Exception {
+    BulkRequest.Builder request = new BulkRequest.Builder();
+    for (Target target : targets) {
+      FeedIndexOperation operation = target.operation();
+      String index = target.index();
+      switch (operation.type()) {
+        case UPSERT -> {
+          Map<String, Object> source = toSource(operation.document());
+          request.operations(op -> op.index(i -> i.index(index).id(operation.feedId())
+              .document(source)));
+        }
+        case DELETE -> request.operations(op -> op.delete(d -> d.index(index)
+            .id(operation.feedId())));
+        case PARTIAL_UPDATE -> request.operations(op -> op.update(u -> u.index(index)
+            .id(operation.feedId())
+            .action(a -> a.doc(operation.partialDocument()))));
+      }
+    }
+    return elasticsearchClient.bulk(request.build());
+  }
+
+  // Spring Data 매핑 규칙 그대로 문서를 변환해 기존 저장 방식과 동일한 형태를 유지
+  private Map<String, Object> toSource(FeedDocument document) {
+    return elasticsearchOperations.getElasticsearchConverter().mapObject(document);
+  }
+
+  private boolean isRetryable(int status) {
+    return status == 429 || status >= 500;
+  }
+
+  private void deadLetter(List<Target> targets, String error) {
+    deadLetterCounter.increment(targets.size());
+    try {
+      asyncTaskFailureRepository.saveAll(targets.stream()
+          .map(target -> AsyncTaskFailure.builder()
+              .eventId(UUID.fromString(target.operation().feedId()))
+              .payload(toPayload(target))
+              .error(error)
+              .build())
+          .toList());
+    } catch (Exception e) {
+      log.error("색인 실패 내역 저장 실패 - {}건", targets.size(), e);
+    }
+  }
+
+  // 같은 _bulk 작업을 다시 만들 수 있도록 작업 종류, 인덱스, 전체 문서(_source) 또는 부분 갱신 필드를 담음
+  private String toPayload(Target target) {
+    FeedIndexOperation operation = target.operation();
+    Map<String, Object> payload = new LinkedHashMap<>();
+    payload.put("type", operation.type());
+    payload.put("index", target.index());
+    payload.put("feedId", operation.feedId());
+    if (operation.document() != null) {
+      payload.put("document", toSource(operation.document()));
+    }
+    if (operation.partialDocument() != null) {
+      payload.put("partialDocument", operation.partialDocument());
+    }
+
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      log.warn("색인 실패 내역 직렬화 실패 - feedId: {}", operation.feedId(), e);
+      return payload.toString();
+    }
+  }
+
+  private Counter operationCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder(METRIC_PREFIX + ".operations")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  // 작업과 그 작업을 보낼 인덱스
+  private record Target(String index, FeedIndexOperation operation) {
+
+  }
+}
@@ -1,13 +1,12 @@
 package com.team1.otvoo.feed.entity;
 
+import com.team1.otvoo.common.id.GeneratedUuidV7;
 import com.team1.otvoo.user.entity.User;
 import com.team1.otvoo.weather.entity.WeatherForecast;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -28,7 +27,7 @@ import lombok.NoArgsConstructor;
 public class Feed {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @GeneratedUuidV7
   private UUID id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -1,12 +1,11 @@
 package com.team1.otvoo.feed.entity;
 
 import com.team1.otvoo.comment.entity.FeedComment;
+import com.team1.otvoo.common.id.GeneratedUuidV7;
 import com.team1.otvoo.user.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -24,7 +23,7 @@ import lombok.NoArgsConstructor;
 public class FeedLike {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @GeneratedUuidV7
   private UUID id;
 
   @ManyToOne(fetch = FetchType.LAZY)
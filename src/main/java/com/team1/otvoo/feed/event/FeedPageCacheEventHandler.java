@@ -0,0 +1,61 @@
+package com.team1.otvoo.feed.event;
+
+import com.team1.otvoo.feed.cache.FeedPageCache;
+import com.team1.otvoo.feed.repository.FeedRepository;
+import com.team1.otvoo.feed.service.FeedLikeCountBuffer;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 피드 변경 이벤트를 받아 피드 페이지 캐시를 무효화하거나 부분 갱신
+@Component
+@RequiredArgsConstructor
+public class FeedPageCacheEventHandler {
+
+  private final FeedPageCache feedPageCache;
+  private final FeedRepository feedRepository;
+  private final FeedLikeCountBuffer feedLikeCountBuffer;
+
+  @Async
+  @TransactionalEventListener
+  public void handleFeedCreatedEvent(FeedCreatedEvent event) {
+    feedPageCache.invalidateAll();
+  }
+
+  @Async
+  @TransactionalEventListener
+  public void handleFeedUpdatedEvent(FeedUpdatedEvent event) {
+    feedPageCache.invalidateAll();
+  }
+
+  @Async
+  @TransactionalEventListener
+  public void handleFeedDeletedEvent(FeedDeletedEvent event) {
+    feedPageCache.invalidateAll();
+  }
+
+  // 좋아요는 페이지 전체를 무효화하지 않고 좋아요 수와 사용자별 Set만 갱신
+  @Async
+  @TransactionalEventListener
+  public void handleLikeEvent(FeedLikeEvent event) {
+    UUID feedId = event.savedFeedLike().getFeed().getId();
+    feedPageCache.markLiked(event.savedFeedLike().getLikedBy().getId(), feedId);
+    refreshLikeCount(feedId);
+  }
+
+  @Async
+  @TransactionalEventListener
+  public void handleUnlikeEvent(FeedUnlikeEvent event) {
+    feedPageCache.markUnliked(event.userId(), event.feedId());
+    refreshLikeCount(event.feedId());
+  }
+
+  // DB에 아직 반영되지 않은 증감량까지 합산한 값으로 갱신
+  private void refreshLikeCount(UUID feedId) {
+    feedRepository.findLikeCountById(feedId)
+        .ifPresent(likeCount -> feedPageCache.updateLikeCount(feedId,
+            likeCount + feedLikeCountBuffer.pendingDelta(feedId)));
+  }
+}
@@ -3,7 +3,8 @@ package com.team1.otvoo.feed.event;
 import java.util.UUID;
 
 public record FeedUnlikeEvent(
-    UUID feedId
+    UUID feedId,
+    UUID userId
 ) {
 
 }
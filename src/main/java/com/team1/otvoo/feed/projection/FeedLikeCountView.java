@@ -0,0 +1,8 @@
+package com.team1.otvoo.feed.projection;
+
+import java.util.UUID;
+
+public interface FeedLikeCountView {
+  UUID getId();
+  long getLikeCount();
+}
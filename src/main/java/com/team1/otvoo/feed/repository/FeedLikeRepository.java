@@ -1,10 +1,18 @@
 package com.team1.otvoo.feed.repository;
 
 import com.team1.otvoo.feed.entity.FeedLike;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FeedLikeRepository extends JpaRepository<FeedLike, UUID> {
   boolean existsFeedLikeByFeed_IdAndLikedBy_Id(UUID feedId, UUID likedById);
-  void deleteByFeed_IdAndLikedBy_Id(UUID feedId, UUID likedById);
+  long deleteByFeed_IdAndLikedBy_Id(UUID feedId, UUID likedById);
+
+  @Query("SELECT fl.feed.id FROM FeedLike fl WHERE fl.likedBy.id = :likedById AND fl.feed.id IN :feedIds")
+  List<UUID> findLikedFeedIds(@Param("likedById") UUID likedById,
+      @Param("feedIds") Collection<UUID> feedIds);
 }
@@ -1,22 +1,46 @@
 package com.team1.otvoo.feed.repository;
 
 import com.team1.otvoo.feed.entity.Feed;
+import com.team1.otvoo.feed.projection.FeedLikeCountView;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface FeedRepository extends JpaRepository<Feed, UUID>, FeedRepositoryCustom {
-  @Modifying(clearAutomatically = true, flushAutomatically = true)
-  @Query("UPDATE Feed f SET f.likeCount = f.likeCount + 1 WHERE f.id = :id")
-  void incrementLikeCount(@Param("id") UUID id);
+  @Query("SELECT f.likeCount FROM Feed f WHERE f.id = :id")
+  Optional<Long> findLikeCountById(@Param("id") UUID id);
 
-  @Modifying(clearAutomatically = true, flushAutomatically = true)
-  @Query("UPDATE Feed f SET f.likeCount = f.likeCount - 1 WHERE f.id = :id")
-  void decrementLikerCount(@Param("id") UUID id);
+  @Query("SELECT f.id AS id, f.likeCount AS likeCount FROM Feed f WHERE f.id IN :ids")
+  List<FeedLikeCountView> findLikeCountsByIdIn(@Param("ids") Collection<UUID> ids);
 
   @Modifying(clearAutomatically = true, flushAutomatically = true)
   @Query("UPDATE Feed f SET f.commentCount = f.commentCount + 1 WHERE f.id = :id")
   void incrementCommentCount(@Param("id") UUID id);
+
+  // 재색인용 keyset 스캔 (UUIDv7 id 순서)
+  @Query("SELECT f.id FROM Feed f WHERE f.id > :lastId ORDER BY f.id")
+  List<UUID> findIdsAfter(@Param("lastId") UUID lastId, Pageable pageable);
+
+  @Query("SELECT f.id FROM Feed f WHERE f.id IN :ids")
+  List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+  @Query("SELECT f.id FROM Feed f WHERE f.user.id IN :userIds")
+  List<UUID> findIdsByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+
+  // 역방향 OneToOne 은 지연 로딩되지 않으므로 함께 fetch
+  // 예보 정리로 forecast_id 가 NULL 이 된 피드도 빠지지 않도록 LEFT JOIN
+  @Query("SELECT f FROM Feed f " +
+      "LEFT JOIN FETCH f.weather w " +
+      "LEFT JOIN FETCH w.temperature " +
+      "LEFT JOIN FETCH w.precipitation " +
+      "LEFT JOIN FETCH w.humidity " +
+      "LEFT JOIN FETCH w.windSpeed " +
+      "WHERE f.id IN :ids")
+  List<Feed> findAllWithWeatherByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -1,6 +1,7 @@
 package com.team1.otvoo.feed.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
@@ -208,6 +209,8 @@ public class FeedRepositoryCustomImpl implements FeedRepositoryCustom {
   // 커서 조건 이후의 값들만 조회
   // 정렬과는 별개지만, 정렬 조건과 맞춰줘야 페이지 간 정렬 정합성이 유지됨
   // ex) 1페이지의 끝 데이터와 2페이지의 첫 데이터 간에도 정렬 정합성이 맞아야함
+  // 정렬 방향이 모두 같은 경우 row-value 비교 ((like_count, created_at, id) < (?, ?, ?))로 작성해
+  // PostgreSQL이 복합 인덱스 range scan으로 바로 커서 위치를 찾을 수 있게 함
   private BooleanExpression cursorCondition(String cursor, UUID idAfter, String sortBy,
       String sortDirection) {
     if (!StringUtils.hasText(cursor)) {
@@ -223,57 +226,58 @@ public class FeedRepositoryCustomImpl implements FeedRepositoryCustom {
       long countCursorValue = Long.parseLong(cursorList[0]);
       Instant createdAtCursorValue = Instant.parse(cursorList[1]);
 
-      BooleanExpression mainCondition = descending
-          ? feed.likeCount.lt(countCursorValue)
-          : feed.likeCount.gt(countCursorValue);
+      // likeCount DESC, createdAt DESC, id DESC -> 하나의 row-value 비교
+      if (descending) {
+        return idAfter != null
+            ? rowValueLt(feed.likeCount, feed.createdAt, feed.id,
+                countCursorValue, createdAtCursorValue, idAfter)
+            : rowValueLt(feed.likeCount, feed.createdAt, countCursorValue, createdAtCursorValue);
+      }
 
-      // likeCount가 같은 경우 최신순 정렬이므로 createdAt lt 고정
-      // 그래야 다음 페이지 데이터들의 likeCount가 이전 페이지에서 넘어온 cursor와 같을 경우
-      // cursor 보다 오래된 (createdAt이 작은) 데이터가 오게됨 -> 최신순 데이터 페이지를 안전하게 이어갈 수 있음
+      // likeCount ASC인 경우 likeCount가 같으면 최신순(createdAt DESC, id DESC)이므로
+      // 정렬 방향이 섞여 하나의 row-value로 표현할 수 없음 -> likeCount 조건 + 동점 구간 row-value
+      BooleanExpression mainCondition = feed.likeCount.gt(countCursorValue);
       BooleanExpression tieCondition = feed.likeCount.eq(countCursorValue)
-          .and(feed.createdAt.lt(createdAtCursorValue));
-
-      // createdAt까지 같은 경우 (최후의 보루지만 likeCount와 createdAt까지 같은 경우가 없으므로, 크게 의미 X)
-      // likeCount + createdAt까지 같은데, 다음 데이터의 UUID가 cursor보다 큰지, 작은지 어떻게 알 수 있지?
-      // -> 알 수 없음. id.lt로 가져오면 만약 UUID가 클 경우 데이터가 누락됨
-      // id.gt로 가져오면 UUID가 작을 경우 데이터가 누락됨
-      // UUIDv4로는 매우 희박한 상황에서 발생하는 예외까지 고려하는 완벽한 페이지네이션이 불가능하다.
-      // 일단은 변경 비용이 크고, 발생할 확률이 로또보다 작으므로 이렇게 구현해두고, 추후 Postgre18의 UUIDv7이나 Long값으로 ID를 사용하기
-      BooleanExpression lastCondition = idAfter != null
-          ? feed.likeCount.eq(countCursorValue)
-          .and(feed.createdAt.eq(createdAtCursorValue))
-          .and(feed.id.lt(idAfter))
-          : null;
-
-      BooleanExpression combinedCondition = mainCondition.or(tieCondition);
-      if (lastCondition != null) {
-        combinedCondition = combinedCondition.or(lastCondition);
-      }
+          .and(idAfter != null
+              ? rowValueLt(feed.createdAt, feed.id, createdAtCursorValue, idAfter)
+              : feed.createdAt.lt(createdAtCursorValue));
 
-      return combinedCondition;
+      return mainCondition.or(tieCondition);
     }
-    // sortBy가 createdAt인 경우
+    // sortBy가 createdAt인 경우 (id tie-breaker도 같은 방향으로 정렬)
     else {
       Instant createdAtCursorValue = Instant.parse(cursor);
 
-      BooleanExpression mainCondition = descending
-          ? feed.createdAt.lt(createdAtCursorValue)
-          : feed.createdAt.gt(createdAtCursorValue);
-
-      BooleanExpression tieCondition = idAfter != null
-          ? feed.createdAt.eq(createdAtCursorValue)
-          .and(feed.id.lt(idAfter))
-          : null;
-
-      BooleanExpression combinedCondition = mainCondition;
-      if (tieCondition != null) {
-        combinedCondition = combinedCondition.or(tieCondition);
+      if (idAfter == null) {
+        return descending
+            ? feed.createdAt.lt(createdAtCursorValue)
+            : feed.createdAt.gt(createdAtCursorValue);
       }
 
-      return combinedCondition;
+      return descending
+          ? rowValueLt(feed.createdAt, feed.id, createdAtCursorValue, idAfter)
+          : rowValueGt(feed.createdAt, feed.id, createdAtCursorValue, idAfter);
     }
   }
 
+  private BooleanExpression rowValueLt(Expression<?> first, Expression<?> second,
+      Object firstValue, Object secondValue) {
+    return Expressions.booleanTemplate("({0}, {1}) < ({2}, {3})",
+        first, second, firstValue, secondValue);
+  }
+
+  private BooleanExpression rowValueGt(Expression<?> first, Expression<?> second,
+      Object firstValue, Object secondValue) {
+    return Expressions.booleanTemplate("({0}, {1}) > ({2}, {3})",
+        first, second, firstValue, secondValue);
+  }
+
+  private BooleanExpression rowValueLt(Expression<?> first, Expression<?> second,
+      Expression<?> third, Object firstValue, Object secondValue, Object thirdValue) {
+    return Expressions.booleanTemplate("({0}, {1}, {2}) < ({3}, {4}, {5})",
+        first, second, third, firstValue, secondValue, thirdValue);
+  }
+
   // 정렬 조건 (같은 경우엔 createdAt을 기준으로 내림차순 최신순 정렬)
   private OrderSpecifier<?>[] createdOrderSpecifier(String sortBy, String sortDirection) {
     Order direction = "DESCENDING".equalsIgnoreCase(sortDirection)
@@ -288,7 +292,7 @@ public class FeedRepositoryCustomImpl implements FeedRepositoryCustom {
     }
         : new OrderSpecifier[]{
             new OrderSpecifier<>(direction, feed.createdAt),
-            new OrderSpecifier<>(Order.DESC, feed.id)
+            new OrderSpecifier<>(direction, feed.id)
         };
   }
 }
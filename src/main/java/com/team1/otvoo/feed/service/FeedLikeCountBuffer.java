@@ -0,0 +1,268 @@
+package com.team1.otvoo.feed.service;
+
+import com.team1.otvoo.feed.dto.FeedDto;
+import com.team1.otvoo.feed.elasticsearch.sync.FeedIndexOperation;
+import com.team1.otvoo.feed.elasticsearch.sync.FeedIndexingPipeline;
+import com.team1.otvoo.feed.repository.FeedRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 피드 좋아요 수 쓰기 버퍼
+ * - 좋아요/취소마다 feeds 행을 UPDATE 하지 않고 Redis Hash(feedId → 증감량)에 누적
+ * - 짧은 주기로 누적분을 PostgreSQL 배치 UPDATE 한 번으로 반영하고, Elasticsearch 는 색인 파이프라인을 통해 _bulk 로 반영
+ * - 조회 시에는 DB/ES 값에 아직 반영되지 않은 증감량을 더해 본인이 누른 좋아요가 바로 보이도록 함
+ * - flush 할 묶음마다 batch id 를 붙이고 DB 반영과 같은 트랜잭션에 기록해, 같은 묶음이 두 번 더해지지 않게 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedLikeCountBuffer {
+
+  private static final String DELTA_KEY = "feed:like-delta";
+  // flush 중인 증감량. 조회 시에도 함께 합산해 flush 도중 값이 줄어 보이지 않게 함
+  private static final String FLUSHING_KEY = "feed:like-delta:flushing";
+  // flush 중인 묶음의 batch id
+  private static final String FLUSHING_BATCH_KEY = "feed:like-delta:flushing:batch";
+  private static final String LOCK_KEY = "feed:like-delta:lock";
+  private static final String UPDATE_SQL =
+      "UPDATE feeds SET like_count = like_count + ? WHERE id = ?";
+  // 이미 반영된 batch id 면 0 건 삽입
+  private static final String INSERT_BATCH_SQL =
+      "INSERT INTO feed_like_flush_batches (batch_id) VALUES (?) ON CONFLICT DO NOTHING";
+  private static final String DELETE_OLD_BATCHES_SQL =
+      "DELETE FROM feed_like_flush_batches WHERE flushed_at < now() - interval '1 day'";
+
+  // 이전 flush 가 남긴 잔여분이 있으면 그 묶음의 batch id 를, 없으면 누적 Hash 를 flush 용 키로 옮기고 새 batch id 를 반환
+  private static final DefaultRedisScript<String> MOVE_TO_FLUSHING_SCRIPT;
+  // 반영을 마친 묶음이 그대로 남아 있을 때만 flush 용 키를 제거
+  private static final DefaultRedisScript<Long> COMPLETE_FLUSHING_SCRIPT;
+  // 자신이 잡은 락일 때만 해제
+  private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT;
+  // 두 Hash 의 증감량을 feedId 별로 합산해 ARGV 순서대로 쉼표로 이어 반환
+  private static final DefaultRedisScript<String> PENDING_SCRIPT;
+  static {
+    MOVE_TO_FLUSHING_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[2]) == 1 then " +
+            "redis.call('SET', KEYS[3], ARGV[1], 'NX'); " +
+            "return redis.call('GET', KEYS[3]); end; " +
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return false end; " +
+            "redis.call('RENAME', KEYS[1], KEYS[2]); " +
+            "redis.call('SET', KEYS[3], ARGV[1]); " +
+            "return ARGV[1];", String.class);
+    COMPLETE_FLUSHING_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[2]) == ARGV[1] then " +
+            "return redis.call('DEL', KEYS[1], KEYS[2]); " +
+            "end; return 0;", Long.class);
+    RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('DEL', KEYS[1]); " +
+            "end; return 0;", Long.class);
+    PENDING_SCRIPT = new DefaultRedisScript<>(
+        "local a = redis.call('HMGET', KEYS[1], unpack(ARGV)); " +
+            "local b = redis.call('HMGET', KEYS[2], unpack(ARGV)); " +
+            "local r = {}; " +
+            "for i = 1, #ARGV do " +
+            "r[i] = string.format('%d', (tonumber(a[i]) or 0) + (tonumber(b[i]) or 0)) end; " +
+            "return table.concat(r, ',');", String.class);
+  }
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final FeedRepository feedRepository;
+  private final FeedIndexingPipeline feedIndexingPipeline;
+
+  @Value("${feed.like-count.flush-lock-ttl-ms:30000}")
+  private long FLUSH_LOCK_TTL_MS;
+
+  /**
+   * 좋아요 증감량 누적
+   * - 트랜잭션 안에서 호출되면 커밋 이후에 반영해 롤백된 좋아요가 집계되지 않도록 함
+   */
+  public void add(UUID feedId, long delta) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          accumulate(feedId, delta);
+        }
+      });
+      return;
+    }
+    accumulate(feedId, delta);
+  }
+
+  public long pendingDelta(UUID feedId) {
+    return pendingDeltas(List.of(feedId)).getOrDefault(feedId, 0L);
+  }
+
+  public Map<UUID, Long> pendingDeltas(Collection<UUID> feedIds) {
+    if (feedIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    List<UUID> ids = new ArrayList<>(feedIds);
+    try {
+      String values = stringRedisTemplate.execute(PENDING_SCRIPT,
+          List.of(DELTA_KEY, FLUSHING_KEY), ids.stream().map(UUID::toString).toArray());
+      if (values == null) {
+        return Collections.emptyMap();
+      }
+      String[] deltas = values.split(",");
+      Map<UUID, Long> result = new HashMap<>();
+      for (int i = 0; i < ids.size(); i++) {
+        long delta = Long.parseLong(deltas[i]);
+        if (delta != 0) {
+          result.put(ids.get(i), delta);
+        }
+      }
+      return result;
+    } catch (DataAccessException e) {
+      log.warn("좋아요 증감량 조회 실패", e);
+      return Collections.emptyMap();
+    }
+  }
+
+  // 조회 결과의 좋아요 수에 아직 반영되지 않은 증감량을 더함
+  public void applyPendingDeltas(Iterable<FeedDto> feeds) {
+    List<UUID> feedIds = new ArrayList<>();
+    feeds.forEach(feedDto -> feedIds.add(feedDto.getId()));
+
+    Map<UUID, Long> deltas = pendingDeltas(feedIds);
+    if (deltas.isEmpty()) {
+      return;
+    }
+    feeds.forEach(feedDto -> feedDto.setLikeCount(
+        feedDto.getLikeCount() + deltas.getOrDefault(feedDto.getId(), 0L)));
+  }
+
+  /**
+   * 누적분 flush
+   * - 락은 인스턴스별 토큰으로 잡고 자신의 토큰일 때만 해제 (TTL 이 지나 다른 인스턴스가 잡은 락을 지우지 않음)
+   * - DB 커밋 후 flush 용 키 제거에 실패하거나 락 TTL 이 지나 다른 인스턴스가 같은 묶음을 다시 처리해도
+   *   batch id 가 이미 기록되어 있으므로 UPDATE 를 건너뛰고 키만 정리함
+   */
+  @Scheduled(fixedDelayString = "${feed.like-count.flush-interval-ms:1000}")
+  public void flush() {
+    String lockToken = UUID.randomUUID().toString();
+    Boolean locked;
+    try {
+      locked = stringRedisTemplate.opsForValue()
+          .setIfAbsent(LOCK_KEY, lockToken, Duration.ofMillis(FLUSH_LOCK_TTL_MS));
+    } catch (DataAccessException e) {
+      log.warn("좋아요 수 flush 락 획득 실패", e);
+      return;
+    }
+    // 다른 인스턴스가 flush 중
+    if (!Boolean.TRUE.equals(locked)) {
+      return;
+    }
+
+    try {
+      String batchId = stringRedisTemplate.execute(MOVE_TO_FLUSHING_SCRIPT,
+          List.of(DELTA_KEY, FLUSHING_KEY, FLUSHING_BATCH_KEY), UUID.randomUUID().toString());
+      if (batchId == null) {
+        return;
+      }
+
+      Map<UUID, Long> deltas = new HashMap<>();
+      stringRedisTemplate.<String, String>opsForHash().entries(FLUSHING_KEY)
+          .forEach((feedId, delta) -> {
+            long value = Long.parseLong(delta);
+            if (value != 0) {
+              deltas.put(UUID.fromString(feedId), value);
+            }
+          });
+
+      writeToDatabase(UUID.fromString(batchId), deltas);
+      // DB 커밋 이후에 flush 용 키를 제거. 실패하면 다음 주기에 같은 batch id 로 키 정리만 다시 시도
+      stringRedisTemplate.execute(COMPLETE_FLUSHING_SCRIPT,
+          List.of(FLUSHING_KEY, FLUSHING_BATCH_KEY), batchId);
+
+      if (!deltas.isEmpty()) {
+        writeToElasticsearch(deltas.keySet());
+        log.debug("좋아요 수 flush 완료 - {}건", deltas.size());
+      }
+    } catch (DataAccessException e) {
+      log.error("좋아요 수 flush 실패", e);
+    } finally {
+      try {
+        stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), lockToken);
+      } catch (DataAccessException e) {
+        log.warn("좋아요 수 flush 락 해제 실패", e);
+      }
+    }
+  }
+
+  private void accumulate(UUID feedId, long delta) {
+    try {
+      stringRedisTemplate.opsForHash().increment(DELTA_KEY, feedId.toString(), delta);
+    } catch (DataAccessException e) {
+      // Redis 장애 시에는 기존처럼 행을 바로 갱신
+      log.warn("좋아요 증감량 누적 실패, DB에 직접 반영 - feedId: {}", feedId, e);
+      jdbcTemplate.update(UPDATE_SQL, delta, feedId);
+    }
+  }
+
+  /**
+   * 누적된 증감량을 하나의 배치 UPDATE 로 반영
+   * - batch id 기록과 UPDATE 를 같은 트랜잭션에서 수행하고, 이미 기록된 batch id 면 UPDATE 를 건너뜀
+   */
+  private void writeToDatabase(UUID batchId, Map<UUID, Long> deltas) {
+    List<Object[]> args = deltas.entrySet().stream()
+        .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+        .toList();
+    transactionTemplate.executeWithoutResult(status -> {
+      if (jdbcTemplate.update(INSERT_BATCH_SQL, batchId) == 0) {
+        log.info("이미 반영된 좋아요 수 flush 묶음 - batchId: {}", batchId);
+        return;
+      }
+      if (!args.isEmpty()) {
+        jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+      }
+    });
+  }
+
+  /**
+   * 오래된 batch id 정리
+   * - 중복 반영 방지에는 flush 용 키가 남아 있을 수 있는 기간의 기록만 필요하므로 하루가 지난 기록은 삭제
+   * - flush 주기마다 돌리지 않고 하루 한 번만 실행
+   */
+  @Scheduled(cron = "${feed.like-count.batch-cleanup-cron:0 20 4 * * *}")
+  public void cleanupFlushBatches() {
+    try {
+      int deleted = jdbcTemplate.update(DELETE_OLD_BATCHES_SQL);
+      log.info("오래된 좋아요 수 flush 묶음 기록 정리 - {}건", deleted);
+    } catch (DataAccessException e) {
+      log.error("좋아요 수 flush 묶음 기록 정리 실패", e);
+    }
+  }
+
+  /**
+   * Elasticsearch 에는 증감량이 아니라 DB 의 최종 값을 덮어씀
+   * - 일부 문서 갱신이 실패해도 다음 flush 때 다시 맞춰지도록 멱등하게 처리
+   */
+  private void writeToElasticsearch(Collection<UUID> feedIds) {
+    feedRepository.findLikeCountsByIdIn(feedIds).forEach(view ->
+        feedIndexingPipeline.enqueue(FeedIndexOperation.partialUpdate(view.getId().toString(),
+            Map.of("likeCount", view.getLikeCount()))));
+  }
+}
@@ -26,6 +26,7 @@ public class FeedLikeServiceImpl implements FeedLikeService {
 
   private final FeedLikeRepository feedLikeRepository;
   private final FeedRepository feedRepository;
+  private final FeedLikeCountBuffer feedLikeCountBuffer;
   private final ApplicationEventPublisher eventPublisher;
 
   @Override
@@ -38,7 +39,8 @@ public class FeedLikeServiceImpl implements FeedLikeService {
     FeedLike feedLike = new FeedLike(feed, user);
 
     FeedLike savedFeedLike = feedLikeRepository.save(feedLike);
-    feedRepository.incrementLikeCount(feedId);
+    // 좋아요 수는 버퍼에 누적 후 주기적으로 일괄 반영
+    feedLikeCountBuffer.add(feedId, 1);
 
     eventPublisher.publishEvent(new FeedLikeEvent(savedFeedLike));
   }
@@ -50,10 +52,10 @@ public class FeedLikeServiceImpl implements FeedLikeService {
     User user = ((CustomUserDetails) SecurityContextHolder.getContext().getAuthentication()
         .getPrincipal()).getUser();
 
-    if(feed.getLikeCount() >= 1) {
-      feedLikeRepository.deleteByFeed_IdAndLikedBy_Id(feed.getId(), user.getId());
-      feedRepository.decrementLikerCount(feed.getId());
-      eventPublisher.publishEvent(new FeedUnlikeEvent(feedId));
+    // 좋아요 수가 지연 반영되므로 실제로 삭제된 좋아요가 있을 때만 감소
+    if (feedLikeRepository.deleteByFeed_IdAndLikedBy_Id(feed.getId(), user.getId()) > 0) {
+      feedLikeCountBuffer.add(feed.getId(), -1);
+      eventPublisher.publishEvent(new FeedUnlikeEvent(feedId, user.getId()));
     }
   }
 
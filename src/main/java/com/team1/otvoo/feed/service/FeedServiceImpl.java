@@ -8,6 +8,7 @@ import com.team1.otvoo.clothes.repository.ClothesImageRepository;
 import com.team1.otvoo.clothes.repository.ClothesRepository;
 import com.team1.otvoo.exception.ErrorCode;
 import com.team1.otvoo.exception.RestException;
+import com.team1.otvoo.feed.cache.FeedPageCache;
 import com.team1.otvoo.feed.dto.FeedCreateRequest;
 import com.team1.otvoo.feed.dto.FeedDto;
 import com.team1.otvoo.feed.dto.FeedSearchCondition;
@@ -26,7 +27,6 @@ import com.team1.otvoo.security.CustomUserDetails;
 import com.team1.otvoo.storage.S3ImageStorage;
 import com.team1.otvoo.user.dto.AuthorDto;
 import com.team1.otvoo.user.entity.User;
-import com.team1.otvoo.user.repository.ProfileRepository;
 import com.team1.otvoo.user.repository.UserRepository;
 import com.team1.otvoo.user.resolver.ProfileImageUrlResolver;
 import com.team1.otvoo.weather.entity.WeatherForecast;
@@ -56,12 +56,13 @@ public class FeedServiceImpl implements FeedService {
   private final FeedRepository feedRepository;
   private final FeedLikeRepository feedLikeRepository;
   private final FeedClothesRepository feedClothesRepository;
-  private final ProfileRepository profileRepository;
   private final FeedMapper feedMapper;
   private final ClothesMapper clothesMapper;
   private final ApplicationEventPublisher eventPublisher;
   private final S3ImageStorage s3ImageStorage;
   private final ProfileImageUrlResolver profileImageUrlResolver;
+  private final FeedPageCache feedPageCache;
+  private final FeedLikeCountBuffer feedLikeCountBuffer;
 
   @Transactional
   @Override
@@ -104,6 +105,7 @@ public class FeedServiceImpl implements FeedService {
 
     FeedDto feedDto = feedMapper.toDto(feed, authorDto,
         feedLikeRepository.existsFeedLikeByFeed_IdAndLikedBy_Id(id, user.getId()));
+    feedDto.setLikeCount(feedDto.getLikeCount() + feedLikeCountBuffer.pendingDelta(id));
 
     eventPublisher.publishEvent(new FeedUpdatedEvent(feedDto));
 
@@ -114,7 +116,18 @@ public class FeedServiceImpl implements FeedService {
   @Override
   public Slice<FeedDto> getFeedsWithCursor(FeedSearchCondition searchCondition) {
     User user = ((CustomUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal()).getUser();
-    Slice<FeedDto> feeds = feedRepository.searchByCondition(searchCondition, user.getId());
+
+    // 첫 페이지는 사용자 공통 캐시에서 조회하고 likedByMe만 사용자별로 덮어씀
+    if (feedPageCache.isCacheable(searchCondition)) {
+      return feedPageCache.getOrLoad(searchCondition, user.getId(),
+          () -> loadFeeds(searchCondition, user.getId()));
+    }
+    return loadFeeds(searchCondition, user.getId());
+  }
+
+  private Slice<FeedDto> loadFeeds(FeedSearchCondition searchCondition, UUID userId) {
+    Slice<FeedDto> feeds = feedRepository.searchByCondition(searchCondition, userId);
+    feedLikeCountBuffer.applyPendingDeltas(feeds);
 
     List<UUID> feedIds = feeds.stream()
         .map(FeedDto::getId)
@@ -149,12 +162,16 @@ public class FeedServiceImpl implements FeedService {
             )
         ));
 
+    // 작성자 프로필 이미지는 페이지 단위로 한 번에 조회
+    Map<UUID, String> profileImageUrlMap = profileImageUrlResolver.resolveAll(
+        feeds.stream()
+            .map(feedDto -> feedDto.getAuthor().getUserId())
+            .toList());
+
     // FeedDto에 OotdDto 리스트 세팅
     for (FeedDto feedDto : feeds) {
-      UUID profileId = profileRepository.findByUserId(feedDto.getAuthor().getUserId()).orElseThrow(
-          () -> new RestException(ErrorCode.PROFILE_NOT_FOUND,
-              Map.of("userId", feedDto.getAuthor().getUserId()))).getId();
-      feedDto.getAuthor().setProfileImageUrl(profileImageUrlResolver.resolve(profileId));
+      feedDto.getAuthor().setProfileImageUrl(
+          profileImageUrlMap.get(feedDto.getAuthor().getUserId()));
       feedDto.setOotds(ootdMap.getOrDefault(feedDto.getId(), Collections.emptyList()));
     }
 
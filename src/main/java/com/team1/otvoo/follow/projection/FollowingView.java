@@ -0,0 +1,10 @@
+package com.team1.otvoo.follow.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface FollowingView {
+  UUID getFollowerId();
+  UUID getFolloweeId();
+  Instant getCreatedAt();
+}
@@ -1,13 +1,15 @@
 package com.team1.otvoo.follow.repository;
 
 import com.team1.otvoo.follow.entity.Follow;
-import com.team1.otvoo.user.entity.User;
+import com.team1.otvoo.follow.projection.FollowingView;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,6 +18,19 @@ public interface FollowRepository extends JpaRepository<Follow, UUID>, FollowRep
 
   Optional<Follow> findByFolloweeIdAndFollowerId(UUID followeeId, UUID followerId);
 
-  @Query("SELECT f.follower FROM Follow f WHERE f.followee.id = :followeeId")
-  Page<User> findFollowersByFolloweeId(UUID followeeId, Pageable pageable);
+  // 알림 fan-out 용 keyset 스캔. uq_followee_follower(followee_id, follower_id) 인덱스 범위만 읽고 COUNT 쿼리 없음
+  @Query("SELECT f.follower.id FROM Follow f " +
+      "WHERE f.followee.id = :followeeId AND f.follower.id > :lastFollowerId " +
+      "ORDER BY f.follower.id")
+  List<UUID> findFollowerIdsAfter(@Param("followeeId") UUID followeeId,
+      @Param("lastFollowerId") UUID lastFollowerId, Pageable pageable);
+
+  // 팔로워 대상 알림의 읽지 않은 수 계산용 (팔로우 시각 이후 알림만 집계)
+  // 팔로워 대상 알림이 있는 팔로위만 조회해 캐시 크기와 조회 비용이 전체 팔로우 수에 비례하지 않게 함
+  // 재계산 시 여러 팔로워를 한 번에 조회할 수 있도록 팔로워 id 목록으로 조회
+  @Query("SELECT f.follower.id AS followerId, f.followee.id AS followeeId, f.createdAt AS createdAt " +
+      "FROM Follow f " +
+      "WHERE f.follower.id IN :followerIds " +
+      "AND EXISTS (SELECT 1 FROM Notification n WHERE n.followeeId = f.followee.id)")
+  List<FollowingView> findFollowingsByFollowerIdIn(@Param("followerIds") Collection<UUID> followerIds);
 }
@@ -155,7 +155,7 @@ public class FollowRepositoryCustomImpl implements FollowRepositoryCustom {
       return follow.createdAt.lt(cursor);
     }
     return follow.createdAt.lt(cursor)
-        .or(follow.createdAt.eq(cursor).and(follow.id.lt(idAfter))); // UUIDv7를 사용해야 정렬 가능
+        .or(follow.createdAt.eq(cursor).and(follow.id.lt(idAfter))); // 같은 createdAt 안의 tie-breaker (신규 행만 UUIDv7, 기존 행은 UUIDv4)
   }
 }
 
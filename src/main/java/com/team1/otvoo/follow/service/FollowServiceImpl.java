@@ -10,13 +10,15 @@ import com.team1.otvoo.follow.dto.FollowSummaryDto;
 import com.team1.otvoo.follow.entity.Follow;
 import com.team1.otvoo.follow.event.FollowEvent;
 import com.team1.otvoo.follow.repository.FollowRepository;
-import com.team1.otvoo.storage.S3ImageStorageAdapter;
+import com.team1.otvoo.notification.service.NotificationUnreadCounter;
+import com.team1.otvoo.storage.S3ImageStorage;
 import com.team1.otvoo.user.dto.UserSummary;
 import com.team1.otvoo.user.entity.User;
 import com.team1.otvoo.user.repository.UserRepository;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,7 +37,8 @@ public class FollowServiceImpl implements FollowService {
   private final FollowRepository followRepository;
   private final UserRepository userRepository;
   private final ApplicationEventPublisher eventPublisher;
-  private final S3ImageStorageAdapter s3ImageStorageAdapter;
+  private final S3ImageStorage s3ImageStorage;
+  private final NotificationUnreadCounter unreadCounter;
 
   @Transactional
   @Override
@@ -65,6 +68,8 @@ public class FollowServiceImpl implements FollowService {
     log.info("팔로우 대상: {}, 팔로워: {}", followee.getFollowerCount(), follower.getFollowingCount());
 
     eventPublisher.publishEvent(new FollowEvent(follower, followee));
+    // 팔로워 대상 알림은 팔로우 시각 이후 것만 읽지 않은 알림으로 집계
+    unreadCounter.follow(followerId, followeeId, createdFollow.getCreatedAt());
 
     FollowDto tempDto = followRepository.findFollowDtoById(createdFollow.getId());
 
@@ -150,13 +155,7 @@ public class FollowServiceImpl implements FollowService {
     String nextCursor = last.createdAt().toString();
     UUID nextIdAfter = last.id();
 
-    List<FollowDto> data = followingList.stream()
-        .map(fc -> {
-          UserSummary resolvedFollowee = resolveUserSummaryUrl(fc.followee());
-          UserSummary resolvedFollower = resolveUserSummaryUrl(fc.follower());
-          return new FollowDto(fc.id(), resolvedFollowee, resolvedFollower);
-        })
-        .toList();
+    List<FollowDto> data = toFollowDtoList(followingList);
 
     return new FollowListResponse(
         data,
@@ -206,13 +205,7 @@ public class FollowServiceImpl implements FollowService {
     String nextCursor = last.createdAt().toString();
     UUID nextIdAfter = last.id();
 
-    List<FollowDto> data = followerList.stream()
-        .map(fc -> {
-          UserSummary resolvedFollowee = resolveUserSummaryUrl(fc.followee());
-          UserSummary resolvedFollower = resolveUserSummaryUrl(fc.follower());
-          return new FollowDto(fc.id(), resolvedFollowee, resolvedFollower);
-        })
-        .toList();
+    List<FollowDto> data = toFollowDtoList(followerList);
 
     return new FollowListResponse(
         data,
@@ -233,11 +226,34 @@ public class FollowServiceImpl implements FollowService {
     userRepository.decrementFollowingCount(follow.getFollower().getId());
 
     followRepository.delete(follow);
+    unreadCounter.unfollow(follow.getFollower().getId(), follow.getFollowee().getId());
+  }
+
+  // 목록 조회 쿼리가 이미 가져온 프로필 이미지 objectKey를 키별로 한 번씩만 presign해 FollowDto로 변환
+  // 이미지가 없는 사용자는 기존과 같이 null 유지
+  private List<FollowDto> toFollowDtoList(List<FollowCursorDto> follows) {
+    Map<String, String> presignedUrlMap = new HashMap<>();
+
+    return follows.stream()
+        .map(fc -> new FollowDto(
+            fc.id(),
+            withPresignedUrl(fc.followee(), presignedUrlMap),
+            withPresignedUrl(fc.follower(), presignedUrlMap)))
+        .toList();
+  }
+
+  private UserSummary withPresignedUrl(UserSummary summary, Map<String, String> presignedUrlMap) {
+    String objectKey = summary.profileImageUrl();
+    String imageUrl = objectKey == null
+        ? null
+        : presignedUrlMap.computeIfAbsent(objectKey, s3ImageStorage::getPresignedUrl);
+
+    return new UserSummary(summary.userId(), summary.name(), imageUrl);
   }
 
   private UserSummary resolveUserSummaryUrl(UserSummary summary) {
     String imageUrl = Optional.ofNullable(summary.profileImageUrl())
-        .map(s3ImageStorageAdapter::getPresignedUrl)
+        .map(s3ImageStorage::getPresignedUrl)
         .orElse(null);
 
     return new UserSummary(summary.userId(), summary.name(), imageUrl);
@@ -1,8 +1,10 @@
 package com.team1.otvoo.notification.controller;
 
 import com.team1.otvoo.notification.dto.NotificationDtoCursorResponse;
+import com.team1.otvoo.notification.dto.NotificationReadRequest;
 import com.team1.otvoo.notification.service.NotificationService;
 import com.team1.otvoo.security.CustomUserDetails;
+import jakarta.validation.Valid;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +14,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -51,4 +55,16 @@ public class NotificationController {
     return ResponseEntity.noContent().build();
   }
 
+  @PostMapping("/read")
+  public ResponseEntity<Void> readAll(
+      @Valid @RequestBody NotificationReadRequest request,
+      @AuthenticationPrincipal CustomUserDetails userDetails
+  ) {
+    UUID userId = userDetails.getUser().getId();
+    log.info("알림 일괄 읽음 처리 요청: userId={}, until={}", userId, request.until());
+    notificationService.readNotifications(userId, request);
+    log.debug("알림 일괄 읽음 처리 완료");
+    return ResponseEntity.noContent().build();
+  }
+
 }
@@ -0,0 +1,19 @@
+package com.team1.otvoo.notification.dto;
+
+import jakarta.validation.constraints.Size;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 알림 일괄 읽음 처리 요청
+ * - notificationIds 가 있으면 해당 알림만 읽음 처리
+ * - 없으면 until 시각까지(포함) 받은 모든 알림을 읽음 처리 (until 이 없으면 요청 시각 기준)
+ */
+public record NotificationReadRequest(
+    @Size(max = 100, message = "한 번에 최대 100개의 알림까지 읽음 처리할 수 있습니다")
+    List<UUID> notificationIds,
+    Instant until
+) {
+
+}
@@ -1,13 +1,12 @@
 package com.team1.otvoo.notification.entity;
 
+import com.team1.otvoo.common.id.GeneratedUuidV7;
 import com.team1.otvoo.user.entity.User;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -25,7 +24,7 @@ import lombok.NoArgsConstructor;
 public class Notification {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
+  @GeneratedUuidV7
   private UUID id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -45,6 +44,10 @@ public class Notification {
   @Column(name = "created_at", nullable = false, updatable = false)
   private Instant createdAt;
 
+  // 팔로워 전체 대상 알림의 작성자(팔로위). 수신자 없이 저장되며 조회 시 팔로우 관계로 대상을 결정
+  @Column(name = "followee_id")
+  private UUID followeeId;
+
   public Notification (User receiver, String title, String content, NotificationLevel level) {
     this.receiver = receiver;
     this.title = title;
@@ -53,4 +56,11 @@ public class Notification {
     this.createdAt = Instant.now();
   }
 
+  public static Notification forFollowersOf(UUID followeeId, String title, String content,
+      NotificationLevel level) {
+    Notification notification = new Notification(null, title, content, level);
+    notification.followeeId = followeeId;
+    return notification;
+  }
+
 }
@@ -0,0 +1,14 @@
+package com.team1.otvoo.notification.event;
+
+import com.team1.otvoo.notification.dto.NotificationDto;
+import java.util.List;
+import java.util.UUID;
+
+// 한 건으로 저장된 팔로워 대상 알림(fan-out-on-read)을 팔로워 배치에 실시간 전송하기 위한 이벤트
+public record FolloweeNotificationEvent(
+    UUID followeeId,
+    NotificationDto notificationDto,
+    List<UUID> followerIds
+) {
+
+}
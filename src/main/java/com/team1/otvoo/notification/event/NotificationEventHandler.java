@@ -1,9 +1,15 @@
 package com.team1.otvoo.notification.event;
 
 import com.team1.otvoo.notification.dto.NotificationDto;
+import com.team1.otvoo.notification.service.NotificationUnreadCounter;
 import com.team1.otvoo.sse.event.RedisPublishService;
 import com.team1.otvoo.sse.model.SseMessage;
 import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -18,11 +24,23 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class NotificationEventHandler {
 
   private final RedisPublishService redisPublishService;
+  private final NotificationUnreadCounter unreadCounter;
 
   @Async
   @TransactionalEventListener
   public void handleEvent(NotificationEvent event) {
     try {
+      countUnread(event);
+
+      // 여러 수신자에게 가는 개인 알림(팔로워 fan-out 배치)은 메시지 하나로 묶어서 발행
+      if (!event.broadcast() && event.notificationDtoList().size() > 1) {
+        SseMessage message = createBatchSseMessage(event.notificationDtoList());
+        redisPublishService.publishWithRetry(message);
+
+        log.info("Redis Stream 배치 메시지 발행 완료: 수신자 {}명", message.getReceiverIds().size());
+        return;
+      }
+
       for(NotificationDto notificationDto : event.notificationDtoList()) {
         SseMessage message = createSseMessage(notificationDto, event.broadcast());
         redisPublishService.publishWithRetry(message);
@@ -34,6 +52,64 @@ public class NotificationEventHandler {
     }
   }
 
+  // 모든 팔로워가 같은 알림을 받으므로 데이터 하나로 다중 수신자 메시지 발행
+  // 읽지 않은 알림 수는 팔로워마다 올리지 않고 팔로위 ZSet 에 알림 한 건만 기록 (조회 시 팔로우 시각 기준으로 집계)
+  @Async
+  @TransactionalEventListener
+  public void handleFolloweeEvent(FolloweeNotificationEvent event) {
+    try {
+      unreadCounter.addFolloweeNotification(event.followeeId(), event.notificationDto().id(),
+          event.notificationDto().createdAt());
+
+      SseMessage message = SseMessage.builder()
+          .eventId(UUID.randomUUID())
+          .broadcast(false)
+          .eventName("notifications")
+          .eventData(event.notificationDto())
+          .receiverIds(new HashSet<>(event.followerIds()))
+          .createdAt(Instant.now())
+          .build();
+      redisPublishService.publishWithRetry(message);
+
+      log.info("Redis Stream 팔로워 알림 발행 완료: notificationId={}, 수신자 {}명",
+          event.notificationDto().id(), event.followerIds().size());
+    } catch (Exception e) {
+      log.error("FolloweeNotificationEvent 처리 중 예외 발생: {}", e.getMessage(), e);
+    }
+  }
+
+  // 커밋된 알림만 읽지 않은 알림 수에 반영
+  private void countUnread(NotificationEvent event) {
+    if (event.broadcast()) {
+      event.notificationDtoList().forEach(notificationDto ->
+          unreadCounter.addBroadcast(notificationDto.id(), notificationDto.createdAt()));
+      return;
+    }
+    unreadCounter.increment(event.notificationDtoList().stream()
+        .map(NotificationDto::receiverId)
+        .filter(Objects::nonNull)
+        .toList());
+  }
+
+  // 수신자마다 알림 id 가 다르므로 수신자별 데이터로 담음
+  private SseMessage createBatchSseMessage(List<NotificationDto> notificationDtoList) {
+    Set<UUID> receiverIds = new HashSet<>(notificationDtoList.size() * 2);
+    Map<UUID, Object> receiverEventData = new HashMap<>(notificationDtoList.size() * 2);
+    for (NotificationDto notificationDto : notificationDtoList) {
+      receiverIds.add(notificationDto.receiverId());
+      receiverEventData.put(notificationDto.receiverId(), notificationDto);
+    }
+
+    return SseMessage.builder()
+        .eventId(UUID.randomUUID())
+        .broadcast(false)
+        .eventName("notifications")
+        .receiverIds(receiverIds)
+        .receiverEventData(receiverEventData)
+        .createdAt(Instant.now())
+        .build();
+  }
+
   private SseMessage createSseMessage(NotificationDto notificationDto, boolean broadcast) {
 
     log.info("메시지 전환 전 notificationDto {}, 브로드캐스트 여부: {}", notificationDto, broadcast);
@@ -0,0 +1,8 @@
+package com.team1.otvoo.notification.projection;
+
+import java.util.UUID;
+
+public interface PersonalUnreadCountView {
+  UUID getReceiverId();
+  long getUnreadCount();
+}
@@ -0,0 +1,11 @@
+package com.team1.otvoo.notification.projection;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public interface SharedReadView {
+  UUID getUserId();
+  UUID getNotificationId();
+  UUID getFolloweeId();
+  Instant getCreatedAt();
+}
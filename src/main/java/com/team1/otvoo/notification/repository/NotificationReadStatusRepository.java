@@ -1,11 +1,26 @@
 package com.team1.otvoo.notification.repository;
 
 import com.team1.otvoo.notification.entity.NotificationReadStatus;
+import com.team1.otvoo.notification.projection.SharedReadView;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface NotificationReadStatusRepository extends JpaRepository<NotificationReadStatus, UUID> {
+public interface NotificationReadStatusRepository extends JpaRepository<NotificationReadStatus, UUID>,
+    NotificationReadStatusRepositoryCustom {
   boolean existsByUserIdAndNotificationId(UUID userId, UUID notificationId);
-  long deleteByCreatedAtBefore(Instant cutoffDateTime);
+  // 브로드캐스트 읽음 기록만 정리 (팔로워 대상 알림의 읽음 기록은 알림이 삭제될 때 함께 삭제됨)
+  long deleteByNotificationFolloweeIdIsNullAndCreatedAtBefore(Instant cutoffDateTime);
+
+  // 읽음 기록은 알림 보관 기간이 지나면 알림과 함께 정리되므로 사용자별 결과 크기가 제한됨
+  // 재계산 시 여러 사용자를 한 번에 조회할 수 있도록 사용자 id 목록으로 조회
+  @Query("SELECT rs.user.id AS userId, n.id AS notificationId, n.followeeId AS followeeId, " +
+      "n.createdAt AS createdAt " +
+      "FROM NotificationReadStatus rs JOIN rs.notification n " +
+      "WHERE rs.user.id IN :userIds AND n.receiver IS NULL")
+  List<SharedReadView> findReadSharedNotificationsByUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
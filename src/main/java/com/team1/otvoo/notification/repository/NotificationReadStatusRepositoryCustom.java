@@ -0,0 +1,8 @@
+package com.team1.otvoo.notification.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface NotificationReadStatusRepositoryCustom {
+  List<UUID> bulkInsertIgnoringDuplicates(UUID userId, List<UUID> notificationIds);
+}
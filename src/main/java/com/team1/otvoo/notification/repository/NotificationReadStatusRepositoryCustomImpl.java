@@ -0,0 +1,51 @@
+package com.team1.otvoo.notification.repository;
+
+import com.team1.otvoo.common.id.UuidV7;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationReadStatusRepositoryCustomImpl implements NotificationReadStatusRepositoryCustom {
+
+  // 이미 읽은 알림은 유니크 제약(uq_user_notification)에 걸려 건너뛰고, 실제로 저장된 알림 id 만 반환
+  private static final String INSERT_SQL =
+      "INSERT INTO notification_read_status (id, user_id, notification_id, created_at) " +
+          "SELECT r.id, ?, r.notification_id, ? FROM unnest(?::uuid[], ?::uuid[]) AS r(id, notification_id) " +
+          "ON CONFLICT (user_id, notification_id) DO NOTHING " +
+          "RETURNING notification_id";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 존재 여부 확인 없이 한 번의 INSERT ... SELECT unnest 로 저장
+   * - 알림 id 배열을 한 번에 바인딩하므로 건수와 관계없이 문장 하나로 전송하고,
+   *   RETURNING 으로 실제 저장된 행만 돌려받아 저장 후 다시 조회하지 않음
+   * @return 이번 호출로 새로 읽음 처리된 알림 id (다른 요청이 먼저 저장한 알림은 제외)
+   */
+  @Override
+  public List<UUID> bulkInsertIgnoringDuplicates(UUID userId, List<UUID> notificationIds) {
+    if (notificationIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+    UUID[] ids = notificationIds.stream().map(notificationId -> UuidV7.randomUUID())
+        .toArray(UUID[]::new);
+    Timestamp createdAt = Timestamp.from(Instant.now());
+
+    return jdbcTemplate.query(con -> {
+      PreparedStatement ps = con.prepareStatement(INSERT_SQL);
+      ps.setObject(1, userId);
+      ps.setTimestamp(2, createdAt);
+      ps.setArray(3, con.createArrayOf("uuid", ids));
+      ps.setArray(4, con.createArrayOf("uuid", notificationIds.toArray()));
+      return ps;
+    }, (rs, rowNum) -> rs.getObject(1, UUID.class));
+  }
+}
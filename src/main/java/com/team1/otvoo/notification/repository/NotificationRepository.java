@@ -1,12 +1,32 @@
 package com.team1.otvoo.notification.repository;
 
 import com.team1.otvoo.notification.entity.Notification;
+import com.team1.otvoo.notification.projection.PersonalUnreadCountView;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, UUID>, NotificationRepositoryCustom {
-  long deleteByReceiverIsNullAndCreatedAtBefore(Instant cutoffDateTime);
+  long deleteByReceiverIsNullAndFolloweeIdIsNullAndCreatedAtBefore(Instant cutoffDateTime);
+
+  // 팔로워 대상 알림은 브로드캐스트와 별도의 보관 기간으로 정리
+  long deleteByFolloweeIdIsNotNullAndCreatedAtBefore(Instant cutoffDateTime);
+
+  @Query("SELECT n FROM Notification n WHERE n.receiver IS NULL AND n.followeeId IS NULL")
+  List<Notification> findAllBroadcasts();
+
+  @Query("SELECT n FROM Notification n WHERE n.receiver IS NULL AND n.followeeId IS NOT NULL")
+  List<Notification> findAllFolloweeNotifications();
+
+  // 재계산 시 여러 사용자의 개인 알림 수를 한 번에 집계 (알림이 없는 사용자는 결과에 없음)
+  @Query("SELECT n.receiver.id AS receiverId, COUNT(n) AS unreadCount FROM Notification n " +
+      "WHERE n.receiver.id IN :receiverIds GROUP BY n.receiver.id")
+  List<PersonalUnreadCountView> countUnreadPersonalNotificationsByReceiverIdIn(
+      @Param("receiverIds") Collection<UUID> receiverIds);
 }
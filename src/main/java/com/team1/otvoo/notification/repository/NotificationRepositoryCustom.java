@@ -1,11 +1,16 @@
 package com.team1.otvoo.notification.repository;
 
+import com.team1.otvoo.notification.dto.NotificationDto;
 import com.team1.otvoo.notification.entity.Notification;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 public interface NotificationRepositoryCustom {
-  List<Notification> findUnreadNotificationsWithCursor(UUID receiverId, Instant cursor, UUID idAfter, int limit);
-  long countUnreadNotifications(UUID receiverId);
+  List<Notification> findUnreadNotificationsWithCursor(UUID receiverId, Instant userCreatedAt, Instant cursor, UUID idAfter, int limit);
+  long countUnreadNotifications(UUID receiverId, Instant userCreatedAt);
+  long countUnreadPersonalNotifications(UUID receiverId);
+  void bulkInsert(List<NotificationDto> notifications);
+  long deletePersonalNotifications(UUID receiverId, List<UUID> notificationIds, Instant until);
+  List<Notification> findUnreadSharedNotifications(UUID receiverId, Instant userCreatedAt, List<UUID> notificationIds, Instant until, Instant cursor, UUID idAfter, int limit);
 }
@@ -1,38 +1,37 @@
 package com.team1.otvoo.notification.repository;
 
+import static com.team1.otvoo.follow.entity.QFollow.follow;
 import static com.team1.otvoo.notification.entity.QNotification.notification;
 import static com.team1.otvoo.notification.entity.QNotificationReadStatus.notificationReadStatus;
-import static com.team1.otvoo.user.entity.QUser.user;
 
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.team1.otvoo.notification.dto.NotificationDto;
 import com.team1.otvoo.notification.entity.Notification;
 import com.team1.otvoo.notification.entity.QNotification;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
 
+  private static final String INSERT_SQL =
+      "INSERT INTO notifications (id, receiver_id, title, content, level, created_at) " +
+          "VALUES (?, ?, ?, ?, ?, ?)";
+
   private final JPAQueryFactory queryFactory;
+  private final JdbcTemplate jdbcTemplate;
 
+  // 가입 시각은 호출 측에서 전달 (읽지 않은 알림 수 캐시에 함께 보관)
   @Override
-  public List<Notification> findUnreadNotificationsWithCursor(UUID receiverId, Instant cursor, UUID idAfter, int limit) {
-    Instant userCreatedAt = queryFactory
-        .select(user.createdAt)
-        .from(user)
-        .where(user.id.eq(receiverId))
-        .fetchOne();
-
-    if (userCreatedAt == null) {
-      // 안전하게 처리: 해당 유저가 없으면 빈 리스트 반환
-      return List.of();
-    }
-
+  public List<Notification> findUnreadNotificationsWithCursor(UUID receiverId, Instant userCreatedAt,
+      Instant cursor, UUID idAfter, int limit) {
     return queryFactory
         .selectFrom(notification)
         .leftJoin(notification.receiver).fetchJoin()
@@ -41,13 +40,13 @@ public class NotificationRepositoryCustomImpl implements NotificationRepositoryC
             notificationReadStatus.notification.id.eq(notification.id),
             notificationReadStatus.user.id.eq(receiverId)
         )
+        .leftJoin(follow)
+        .on(
+            follow.followee.id.eq(notification.followeeId),
+            follow.follower.id.eq(receiverId)
+        )
         .where(
-            notification.receiver.id.eq(receiverId)
-                .or(
-                    notification.receiver.id.isNull()
-                        .and(notificationReadStatus.id.isNull())
-                        .and(notification.createdAt.goe(userCreatedAt)) // 가입 이후 broadcast 필터링
-                ),
+            unreadCondition(receiverId, userCreatedAt),
             cursorCondition(notification, cursor, idAfter) // 커서 조건
         )
         .orderBy(notification.createdAt.desc(), notification.id.desc())
@@ -55,18 +54,25 @@ public class NotificationRepositoryCustomImpl implements NotificationRepositoryC
         .fetch();
   }
 
+  // 캐시를 사용할 수 없을 때의 전체 개수
   @Override
-  public long countUnreadNotifications(UUID receiverId) {
-    Instant userCreatedAt = queryFactory
-        .select(user.createdAt)
-        .from(user)
-        .where(user.id.eq(receiverId))
+  public long countUnreadNotifications(UUID receiverId, Instant userCreatedAt) {
+    return countWhere(receiverId, unreadCondition(receiverId, userCreatedAt));
+  }
+
+  // 개인 알림 개수 (브로드캐스트/팔로워 대상 알림은 캐시에서 알림별로 한 번만 기록해 조회 시 집계)
+  @Override
+  public long countUnreadPersonalNotifications(UUID receiverId) {
+    Long count = queryFactory
+        .select(notification.count())
+        .from(notification)
+        .where(notification.receiver.id.eq(receiverId))
         .fetchOne();
 
-    if (userCreatedAt == null) {
-      return 0L;
-    }
+    return count != null ? count : 0L;
+  }
 
+  private long countWhere(UUID receiverId, BooleanExpression condition) {
     Long count = queryFactory
         .select(notification.count())
         .from(notification)
@@ -75,19 +81,107 @@ public class NotificationRepositoryCustomImpl implements NotificationRepositoryC
             notificationReadStatus.notification.id.eq(notification.id),
             notificationReadStatus.user.id.eq(receiverId)
         )
-        .where(
-            notification.receiver.id.eq(receiverId)
-                .or(
-                    notification.receiver.id.isNull()
-                        .and(notificationReadStatus.id.isNull())
-                        .and(notification.createdAt.goe(userCreatedAt))
-                )
+        .leftJoin(follow)
+        .on(
+            follow.followee.id.eq(notification.followeeId),
+            follow.follower.id.eq(receiverId)
         )
+        .where(condition)
         .fetchOne();
 
     return count != null ? count : 0L;
   }
 
+  // 개인 알림 일괄 읽음 처리 (한 번의 DELETE 로 삭제)
+  @Override
+  public long deletePersonalNotifications(UUID receiverId, List<UUID> notificationIds,
+      Instant until) {
+    return queryFactory
+        .delete(notification)
+        .where(
+            notification.receiver.id.eq(receiverId),
+            idsCondition(notificationIds),
+            untilCondition(until)
+        )
+        .execute();
+  }
+
+  // 일괄 읽음 처리할 브로드캐스트/팔로워 대상 알림 중 아직 읽지 않은 알림
+  // 기준 시각까지 전체 읽음 처리 시 결과가 커질 수 있으므로 목록 조회와 같은 커서로 나눠 조회
+  @Override
+  public List<Notification> findUnreadSharedNotifications(UUID receiverId, Instant userCreatedAt,
+      List<UUID> notificationIds, Instant until, Instant cursor, UUID idAfter, int limit) {
+    return queryFactory
+        .selectFrom(notification)
+        .leftJoin(notificationReadStatus)
+        .on(
+            notificationReadStatus.notification.id.eq(notification.id),
+            notificationReadStatus.user.id.eq(receiverId)
+        )
+        .leftJoin(follow)
+        .on(
+            follow.followee.id.eq(notification.followeeId),
+            follow.follower.id.eq(receiverId)
+        )
+        .where(
+            notification.receiver.id.isNull(),
+            unreadCondition(receiverId, userCreatedAt),
+            idsCondition(notificationIds),
+            untilCondition(until),
+            cursorCondition(notification, cursor, idAfter)
+        )
+        .orderBy(notification.createdAt.desc(), notification.id.desc())
+        .limit(limit)
+        .fetch();
+  }
+
+  /**
+   * 알림 대량 저장
+   * - JPA saveAll 은 UUID 엔티티마다 INSERT 를 따로 실행하므로 JDBC 배치로 한 번에 전송
+   * - reWriteBatchedInserts 설정으로 드라이버가 multi-row INSERT 로 합쳐서 실행
+   */
+  @Override
+  public void bulkInsert(List<NotificationDto> notifications) {
+    jdbcTemplate.batchUpdate(INSERT_SQL, notifications, notifications.size(), (ps, dto) -> {
+      ps.setObject(1, dto.id());
+      ps.setObject(2, dto.receiverId());
+      ps.setString(3, dto.title());
+      ps.setString(4, dto.content());
+      ps.setString(5, dto.level().name());
+      ps.setTimestamp(6, Timestamp.from(dto.createdAt()));
+    });
+  }
+
+  /**
+   * 읽지 않은 알림 조건
+   * - 개인 알림: 수신자가 본인
+   * - 브로드캐스트: 가입 이후 생성되었고 읽음 기록이 없는 알림
+   * - 팔로워 대상 알림(fan-out-on-read): 팔로우 중인 작성자가 팔로우 이후 작성했고 읽음 기록이 없는 알림
+   */
+  private BooleanExpression unreadCondition(UUID receiverId, Instant userCreatedAt) {
+    BooleanExpression unreadShared = notification.receiver.id.isNull()
+        .and(notificationReadStatus.id.isNull());
+    BooleanExpression broadcast = notification.followeeId.isNull()
+        .and(notification.createdAt.goe(userCreatedAt)); // 가입 이후 broadcast 필터링
+
+    return notification.receiver.id.eq(receiverId)
+        .or(unreadShared.and(broadcast.or(followeeCondition())));
+  }
+
+  private BooleanExpression followeeCondition() {
+    return notification.followeeId.isNotNull()
+        .and(follow.id.isNotNull())
+        .and(notification.createdAt.goe(follow.createdAt)); // 팔로우 이후 작성된 피드만
+  }
+
+  private BooleanExpression idsCondition(List<UUID> notificationIds) {
+    return notificationIds == null ? null : notification.id.in(notificationIds);
+  }
+
+  private BooleanExpression untilCondition(Instant until) {
+    return until == null ? null : notification.createdAt.loe(until);
+  }
+
   // 커서 조건
   private BooleanExpression cursorCondition(QNotification notification, Instant cursor, UUID idAfter) {
     if (cursor == null) {
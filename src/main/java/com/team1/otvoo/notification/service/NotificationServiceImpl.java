@@ -2,24 +2,31 @@ package com.team1.otvoo.notification.service;
 
 import com.team1.otvoo.exception.ErrorCode;
 import com.team1.otvoo.exception.RestException;
+import com.team1.otvoo.follow.repository.FollowRepository;
 import com.team1.otvoo.notification.dto.NotificationDto;
 import com.team1.otvoo.notification.dto.NotificationDtoCursorResponse;
+import com.team1.otvoo.notification.dto.NotificationReadRequest;
 import com.team1.otvoo.notification.entity.Notification;
 import com.team1.otvoo.notification.entity.NotificationReadStatus;
 import com.team1.otvoo.notification.mapper.NotificationMapper;
 import com.team1.otvoo.notification.repository.NotificationReadStatusRepository;
 import com.team1.otvoo.notification.repository.NotificationRepository;
+import com.team1.otvoo.notification.service.NotificationUnreadCounter.UnreadCount;
 import com.team1.otvoo.user.entity.User;
 import com.team1.otvoo.user.repository.UserRepository;
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +40,14 @@ public class NotificationServiceImpl implements NotificationService {
   private final UserRepository userRepository;
   private final NotificationReadStatusRepository readStatusRepository;
   private final NotificationMapper notificationMapper;
+  private final NotificationUnreadCounter unreadCounter;
+  private final FollowRepository followRepository;
+
+  @Value("${notification.followee-retention-days:30}")
+  private long FOLLOWEE_RETENTION_DAYS;
+
+  @Value("${notification.read-batch-size:500}")
+  private int READ_BATCH_SIZE;
 
   @Transactional(readOnly = true)
   @Override
@@ -48,9 +63,16 @@ public class NotificationServiceImpl implements NotificationService {
       }
     }
 
+    // 가입 시각과 읽지 않은 알림 수는 캐시에서 조회 (없으면 DB 에서 한 번 계산해 채움)
+    UnreadCount unreadCount = resolveUnreadCount(receiverId);
+    if (unreadCount == null) {
+      // 안전하게 처리: 해당 유저가 없으면 빈 리스트 반환
+      return new NotificationDtoCursorResponse(Collections.emptyList(), null, null, false, 0L);
+    }
+
     // hasNext 판별 위해 limit+1 개로 조회
     List<Notification> notifications = notificationRepository.findUnreadNotificationsWithCursor(
-        receiverId, cursorInstant, idAfter, limit + 1);
+        receiverId, unreadCount.userCreatedAt(), cursorInstant, idAfter, limit + 1);
 
     boolean hasNext = notifications.size() > limit;
     List<Notification> notificationList = hasNext ? notifications.subList(0, limit) : notifications;
@@ -67,7 +89,7 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     List<NotificationDto> data = notificationMapper.toDtoList(notificationList);
-    long totalCount = notificationRepository.countUnreadNotifications(receiverId);
+    long totalCount = unreadCount.count();
 
     Notification lastNotification = notificationList.get(notificationList.size() - 1);
     String nextCursor = lastNotification.getCreatedAt().toString();
@@ -96,9 +118,15 @@ public class NotificationServiceImpl implements NotificationService {
         throw new RestException(ErrorCode.ACCESS_DENIED, Map.of("id", receiver.getId()));
       }
       notificationRepository.delete(notification);
+      unreadCounter.decrement(userId);
     }
-    // 브로드캐스트 알림인 경우
+    // 브로드캐스트/팔로워 대상 알림인 경우
     else {
+      // 팔로워 대상 알림은 팔로우 이후 작성된 알림만 받을 수 있으므로 목록 조회와 같은 기준으로 확인
+      if (notification.getFolloweeId() != null && !isFollowingSince(userId, notification)) {
+        throw new RestException(ErrorCode.ACCESS_DENIED, Map.of("id", notificationId));
+      }
+
       // 이미 읽음 처리되었는지 확인
       boolean alreadyRead = readStatusRepository.existsByUserIdAndNotificationId(userId,
           notificationId);
@@ -112,22 +140,124 @@ public class NotificationServiceImpl implements NotificationService {
 
       NotificationReadStatus readStatus = new NotificationReadStatus(user, notification);
       readStatusRepository.save(readStatus);
+
+      unreadCounter.markSharedNotificationsRead(userId, List.of(notification));
     }
   }
 
+  private boolean isFollowingSince(UUID userId, Notification notification) {
+    return followRepository.findByFolloweeIdAndFollowerId(notification.getFolloweeId(), userId)
+        .map(follow -> !notification.getCreatedAt().isBefore(follow.getCreatedAt()))
+        .orElse(false);
+  }
+
+  /**
+   * 알림 일괄 읽음 처리
+   * - 개인 알림은 한 번의 DELETE 로 삭제
+   * - 브로드캐스트/팔로워 대상 알림은 읽지 않은 알림을 커서로 나눠 조회하고, 묶음마다 읽음 기록을 한 문장으로 저장
+   *   (동시에 같은 알림을 읽음 처리해도 ON CONFLICT DO NOTHING 으로 건너뜀)
+   * - 읽지 않은 알림 수는 삭제한 개인 알림 수만큼 줄이고, 공유 알림은 이번 요청에서 실제로 저장된 읽음 기록만 반영
+   * - 다른 사용자의 개인 알림이나 받을 수 없는 알림 id 는 조건에서 걸러져 무시됨
+   */
+  @Transactional
+  @Override
+  public void readNotifications(UUID userId, NotificationReadRequest request) {
+    List<UUID> notificationIds = request.notificationIds() == null || request.notificationIds().isEmpty()
+        ? null
+        : request.notificationIds().stream().distinct().toList();
+    // id 목록이 없으면 기준 시각까지 받은 모든 알림을 읽음 처리
+    Instant until = notificationIds == null && request.until() == null
+        ? Instant.now()
+        : request.until();
+
+    // 캐시가 없으면 삭제 전에 채워야 커밋 후 감소분이 중복 반영되지 않음
+    UnreadCount unreadCount = resolveUnreadCount(userId);
+    if (unreadCount == null) {
+      throw new RestException(ErrorCode.NOT_FOUND, Map.of("userId", userId));
+    }
+
+    long deletedCount = notificationRepository.deletePersonalNotifications(userId,
+        notificationIds, until);
+
+    unreadCounter.decrement(userId, deletedCount);
+
+    int readCount = 0;
+    Instant cursor = null;
+    UUID idAfter = null;
+    while (true) {
+      List<Notification> sharedNotifications = notificationRepository.findUnreadSharedNotifications(
+          userId, unreadCount.userCreatedAt(), notificationIds, until, cursor, idAfter,
+          READ_BATCH_SIZE);
+      if (sharedNotifications.isEmpty()) {
+        break;
+      }
+      Set<UUID> insertedIds = new HashSet<>(readStatusRepository.bulkInsertIgnoringDuplicates(
+          userId, sharedNotifications.stream().map(Notification::getId).toList()));
+
+      List<Notification> readNotifications = sharedNotifications.stream()
+          .filter(notification -> insertedIds.contains(notification.getId()))
+          .toList();
+      unreadCounter.markSharedNotificationsRead(userId, readNotifications);
+      readCount += readNotifications.size();
+
+      if (sharedNotifications.size() < READ_BATCH_SIZE) {
+        break;
+      }
+      Notification last = sharedNotifications.get(sharedNotifications.size() - 1);
+      cursor = last.getCreatedAt();
+      idAfter = last.getId();
+    }
+    log.debug("알림 일괄 읽음 처리 - userId={}, 개인={}, 공유={}", userId, deletedCount, readCount);
+  }
+
+  private UnreadCount resolveUnreadCount(UUID receiverId) {
+    Optional<UnreadCount> cached = unreadCounter.find(receiverId);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+
+    Instant userCreatedAt = userRepository.findById(receiverId)
+        .map(User::getCreatedAt)
+        .orElse(null);
+    if (userCreatedAt == null) {
+      return null;
+    }
+    unreadCounter.seed(receiverId, userCreatedAt);
+
+    // Redis 를 사용할 수 없으면 DB 에서 전체 개수를 계산
+    return unreadCounter.find(receiverId)
+        .orElseGet(() -> new UnreadCount(userCreatedAt,
+            notificationRepository.countUnreadNotifications(receiverId, userCreatedAt)));
+  }
+
+  /**
+   * 오래된 공유 알림 정리
+   * - 브로드캐스트와 읽음 기록은 7일이 지나면 삭제
+   * - 팔로워 대상 알림은 팔로워별 개인 알림을 대신하므로 별도의 보관 기간(기본 30일)이 지나면 삭제하고,
+   *   읽음 기록은 알림이 삭제될 때 함께 삭제됨 (먼저 지우면 읽은 알림이 다시 읽지 않은 알림으로 보임)
+   */
   @Transactional
   @Scheduled(cron = "0 0 4 * * *")
   @Override
   public void cleanupOldNotifications() {
     log.info("오래된 브로드캐스트 알림 데이터 정리 시작");
     Instant cutoffDateTime = Instant.now().minus(7, ChronoUnit.DAYS);
+    Instant followeeCutoffDateTime = Instant.now().minus(FOLLOWEE_RETENTION_DAYS, ChronoUnit.DAYS);
     try {
-      long deletedStatusCount = readStatusRepository.deleteByCreatedAtBefore(cutoffDateTime);
+      long deletedStatusCount = readStatusRepository
+          .deleteByNotificationFolloweeIdIsNullAndCreatedAtBefore(cutoffDateTime);
       log.info("Deleted {} notification read statuses older than 7 days", deletedStatusCount);
 
-      long deletedNotificationCount = notificationRepository.deleteByReceiverIsNullAndCreatedAtBefore(
-          cutoffDateTime);
+      long deletedNotificationCount = notificationRepository
+          .deleteByReceiverIsNullAndFolloweeIdIsNullAndCreatedAtBefore(cutoffDateTime);
       log.info("Deleted {} broadcast notifications older than 7 days", deletedNotificationCount);
+
+      long deletedFolloweeNotificationCount = notificationRepository
+          .deleteByFolloweeIdIsNotNullAndCreatedAtBefore(followeeCutoffDateTime);
+      log.info("Deleted {} followee notifications older than {} days",
+          deletedFolloweeNotificationCount, FOLLOWEE_RETENTION_DAYS);
+
+      unreadCounter.removeSharedNotificationsBefore(cutoffDateTime, followeeCutoffDateTime);
     } catch (Exception e) {
       log.error("Error while deleting old notifications", e);
     }
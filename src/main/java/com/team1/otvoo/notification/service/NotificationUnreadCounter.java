@@ -0,0 +1,556 @@
+package com.team1.otvoo.notification.service;
+
+import com.team1.otvoo.follow.projection.FollowingView;
+import com.team1.otvoo.follow.repository.FollowRepository;
+import com.team1.otvoo.notification.entity.Notification;
+import com.team1.otvoo.notification.projection.PersonalUnreadCountView;
+import com.team1.otvoo.notification.projection.SharedReadView;
+import com.team1.otvoo.notification.repository.NotificationReadStatusRepository;
+import com.team1.otvoo.notification.repository.NotificationRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽지 않은 알림 수 캐시
+ * - 개인 알림: 사용자별 Hash(notification:unread:{userId} → count, since)에 생성 시 증가, 읽음 시 감소
+ * - 브로드캐스트: 사용자마다 증가시키지 않고 전역 ZSet(id → 생성 시각)에 한 번만 기록하고,
+ *   사용자가 읽은 브로드캐스트는 ZSet(id → 생성 시각)으로 관리해 조회 시 (가입 이후 브로드캐스트 수 - 읽은 수)로 계산
+ * - 팔로워 대상 알림: 팔로위별 ZSet 에 한 번만 기록하고, 사용자 Hash 에 팔로위별 팔로우 시각(f:{followeeId})을
+ *   보관해 조회 시 팔로위마다 (팔로우 이후 알림 수 - 읽은 수)로 계산
+ *   (팔로우 시각은 팔로워 대상 알림이 있는 팔로위만 보관해 조회 비용이 전체 팔로우 수에 비례하지 않음.
+ *   팔로워 대상 알림이 처음 생긴 팔로위의 팔로우 시각은 다음 재계산 때 채워짐)
+ * - 조회는 쓰기 없이 두 번의 파이프라인(Hash/보관 기준 시각 → 출처별 ZCOUNT)으로 계산하고,
+ *   정리된 알림의 읽음 기록은 보관 기준 시각 이전 점수로 남으므로 ZCOUNT 범위에서 제외됨
+ * - 읽음 ZSet 은 보관 기간보다 먼저 만료될 수 있으므로 캐시를 채울 때와 재계산할 때 notification_read_status 기준으로 다시 채움
+ * - since 에 가입 시각을 함께 보관해 목록 조회 시 사용자 조회 쿼리도 생략
+ * - 캐시가 없으면 DB 에서 한 번 계산해 채우고, 주기적으로 DB 기준으로 다시 맞춤
+ *   (채우는 동안 들어온 증감은 delta 필드에 모았다가 DB 기준 개수에 더함)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationUnreadCounter {
+
+  private static final String COUNTER_KEY_PREFIX = "notification:unread:";
+  private static final String BROADCASTS_KEY = "notification:broadcasts";
+  private static final String BROADCASTS_TMP_KEY = "notification:broadcasts:tmp";
+  // 정리된 브로드캐스트/팔로워 대상 알림의 보관 기준 시각(epoch millis). 이보다 이전 점수는 집계하지 않음
+  private static final String BROADCAST_CUTOFF_KEY = "notification:broadcasts:cutoff";
+  private static final String FOLLOWEE_CUTOFF_KEY = "notification:followee-cutoff";
+  private static final String BROADCAST_READ_KEY_PREFIX = "notification:read:broadcast:";
+  private static final String FOLLOWEE_KEY_PREFIX = "notification:followee:";
+  private static final String FOLLOWEE_TMP_KEY_PREFIX = "notification:followee-tmp:";
+  // 사용자·팔로위별 읽은 팔로워 대상 알림 ZSet: notification:read:followee:{userId}:{followeeId}
+  private static final String FOLLOWEE_READ_KEY_PREFIX = "notification:read:followee:";
+  private static final String RECONCILE_LOCK_KEY = "notification:unread-reconcile:lock";
+  private static final String FIELD_COUNT = "count";
+  private static final String FIELD_SINCE = "since";
+  private static final String FIELD_FOLLOWING_PREFIX = "f:";
+
+  // 캐시가 있는 사용자만 증감 (없으면 다음 조회 시 DB 기준으로 채워짐), 0 미만으로 내려가지 않게 함
+  // 캐시를 채우는 중(since 없이 delta 만 있는 키)이면 delta 에 누적
+  private static final DefaultRedisScript<Long> INCREMENT_SCRIPT;
+  // 캐시가 없을 때만 delta 필드만 있는 키를 만들어 DB 집계 중의 증감을 모음
+  private static final DefaultRedisScript<Long> BEGIN_SEED_SCRIPT;
+  // 다른 요청이 먼저 채우지 않았을 때만 DB 기준 개수 + delta 로 채움 (HSETNX 와 같은 동작)
+  private static final DefaultRedisScript<Long> COMPLETE_SEED_SCRIPT;
+  // 캐시가 있는 사용자만 팔로우 시각 기록
+  private static final DefaultRedisScript<Long> FOLLOW_SCRIPT;
+  // 재계산 중 만료되었거나 아직 채우는 중인 키는 건드리지 않음. 팔로우 시각은 DB 기준으로 교체
+  private static final DefaultRedisScript<Long> RESET_SCRIPT;
+  // 자신이 잡은 락일 때만 해제
+  private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT;
+  static {
+    INCREMENT_SCRIPT = new DefaultRedisScript<>(
+        "for i = 1, #KEYS do " +
+            "  if redis.call('HEXISTS', KEYS[i], 'since') == 1 then " +
+            "    local n = redis.call('HINCRBY', KEYS[i], 'count', ARGV[1]); " +
+            "    if n < 0 then redis.call('HSET', KEYS[i], 'count', 0) end; " +
+            "  elseif redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    redis.call('HINCRBY', KEYS[i], 'delta', ARGV[1]); " +
+            "  end; " +
+            "end; " +
+            "return #KEYS;", Long.class);
+    BEGIN_SEED_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('HEXISTS', KEYS[1], 'since') == 1 then return 0 end; " +
+            "redis.call('HSETNX', KEYS[1], 'delta', 0); " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]); " +
+            "return 1;", Long.class);
+    // 채우는 도중 표시 키가 만료되었으면 그동안의 증감을 알 수 없으므로 채우지 않음 (다음 조회 시 다시 채움)
+    COMPLETE_SEED_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end; " +
+            "if redis.call('HEXISTS', KEYS[1], 'since') == 1 then return 0 end; " +
+            "local count = tonumber(ARGV[1]) + tonumber(redis.call('HGET', KEYS[1], 'delta') or '0'); " +
+            "if count < 0 then count = 0 end; " +
+            "redis.call('HSET', KEYS[1], 'count', count, 'since', ARGV[2]); " +
+            "for i = 4, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end; " +
+            "redis.call('HDEL', KEYS[1], 'delta'); " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]); " +
+            "return 1;", Long.class);
+    FOLLOW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end; " +
+            "redis.call('HSET', KEYS[1], ARGV[1], ARGV[2]); " +
+            "return 1;", Long.class);
+    RESET_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('HEXISTS', KEYS[1], 'since') == 0 then return 0 end; " +
+            "for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do " +
+            "  if string.sub(field, 1, 2) == 'f:' then redis.call('HDEL', KEYS[1], field) end; " +
+            "end; " +
+            "redis.call('HSET', KEYS[1], 'count', ARGV[1]); " +
+            "for i = 2, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end; " +
+            "return 1;", Long.class);
+    RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('DEL', KEYS[1]); " +
+            "end; return 0;", Long.class);
+  }
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final NotificationRepository notificationRepository;
+  private final NotificationReadStatusRepository readStatusRepository;
+  private final FollowRepository followRepository;
+
+  @Value("${notification.unread-count.ttl-seconds:86400}")
+  private long TTL_SECONDS;
+
+  @Value("${notification.unread-count.reconcile-lock-ttl-ms:60000}")
+  private long RECONCILE_LOCK_TTL_MS;
+
+  @Value("${notification.unread-count.reconcile-batch-size:500}")
+  private int RECONCILE_BATCH_SIZE;
+
+  @Value("${notification.unread-count.seed-timeout-ms:30000}")
+  private long SEED_TIMEOUT_MS;
+
+  public record UnreadCount(Instant userCreatedAt, long count) {
+
+  }
+
+  // 읽음 ZSet 에 기록할 공유 알림 (읽음 처리한 알림 엔티티와 DB 읽음 기록 조회 결과를 같은 형태로 다룸)
+  private record SharedRead(UUID notificationId, UUID followeeId, Instant createdAt) {
+
+  }
+
+  /**
+   * 읽지 않은 알림 수 조회 (캐시가 없으면 빈 값)
+   * - 첫 파이프라인에서 사용자 Hash 와 보관 기준 시각을 읽고, 두 번째 파이프라인에서 출처별 알림 수와 읽은 수를 ZCOUNT 로 조회
+   * - 각 키를 명령마다 지정하므로 키가 여러 슬롯에 나뉘어 있어도 동작하고, 조회 중 Redis 에 쓰지 않음
+   */
+  @SuppressWarnings("unchecked")
+  public Optional<UnreadCount> find(UUID userId) {
+    try {
+      List<Object> snapshot = stringRedisTemplate.executePipelined(
+          (RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.hGetAll(counterKey(userId));
+            redis.get(BROADCAST_CUTOFF_KEY);
+            redis.get(FOLLOWEE_CUTOFF_KEY);
+            return null;
+          });
+      Map<String, String> fields = (Map<String, String>) snapshot.get(0);
+      if (fields == null || !fields.containsKey(FIELD_COUNT) || !fields.containsKey(FIELD_SINCE)) {
+        return Optional.empty();
+      }
+
+      long since = Long.parseLong(fields.get(FIELD_SINCE));
+      long broadcastFrom = Math.max(since, toLong(snapshot.get(1)));
+      long followeeCutoff = toLong(snapshot.get(2));
+      Map<UUID, Long> followeeFrom = new LinkedHashMap<>();
+      fields.forEach((field, value) -> {
+        if (field.startsWith(FIELD_FOLLOWING_PREFIX)) {
+          followeeFrom.put(UUID.fromString(field.substring(FIELD_FOLLOWING_PREFIX.length())),
+              Math.max(Long.parseLong(value), followeeCutoff));
+        }
+      });
+
+      // 출처마다 (기준 시각 이후 알림 수, 그중 읽은 수) 순서로 조회
+      List<Object> counts = stringRedisTemplate.executePipelined(
+          (RedisCallback<Object>) connection -> {
+            StringRedisConnection redis = (StringRedisConnection) connection;
+            redis.zCount(BROADCASTS_KEY, broadcastFrom, Double.POSITIVE_INFINITY);
+            redis.zCount(broadcastReadKey(userId), broadcastFrom, Double.POSITIVE_INFINITY);
+            followeeFrom.forEach((followeeId, from) -> {
+              redis.zCount(followeeKey(followeeId), from, Double.POSITIVE_INFINITY);
+              redis.zCount(followeeReadKey(userId, followeeId), from, Double.POSITIVE_INFINITY);
+            });
+            return null;
+          });
+
+      long total = Long.parseLong(fields.get(FIELD_COUNT));
+      for (int i = 0; i + 1 < counts.size(); i += 2) {
+        total += Math.max(toLong(counts.get(i)) - toLong(counts.get(i + 1)), 0L);
+      }
+      return Optional.of(new UnreadCount(Instant.ofEpochMilli(since), Math.max(total, 0L)));
+    } catch (DataAccessException e) {
+      log.warn("읽지 않은 알림 수 조회 실패 - userId: {}", userId, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * 개인 알림 중 읽지 않은 수, 가입 시각, 팔로우 시각으로 캐시를 채움
+   * - DB 집계 전에 delta 필드만 있는 키를 만들어, 집계와 저장 사이에 커밋된 증감을 delta 에 모았다가 더함
+   * - 다른 요청이 먼저 채운 캐시는 덮어쓰지 않음
+   */
+  public void seed(UUID userId, Instant userCreatedAt) {
+    String key = counterKey(userId);
+    try {
+      Long started = stringRedisTemplate.execute(BEGIN_SEED_SCRIPT, List.of(key),
+          String.valueOf(SEED_TIMEOUT_MS));
+      if (!Long.valueOf(1L).equals(started)) {
+        return;
+      }
+      // 카운터가 보이기 전에 읽음 ZSet 을 먼저 채워야 이미 읽은 알림이 잠시라도 다시 집계되지 않음
+      addSharedReads(userId, readStatusRepository.findReadSharedNotificationsByUserIdIn(List.of(userId)));
+      long personalCount = notificationRepository.countUnreadPersonalNotifications(userId);
+
+      List<String> args = new ArrayList<>();
+      args.add(String.valueOf(personalCount));
+      args.add(String.valueOf(userCreatedAt.toEpochMilli()));
+      args.add(String.valueOf(TTL_SECONDS));
+      addFollowingArgs(args, followRepository.findFollowingsByFollowerIdIn(List.of(userId)));
+      stringRedisTemplate.execute(COMPLETE_SEED_SCRIPT, List.of(key), args.toArray());
+    } catch (DataAccessException e) {
+      log.warn("읽지 않은 알림 수 캐시 저장 실패 - userId: {}", userId, e);
+    }
+  }
+
+  public void increment(Collection<UUID> userIds) {
+    add(userIds, 1);
+  }
+
+  public void decrement(UUID userId) {
+    decrement(userId, 1);
+  }
+
+  public void decrement(UUID userId, long count) {
+    if (count <= 0) {
+      return;
+    }
+    afterCommit(() -> add(List.of(userId), -count));
+  }
+
+  public void addBroadcast(UUID notificationId, Instant createdAt) {
+    try {
+      stringRedisTemplate.opsForZSet().add(BROADCASTS_KEY, notificationId.toString(),
+          createdAt.toEpochMilli());
+    } catch (DataAccessException e) {
+      log.warn("브로드캐스트 알림 기록 실패 - notificationId: {}", notificationId, e);
+    }
+  }
+
+  // 팔로워 수와 관계없이 팔로위 ZSet 에 한 번만 기록 (같은 알림을 다시 기록해도 멤버는 하나)
+  public void addFolloweeNotification(UUID followeeId, UUID notificationId, Instant createdAt) {
+    try {
+      stringRedisTemplate.opsForZSet().add(followeeKey(followeeId), notificationId.toString(),
+          createdAt.toEpochMilli());
+    } catch (DataAccessException e) {
+      log.warn("팔로워 대상 알림 기록 실패 - notificationId: {}", notificationId, e);
+    }
+  }
+
+  // 브로드캐스트/팔로워 대상 알림 읽음 기록
+  public void markSharedNotificationsRead(UUID userId, Collection<Notification> notifications) {
+    if (notifications.isEmpty()) {
+      return;
+    }
+    List<SharedRead> reads = notifications.stream()
+        .map(notification -> new SharedRead(notification.getId(), notification.getFolloweeId(),
+            notification.getCreatedAt()))
+        .toList();
+    afterCommit(() -> {
+      try {
+        addReads(userId, reads);
+      } catch (DataAccessException e) {
+        log.warn("공유 알림 읽음 기록 실패 - userId: {}", userId, e);
+      }
+    });
+  }
+
+  public void follow(UUID followerId, UUID followeeId, Instant followedAt) {
+    afterCommit(() -> {
+      try {
+        stringRedisTemplate.execute(FOLLOW_SCRIPT, List.of(counterKey(followerId)),
+            followingField(followeeId), String.valueOf(followedAt.toEpochMilli()));
+      } catch (DataAccessException e) {
+        log.warn("팔로우 시각 기록 실패 - followerId: {}", followerId, e);
+      }
+    });
+  }
+
+  public void unfollow(UUID followerId, UUID followeeId) {
+    afterCommit(() -> {
+      try {
+        stringRedisTemplate.opsForHash().delete(counterKey(followerId), followingField(followeeId));
+        stringRedisTemplate.delete(followeeReadKey(followerId, followeeId));
+      } catch (DataAccessException e) {
+        log.warn("팔로우 시각 삭제 실패 - followerId: {}", followerId, e);
+      }
+    });
+  }
+
+  /**
+   * 보관 기간이 지난 공유 알림 기록 정리
+   * - 브로드캐스트와 팔로워 대상 알림은 보관 기간이 달라 기준 시각을 따로 받음
+   * - 기준 시각을 먼저 기록해, 정리 도중이나 이후에 남아 있는 이전 알림의 읽음 기록이 집계되지 않도록 함
+   */
+  public void removeSharedNotificationsBefore(Instant broadcastCutoff, Instant followeeCutoff) {
+    try {
+      stringRedisTemplate.opsForValue().set(BROADCAST_CUTOFF_KEY,
+          String.valueOf(broadcastCutoff.toEpochMilli()));
+      stringRedisTemplate.opsForValue().set(FOLLOWEE_CUTOFF_KEY,
+          String.valueOf(followeeCutoff.toEpochMilli()));
+      stringRedisTemplate.opsForZSet().removeRangeByScore(BROADCASTS_KEY, 0,
+          broadcastCutoff.toEpochMilli() - 1);
+      for (String key : scanKeys(FOLLOWEE_KEY_PREFIX + "*")) {
+        stringRedisTemplate.opsForZSet().removeRangeByScore(key, 0,
+            followeeCutoff.toEpochMilli() - 1);
+      }
+    } catch (DataAccessException e) {
+      log.warn("오래된 공유 알림 기록 정리 실패", e);
+    }
+  }
+
+  /**
+   * DB 기준 재계산
+   * - 브로드캐스트/팔로워 대상 알림 ZSet 을 DB 의 알림 목록으로 교체
+   * - 캐시가 있는(최근 활동한) 사용자의 개인 카운터와 팔로우 시각을 다시 계산하고 읽음 Set 을 다시 채움
+   *   (사용자 id 를 묶음 단위로 나눠 묶음마다 개인 알림 수/팔로우/읽음 기록을 한 번씩만 조회)
+   * - 재계산과 동시에 들어온 증감은 다음 주기에 다시 맞춰짐
+   * - 락은 실행마다 토큰으로 잡고 자신의 토큰일 때만 해제 (TTL 이 지나 다른 인스턴스가 잡은 락을 지우지 않음)
+   */
+  @Scheduled(fixedDelayString = "${notification.unread-count.reconcile-interval-ms:600000}")
+  public void reconcile() {
+    String lockToken = UUID.randomUUID().toString();
+    Boolean locked;
+    try {
+      locked = stringRedisTemplate.opsForValue()
+          .setIfAbsent(RECONCILE_LOCK_KEY, lockToken, Duration.ofMillis(RECONCILE_LOCK_TTL_MS));
+    } catch (DataAccessException e) {
+      log.warn("읽지 않은 알림 수 재계산 락 획득 실패", e);
+      return;
+    }
+    if (!Boolean.TRUE.equals(locked)) {
+      return;
+    }
+
+    try {
+      rebuildBroadcasts();
+      rebuildFolloweeNotifications();
+      int reconciled = reconcileCounters();
+      log.debug("읽지 않은 알림 수 재계산 완료 - {}명", reconciled);
+    } catch (RuntimeException e) {
+      log.error("읽지 않은 알림 수 재계산 실패", e);
+    } finally {
+      try {
+        stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(RECONCILE_LOCK_KEY), lockToken);
+      } catch (DataAccessException e) {
+        log.warn("읽지 않은 알림 수 재계산 락 해제 실패", e);
+      }
+    }
+  }
+
+  private void rebuildBroadcasts() {
+    List<Notification> broadcasts = notificationRepository.findAllBroadcasts();
+    if (broadcasts.isEmpty()) {
+      stringRedisTemplate.delete(BROADCASTS_KEY);
+      return;
+    }
+    replaceZSet(BROADCASTS_KEY, BROADCASTS_TMP_KEY, broadcasts);
+  }
+
+  private void rebuildFolloweeNotifications() {
+    Map<UUID, List<Notification>> notificationsByFollowee =
+        notificationRepository.findAllFolloweeNotifications().stream()
+            .collect(Collectors.groupingBy(Notification::getFolloweeId));
+
+    Set<String> staleKeys = new HashSet<>(scanKeys(FOLLOWEE_KEY_PREFIX + "*"));
+    notificationsByFollowee.forEach((followeeId, notifications) -> {
+      String key = followeeKey(followeeId);
+      replaceZSet(key, FOLLOWEE_TMP_KEY_PREFIX + followeeId, notifications);
+      staleKeys.remove(key);
+    });
+    if (!staleKeys.isEmpty()) {
+      stringRedisTemplate.delete(staleKeys);
+    }
+  }
+
+  // 임시 키에 만든 뒤 교체해 재계산 중에도 조회가 빈 ZSet 을 보지 않도록 함
+  private void replaceZSet(String key, String tmpKey, List<Notification> notifications) {
+    Set<TypedTuple<String>> tuples = notifications.stream()
+        .map(this::toTuple)
+        .collect(Collectors.toSet());
+    stringRedisTemplate.delete(tmpKey);
+    stringRedisTemplate.opsForZSet().add(tmpKey, tuples);
+    stringRedisTemplate.rename(tmpKey, key);
+  }
+
+  private int reconcileCounters() {
+    List<UUID> userIds = scanKeys(COUNTER_KEY_PREFIX + "*").stream()
+        .map(key -> UUID.fromString(key.substring(COUNTER_KEY_PREFIX.length())))
+        .toList();
+    for (int from = 0; from < userIds.size(); from += RECONCILE_BATCH_SIZE) {
+      reconcileCounters(userIds.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, userIds.size())));
+    }
+    return userIds.size();
+  }
+
+  private void reconcileCounters(List<UUID> userIds) {
+    Map<UUID, Long> counts = notificationRepository
+        .countUnreadPersonalNotificationsByReceiverIdIn(userIds).stream()
+        .collect(Collectors.toMap(PersonalUnreadCountView::getReceiverId,
+            PersonalUnreadCountView::getUnreadCount));
+    Map<UUID, List<FollowingView>> followings = followRepository
+        .findFollowingsByFollowerIdIn(userIds).stream()
+        .collect(Collectors.groupingBy(FollowingView::getFollowerId));
+    Map<UUID, List<SharedReadView>> reads = readStatusRepository
+        .findReadSharedNotificationsByUserIdIn(userIds).stream()
+        .collect(Collectors.groupingBy(SharedReadView::getUserId));
+
+    for (UUID userId : userIds) {
+      addSharedReads(userId, reads.getOrDefault(userId, List.of()));
+
+      List<String> args = new ArrayList<>();
+      args.add(String.valueOf(counts.getOrDefault(userId, 0L)));
+      addFollowingArgs(args, followings.getOrDefault(userId, List.of()));
+      stringRedisTemplate.execute(RESET_SCRIPT, List.of(counterKey(userId)), args.toArray());
+    }
+  }
+
+  private void addFollowingArgs(List<String> args, List<FollowingView> followings) {
+    followings.forEach(following -> {
+      args.add(followingField(following.getFolloweeId()));
+      args.add(String.valueOf(following.getCreatedAt().toEpochMilli()));
+    });
+  }
+
+  private List<String> scanKeys(String pattern) {
+    List<String> keys = new ArrayList<>();
+    ScanOptions options = ScanOptions.scanOptions().match(pattern).count(500).build();
+    try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+      cursor.forEachRemaining(keys::add);
+    }
+    return keys;
+  }
+
+  // DB 읽음 기록으로 읽음 ZSet 을 다시 채움
+  // 읽음 기록은 삭제되지 않으므로(보관 기간 정리 제외) 기존 Set 에 합치기만 하면 동시에 들어온 읽음 처리도 유지됨
+  private void addSharedReads(UUID userId, List<SharedReadView> views) {
+    addReads(userId, views.stream()
+        .map(view -> new SharedRead(view.getNotificationId(), view.getFolloweeId(),
+            view.getCreatedAt()))
+        .toList());
+  }
+
+  private void addReads(UUID userId, List<SharedRead> reads) {
+    Map<UUID, Set<TypedTuple<String>>> followeeReads = new HashMap<>();
+    Set<TypedTuple<String>> broadcastReads = new HashSet<>();
+    for (SharedRead read : reads) {
+      TypedTuple<String> tuple = toTuple(read.notificationId(), read.createdAt());
+      if (read.followeeId() == null) {
+        broadcastReads.add(tuple);
+      } else {
+        followeeReads.computeIfAbsent(read.followeeId(), id -> new HashSet<>()).add(tuple);
+      }
+    }
+    addReads(broadcastReadKey(userId), broadcastReads);
+    followeeReads.forEach((followeeId, tuples) -> addReads(followeeReadKey(userId, followeeId), tuples));
+  }
+
+  private void addReads(String key, Set<TypedTuple<String>> reads) {
+    if (reads.isEmpty()) {
+      return;
+    }
+    stringRedisTemplate.opsForZSet().add(key, reads);
+    stringRedisTemplate.expire(key, Duration.ofSeconds(TTL_SECONDS));
+  }
+
+  private TypedTuple<String> toTuple(Notification notification) {
+    return toTuple(notification.getId(), notification.getCreatedAt());
+  }
+
+  // 알림 id → 생성 시각. 알림 ZSet 과 같은 점수를 써야 같은 범위로 집계됨
+  private TypedTuple<String> toTuple(UUID notificationId, Instant createdAt) {
+    return TypedTuple.of(notificationId.toString(), (double) createdAt.toEpochMilli());
+  }
+
+  private long toLong(Object value) {
+    if (value == null) {
+      return 0L;
+    }
+    return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+  }
+
+  private void add(Collection<UUID> userIds, long delta) {
+    if (userIds.isEmpty()) {
+      return;
+    }
+    List<String> keys = userIds.stream().map(this::counterKey).toList();
+    try {
+      stringRedisTemplate.execute(INCREMENT_SCRIPT, keys, String.valueOf(delta));
+    } catch (DataAccessException e) {
+      // 다음 재계산 주기에 DB 기준으로 맞춰짐
+      log.warn("읽지 않은 알림 수 갱신 실패 - {}명", userIds.size(), e);
+    }
+  }
+
+  // 트랜잭션 안에서 호출되면 커밋 이후에 반영해 롤백된 읽음 처리가 집계되지 않도록 함
+  private void afterCommit(Runnable action) {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      });
+      return;
+    }
+    action.run();
+  }
+
+  private String counterKey(UUID userId) {
+    return COUNTER_KEY_PREFIX + userId;
+  }
+
+  private String broadcastReadKey(UUID userId) {
+    return BROADCAST_READ_KEY_PREFIX + userId;
+  }
+
+  private String followeeKey(UUID followeeId) {
+    return FOLLOWEE_KEY_PREFIX + followeeId;
+  }
+
+  private String followeeReadKey(UUID userId, UUID followeeId) {
+    return FOLLOWEE_READ_KEY_PREFIX + userId + ":" + followeeId;
+  }
+
+  private String followingField(UUID followeeId) {
+    return FIELD_FOLLOWING_PREFIX + followeeId;
+  }
+}
@@ -1,6 +1,7 @@
 package com.team1.otvoo.notification.service;
 
 import com.team1.otvoo.clothes.entity.ClothesAttributeDefinition;
+import com.team1.otvoo.common.id.UuidV7;
 import com.team1.otvoo.comment.entity.FeedComment;
 import com.team1.otvoo.directmessage.entity.DirectMessage;
 import com.team1.otvoo.exception.ErrorCode;
@@ -12,6 +13,7 @@ import com.team1.otvoo.notification.dto.NotificationDto;
 import com.team1.otvoo.notification.entity.Notification;
 import com.team1.otvoo.notification.entity.NotificationLevel;
 import com.team1.otvoo.notification.entity.NotificationType;
+import com.team1.otvoo.notification.event.FolloweeNotificationEvent;
 import com.team1.otvoo.notification.event.NotificationEvent;
 import com.team1.otvoo.notification.mapper.NotificationMapper;
 import com.team1.otvoo.notification.repository.NotificationRepository;
@@ -19,14 +21,14 @@ import com.team1.otvoo.user.entity.Profile;
 import com.team1.otvoo.user.entity.Role;
 import com.team1.otvoo.user.entity.User;
 import com.team1.otvoo.user.repository.ProfileRepository;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -45,6 +47,11 @@ public class SendNotificationServiceImpl implements SendNotificationService {
   private final NotificationMapper notificationMapper;
 
   private static final int PAGE_SIZE = 1000;
+  // keyset 스캔 시작값 (PostgreSQL uuid 정렬상 최솟값)
+  private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+  @Value("${notification.fan-out.read-threshold:10000}")
+  private long FAN_OUT_ON_READ_THRESHOLD;
 
   @Override
   public void sendUserRoleNotification(Role previousUserRole, User user) {
@@ -100,6 +107,12 @@ public class SendNotificationServiceImpl implements SendNotificationService {
     log.info("댓글 작성 알림 전송: {} -> {}", authorId, receiver.getId());
   }
 
+  /**
+   * 팔로워 fan-out
+   * - 팔로워 id 만 keyset 으로 배치 단위 조회 (COUNT 쿼리 없음)
+   * - 배치마다 JDBC batch INSERT 한 번, 다중 수신자 SSE 메시지 한 건 발행
+   * - 팔로워 수가 임계값 이상이면 알림을 한 건만 저장하고 조회 시 팔로우 관계로 병합 (fan-out-on-read)
+   */
   @Override
   public void sendFeedNotification(Feed feed) {
     User followee = feed.getUser();
@@ -109,40 +122,70 @@ public class SendNotificationServiceImpl implements SendNotificationService {
     String content = NotificationType.FOLLOWEE_ADD_FEED.formatContent(feed.getContent());
     NotificationLevel level = NotificationLevel.INFO;
 
-    Pageable pageable = PageRequest.of(0, PAGE_SIZE);
-    Page<User> followerPage;
-    List<User> followers;
-
-    do {
-      // 1. 팔로워를 배치 단위로 조회
-      followerPage = followRepository.findFollowersByFolloweeId(feed.getUser().getId(), pageable);
-      followers = followerPage.getContent();
+    Long followerCount = followee.getFollowerCount();
+    if (followerCount != null && followerCount >= FAN_OUT_ON_READ_THRESHOLD) {
+      sendFeedNotificationOnRead(followee.getId(), title, content, level);
+      return;
+    }
 
-      if (followers.isEmpty()) {
-        return;
+    Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+    UUID lastFollowerId = MIN_UUID;
+    int total = 0;
+
+    while (true) {
+      // 1. 팔로워 id 를 배치 단위로 조회
+      List<UUID> followerIds = followRepository.findFollowerIdsAfter(followee.getId(),
+          lastFollowerId, pageable);
+      if (followerIds.isEmpty()) {
+        break;
       }
 
-      // 2. 각 팔로워에 대한 알림 엔티티 리스트 생성
-      List<Notification> notifications = followers.stream()
-          .map(follower -> new Notification(follower, title, content, level))
+      // 2. 알림 id/생성 시각을 직접 채워 JDBC batch 로 저장
+      Instant createdAt = Instant.now();
+      List<NotificationDto> notificationDtoList = followerIds.stream()
+          .map(followerId -> new NotificationDto(UuidV7.randomUUID(), createdAt, followerId,
+              title, content, level))
           .toList();
-      log.info("배치 생성된 알림 수: {}", notifications.size());
+      notificationRepository.bulkInsert(notificationDtoList);
 
-      // 3. Bulk Insert를 통해 한 번의 쿼리로 모든 알림 저장 (N+1 해결)
-      List<Notification> savedNotifications = notificationRepository.saveAll(notifications);
-      log.info("배치 DB 저장 완료: {}개 저장", savedNotifications.size());
-
-      // 4. 배치 이벤트 발행
-      List<NotificationDto> notificationDtoList = savedNotifications.stream()
-          .map(notificationMapper::toDto)
-          .collect(Collectors.toList());
+      // 3. 배치 이벤트 발행 (커밋 후 다중 수신자 메시지 한 건으로 전송)
       boolean broadcast = false;
-      
       eventPublisher.publishEvent(new NotificationEvent(notificationDtoList, broadcast));
 
-      pageable = followerPage.nextPageable();
-    } while(followerPage.hasNext());
-    log.info("피드 등록 알림 전송: {} -> {}명의 팔로워", followee.getId(), followers.size());
+      total += followerIds.size();
+      if (followerIds.size() < PAGE_SIZE) {
+        break;
+      }
+      lastFollowerId = followerIds.get(followerIds.size() - 1);
+    }
+    log.info("피드 등록 알림 전송: {} -> {}명의 팔로워", followee.getId(), total);
+  }
+
+  // 알림은 한 건만 저장하고, 실시간 전송을 위해 팔로워 id 배치마다 같은 알림을 발행
+  private void sendFeedNotificationOnRead(UUID followeeId, String title, String content,
+      NotificationLevel level) {
+    Notification saved = notificationRepository.save(
+        Notification.forFollowersOf(followeeId, title, content, level));
+    NotificationDto notificationDto = notificationMapper.toDto(saved);
+
+    Pageable pageable = PageRequest.of(0, PAGE_SIZE);
+    UUID lastFollowerId = MIN_UUID;
+    int total = 0;
+    while (true) {
+      List<UUID> followerIds = followRepository.findFollowerIdsAfter(followeeId, lastFollowerId,
+          pageable);
+      if (followerIds.isEmpty()) {
+        break;
+      }
+      eventPublisher.publishEvent(new FolloweeNotificationEvent(followeeId, notificationDto, followerIds));
+
+      total += followerIds.size();
+      if (followerIds.size() < PAGE_SIZE) {
+        break;
+      }
+      lastFollowerId = followerIds.get(followerIds.size() - 1);
+    }
+    log.info("피드 등록 알림 전송(fan-out-on-read): {} -> {}명의 팔로워", followeeId, total);
   }
 
   @Override
@@ -2,6 +2,7 @@ package com.team1.otvoo.sse.event;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team1.otvoo.sse.model.SseMessage;
+import com.team1.otvoo.sse.repository.SseConnectionRegistry;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -14,11 +15,6 @@ import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.connection.stream.ObjectRecord;
-import org.springframework.data.redis.connection.stream.ReadOffset;
-import org.springframework.data.redis.connection.stream.RecordId;
-import org.springframework.data.redis.connection.stream.StreamOffset;
-import org.springframework.data.redis.connection.stream.StreamReadOptions;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
@@ -32,9 +28,14 @@ public class RedisStreamService {
 
   private final StringRedisTemplate stringRedisTemplate;
   private final ObjectMapper objectMapper;
+  private final SseConnectionRegistry sseConnectionRegistry;
 
   private static final String STREAM_KEY = "sse-stream";
   private static final String INDEX_KEY_PREFIX = "sse:index:";
+  // 수신자별 재전송 인덱스. 본 스트림과 같은 레코드 ID 로 빈 엔트리만 저장
+  private static final String RECEIVER_STREAM_KEY_PREFIX = "sse-stream:receiver:";
+  // 브로드캐스트 스트림. 모든 노드가 구독하며 재전송 인덱스로도 사용
+  public static final String BROADCAST_STREAM_KEY = "sse-stream:broadcast";
 
   @Value("${stream.index-ttl-days:7}")
   private long INDEX_TTL_DAYS;
@@ -45,20 +46,79 @@ public class RedisStreamService {
   @Value("${stream.retention-days:7}")
   private long RETENTION_DAYS;
 
+  @Value("${stream.receiver-max-length:1000}")
+  private long RECEIVER_MAX_LENGTH;
+
+  @Value("${stream.replay-max-count:1000}")
+  private long REPLAY_MAX_COUNT;
+
+  @Value("${stream.node-max-length:10000}")
+  private long NODE_MAX_LENGTH;
+
   private static final DefaultRedisScript<String> XADD_AND_SET_SCRIPT;
+  private static final DefaultRedisScript<List> REPLAY_SCRIPT;
   static {
+    // KEYS[1]: 본 스트림, KEYS[2]: eventId 인덱스
+    // 브로드캐스트: KEYS[3] 브로드캐스트 스트림
+    // 개인 메시지: KEYS[3 .. 2+ARGV[4]] 수신자별 재전송 인덱스, 나머지는 수신자가 연결된 노드의 전달 스트림
+    // ARGV[1]: payload, ARGV[2]: TTL(ms), ARGV[3]: 수신자 인덱스 최대 길이, ARGV[4]: 수신자 인덱스 개수,
+    // ARGV[5]: 노드 스트림 최대 길이, ARGV[6]: 브로드캐스트 여부
     String lua =
         "local id = redis.call('XADD', KEYS[1], '*', 'payload', ARGV[1]); " +
-            "redis.call('SET', ARGV[2], id); " +
-            "redis.call('PEXPIRE', ARGV[2], ARGV[3]); " +
+            "redis.call('SET', KEYS[2], id); " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[2]); " +
+            "if ARGV[6] == '1' then " +
+            "  redis.call('XADD', KEYS[3], id, 'payload', ARGV[1]); " +
+            "  return id; " +
+            "end; " +
+            "local receivers = tonumber(ARGV[4]); " +
+            "for i = 3, 2 + receivers do " +
+            "  redis.call('XADD', KEYS[i], 'MAXLEN', '~', ARGV[3], id, 'r', '1'); " +
+            "  redis.call('PEXPIRE', KEYS[i], ARGV[2]); " +
+            "end; " +
+            "for i = 3 + receivers, #KEYS do " +
+            "  redis.call('XADD', KEYS[i], 'MAXLEN', '~', ARGV[5], '*', 'payload', ARGV[1]); " +
+            "  redis.call('PEXPIRE', KEYS[i], ARGV[2]); " +
+            "end; " +
             "return id;";
     XADD_AND_SET_SCRIPT = new DefaultRedisScript<>(lua, String.class);
+
+    // 수신자 인덱스와 브로드캐스트 인덱스를 레코드 ID 순으로 병합한 뒤, 본 스트림에서 해당 레코드만 조회
+    // KEYS[1]: 수신자 인덱스, KEYS[2]: 브로드캐스트 인덱스, KEYS[3]: 본 스트림
+    // ARGV[1]: 마지막으로 받은 레코드 ID(제외), ARGV[2]: 최대 조회 건수
+    String replayLua =
+        "local function parse(id) " +
+            "  local ms, seq = string.match(id, '(%d+)-(%d+)'); " +
+            "  return tonumber(ms), tonumber(seq); " +
+            "end; " +
+            "local function less(x, y) " +
+            "  local xm, xs = parse(x); local ym, ys = parse(y); " +
+            "  return xm < ym or (xm == ym and xs < ys); " +
+            "end; " +
+            "local start = '(' .. ARGV[1]; " +
+            "local a = redis.call('XRANGE', KEYS[1], start, '+', 'COUNT', ARGV[2]); " +
+            "local b = redis.call('XRANGE', KEYS[2], start, '+', 'COUNT', ARGV[2]); " +
+            "local limit = tonumber(ARGV[2]); " +
+            "local result = {}; " +
+            "local i, j = 1, 1; " +
+            "while #result < limit and (i <= #a or j <= #b) do " +
+            "  local id; " +
+            "  if j > #b or (i <= #a and less(a[i][1], b[j][1])) then id = a[i][1]; i = i + 1; " +
+            "  elseif i > #a or less(b[j][1], a[i][1]) then id = b[j][1]; j = j + 1; " +
+            "  else id = a[i][1]; i = i + 1; j = j + 1; end; " +
+            "  local entry = redis.call('XRANGE', KEYS[3], id, id); " +
+            "  if #entry > 0 then result[#result + 1] = entry[1][2][2]; end; " +
+            "end; " +
+            "return result;";
+    REPLAY_SCRIPT = new DefaultRedisScript<>(replayLua, List.class);
   }
 
   /**
    * 메시지 발행
    * - Redis Lua 스크립트를 사용하여 메시지 발행(XADD)과 인덱스 저장(SET)을 원자적으로 처리
    * - 인덱스 키와 메시지 ID를 연결하여 나중에 특정 이벤트 ID의 메시지를 빠르게 찾을 수 있게함
+   * - 같은 스크립트에서 수신자별(브로드캐스트는 공용) 재전송 인덱스에 같은 레코드 ID 를 기록
+   * - 개인 메시지는 수신자가 연결된 노드의 전달 스트림에만, 브로드캐스트는 브로드캐스트 스트림에 전달
    */
   public void publish(SseMessage message) {
     try {
@@ -66,11 +126,24 @@ public class RedisStreamService {
       String indexKey = INDEX_KEY_PREFIX + message.getEventId().toString();
       String ttlMs = String.valueOf(TimeUnit.DAYS.toMillis(INDEX_TTL_DAYS));
 
+      List<String> keys = new ArrayList<>();
+      keys.add(STREAM_KEY);
+      keys.add(indexKey);
+      if (message.isBroadcast()) {
+        keys.add(BROADCAST_STREAM_KEY);
+      } else {
+        message.getReceiverIds().forEach(receiverId -> keys.add(receiverStreamKey(receiverId)));
+        sseConnectionRegistry.findNodeIds(message.getReceiverIds())
+            .forEach(nodeId -> keys.add(SseConnectionRegistry.nodeStreamKey(nodeId)));
+      }
+
       // Lua 스크립트 실행. KEYS와 ARGV 배열에 전달할 인자를 순서대로 지정
       String recordId = stringRedisTemplate.execute(
           XADD_AND_SET_SCRIPT,
-          Collections.singletonList(STREAM_KEY),
-          json, indexKey, ttlMs
+          keys,
+          json, ttlMs, String.valueOf(RECEIVER_MAX_LENGTH),
+          String.valueOf(message.isBroadcast() ? 0 : message.getReceiverIds().size()),
+          String.valueOf(NODE_MAX_LENGTH), message.isBroadcast() ? "1" : "0"
       );
 
       log.info("Redis Stream 발행 성공. Record ID: {}, Index Key: {}", recordId, indexKey);
@@ -83,6 +156,8 @@ public class RedisStreamService {
    * 유실된 데이터 조회
    * - 클라이언트가 마지막으로 받은 메시지 ID를 기반으로, 그 이후에 발행된 메시지를 찾아 복구
    * - 인덱스(`sse:index:UUID`)를 이용해 스트림 메시지 ID를 빠르게 조회
+   * - 전체 스트림을 훑지 않고 해당 사용자의 재전송 인덱스와 브로드캐스트 인덱스만 읽으므로
+   *   조회 비용은 그 사용자가 놓친 메시지 수에 비례
    */
   public List<SseMessage> findAllByEventIdAfterAndReceiverId(UUID lastEventId, UUID receiverId) {
     if (lastEventId == null) return Collections.emptyList();
@@ -94,45 +169,26 @@ public class RedisStreamService {
       return Collections.emptyList();
     }
 
-    List<SseMessage> missedMessages = new ArrayList<>();
-    // lastRecordId로 시작
-    ReadOffset readOffset = ReadOffset.from(RecordId.of(lastRecordId));
-
     try {
-      while (true) {
-        // 한번에 200개씩 끊어서 읽어옴
-        List<ObjectRecord<String, String>> records = stringRedisTemplate.opsForStream().read(
-            String.class,
-            StreamReadOptions.empty().count(200),
-            StreamOffset.create(STREAM_KEY, readOffset)
-        );
-
-        // 더 이상 읽을 데이터가 없으면 루프 종료
-        if (records == null || records.isEmpty()) {
-          break;
-        }
-
-        List<SseMessage> messagesInBatch = records.stream()
-            .map(r -> {
-              try {
-                return objectMapper.readValue(r.getValue(), SseMessage.class);
-              } catch (Exception ex) {
-                log.error("SseMessage 역직렬화 실패: recordId={}, value={}", r.getId().getValue(), r.getValue(), ex);
-                return null;
-              }
-            })
-            .filter(Objects::nonNull)
-            .filter(msg -> msg.isReceivable(receiverId)) // 해당 사용자가 받을 수 있는 메시지만 필터링
-            .toList();
-
-        missedMessages.addAll(messagesInBatch);
-
-        // 다음 조회 시작점을 마지막으로 읽은 레코드 ID로 갱신
-        readOffset = ReadOffset.from(records.get(records.size() - 1).getId());
+      List<?> payloads = stringRedisTemplate.execute(
+          REPLAY_SCRIPT,
+          List.of(receiverStreamKey(receiverId), BROADCAST_STREAM_KEY, STREAM_KEY),
+          lastRecordId, String.valueOf(REPLAY_MAX_COUNT)
+      );
+      if (payloads == null || payloads.isEmpty()) {
+        return Collections.emptyList();
       }
 
-      // lastEventId 자체는 제외하고 반환 (XREAD는 exclusive하게 동작하지만 안전장치로 추가)
-      return missedMessages.stream()
+      return payloads.stream()
+          .map(payload -> {
+            try {
+              return objectMapper.readValue((String) payload, SseMessage.class);
+            } catch (Exception ex) {
+              log.error("SseMessage 역직렬화 실패: value={}", payload, ex);
+              return null;
+            }
+          })
+          .filter(Objects::nonNull)
           .filter(msg -> !msg.getEventId().equals(lastEventId))
           .toList();
 
@@ -175,6 +231,15 @@ public class RedisStreamService {
 
       Long lengthAfter = stringRedisTemplate.opsForStream().size(STREAM_KEY);
 
+      // 브로드캐스트 재전송 인덱스도 같은 기준으로 정리 (수신자별 인덱스는 MAXLEN 과 TTL 로 관리)
+      if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(BROADCAST_STREAM_KEY))) {
+        stringRedisTemplate.execute((RedisCallback<Long>) connection -> {
+          byte[] rawKey = stringRedisTemplate.getStringSerializer().serialize(BROADCAST_STREAM_KEY);
+          byte[] rawId = stringRedisTemplate.getStringSerializer().serialize(cutoffId);
+          return (Long) connection.execute("XTRIM", rawKey, "MINID".getBytes(StandardCharsets.UTF_8), rawId);
+        });
+      }
+
       log.info("Redis Stream [{}] trim 완료. 길이: {} -> {}. MAXLEN 삭제: {}, TIME 삭제: {}",
           STREAM_KEY, lengthBefore, lengthAfter, Math.max(0, lengthBefore - deletedByTime - lengthAfter), deletedByTime);
 
@@ -182,4 +247,8 @@ public class RedisStreamService {
       log.error("Redis Stream trim 실패", e);
     }
   }
+
+  private String receiverStreamKey(UUID receiverId) {
+    return RECEIVER_STREAM_KEY_PREFIX + receiverId;
+  }
 }
@@ -0,0 +1,111 @@
+package com.team1.otvoo.sse.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 미리 인코딩된 SSE 이벤트
+ * - id/event/data 를 SSE 형식의 바이트 배열로 한 번만 만들어 두고, 모든 emitter 에 같은 바이트를 그대로 씀
+ * - 연결마다 SseEventBuilder 를 만들고 메시지 컨버터가 eventData 를 다시 직렬화하던 비용을 제거
+ * - 불변 객체이므로 여러 writer 스레드에서 공유 가능
+ */
+public final class PreEncodedSseEvent implements SseEmitter.SseEventBuilder {
+
+  private final Set<DataWithMediaType> frame;
+  private final int length;
+
+  private PreEncodedSseEvent(byte[] bytes) {
+    // byte[] 는 ByteArrayHttpMessageConverter 가 변환 없이 그대로 씀
+    this.frame = Set.of(new DataWithMediaType(bytes, MediaType.TEXT_EVENT_STREAM));
+    this.length = bytes.length;
+  }
+
+  /**
+   * SseMessage 를 SseEmitter.event().id().name().data() 와 같은 형식으로 인코딩
+   * - 문자열 데이터는 StringHttpMessageConverter 와 같이 그대로, 그 외에는 JSON 으로 직렬화
+   */
+  public static PreEncodedSseEvent encode(SseMessage message, ObjectMapper objectMapper)
+      throws JsonProcessingException {
+    return encode(message, message.getEventData(), objectMapper);
+  }
+
+  // 수신자별 데이터가 있는 메시지는 수신자 단위로 인코딩
+  public static PreEncodedSseEvent encode(SseMessage message, UUID receiverId,
+      ObjectMapper objectMapper) throws JsonProcessingException {
+    return encode(message, message.eventDataFor(receiverId), objectMapper);
+  }
+
+  private static PreEncodedSseEvent encode(SseMessage message, Object eventData,
+      ObjectMapper objectMapper) throws JsonProcessingException {
+    String data = eventData instanceof CharSequence text
+        ? text.toString()
+        : objectMapper.writeValueAsString(eventData);
+    return encode(message.getEventId().toString(), message.getEventName(), data);
+  }
+
+  // id 없이 이름과 문자열 데이터만 있는 이벤트 (heartbeat 등)
+  public static PreEncodedSseEvent of(String eventName, String data) {
+    return encode(null, eventName, data);
+  }
+
+  private static PreEncodedSseEvent encode(String id, String eventName, String data) {
+    StringBuilder sb = new StringBuilder(data.length() + 64);
+    if (id != null) {
+      sb.append("id:").append(id).append('\n');
+    }
+    if (eventName != null) {
+      sb.append("event:").append(eventName).append('\n');
+    }
+    // 여러 줄 데이터는 줄마다 data: 접두사를 붙임
+    for (String line : data.split("\n", -1)) {
+      sb.append("data:").append(line).append('\n');
+    }
+    sb.append('\n');
+    return new PreEncodedSseEvent(sb.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public Set<DataWithMediaType> build() {
+    return frame;
+  }
+
+  @Override
+  public SseEmitter.SseEventBuilder comment(String comment) {
+    throw new UnsupportedOperationException("이미 인코딩된 이벤트는 수정할 수 없습니다.");
+  }
+
+  @Override
+  public SseEmitter.SseEventBuilder name(String eventName) {
+    throw new UnsupportedOperationException("이미 인코딩된 이벤트는 수정할 수 없습니다.");
+  }
+
+  @Override
+  public SseEmitter.SseEventBuilder id(String id) {
+    throw new UnsupportedOperationException("이미 인코딩된 이벤트는 수정할 수 없습니다.");
+  }
+
+  @Override
+  public SseEmitter.SseEventBuilder reconnectTime(long reconnectTimeMillis) {
+    throw new UnsupportedOperationException("이미 인코딩된 이벤트는 수정할 수 없습니다.");
+  }
+
+  @Override
+  public SseEmitter.SseEventBuilder data(Object object) {
+    throw new UnsupportedOperationException("이미 인코딩된 이벤트는 수정할 수 없습니다.");
+  }
+
+  @Override
+  public SseEmitter.SseEventBuilder data(Object object, MediaType mediaType) {
+    throw new UnsupportedOperationException("이미 인코딩된 이벤트는 수정할 수 없습니다.");
+  }
+}
@@ -2,6 +2,9 @@ package com.team1.otvoo.sse.model;
 
 import java.time.Instant;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -13,13 +16,30 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class SseEmitterWrapper {
 
+  private static final int DEFAULT_QUEUE_CAPACITY = 256;
+
   @EqualsAndHashCode.Include
   private final UUID emitterId;
   private final SseEmitter emitter;
   private final Instant createdAt;
+  // 전송 대기열. 수신 스레드는 넣기만 하고 writer 스레드가 순서대로 비움
+  private final BlockingQueue<SseEmitter.SseEventBuilder> outbound;
+  // writer 스레드에 대기열 비우기 작업이 이미 예약되어 있는지 여부
+  private final AtomicBoolean draining = new AtomicBoolean(false);
+  // 마지막으로 이벤트 전송에 성공한 시각(epoch millis). 최근 전송이 있으면 heartbeat 생략
+  private volatile long lastSentAt = System.currentTimeMillis();
+
+  public void markSent(long sentAt) {
+    this.lastSentAt = sentAt;
+  }
 
   public static SseEmitterWrapper wrap(SseEmitter emitter) {
-    return new SseEmitterWrapper(UUID.randomUUID(), emitter, Instant.now());
+    return wrap(emitter, DEFAULT_QUEUE_CAPACITY);
+  }
+
+  public static SseEmitterWrapper wrap(SseEmitter emitter, int queueCapacity) {
+    return new SseEmitterWrapper(UUID.randomUUID(), emitter, Instant.now(),
+        new ArrayBlockingQueue<>(queueCapacity));
   }
 
 }
@@ -1,7 +1,9 @@
 package com.team1.otvoo.sse.model;
 
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -23,6 +25,9 @@ public class SseMessage {
   private boolean broadcast = false;
   private String eventName;
   private Object eventData;
+  // 수신자마다 내용이 다른 다중 수신자 메시지용 (예: 팔로워별 알림 id). 없으면 eventData 를 공통으로 사용
+  @Builder.Default
+  private Map<UUID, Object> receiverEventData = new HashMap<>();
   @Builder.Default
   private Instant createdAt = Instant.now();
 
@@ -30,6 +35,17 @@ public class SseMessage {
     return broadcast || receiverIds.contains(receiverId);
   }
 
+  public boolean hasReceiverEventData() {
+    return receiverEventData != null && !receiverEventData.isEmpty();
+  }
+
+  public Object eventDataFor(UUID receiverId) {
+    if (!hasReceiverEventData()) {
+      return eventData;
+    }
+    return receiverEventData.getOrDefault(receiverId, eventData);
+  }
+
   public SseEmitter.SseEventBuilder toSseEventBuilder() {
     return SseEmitter.event()
         .id(eventId.toString())
@@ -37,4 +53,11 @@ public class SseMessage {
         .data(eventData);
   }
 
+  public SseEmitter.SseEventBuilder toSseEventBuilder(UUID receiverId) {
+    return SseEmitter.event()
+        .id(eventId.toString())
+        .name(eventName)
+        .data(eventDataFor(receiverId));
+  }
+
 }
@@ -0,0 +1,105 @@
+package com.team1.otvoo.sse.repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * SSE 연결 레지스트리
+ * - 사용자별로 어느 노드에 몇 개의 연결이 있는지 Redis Hash(sse:conn:{userId} → nodeId: 연결 수)로 관리
+ * - 발행 측은 수신자의 노드를 조회해 해당 노드의 전용 스트림에만 메시지를 전달
+ * - 노드 id 는 인스턴스 기동 시 생성하며, 비정상 종료된 노드의 항목은 TTL 로 정리
+ */
+@Slf4j
+@Repository
+public class SseConnectionRegistry {
+
+  private static final String CONNECTION_KEY_PREFIX = "sse:conn:";
+  private static final String NODE_STREAM_KEY_PREFIX = "sse-stream:node:";
+
+  // 연결 수를 줄이고 0 이하가 되면 노드 항목 제거
+  private static final DefaultRedisScript<Long> DECREMENT_SCRIPT;
+  static {
+    DECREMENT_SCRIPT = new DefaultRedisScript<>(
+        "local n = redis.call('HINCRBY', KEYS[1], ARGV[1], -1); " +
+            "if n <= 0 then redis.call('HDEL', KEYS[1], ARGV[1]) end; " +
+            "return n;", Long.class);
+  }
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  // 연결이 유지되는 동안은 재연결마다 갱신되므로 SSE 타임아웃보다 조금 길게 유지
+  @Value("${sse.timeout}")
+  private long TIME_OUT;
+
+  public SseConnectionRegistry(StringRedisTemplate stringRedisTemplate) {
+    this.stringRedisTemplate = stringRedisTemplate;
+  }
+
+  public String getNodeId() {
+    return nodeId;
+  }
+
+  public String localStreamKey() {
+    return nodeStreamKey(nodeId);
+  }
+
+  public static String nodeStreamKey(String nodeId) {
+    return NODE_STREAM_KEY_PREFIX + nodeId;
+  }
+
+  public void register(UUID userId) {
+    String key = connectionKey(userId);
+    try {
+      stringRedisTemplate.opsForHash().increment(key, nodeId, 1);
+      stringRedisTemplate.expire(key, Duration.ofMillis(TIME_OUT * 2));
+    } catch (DataAccessException e) {
+      log.warn("SSE 연결 등록 실패: userId={}", userId, e);
+    }
+  }
+
+  public void unregister(UUID userId) {
+    try {
+      stringRedisTemplate.execute(DECREMENT_SCRIPT, List.of(connectionKey(userId)), nodeId);
+    } catch (DataAccessException e) {
+      log.warn("SSE 연결 해제 실패: userId={}", userId, e);
+    }
+  }
+
+  // 수신자들이 연결된 노드 id 목록 (파이프라인으로 한 번에 조회)
+  public Set<String> findNodeIds(Collection<UUID> userIds) {
+    if (userIds.isEmpty()) {
+      return Collections.emptySet();
+    }
+    List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      StringRedisConnection stringConnection = (StringRedisConnection) connection;
+      userIds.forEach(userId -> stringConnection.hKeys(connectionKey(userId)));
+      return null;
+    });
+
+    Set<String> nodeIds = new HashSet<>();
+    results.forEach(result -> {
+      if (result instanceof Collection<?> keys) {
+        keys.forEach(key -> nodeIds.add(key.toString()));
+      }
+    });
+    return nodeIds;
+  }
+
+  private String connectionKey(UUID userId) {
+    return CONNECTION_KEY_PREFIX + userId;
+  }
+}
@@ -1,27 +1,48 @@
 package com.team1.otvoo.sse.repository;
 
 import com.team1.otvoo.sse.model.SseEmitterWrapper;
-import java.util.ArrayList;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 이 노드에 연결된 SSE emitter 저장소
+ * - 사용자별 emitter 목록을 copy-on-write 배열로 보관해, 메시지 전송 시 조회는 복사나 할당 없이 배열을 그대로 순회
+ * - 저장/삭제(연결/해제)는 조회보다 훨씬 드물기 때문에 변경 시에만 배열을 새로 만듦
+ */
 @Slf4j
 @Repository
-public class SseEmitterRepository {
+public class SseEmitterRepository implements MeterBinder {
 
-  private final Map<UUID, Map<UUID, SseEmitterWrapper>> userEmitters  = new ConcurrentHashMap<>();
+  private static final SseEmitterWrapper[] EMPTY = new SseEmitterWrapper[0];
+
+  private final Map<UUID, SseEmitterWrapper[]> userEmitters = new ConcurrentHashMap<>();
   private final AtomicInteger connectionCount = new AtomicInteger(0);
 
   @Value("${sse.max-connections}")
   private int maxConnections;
 
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("sse.connections.active", connectionCount, AtomicInteger::get)
+        .register(registry);
+    Gauge.builder("sse.connections.users", userEmitters, Map::size)
+        .register(registry);
+  }
+
   public SseEmitterWrapper save(UUID userId, SseEmitterWrapper emitterWrapper) {
     int count = connectionCount.incrementAndGet();
     if (count > maxConnections) {
@@ -29,34 +50,87 @@ public class SseEmitterRepository {
       throw new RuntimeException("최대 연결 수를 초과했습니다.");
     }
 
-    userEmitters.computeIfAbsent(userId, k -> new ConcurrentHashMap<>())
-        .put(emitterWrapper.getEmitterId(), emitterWrapper);
+    AtomicBoolean replaced = new AtomicBoolean(false);
+    userEmitters.compute(userId, (key, emitters) -> {
+      if (emitters == null) {
+        return new SseEmitterWrapper[]{emitterWrapper};
+      }
+      // 같은 emitter 를 다시 저장하면 덮어씀
+      for (int i = 0; i < emitters.length; i++) {
+        if (emitters[i].equals(emitterWrapper)) {
+          SseEmitterWrapper[] copy = emitters.clone();
+          copy[i] = emitterWrapper;
+          replaced.set(true);
+          return copy;
+        }
+      }
+      SseEmitterWrapper[] copy = Arrays.copyOf(emitters, emitters.length + 1);
+      copy[emitters.length] = emitterWrapper;
+      return copy;
+    });
+    if (replaced.get()) {
+      connectionCount.decrementAndGet();
+    }
     log.debug("Emitter 저장: {} -> {}", userId, emitterWrapper.getEmitterId());
     return emitterWrapper;
   }
 
-  public void delete(UUID userId, SseEmitterWrapper emitterWrapper) {
+  // 실제로 삭제된 경우에만 true (완료/에러 콜백이 중복 호출될 수 있음)
+  public boolean delete(UUID userId, SseEmitterWrapper emitterWrapper) {
     UUID emitterId = emitterWrapper.getEmitterId();
+    AtomicBoolean removed = new AtomicBoolean(false);
     userEmitters.computeIfPresent(userId, (key, emitters) -> {
-      SseEmitterWrapper removedEmitter = emitters.remove(emitterId);
+      int index = -1;
+      for (int i = 0; i < emitters.length; i++) {
+        if (emitters[i].getEmitterId().equals(emitterId)) {
+          index = i;
+          break;
+        }
+      }
+      if (index < 0) {
+        return emitters;
+      }
 
-      if (removedEmitter != null) {
-        connectionCount.decrementAndGet();
-        log.debug("Emitter 삭제 성공: userId={}, emitterId={}, 현재 연결 수={}",
-            userId, emitterId, connectionCount.get());
+      removed.set(true);
+      connectionCount.decrementAndGet();
+      log.debug("Emitter 삭제 성공: userId={}, emitterId={}, 현재 연결 수={}",
+          userId, emitterId, connectionCount.get());
+      if (emitters.length == 1) {
+        return null;
       }
-      return emitters.isEmpty() ? null : emitters;
+      SseEmitterWrapper[] copy = new SseEmitterWrapper[emitters.length - 1];
+      System.arraycopy(emitters, 0, copy, 0, index);
+      System.arraycopy(emitters, index + 1, copy, index, emitters.length - index - 1);
+      return copy;
     });
     log.debug("Emitter 삭제: emitterId={}", emitterId);
+    return removed.get();
   }
 
   public List<SseEmitterWrapper> findAllByReceiverId(UUID userId) {
-    return new ArrayList<>(userEmitters.getOrDefault(userId, Map.of()).values());
+    SseEmitterWrapper[] emitters = userEmitters.get(userId);
+    return emitters == null
+        ? Collections.emptyList()
+        : Collections.unmodifiableList(Arrays.asList(emitters));
+  }
+
+  public boolean existsByReceiverId(UUID userId) {
+    return userEmitters.containsKey(userId);
+  }
+
+  // 전송 경로용 조회. 저장된 배열을 복사 없이 순회
+  public void forEachByReceiverId(UUID userId, Consumer<SseEmitterWrapper> action) {
+    SseEmitterWrapper[] emitters = userEmitters.getOrDefault(userId, EMPTY);
+    for (SseEmitterWrapper wrapper : emitters) {
+      action.accept(wrapper);
+    }
   }
 
   public void forEach(BiConsumer<UUID, SseEmitterWrapper> action) {
     userEmitters.forEach((userId, emitters) -> {
-      emitters.values().forEach(wrapper -> action.accept(userId, wrapper));
+      for (SseEmitterWrapper wrapper : emitters) {
+        action.accept(userId, wrapper);
+      }
     });
   }
 
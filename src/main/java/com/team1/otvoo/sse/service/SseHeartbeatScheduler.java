@@ -0,0 +1,117 @@
+package com.team1.otvoo.sse.service;
+
+import com.team1.otvoo.config.props.SseHeartbeatProperties;
+import com.team1.otvoo.sse.model.SseEmitterWrapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE heartbeat 스케줄러 (hashed timing wheel)
+ * - 연결마다 emitterId 해시로 휠의 슬롯 하나를 배정하고, tick 마다 한 슬롯의 연결에만 heartbeat 를 보냄
+ * - 노드 전체 연결에 한 번에 쓰던 heartbeat 가 interval 동안 고르게 분산됨
+ * - interval 안에 다른 이벤트가 전송된 연결은 이미 살아있음이 확인됐으므로 heartbeat 를 생략
+ * - 전송 실패한 연결은 dispatcher 의 실패 처리기에서 즉시 정리
+ */
+@Slf4j
+@Component
+public class SseHeartbeatScheduler {
+
+  private final SseOutboundDispatcher sseOutboundDispatcher;
+  private final long intervalMs;
+  private final long tickMs;
+  private final LongSupplier clock;
+
+  private final Map<SseEmitterWrapper, UUID>[] wheel;
+  private final Counter skippedCounter;
+  private long cursor;
+  private ScheduledExecutorService ticker;
+
+  @Autowired
+  public SseHeartbeatScheduler(SseHeartbeatProperties properties,
+      SseOutboundDispatcher sseOutboundDispatcher, MeterRegistry meterRegistry) {
+    this(properties, sseOutboundDispatcher, meterRegistry, System::currentTimeMillis);
+  }
+
+  @SuppressWarnings("unchecked")
+  SseHeartbeatScheduler(SseHeartbeatProperties properties,
+      SseOutboundDispatcher sseOutboundDispatcher, MeterRegistry meterRegistry,
+      LongSupplier clock) {
+    this.sseOutboundDispatcher = sseOutboundDispatcher;
+    this.intervalMs = properties.getIntervalMs();
+    this.tickMs = Math.max(1, Math.min(properties.getTickMs(), intervalMs));
+    this.clock = clock;
+
+    int slots = (int) Math.max(1, intervalMs / tickMs);
+    this.wheel = new Map[slots];
+    for (int i = 0; i < slots; i++) {
+      wheel[i] = new ConcurrentHashMap<>();
+    }
+    this.skippedCounter = Counter.builder("sse.heartbeat.skipped")
+        .description("최근 전송 이력이 있어 생략한 heartbeat 수")
+        .register(meterRegistry);
+  }
+
+  // 공용 스케줄러 스레드는 배치 작업과 공유되므로 전용 스레드에서 휠을 돌림
+  @PostConstruct
+  public void start() {
+    ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "sse-heartbeat");
+      thread.setDaemon(true);
+      return thread;
+    });
+    ticker.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+  }
+
+  @PreDestroy
+  public void stop() {
+    if (ticker != null) {
+      ticker.shutdownNow();
+    }
+  }
+
+  public void register(UUID userId, SseEmitterWrapper wrapper) {
+    slotOf(wrapper).put(wrapper, userId);
+  }
+
+  public void unregister(SseEmitterWrapper wrapper) {
+    slotOf(wrapper).remove(wrapper);
+  }
+
+  // 현재 슬롯의 연결 중 interval 동안 전송이 없었던 연결에만 heartbeat 예약
+  void tick() {
+    try {
+      Map<SseEmitterWrapper, UUID> slot = wheel[(int) (cursor++ % wheel.length)];
+      long threshold = clock.getAsLong() - intervalMs;
+      slot.forEach((wrapper, userId) -> {
+        if (wrapper.getLastSentAt() > threshold) {
+          skippedCounter.increment();
+          return;
+        }
+        sseOutboundDispatcher.enqueueHeartbeat(userId, wrapper);
+      });
+    } catch (RuntimeException e) {
+      // 예외가 전파되면 scheduleAtFixedRate 가 이후 실행을 모두 취소함
+      log.warn("SSE heartbeat 처리 중 오류 발생", e);
+    }
+  }
+
+  int slotCount() {
+    return wheel.length;
+  }
+
+  private Map<SseEmitterWrapper, UUID> slotOf(SseEmitterWrapper wrapper) {
+    return wheel[Math.floorMod(wrapper.getEmitterId().hashCode(), wheel.length)];
+  }
+}
@@ -0,0 +1,184 @@
+package com.team1.otvoo.sse.service;
+
+import com.team1.otvoo.config.props.SseOutboundProperties;
+import com.team1.otvoo.config.props.SseOutboundProperties.OverflowPolicy;
+import com.team1.otvoo.sse.model.PreEncodedSseEvent;
+import com.team1.otvoo.sse.model.SseEmitterWrapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * SSE 비동기 전송
+ * - 메시지는 연결별 제한된 대기열에 넣기만 하고, 소수의 writer 스레드가 연결 단위로 대기열을 비우며 전송
+ * - 느린 클라이언트 하나가 Redis 수신 스레드나 다른 연결의 전송을 막지 않음
+ * - 대기열이 가득 차면 설정에 따라 가장 오래된 메시지를 버리거나 연결을 종료
+ */
+@Slf4j
+@Component
+public class SseOutboundDispatcher {
+
+  private static final String METRIC_PREFIX = "sse.outbound";
+  // 모든 연결이 공유하는 heartbeat 프레임
+  private static final PreEncodedSseEvent HEARTBEAT = PreEncodedSseEvent.of("ping", "heartbeat");
+
+  private final SseOutboundProperties properties;
+  private final Executor writer;
+
+  private final AtomicLong queuedMessages = new AtomicLong();
+  private final Counter droppedCounter;
+  private final Counter evictedCounter;
+  private final Counter failedCounter;
+  private final Counter sentCounter;
+  private final Counter bytesCounter;
+  private final Counter heartbeatEvictedCounter;
+
+  // 종료시킨 연결을 emitter 콜백을 기다리지 않고 바로 정리하기 위한 처리기
+  private volatile BiConsumer<UUID, SseEmitterWrapper> failureHandler = (receiverId, wrapper) -> {
+  };
+
+  @Autowired
+  public SseOutboundDispatcher(SseOutboundProperties properties, MeterRegistry meterRegistry) {
+    this(properties, meterRegistry, Executors.newFixedThreadPool(properties.getWriterThreads(),
+        writerThreadFactory()));
+  }
+
+  SseOutboundDispatcher(SseOutboundProperties properties, MeterRegistry meterRegistry,
+      Executor writer) {
+    this.properties = properties;
+    this.writer = writer;
+
+    Gauge.builder(METRIC_PREFIX + ".queue.depth", queuedMessages, AtomicLong::get)
+        .description("전체 연결의 전송 대기 메시지 수")
+        .register(meterRegistry);
+    this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped").register(meterRegistry);
+    this.evictedCounter = Counter.builder(METRIC_PREFIX + ".evicted")
+        .description("대기열 포화로 종료된 느린 연결 수")
+        .register(meterRegistry);
+    this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed").register(meterRegistry);
+    this.sentCounter = Counter.builder(METRIC_PREFIX + ".sent").register(meterRegistry);
+    this.bytesCounter = Counter.builder(METRIC_PREFIX + ".bytes")
+        .description("사전 인코딩된 프레임 기준으로 기록한 전송 바이트 수")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    this.heartbeatEvictedCounter = Counter.builder(METRIC_PREFIX + ".heartbeat.evicted")
+        .description("heartbeat 전송 실패로 정리된 연결 수")
+        .register(meterRegistry);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (writer instanceof ExecutorService executorService) {
+      executorService.shutdownNow();
+    }
+  }
+
+  public void onFailure(BiConsumer<UUID, SseEmitterWrapper> failureHandler) {
+    this.failureHandler = failureHandler;
+  }
+
+  // 설정된 대기열 크기로 연결을 감쌈
+  public SseEmitterWrapper wrap(SseEmitter emitter) {
+    return SseEmitterWrapper.wrap(emitter, properties.getQueueCapacity());
+  }
+
+  public void enqueueHeartbeat(UUID receiverId, SseEmitterWrapper wrapper) {
+    enqueue(receiverId, wrapper, HEARTBEAT);
+  }
+
+  public void enqueue(UUID receiverId, SseEmitterWrapper wrapper, SseEmitter.SseEventBuilder event) {
+    if (!wrapper.getOutbound().offer(event)) {
+      if (properties.getOverflowPolicy() == OverflowPolicy.DISCONNECT) {
+        log.warn("SSE 전송 대기열 포화 → 연결 종료: receiverId={}, emitterId={}", receiverId,
+            wrapper.getEmitterId());
+        evictedCounter.increment();
+        discard(wrapper);
+        failureHandler.accept(receiverId, wrapper);
+        wrapper.getEmitter().complete();
+        return;
+      }
+      // 가장 오래된 메시지를 버리고 다시 시도
+      if (wrapper.getOutbound().poll() != null) {
+        queuedMessages.decrementAndGet();
+        droppedCounter.increment();
+      }
+      if (!wrapper.getOutbound().offer(event)) {
+        droppedCounter.increment();
+        return;
+      }
+    }
+    queuedMessages.incrementAndGet();
+    schedule(receiverId, wrapper);
+  }
+
+  // 연결별로 비우기 작업은 한 번만 예약되므로 같은 연결의 메시지 순서가 유지됨
+  private void schedule(UUID receiverId, SseEmitterWrapper wrapper) {
+    if (wrapper.getDraining().compareAndSet(false, true)) {
+      writer.execute(() -> drain(receiverId, wrapper));
+    }
+  }
+
+  private void drain(UUID receiverId, SseEmitterWrapper wrapper) {
+    try {
+      SseEmitter.SseEventBuilder event;
+      while ((event = wrapper.getOutbound().poll()) != null) {
+        queuedMessages.decrementAndGet();
+        try {
+          wrapper.getEmitter().send(event);
+          wrapper.markSent(System.currentTimeMillis());
+          sentCounter.increment();
+          if (event instanceof PreEncodedSseEvent frame) {
+            bytesCounter.increment(frame.length());
+          }
+        } catch (IOException | IllegalStateException e) {
+          log.warn("SSE 이벤트 전송 중 오류 발생: receiverId={}, emitterId={}", receiverId,
+              wrapper.getEmitterId());
+          failedCounter.increment();
+          if (event == HEARTBEAT) {
+            heartbeatEvictedCounter.increment();
+          }
+          discard(wrapper);
+          // 끊긴 연결은 비동기 콜백이 늦게 오거나 오지 않을 수 있으므로 먼저 저장소에서 제거
+          failureHandler.accept(receiverId, wrapper);
+          wrapper.getEmitter().completeWithError(e);
+          return;
+        }
+      }
+    } finally {
+      wrapper.getDraining().set(false);
+    }
+    // 비우기를 마친 직후 들어온 메시지가 있으면 다시 예약
+    if (!wrapper.getOutbound().isEmpty()) {
+      schedule(receiverId, wrapper);
+    }
+  }
+
+  private void discard(SseEmitterWrapper wrapper) {
+    int discarded = wrapper.getOutbound().size();
+    wrapper.getOutbound().clear();
+    queuedMessages.addAndGet(-discarded);
+  }
+
+  private static ThreadFactory writerThreadFactory() {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "sse-writer-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
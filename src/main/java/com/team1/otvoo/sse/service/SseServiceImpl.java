@@ -1,17 +1,19 @@
 package com.team1.otvoo.sse.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.team1.otvoo.sse.event.RedisStreamService;
+import com.team1.otvoo.sse.model.PreEncodedSseEvent;
 import com.team1.otvoo.sse.model.SseEmitterWrapper;
 import com.team1.otvoo.sse.model.SseMessage;
+import com.team1.otvoo.sse.repository.SseConnectionRegistry;
 import com.team1.otvoo.sse.repository.SseEmitterRepository;
+import jakarta.annotation.PostConstruct;
 import java.io.IOException;
-import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -25,100 +27,158 @@ public class SseServiceImpl implements SseService {
 
   private final SseEmitterRepository sseEmitterRepository;
   private final RedisStreamService redisStreamService;
+  private final SseConnectionRegistry sseConnectionRegistry;
+  private final SseOutboundDispatcher sseOutboundDispatcher;
+  private final ObjectMapper objectMapper;
+  private final SseHeartbeatScheduler sseHeartbeatScheduler;
+
+  // 전송에 실패한 연결은 emitter 콜백을 기다리지 않고 바로 정리
+  @PostConstruct
+  public void registerFailureHandler() {
+    sseOutboundDispatcher.onFailure(this::removeEmitter);
+  }
 
   @Override
   public SseEmitter connect(UUID userId, UUID lastEventId) {
     SseEmitter sseEmitter = new SseEmitter(TIME_OUT);
-    SseEmitterWrapper wrapper = SseEmitterWrapper.wrap(sseEmitter);
+    SseEmitterWrapper wrapper = sseOutboundDispatcher.wrap(sseEmitter);
 
     // 콜백 등록(완료, 타임아웃, 에러 발생 시): 해당 Emitter 삭제
     sseEmitter.onCompletion(() -> {
       log.debug("SSE 연결 완료: userId={}, emitterId={}", userId, wrapper.getEmitterId());
-      sseEmitterRepository.delete(userId, wrapper);
+      removeEmitter(userId, wrapper);
     });
     sseEmitter.onTimeout(() -> {
       log.debug("SSE 타임아웃: userId={}, emitterId={}", userId, wrapper.getEmitterId());
-      sseEmitterRepository.delete(userId, wrapper);
+      removeEmitter(userId, wrapper);
     });
     sseEmitter.onError((ex) -> {
       log.error("SSE 에러: userId={}, emitterId={}", userId, wrapper.getEmitterId(), ex);
-      sseEmitterRepository.delete(userId, wrapper);
+      removeEmitter(userId, wrapper);
     });
 
-    sseEmitterRepository.save(userId, wrapper);
-
-    // 초기 연결 확인용 더미 이벤트 전송
+    // 초기 연결 확인용 더미 이벤트와 유실된 이벤트는 연결을 저장소에 등록하기 전에 emitter 에 직접 씀
+    // - 컨트롤러가 반환되기 전의 send 는 emitter 내부 버퍼에 쌓이므로 전송 대기열 크기와 포화 정책의 영향을 받지 않음
+    // - 재전송 중에는 실시간 메시지가 이 연결의 대기열로 들어오지 않아 재전송 이벤트가 버려지거나 연결이 끊기지 않음
+    UUID lastReplayedEventId = lastEventId;
     try {
       sseEmitter.send(SseEmitter.event()
           .name("connect")
           .data("Connected successfully")
           .build());
+      if (lastEventId != null) {
+        lastReplayedEventId = replay(userId, sseEmitter, lastEventId);
+      }
       log.debug("SSE 연결 완료: userId={}", userId);
     } catch (IOException e) {
       log.error("SSE 초기 연결 실패: userId={}", userId, e);
-      sseEmitterRepository.delete(userId, wrapper);
+      removeEmitter(userId, wrapper);
       throw new RuntimeException("SSE 연결 실패", e);
     }
 
-    // 유실된 이벤트 재전송
-    Optional.ofNullable(lastEventId)
-        .ifPresent(id -> {
-          redisStreamService.findAllByEventIdAfterAndReceiverId(id, userId)
-              .forEach(message -> sendToEmitter(userId, wrapper, message));
-        });
+    sseEmitterRepository.save(userId, wrapper);
+    // 이 노드로 메시지가 전달되도록 연결 레지스트리에 등록
+    sseConnectionRegistry.register(userId);
+    sseHeartbeatScheduler.register(userId, wrapper);
+
+    // 재전송 조회 이후 등록 전까지 발행된 이벤트는 실시간 메시지와 같은 대기열로 이어서 전송
+    if (lastReplayedEventId != null) {
+      redisStreamService.findAllByEventIdAfterAndReceiverId(lastReplayedEventId, userId)
+          .forEach(message -> sendToEmitter(userId, wrapper, message.toSseEventBuilder(userId)));
+    }
 
     return sseEmitter;
   }
 
+  // 유실된 이벤트를 순서대로 쓰고 마지막으로 쓴 이벤트 ID 를 반환
+  private UUID replay(UUID userId, SseEmitter sseEmitter, UUID lastEventId) throws IOException {
+    UUID lastReplayedEventId = lastEventId;
+    for (SseMessage message : redisStreamService.findAllByEventIdAfterAndReceiverId(lastEventId,
+        userId)) {
+      sseEmitter.send(message.toSseEventBuilder(userId));
+      lastReplayedEventId = message.getEventId();
+    }
+    return lastReplayedEventId;
+  }
+
   @Override
   public void sendEvent(SseMessage sseMessage) {
+    // 수신자별 데이터가 있으면 이 노드에 연결된 수신자 단위로 인코딩
+    if (sseMessage.hasReceiverEventData()) {
+      sendPerReceiver(sseMessage);
+      return;
+    }
+
+    // 메시지당 한 번만 직렬화하고 모든 emitter 에 같은 프레임을 씀
+    SseEmitter.SseEventBuilder event = encode(sseMessage);
+
     // 특정 사용자에게만 보내야 하는 경우
     if (!sseMessage.isBroadcast()) {
-      log.info("sendEvent: 특정 사용자 알림, receiverIds={}, eventName={}", sseMessage.getReceiverIds(), sseMessage.getEventName());
-      sseMessage.getReceiverIds().forEach(receiverId -> {
-        // 이 서버에 연결된 SseEmitter가 있는지 확인
-        List<SseEmitterWrapper> wrappers = sseEmitterRepository.findAllByReceiverId(receiverId);
-        log.info("receiverId={} 에 연결된 emitter 수: {}", receiverId, wrappers.size());
-        wrappers.forEach(wrapper -> sendToEmitter(receiverId, wrapper, sseMessage));
-      });
+      log.debug("sendEvent: 특정 사용자 알림, receiverIds={}, eventName={}", sseMessage.getReceiverIds(), sseMessage.getEventName());
+      // 이 서버에 연결된 SseEmitter 에만 전송
+      for (UUID receiverId : sseMessage.getReceiverIds()) {
+        sseEmitterRepository.forEachByReceiverId(receiverId,
+            wrapper -> sendToEmitter(receiverId, wrapper, frameOrBuilder(event, sseMessage)));
+      }
     } else { // 브로드캐스트인 경우
       // 이 서버에 연결된 모든 Emitter에 전송
-      log.info("sendEvent: 브로드캐스트 알림, eventName={}", sseMessage.getEventName());
-      sseEmitterRepository.forEach((receiverId, wrapper) -> {
-        log.info("broadcast 전송: receiverId={}, emitterId={}", receiverId, wrapper.getEmitterId());
-        sendToEmitter(receiverId, wrapper, sseMessage);
-      });
+      log.debug("sendEvent: 브로드캐스트 알림, eventName={}", sseMessage.getEventName());
+      sseEmitterRepository.forEach((receiverId, wrapper) ->
+          sendToEmitter(receiverId, wrapper, frameOrBuilder(event, sseMessage)));
+    }
+  }
+
+  // 다중 수신자 배치 메시지: 연결이 없는 수신자는 인코딩하지 않고, 수신자의 emitter 들은 같은 프레임을 공유
+  private void sendPerReceiver(SseMessage sseMessage) {
+    log.debug("sendEvent: 수신자별 알림, 수신자 수={}, eventName={}",
+        sseMessage.getReceiverIds().size(), sseMessage.getEventName());
+    for (UUID receiverId : sseMessage.getReceiverIds()) {
+      if (!sseEmitterRepository.existsByReceiverId(receiverId)) {
+        continue;
+      }
+      SseEmitter.SseEventBuilder event = encode(sseMessage, receiverId);
+      sseEmitterRepository.forEachByReceiverId(receiverId, wrapper -> sendToEmitter(receiverId,
+          wrapper, event != null ? event : sseMessage.toSseEventBuilder(receiverId)));
+    }
+  }
+
+  // 사전 인코딩된 프레임은 공유하고, 실패해 일반 builder 를 쓰는 경우에는 emitter 마다 새로 만듦
+  private SseEmitter.SseEventBuilder frameOrBuilder(SseEmitter.SseEventBuilder event,
+      SseMessage sseMessage) {
+    return event instanceof PreEncodedSseEvent ? event : sseMessage.toSseEventBuilder();
+  }
 
+  private void removeEmitter(UUID userId, SseEmitterWrapper wrapper) {
+    sseHeartbeatScheduler.unregister(wrapper);
+    if (sseEmitterRepository.delete(userId, wrapper)) {
+      sseConnectionRegistry.unregister(userId);
     }
   }
 
-  private void sendToEmitter(UUID receiverId, SseEmitterWrapper wrapper, SseMessage message) {
+  // 인코딩에 실패하면 null 을 반환해 기존처럼 emitter 별 SseEventBuilder 로 전송
+  private SseEmitter.SseEventBuilder encode(SseMessage sseMessage) {
     try {
-      wrapper.getEmitter().send(message.toSseEventBuilder());
-      log.info("SSE 전송 성공: receiverId={}, emitterId={}, message={}", receiverId, wrapper.getEmitterId(), message.getEventData());
-    } catch (IOException e) {
-      log.error("SSE 이벤트 전송 중 오류 발생: receiverId={}, emitterId={}", receiverId, wrapper.getEmitterId(), e);
-      // SseEmitter 상태를 '완료'로 변경 후 onError 콜백 실행: sseEmitterRepository.delete를 처리하도록 위임
-      wrapper.getEmitter().completeWithError(e);
+      return PreEncodedSseEvent.encode(sseMessage, objectMapper);
+    } catch (JsonProcessingException e) {
+      log.warn("SSE 프레임 사전 인코딩 실패: eventId={}", sseMessage.getEventId(), e);
+      return null;
     }
   }
 
-  @Scheduled(fixedDelay = 600000)
-  public void cleanupInactiveConnections() {
-    log.debug("비활성 SSE 연결 정리 작업 시작");
-    SseEmitter.SseEventBuilder ping = SseEmitter.event()
-        .name("ping")
-        .data("heartbeat");
-
-    sseEmitterRepository.forEach((userId, wrapper) -> {
-      try {
-        wrapper.getEmitter().send(ping);
-      } catch (IOException e) {
-        log.warn("Heartbeat 전송 실패 → emitter 종료: userId={}", userId);
-        // SseEmitter 상태를 '완료'로 변경 후 onError 콜백 실행: sseEmitterRepository.delete를 처리하도록 위임
-        wrapper.getEmitter().completeWithError(e);
-      }
-    });
+  private SseEmitter.SseEventBuilder encode(SseMessage sseMessage, UUID receiverId) {
+    try {
+      return PreEncodedSseEvent.encode(sseMessage, receiverId, objectMapper);
+    } catch (JsonProcessingException e) {
+      log.warn("SSE 프레임 사전 인코딩 실패: eventId={}, receiverId={}", sseMessage.getEventId(),
+          receiverId, e);
+      return null;
+    }
+  }
+
+  // 실제 쓰기는 연결별 대기열을 통해 writer 스레드에서 수행
+  private void sendToEmitter(UUID receiverId, SseEmitterWrapper wrapper,
+      SseEmitter.SseEventBuilder event) {
+    sseOutboundDispatcher.enqueue(receiverId, wrapper, event);
   }
 
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.team1.otvoo.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team1.otvoo.config.props.S3Props;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+/**
+ * S3ImageStorageAdapter 앞단의 Presigned URL 캐시.
+ * (objectKey, contentType) 단위로 URL을 재사용하고, URL 만료 시각보다 safety margin 만큼 먼저 캐시에서 제거한다.
+ * 객체 삭제/업로드 시 해당 objectKey의 캐시 항목을 무효화한다.
+ */
+@Slf4j
+@Primary
+@Component
+public class CachingS3ImageStorage implements S3ImageStorage {
+
+  private static final String CACHE_NAME = "s3PresignedUrl";
+
+  private final S3ImageStorageAdapter delegate;
+  private final Cache<PresignedUrlKey, String> presignedUrlCache;
+
+  public CachingS3ImageStorage(S3ImageStorageAdapter delegate, S3Props props,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+
+    long cacheTtlSec = Math.max(
+        props.getPresignedExpirationSeconds() - props.getPresignedCacheSafetyMarginSeconds(), 0);
+    this.presignedUrlCache = Caffeine.newBuilder()
+        .maximumSize(props.getPresignedCacheMaxSize())
+        .expireAfterWrite(Duration.ofSeconds(cacheTtlSec))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, presignedUrlCache, CACHE_NAME);
+    log.info("Presigned URL 캐시 초기화: ttlSec={}, maxSize={}",
+        cacheTtlSec, props.getPresignedCacheMaxSize());
+  }
+
+  @Override
+  public String upload(String key, InputStream in, long length, String contentType) {
+    // 같은 key로 덮어쓰는 경우 이전 contentType 기준 URL이 남지 않도록 무효화
+    invalidate(key);
+    return delegate.upload(key, in, length, contentType);
+  }
+
+  @Override
+  public void delete(String key) {
+    // 삭제가 실패하더라도 캐시에는 남기지 않는다
+    invalidate(key);
+    delegate.delete(key);
+  }
+
+  @Override
+  public String getPresignedUrl(String key) {
+    return presignedUrlCache.get(new PresignedUrlKey(key, null),
+        k -> delegate.getPresignedUrl(k.objectKey()));
+  }
+
+  @Override
+  public String getPresignedUrl(String key, String contentType) {
+    String normalized = (contentType == null || contentType.isBlank()) ? null : contentType;
+    return presignedUrlCache.get(new PresignedUrlKey(key, normalized),
+        k -> delegate.getPresignedUrl(k.objectKey(), k.contentType()));
+  }
+
+  @Override
+  public byte[] download(String key) throws IOException {
+    return delegate.download(key);
+  }
+
+  public void invalidate(String key) {
+    if (key == null) {
+      return;
+    }
+    presignedUrlCache.asMap().keySet().removeIf(k -> key.equals(k.objectKey()));
+  }
+
+  private record PresignedUrlKey(String objectKey, String contentType) {
+
+  }
+}
@@ -105,7 +105,7 @@ public class S3ImageStorageAdapter implements S3ImageStorage {
       PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(presignReq);
       String url = presigned.url().toString();
 
-      log.info("Presigned GET URL 생성: bucket={}, key={}, ttlSec={}",
+      log.debug("Presigned GET URL 생성: bucket={}, key={}, ttlSec={}",
           props.getBucket(), key, ttlSec);
 
       return url;
@@ -153,7 +153,7 @@ public class S3ImageStorageAdapter implements S3ImageStorage {
       PresignedGetObjectRequest presigned = s3Presigner.presignGetObject(presignReq);
       String url = presigned.url().toString();
 
-      log.info("Presigned GET URL 생성: bucket={}, key={}, ttlSec={}",
+      log.debug("Presigned GET URL 생성: bucket={}, key={}, ttlSec={}",
           props.getBucket(), key, ttlSec);
 
       return url;
@@ -5,11 +5,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.jackson.Jacksonized;
 
 @Setter
 @Getter
 @AllArgsConstructor
 @Builder
+@Jacksonized
 public class AuthorDto {
   UUID userId;
   String name;
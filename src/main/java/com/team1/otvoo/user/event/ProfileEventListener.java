@@ -1,6 +1,7 @@
 package com.team1.otvoo.user.event;
 
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import com.team1.otvoo.feed.elasticsearch.index.FeedIndexManager;
 import com.team1.otvoo.user.repository.ProfileRepository;
 import java.util.Map;
 import java.util.UUID;
@@ -23,11 +24,11 @@ public class ProfileEventListener {
 
   private final ElasticsearchOperations elasticsearchOperations;
   private final ProfileRepository profileRepository;
+  private final FeedIndexManager feedIndexManager;
 
   @TransactionalEventListener
   @Async
   public void handleProfileUpdatedEvent(ProfileUpdatedEvent event) {
-    final IndexCoordinates index = IndexCoordinates.of("feed_index");
     UUID userId = event.userId();
     String newName = event.name();
 
@@ -49,10 +50,14 @@ public class ProfileEventListener {
           .withScriptType(ScriptType.INLINE)
           .build();
 
-      // 3) update
-      var response = elasticsearchOperations.updateByQuery(updateQuery, index);
-
-      log.info("Elasticsearch author.name 수정 성공 - userId={}, response={}", userId, response);
+      // 3) update (재색인 중이면 새 인덱스에도 반영하고, 전체 색인이 덮어쓴 문서는 따라잡기 단계에서 다시 맞춤)
+      feedIndexManager.markAuthorDirty(userId);
+      for (String index : feedIndexManager.writeIndices()) {
+        var response = elasticsearchOperations.updateByQuery(updateQuery,
+            IndexCoordinates.of(index));
+        log.info("Elasticsearch author.name 수정 성공 - userId={}, index={}, response={}", userId,
+            index, response);
+      }
     } catch (DataAccessException | ElasticsearchException e) {
       log.error("Elasticsearch author.name 수정 실패 - userId={}", userId, e);
     }
@@ -0,0 +1,9 @@
+package com.team1.otvoo.user.projection;
+
+import java.util.UUID;
+
+public interface ProfileImageView {
+  UUID getUserId();
+  String getObjectKey();
+  String getContentType();
+}
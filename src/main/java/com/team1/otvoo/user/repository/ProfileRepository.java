@@ -1,8 +1,10 @@
 package com.team1.otvoo.user.repository;
 
 import com.team1.otvoo.user.entity.Profile;
+import com.team1.otvoo.user.projection.ProfileImageView;
 import com.team1.otvoo.user.projection.UserNameView;
 import com.team1.otvoo.weather.entity.WeatherLocation;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +22,14 @@ public interface ProfileRepository extends JpaRepository<Profile, UUID> {
 """)
   List<UserNameView> findUserNamesByUserIds(@Param("userIds") List<UUID> userIds);
 
+  @Query("""
+    SELECT p.user.id AS userId, pi.objectKey AS objectKey, pi.contentType AS contentType
+    FROM Profile p
+    LEFT JOIN ProfileImage pi ON pi.profile = p
+    WHERE p.user.id IN :userIds
+""")
+  List<ProfileImageView> findProfileImagesByUserIds(@Param("userIds") Collection<UUID> userIds);
+
 
   @Query("""
     select p from Profile p
@@ -4,9 +4,12 @@ import com.team1.otvoo.user.dto.AuthorDto;
 import com.team1.otvoo.user.dto.UserDtoCursorRequest;
 import com.team1.otvoo.user.dto.UserRow;
 import com.team1.otvoo.user.dto.UserSlice;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface UserRepositoryCustom {
   UserSlice<UserRow> searchUserRowWithCursor(UserDtoCursorRequest request);
   AuthorDto projectionAuthorDtoById(UUID userId);
+  List<AuthorDto> projectionAuthorDtosByIds(Collection<UUID> userIds);
 }
@@ -23,6 +23,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -56,6 +57,24 @@ public class UserRepositoryCustomImpl implements UserRepositoryCustom {
         .fetchOne();
   }
 
+  @Override
+  public List<AuthorDto> projectionAuthorDtosByIds(Collection<UUID> userIds) {
+    QUser user = QUser.user;
+    QProfile profile = QProfile.profile;
+
+    return queryFactory
+        .select(Projections.constructor(
+            AuthorDto.class,
+            user.id,
+            profile.name,
+            Expressions.nullExpression(String.class)
+        ))
+        .from(user)
+        .leftJoin(profile).on(profile.user.eq(user))
+        .where(user.id.in(userIds))
+        .fetch();
+  }
+
   @Override
   public UserSlice<UserRow> searchUserRowWithCursor(UserDtoCursorRequest request) {
     QUser user = QUser.user;
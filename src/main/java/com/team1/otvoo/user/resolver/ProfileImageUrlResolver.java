@@ -2,7 +2,15 @@ package com.team1.otvoo.user.resolver;
 
 import com.team1.otvoo.config.props.DefaultProfileImageProperties;
 import com.team1.otvoo.storage.S3ImageStorage;
+import com.team1.otvoo.user.projection.ProfileImageView;
 import com.team1.otvoo.user.repository.ProfileImageRepository;
+import com.team1.otvoo.user.repository.ProfileRepository;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -12,6 +20,7 @@ import org.springframework.stereotype.Component;
 public class ProfileImageUrlResolver {
 
   private final ProfileImageRepository profileImageRepository;
+  private final ProfileRepository profileRepository;
   private final DefaultProfileImageProperties defaultProfileImageProperties;
   private final S3ImageStorage s3ImageStorage;
 
@@ -22,4 +31,26 @@ public class ProfileImageUrlResolver {
             image.getContentType())
         ).orElse(defaultProfileImageProperties.getUrl()); // 없으면 기본값 제공
   }
-}
\ No newline at end of file
+
+  // userId 목록의 프로필 이미지를 한 번의 쿼리로 조회하고 userId -> URL 맵으로 반환
+  // 프로필/이미지가 없는 사용자는 기본 이미지 URL로 채움
+  public Map<UUID, String> resolveAll(Collection<UUID> userIds) {
+    if (userIds == null || userIds.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Set<UUID> distinctUserIds = new HashSet<>(userIds);
+    String defaultUrl = defaultProfileImageProperties.getUrl();
+
+    Map<UUID, String> urlMap = new HashMap<>();
+    for (ProfileImageView view : profileRepository.findProfileImagesByUserIds(distinctUserIds)) {
+      String url = view.getObjectKey() == null
+          ? defaultUrl
+          : s3ImageStorage.getPresignedUrl(view.getObjectKey(), view.getContentType());
+      urlMap.put(view.getUserId(), url);
+    }
+    distinctUserIds.forEach(userId -> urlMap.putIfAbsent(userId, defaultUrl));
+
+    return urlMap;
+  }
+}
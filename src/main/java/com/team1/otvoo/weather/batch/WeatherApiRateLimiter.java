@@ -0,0 +1,56 @@
+package com.team1.otvoo.weather.batch;
+
+import com.team1.otvoo.config.props.WeatherBatchProperties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기상청 API 호출 속도 제한
+ * - 파티션 스레드들이 함께 사용하며, 호출 시각을 일정 간격으로 예약해 초당 호출 수를 넘지 않도록 대기
+ * - 동시성을 높여도 API 호출량은 설정한 속도로 유지됨
+ */
+@Component
+public class WeatherApiRateLimiter {
+
+  private final long intervalNanos;
+  private final LongSupplier nanoClock;
+
+  private long nextFreeAt;
+
+  @Autowired
+  public WeatherApiRateLimiter(WeatherBatchProperties properties) {
+    this(properties.getRequestsPerSecond(), System::nanoTime);
+  }
+
+  WeatherApiRateLimiter(double requestsPerSecond, LongSupplier nanoClock) {
+    this.intervalNanos = requestsPerSecond > 0
+        ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond)
+        : 0;
+    this.nanoClock = nanoClock;
+    this.nextFreeAt = nanoClock.getAsLong();
+  }
+
+  public void acquire() {
+    long waitNanos = reserve();
+    long deadline = nanoClock.getAsLong() + waitNanos;
+    long remaining = waitNanos;
+    while (remaining > 0 && !Thread.currentThread().isInterrupted()) {
+      LockSupport.parkNanos(remaining);
+      remaining = deadline - nanoClock.getAsLong();
+    }
+  }
+
+  // 다음 호출 시각을 예약하고 그때까지 기다려야 하는 시간을 반환
+  synchronized long reserve() {
+    if (intervalNanos == 0) {
+      return 0;
+    }
+    long now = nanoClock.getAsLong();
+    long slot = Math.max(nextFreeAt, now);
+    nextFreeAt = slot + intervalNanos;
+    return slot - now;
+  }
+}
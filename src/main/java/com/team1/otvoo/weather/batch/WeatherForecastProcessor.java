@@ -7,7 +7,6 @@ import com.team1.otvoo.weather.dto.VilageFcstResponse.FcstItem;
 import com.team1.otvoo.weather.entity.WeatherForecast;
 import com.team1.otvoo.weather.entity.WeatherLocation;
 import com.team1.otvoo.weather.factory.WeatherForecastFactory;
-import com.team1.otvoo.weather.repository.WeatherForecastRepository;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -30,7 +29,7 @@ public class WeatherForecastProcessor implements
 
   private final WeatherClient weatherClient;
   private final WeatherForecastFactory weatherForecastFactory;
-  private final WeatherForecastRepository weatherForecastRepository;
+  private final WeatherApiRateLimiter weatherApiRateLimiter;
 
   @Value("${weather.batch.base-time:2300}")
   private String baseTime;
@@ -47,6 +46,8 @@ public class WeatherForecastProcessor implements
     // 1. 기상청 API 호출
     List<FcstItem> items;
     try {
+      // 여러 파티션이 동시에 호출하므로 공유 속도 제한을 거침
+      weatherApiRateLimiter.acquire();
       VilageFcstResponse response = weatherClient.getForecast(baseDate, baseTime,
           location.getX(), location.getY());
       items = Optional.ofNullable(response)
@@ -74,17 +75,10 @@ public class WeatherForecastProcessor implements
         tmnMap
     );
 
-    // 4. 중복 필터링 (같은 location + forecast_at + forecasted_at 조합이 이미 저장되어 있다면 제외)
-    List<WeatherForecast> newForecasts = forecasts.stream()
-        .filter(f ->
-            !weatherForecastRepository.existsByLocationAndForecastAtAndForecastedAt(
-                f.getLocation(), f.getForecastAt(), f.getForecastedAt())
-        )
-        .collect(Collectors.toList());
+    // 이미 저장된 (위치, 예보 시각, 발표 시각) 조합은 Writer 의 bulkInsert 가 ON CONFLICT 로 건너뛰므로 미리 조회하지 않음
+    log.info("변환된 예보 수: {}", forecasts.size());
 
-    log.info("변환된 예보 수: {}, 중복 제거 후 저장 대상: {}", forecasts.size(), newForecasts.size());
-
-    return newForecasts;
+    return forecasts;
   }
 
   // 하루 최고, 최저 기온 추출
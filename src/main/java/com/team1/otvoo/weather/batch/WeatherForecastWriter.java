@@ -26,8 +26,9 @@ public class WeatherForecastWriter implements ItemWriter<List<WeatherForecast>>
         .toList();
 
     if (!flatList.isEmpty()) {
-      weatherForecastRepository.saveAll(flatList);
-      log.info("Writer 저장 완료 - forecasts 총 {}건", flatList.size());
+      // 부모/자식 테이블별 JDBC 배치로 저장, 이미 저장된 예보는 ON CONFLICT 로 건너뜀
+      int inserted = weatherForecastRepository.bulkInsert(flatList);
+      log.info("Writer 저장 완료 - forecasts 총 {}건 중 {}건 저장", flatList.size(), inserted);
     }
 
   }
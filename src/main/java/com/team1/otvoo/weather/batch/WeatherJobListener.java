@@ -30,7 +30,9 @@ public class WeatherJobListener implements JobExecutionListener {
   @Override
   public void afterJob(JobExecution jobExecution) {
     if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+      // 파티션 실행 결과는 manager Step 에 합산되므로 worker Step 은 제외
       long totalWrites = jobExecution.getStepExecutions().stream()
+          .filter(stepExecution -> !stepExecution.getStepName().contains(":"))
           .mapToLong(StepExecution::getWriteCount)
           .sum();
 
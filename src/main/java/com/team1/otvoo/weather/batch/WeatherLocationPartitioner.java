@@ -0,0 +1,32 @@
+package com.team1.otvoo.weather.batch;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 위치 파티셔너
+ * - 위치 목록 대신 (파티션 번호, 파티션 수)만 실행 컨텍스트에 저장하고, 각 Reader 가 id 해시로 자기 몫을 고름
+ * - 위치 id 기준으로 나뉘므로 재시작 시 실패한 파티션은 같은 위치를 다시 처리
+ */
+@Component
+public class WeatherLocationPartitioner implements Partitioner {
+
+  public static final String PARTITION_INDEX = "partitionIndex";
+  public static final String PARTITION_COUNT = "partitionCount";
+
+  @Override
+  public Map<String, ExecutionContext> partition(int gridSize) {
+    int partitionCount = Math.max(gridSize, 1);
+    Map<String, ExecutionContext> partitions = new HashMap<>();
+    for (int i = 0; i < partitionCount; i++) {
+      ExecutionContext context = new ExecutionContext();
+      context.putInt(PARTITION_INDEX, i);
+      context.putInt(PARTITION_COUNT, partitionCount);
+      partitions.put("partition" + i, context);
+    }
+    return partitions;
+  }
+}
@@ -10,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.item.ItemReader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 
@@ -22,15 +23,28 @@ public class WeatherLocationReader implements ItemReader<WeatherLocation> {
   private final ProfileRepository profileRepository;
   private final WeatherLocationRepository weatherLocationRepository;
 
+  // 파티션 실행 시 자기 몫의 위치만 읽음 (파티션 없이 실행되면 전체)
+  @Value("#{stepExecutionContext['partitionIndex'] ?: 0}")
+  private int partitionIndex;
+
+  @Value("#{stepExecutionContext['partitionCount'] ?: 1}")
+  private int partitionCount;
+
   private Iterator<WeatherLocation> iterator;
 
   @Override
   public WeatherLocation read() {
     if (iterator == null) {
-      List<UUID> locationIds = profileRepository.findDistinctWeatherLocationIds();
+      List<UUID> locationIds = profileRepository.findDistinctWeatherLocationIds().stream()
+          .filter(this::inPartition)
+          .toList();
       List<WeatherLocation> locations = weatherLocationRepository.findAllById(locationIds);
       iterator = locations.iterator(); // iterator로 변환 후 순차적으로 꺼낼 수 있도록 준비
     }
     return iterator.hasNext() ? iterator.next() : null;
   }
+
+  private boolean inPartition(UUID locationId) {
+    return partitionCount <= 1 || Math.floorMod(locationId.hashCode(), partitionCount) == partitionIndex;
+  }
 }
@@ -0,0 +1,86 @@
+package com.team1.otvoo.weather.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team1.otvoo.config.props.WeatherForecastCacheProperties;
+import com.team1.otvoo.weather.dto.WeatherDto;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 날씨 예보 조회 캐시
+ * - (격자 x, 격자 y, baseDate, baseTime) 단위로 조립된 WeatherDto 목록을 인스턴스 로컬 Caffeine 에 보관
+ * - 캐시에 없을 때 같은 키로 동시에 들어온 요청은 먼저 온 요청의 적재 결과를 기다려 함께 사용 (single-flight)
+ * - 적재 실패나 빈 결과는 캐시하지 않아 다음 요청이 다시 시도
+ */
+@Slf4j
+@Component
+public class WeatherForecastCache {
+
+  private final Cache<Key, List<WeatherDto>> cache;
+  // 적재 중인 키와 그 결과를 기다리는 future
+  private final ConcurrentMap<Key, CompletableFuture<List<WeatherDto>>> inFlight =
+      new ConcurrentHashMap<>();
+
+  public record Key(int x, int y, String baseDate, String baseTime) {
+
+  }
+
+  public WeatherForecastCache(WeatherForecastCacheProperties properties) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(properties.getMaxSize())
+        .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+        .build();
+  }
+
+  public List<WeatherDto> getOrLoad(Key key, Supplier<List<WeatherDto>> loader) {
+    List<WeatherDto> cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    CompletableFuture<List<WeatherDto>> flight = new CompletableFuture<>();
+    CompletableFuture<List<WeatherDto>> leader = inFlight.putIfAbsent(key, flight);
+    if (leader != null) {
+      log.debug("날씨 예보 적재 대기 - key={}", key);
+      return await(leader);
+    }
+
+    try {
+      // 앞선 적재가 방금 끝났다면 다시 호출하지 않음
+      List<WeatherDto> loaded = cache.getIfPresent(key);
+      if (loaded == null) {
+        loaded = List.copyOf(loader.get());
+        if (!loaded.isEmpty()) {
+          cache.put(key, loaded);
+        }
+      }
+      flight.complete(loaded);
+      return loaded;
+    } catch (RuntimeException e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  private List<WeatherDto> await(CompletableFuture<List<WeatherDto>> leader) {
+    try {
+      return leader.join();
+    } catch (CompletionException e) {
+      // 적재한 요청과 같은 예외를 전달
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+}
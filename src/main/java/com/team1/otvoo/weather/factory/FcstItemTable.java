@@ -0,0 +1,128 @@
+package com.team1.otvoo.weather.factory;
+
+import com.team1.otvoo.weather.dto.VilageFcstResponse.FcstItem;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * (예보 날짜, 예보 시각, 카테고리) → 값 색인
+ * - 응답 목록을 한 번만 순회해 yyyyMMdd * 10000 + HHmm 형태의 long 키로 행을 만들고,
+ *   행마다 카테고리 순서대로 값을 배열에 보관
+ * - 전일 대비 계산은 전날 같은 시각의 행을 키로 바로 찾으므로 전체 목록을 다시 훑지 않음
+ * - 같은 카테고리가 여러 번 오면 처음 값을 유지
+ */
+final class FcstItemTable {
+
+  static final int TMP = 0;
+  static final int TMN = 1;
+  static final int TMX = 2;
+  static final int REH = 3;
+  static final int WSD = 4;
+  static final int POP = 5;
+  static final int PTY = 6;
+  static final int PCP = 7;
+  static final int SKY = 8;
+  private static final int CATEGORY_COUNT = 9;
+
+  // 응답 순서대로 행을 유지
+  private final Map<Long, Row> rows = new LinkedHashMap<>();
+  // 날짜별 전날 (yyyyMMdd), 날짜 수만큼만 계산
+  private final Map<Integer, Integer> previousDates = new HashMap<>();
+
+  static final class Row {
+
+    private final int fcstDate;
+    private final int fcstTime;
+    private final FcstItem first;
+    private final String[] values = new String[CATEGORY_COUNT];
+
+    private Row(int fcstDate, int fcstTime, FcstItem first) {
+      this.fcstDate = fcstDate;
+      this.fcstTime = fcstTime;
+      this.first = first;
+    }
+
+    int fcstDate() {
+      return fcstDate;
+    }
+
+    int fcstTime() {
+      return fcstTime;
+    }
+
+    FcstItem first() {
+      return first;
+    }
+
+    String value(int category) {
+      return values[category];
+    }
+  }
+
+  static FcstItemTable of(List<FcstItem> items) {
+    FcstItemTable table = new FcstItemTable();
+    for (FcstItem item : items) {
+      table.put(item);
+    }
+    return table;
+  }
+
+  Collection<Row> rows() {
+    return rows.values();
+  }
+
+  // 전날 같은 시각의 행 (없으면 null)
+  Row previousDay(Row row) {
+    int previousDate = previousDates.computeIfAbsent(row.fcstDate, date -> {
+      LocalDate previous = toLocalDate(date).minusDays(1);
+      return previous.getYear() * 10000 + previous.getMonthValue() * 100 + previous.getDayOfMonth();
+    });
+    return rows.get(key(previousDate, row.fcstTime));
+  }
+
+  static LocalDate toLocalDate(int fcstDate) {
+    return LocalDate.of(fcstDate / 10000, fcstDate / 100 % 100, fcstDate % 100);
+  }
+
+  static LocalTime toLocalTime(int fcstTime) {
+    return LocalTime.of(fcstTime / 100, fcstTime % 100);
+  }
+
+  private void put(FcstItem item) {
+    int fcstDate = Integer.parseInt(item.getFcstDate());
+    int fcstTime = Integer.parseInt(item.getFcstTime());
+    Row row = rows.computeIfAbsent(key(fcstDate, fcstTime), k -> new Row(fcstDate, fcstTime, item));
+
+    int category = categoryIndex(item.getCategory());
+    if (category >= 0 && row.values[category] == null) {
+      row.values[category] = item.getFcstValue();
+    }
+  }
+
+  private static long key(int fcstDate, int fcstTime) {
+    return fcstDate * 10000L + fcstTime;
+  }
+
+  private static int categoryIndex(String category) {
+    if (category == null) {
+      return -1;
+    }
+    return switch (category) {
+      case "TMP" -> TMP;
+      case "TMN" -> TMN;
+      case "TMX" -> TMX;
+      case "REH" -> REH;
+      case "WSD" -> WSD;
+      case "POP" -> POP;
+      case "PTY" -> PTY;
+      case "PCP" -> PCP;
+      case "SKY" -> SKY;
+      default -> -1;
+    };
+  }
+}
@@ -10,9 +10,7 @@ import com.team1.otvoo.weather.entity.WeatherPrecipitation;
 import com.team1.otvoo.weather.entity.WeatherTemperature;
 import com.team1.otvoo.weather.entity.WeatherWindSpeed;
 import com.team1.otvoo.weather.entity.WindStrength;
-import com.team1.otvoo.weather.util.FcstItemUtils;
 import com.team1.otvoo.weather.util.ForecastParsingUtils;
-import com.team1.otvoo.weather.util.WeatherComparisonUtils;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -22,7 +20,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -40,6 +37,7 @@ public class WeatherForecastFactory {
 
   /**
    * FcstItem 원시 데이터를 기반으로 WeatherForecast 엔티티 목록을 생성
+   * - 목록을 한 번만 순회해 (날짜, 시각, 카테고리) 색인을 만든 뒤, 카테고리 값과 전일 대비 값을 색인에서 바로 조회
    */
   public List<WeatherForecast> createForecasts(
       List<FcstItem> items,
@@ -49,53 +47,46 @@ public class WeatherForecastFactory {
   ) {
     log.debug("Factory 입력 데이터 개수: {}", items.size());
 
-    // 1. fcstDate + fcstTime 기준으로 그룹핑
-    Map<ForecastKey, List<FcstItem>> grouped = items.stream()
-        .collect(Collectors.groupingBy(
-            item -> new ForecastKey(item.getFcstDate(), item.getFcstTime())
-        ));
+    // 1. fcstDate + fcstTime 기준으로 색인
+    FcstItemTable table = FcstItemTable.of(items);
 
-    List<WeatherForecast> results = new ArrayList<>();
+    List<WeatherForecast> results = new ArrayList<>(table.rows().size());
 
     // 2. 카테고리별 값 파싱 및 엔티티 생성
-    for (Map.Entry<ForecastKey, List<FcstItem>> entry : grouped.entrySet()) {
-      ForecastKey key = entry.getKey();
-      List<FcstItem> group = entry.getValue();
+    for (FcstItemTable.Row row : table.rows()) {
+      FcstItemTable.Row previousDay = table.previousDay(row);
+      FcstItem first = row.first();
 
       // 온도
-      Double tmp = FcstItemUtils.parseDoubleByCategory(group, "TMP", parsingUtils);
-      Double tmn = FcstItemUtils.parseDoubleByCategory(group, "TMN", parsingUtils);
-      Double tmx = FcstItemUtils.parseDoubleByCategory(group, "TMX", parsingUtils);
+      Double tmp = parsingUtils.parseDouble(row.value(FcstItemTable.TMP));
+      Double tmn = parsingUtils.parseDouble(row.value(FcstItemTable.TMN));
+      Double tmx = parsingUtils.parseDouble(row.value(FcstItemTable.TMX));
 
       // group에서 TMX/TMN이 없으면 파라미터로 받은 Map에서 가져오기
       if (tmn == null) {
-        tmn = tmnMap.getOrDefault(key.fcstDate(), null);
+        tmn = tmnMap.getOrDefault(first.getFcstDate(), null);
       }
       if (tmx == null) {
-        tmx = tmxMap.getOrDefault(key.fcstDate(), null);
+        tmx = tmxMap.getOrDefault(first.getFcstDate(), null);
       }
 
       // 온도(TMP) 전일 대비 계산
-      Double tmpDiff = WeatherComparisonUtils.calculateDifferenceForDate(
-          items, key.fcstDate(), key.fcstTime(), "TMP", parsingUtils
-      );
+      Double tmpDiff = difference(tmp, previousDay, FcstItemTable.TMP);
 
       // 습도
-      Double reh = FcstItemUtils.parseDoubleByCategory(group, "REH", parsingUtils);
+      Double reh = parsingUtils.parseDouble(row.value(FcstItemTable.REH));
 
       // 카드별 fcstDate/fcstTime으로 전일대비 계산
-      Double rehDiff = WeatherComparisonUtils.calculateDifferenceForDate(
-          items, key.fcstDate(), key.fcstTime(), "REH", parsingUtils
-      );
+      Double rehDiff = difference(reh, previousDay, FcstItemTable.REH);
 
       // 풍속
-      Double wsd = FcstItemUtils.parseDoubleByCategory(group, "WSD", parsingUtils);
+      Double wsd = parsingUtils.parseDouble(row.value(FcstItemTable.WSD));
       WindStrength windStrength = (wsd != null)
           ? WindStrength.fromSpeed(wsd)
           : WindStrength.WEAK;
 
       // 강수 확률
-      Double pop = FcstItemUtils.parseDoubleByCategory(group, "POP", parsingUtils);
+      Double pop = parsingUtils.parseDouble(row.value(FcstItemTable.POP));
       if (pop != null) {
         pop = pop / 100.0;
       } else {
@@ -103,17 +94,16 @@ public class WeatherForecastFactory {
       }
 
       // 강수 형태 & 양
-      int ptyCode = FcstItemUtils.parseIntByCategory(group, "PTY", parsingUtils);
+      int ptyCode = parseCode(row.value(FcstItemTable.PTY));
       PrecipitationType precipitationType = PrecipitationType.fromCode(ptyCode);
-      Double pcp = FcstItemUtils.parsePrecipOrSnowByCategory(group, "PCP", parsingUtils);
+      Double pcp = parsingUtils.parsePrecipitationOrSnow(row.value(FcstItemTable.PCP));
 
       // 하늘 상태
-      int skyCode = FcstItemUtils.parseIntByCategory(group, "SKY", parsingUtils);
+      int skyCode = parseCode(row.value(FcstItemTable.SKY));
       SkyStatus skyStatus = SkyStatus.fromCode(skyCode);
 
       // 예보 시각 계산
-      FcstItem first = group.get(0);
-      log.info(">>> group.get(0) fcstDate={}, fcstTime={}, baseDate={}, baseTime={}",
+      log.debug(">>> group.get(0) fcstDate={}, fcstTime={}, baseDate={}, baseTime={}",
           first.getFcstDate(), first.getFcstTime(),
           first.getBaseDate(), first.getBaseTime());
 
@@ -122,8 +112,8 @@ public class WeatherForecastFactory {
           LocalTime.parse(first.getBaseTime(), TIME_FORMAT)
       ).atZone(ZONE).toInstant();
       Instant forecastAt = LocalDateTime.of(
-          LocalDate.parse(key.fcstDate(), DATE_FORMAT),
-          LocalTime.parse(key.fcstTime(), TIME_FORMAT)
+          FcstItemTable.toLocalDate(row.fcstDate()),
+          FcstItemTable.toLocalTime(row.fcstTime())
       ).atZone(ZONE).toInstant();
 
       // 엔티티 생성
@@ -152,10 +142,18 @@ public class WeatherForecastFactory {
     return results;
   }
 
-  // 날짜 + 시간 조합 Key
-  public record ForecastKey(String fcstDate, String fcstTime) {
-    public String asString() {
-      return fcstDate + fcstTime;
+  // (당일 값) - (전날 같은 시각 값). 둘 중 하나라도 없으면 null
+  private Double difference(Double value, FcstItemTable.Row previousDay, int category) {
+    if (value == null || previousDay == null) {
+      return null;
     }
+    Double previousValue = parsingUtils.parseDouble(previousDay.value(category));
+    return previousValue != null ? value - previousValue : null;
+  }
+
+  // 정수형 코드 (null → 0)
+  private int parseCode(String value) {
+    Double parsed = parsingUtils.parseDouble(value);
+    return parsed != null ? parsed.intValue() : 0;
   }
 }
@@ -19,18 +19,6 @@ import org.springframework.transaction.annotation.Transactional;
 public interface WeatherForecastRepository extends JpaRepository<WeatherForecast, UUID>,
     WeatherForecastRepositoryCustom {
 
-  boolean existsByLocationAndForecastAtAndForecastedAt(
-      WeatherLocation location,
-      Instant forecastAt,
-      Instant forecastedAt
-  );
-
-  Optional<WeatherForecast> findByLocationAndForecastAtAndForecastedAt(
-      WeatherLocation location,
-      Instant forecastAt,
-      Instant forecastedAt
-  );
-
   @Modifying
   @Transactional
   @Query("DELETE FROM WeatherForecast wf WHERE wf.forecastedAt < :threshold")
@@ -47,6 +35,28 @@ public interface WeatherForecastRepository extends JpaRepository<WeatherForecast
       @Param("forecastDate") LocalDate forecastDate
   );
 
+  // 요청한 발표 시각 이후에 저장된 가장 최근 발표 시각 (다른 요청이나 야간 배치가 저장한 결과)
+  @Query("SELECT MAX(wf.forecastedAt) FROM WeatherForecast wf "
+      + "WHERE wf.location = :location "
+      + "AND wf.forecastedAt >= :forecastedAt")
+  Optional<Instant> findLatestForecastedAtSince(
+      @Param("location") WeatherLocation location,
+      @Param("forecastedAt") Instant forecastedAt
+  );
+
+  @Query("SELECT wf FROM WeatherForecast wf "
+      + "JOIN FETCH wf.location l "
+      + "JOIN FETCH wf.humidity h "
+      + "JOIN FETCH wf.precipitation p "
+      + "JOIN FETCH wf.temperature t "
+      + "JOIN FETCH wf.windSpeed w "
+      + "WHERE wf.location = :location "
+      + "AND wf.forecastedAt = :forecastedAt")
+  List<WeatherForecast> findAllFetchByLocationAndForecastedAt(
+      @Param("location") WeatherLocation location,
+      @Param("forecastedAt") Instant forecastedAt
+  );
+
   @Query("SELECT wf FROM WeatherForecast wf "
       + "JOIN FETCH wf.location l "
       + "JOIN FETCH wf.humidity h "
@@ -5,4 +5,5 @@ import java.util.List;
 
 public interface WeatherForecastRepositoryCustom {
   List<WeatherForecast> findLatest5ByLocation(int x, int y);
+  int bulkInsert(List<WeatherForecast> forecasts);
 }
@@ -1,6 +1,7 @@
 package com.team1.otvoo.weather.repository.impl;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.team1.otvoo.common.id.UuidV7;
 import com.team1.otvoo.weather.entity.QWeatherForecast;
 import com.team1.otvoo.weather.entity.QWeatherHumidity;
 import com.team1.otvoo.weather.entity.QWeatherLocation;
@@ -8,17 +9,49 @@ import com.team1.otvoo.weather.entity.QWeatherPrecipitation;
 import com.team1.otvoo.weather.entity.QWeatherTemperature;
 import com.team1.otvoo.weather.entity.QWeatherWindSpeed;
 import com.team1.otvoo.weather.entity.WeatherForecast;
+import com.team1.otvoo.weather.entity.WeatherHumidity;
+import com.team1.otvoo.weather.entity.WeatherPrecipitation;
+import com.team1.otvoo.weather.entity.WeatherTemperature;
+import com.team1.otvoo.weather.entity.WeatherWindSpeed;
 import com.team1.otvoo.weather.repository.custom.WeatherForecastRepositoryCustom;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 @RequiredArgsConstructor
 public class WeatherForecastRepositoryImpl implements WeatherForecastRepositoryCustom {
 
+  private static final String INSERT_FORECAST_SQL =
+      "INSERT INTO weather_forecasts (id, forecasted_at, forecast_at, sky_status, created_at, updated_at, weather_location_id) " +
+          "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+          "ON CONFLICT ON CONSTRAINT uq_weather_forecasts_location_time DO NOTHING";
+  private static final String SELECT_INSERTED_IDS_SQL =
+      "SELECT id FROM weather_forecasts WHERE id = ANY(?)";
+  private static final String INSERT_TEMPERATURE_SQL =
+      "INSERT INTO weather_temperatures (forecast_id, current, min, max, compared_to_day_before) VALUES (?, ?, ?, ?, ?)";
+  private static final String INSERT_HUMIDITY_SQL =
+      "INSERT INTO weather_humidities (forecast_id, current, compared_to_day_before) VALUES (?, ?, ?)";
+  private static final String INSERT_PRECIPITATION_SQL =
+      "INSERT INTO weather_precipitations (forecast_id, type, amount, probability) VALUES (?, ?, ?, ?)";
+  private static final String INSERT_WIND_SPEED_SQL =
+      "INSERT INTO weather_wind_speeds (forecast_id, speed, as_word) VALUES (?, ?, ?)";
+
   private final JPAQueryFactory queryFactory;
+  private final JdbcTemplate jdbcTemplate;
 
   @Override
   public List<WeatherForecast> findLatest5ByLocation(int x, int y) {
@@ -50,4 +83,99 @@ public class WeatherForecastRepositoryImpl implements WeatherForecastRepositoryC
         .limit(5)
         .fetch();
   }
+
+  /**
+   * 예보 대량 저장 (배치 Writer 전용)
+   * - saveAll 은 예보 1건당 부모 + 자식 4개 테이블에 INSERT 를 하나씩 실행하므로 테이블별 JDBC 배치로 전송
+   * - 부모는 ON CONFLICT 로 이미 저장된 (위치, 예보 시각, 발표 시각) 조합을 건너뛰고,
+   *   실제로 저장된 id 만 다시 조회해 자식 행을 저장
+   * - reWriteBatchedInserts 설정으로 드라이버가 multi-row INSERT 로 합쳐서 실행
+   * - 영속성 컨텍스트를 거치지 않으므로 전달한 엔티티에는 id 가 채워지지 않음
+   */
+  @Override
+  public int bulkInsert(List<WeatherForecast> forecasts) {
+    if (forecasts.isEmpty()) {
+      return 0;
+    }
+    Map<UUID, WeatherForecast> forecastsById = new LinkedHashMap<>();
+    forecasts.forEach(forecast -> forecastsById.put(UuidV7.randomUUID(), forecast));
+    List<Entry<UUID, WeatherForecast>> entries = List.copyOf(forecastsById.entrySet());
+
+    Timestamp now = Timestamp.from(Instant.now());
+    jdbcTemplate.batchUpdate(INSERT_FORECAST_SQL, entries, entries.size(), (ps, entry) -> {
+      WeatherForecast forecast = entry.getValue();
+      ps.setObject(1, entry.getKey());
+      ps.setTimestamp(2, Timestamp.from(forecast.getForecastedAt()));
+      ps.setTimestamp(3, Timestamp.from(forecast.getForecastAt()));
+      ps.setString(4, forecast.getSkyStatus().name());
+      ps.setTimestamp(5, now);
+      ps.setTimestamp(6, now);
+      ps.setObject(7, forecast.getLocation().getId());
+    });
+
+    // 충돌로 건너뛴 예보의 자식 행은 FK 를 만족하지 못하므로 저장된 부모만 남김
+    Set<UUID> insertedIds = new HashSet<>(jdbcTemplate.query(con -> {
+      PreparedStatement ps = con.prepareStatement(SELECT_INSERTED_IDS_SQL);
+      ps.setArray(1, con.createArrayOf("uuid", forecastsById.keySet().toArray()));
+      return ps;
+    }, (rs, rowNum) -> rs.getObject(1, UUID.class)));
+    List<Entry<UUID, WeatherForecast>> inserted = entries.stream()
+        .filter(entry -> insertedIds.contains(entry.getKey()))
+        .toList();
+    if (inserted.isEmpty()) {
+      return 0;
+    }
+
+    List<Entry<UUID, WeatherForecast>> temperatures = withChild(inserted, WeatherForecast::getTemperature);
+    jdbcTemplate.batchUpdate(INSERT_TEMPERATURE_SQL, temperatures, temperatures.size(), (ps, entry) -> {
+      WeatherTemperature temperature = entry.getValue().getTemperature();
+      ps.setObject(1, entry.getKey());
+      ps.setDouble(2, temperature.getCurrent());
+      setNullableDouble(ps, 3, temperature.getMin());
+      setNullableDouble(ps, 4, temperature.getMax());
+      setNullableDouble(ps, 5, temperature.getComparedToDayBefore());
+    });
+
+    List<Entry<UUID, WeatherForecast>> humidities = withChild(inserted, WeatherForecast::getHumidity);
+    jdbcTemplate.batchUpdate(INSERT_HUMIDITY_SQL, humidities, humidities.size(), (ps, entry) -> {
+      WeatherHumidity humidity = entry.getValue().getHumidity();
+      ps.setObject(1, entry.getKey());
+      ps.setDouble(2, humidity.getCurrent());
+      setNullableDouble(ps, 3, humidity.getComparedToDayBefore());
+    });
+
+    List<Entry<UUID, WeatherForecast>> precipitations = withChild(inserted, WeatherForecast::getPrecipitation);
+    jdbcTemplate.batchUpdate(INSERT_PRECIPITATION_SQL, precipitations, precipitations.size(), (ps, entry) -> {
+      WeatherPrecipitation precipitation = entry.getValue().getPrecipitation();
+      ps.setObject(1, entry.getKey());
+      ps.setString(2, precipitation.getType().name());
+      setNullableDouble(ps, 3, precipitation.getAmount());
+      ps.setDouble(4, precipitation.getProbability());
+    });
+
+    List<Entry<UUID, WeatherForecast>> windSpeeds = withChild(inserted, WeatherForecast::getWindSpeed);
+    jdbcTemplate.batchUpdate(INSERT_WIND_SPEED_SQL, windSpeeds, windSpeeds.size(), (ps, entry) -> {
+      WeatherWindSpeed windSpeed = entry.getValue().getWindSpeed();
+      ps.setObject(1, entry.getKey());
+      ps.setDouble(2, windSpeed.getSpeed());
+      ps.setString(3, windSpeed.getAsWord().name());
+    });
+
+    return inserted.size();
+  }
+
+  private List<Entry<UUID, WeatherForecast>> withChild(List<Entry<UUID, WeatherForecast>> entries,
+      Function<WeatherForecast, ?> child) {
+    return entries.stream()
+        .filter(entry -> child.apply(entry.getValue()) != null)
+        .toList();
+  }
+
+  private void setNullableDouble(PreparedStatement ps, int index, Double value) throws SQLException {
+    if (value == null) {
+      ps.setNull(index, Types.DOUBLE);
+    } else {
+      ps.setDouble(index, value);
+    }
+  }
 }
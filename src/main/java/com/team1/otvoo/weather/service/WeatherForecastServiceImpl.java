@@ -2,6 +2,7 @@ package com.team1.otvoo.weather.service;
 
 import static java.lang.Double.parseDouble;
 
+import com.team1.otvoo.weather.cache.WeatherForecastCache;
 import com.team1.otvoo.weather.client.KakaoLocalClient;
 import com.team1.otvoo.weather.client.WeatherClient;
 import com.team1.otvoo.weather.dto.VilageFcstResponse;
@@ -16,7 +17,10 @@ import com.team1.otvoo.weather.repository.WeatherForecastRepository;
 import com.team1.otvoo.weather.repository.WeatherLocationRepository;
 import com.team1.otvoo.weather.util.GridCoordConverter;
 import com.team1.otvoo.weather.util.WeatherTimeCalculator;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
@@ -24,11 +28,14 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
 @Service
@@ -43,6 +50,12 @@ public class WeatherForecastServiceImpl implements WeatherForecastService {
   private final WeatherMapper weatherMapper;
   private final WeatherForecastRepository weatherForecastRepository;
   private final WeatherLocationRepository weatherLocationRepository;
+  private final WeatherForecastCache weatherForecastCache;
+  private final TransactionTemplate transactionTemplate;
+
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+  private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+  private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HHmm");
 
   @Override
   public WeatherAPILocation getLocation(double longitude, double latitude) {
@@ -58,7 +71,7 @@ public class WeatherForecastServiceImpl implements WeatherForecastService {
   }
 
   @Override
-  @Transactional
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
   public List<WeatherDto> getWeathers(double longitude, double latitude) {
 
     // 1. 위/경도 -> x, y 변환
@@ -70,10 +83,39 @@ public class WeatherForecastServiceImpl implements WeatherForecastService {
     String baseDate = WeatherTimeCalculator.calculateBaseDate();
     String baseTime = WeatherTimeCalculator.calculateBaseTime();
 
+    // 같은 격자 + 발표 시각 요청은 조립된 결과를 공유하고, 동시에 들어온 요청은 한 번만 적재
+    // 캐시 적중 시에는 트랜잭션(DB 커넥션)도 사용하지 않음
+    return weatherForecastCache.getOrLoad(
+        new WeatherForecastCache.Key(x, y, baseDate, baseTime),
+        () -> transactionTemplate.execute(status ->
+            loadWeathers(x, y, longitude, latitude, baseDate, baseTime))
+    );
+  }
+
+  private List<WeatherDto> loadWeathers(int x, int y, double longitude, double latitude,
+      String baseDate, String baseTime) {
+    Instant forecastedAt = LocalDateTime.of(
+        LocalDate.parse(baseDate, DATE_FORMAT),
+        LocalTime.parse(baseTime, TIME_FORMAT)
+    ).atZone(ZONE).toInstant();
+
+    // 3. 같은 발표 시각 이후의 예보가 이미 저장되어 있으면(다른 요청 또는 야간 배치) API 를 호출하지 않음
+    Optional<WeatherLocation> storedLocation = weatherLocationRepository.findByXAndY(x, y);
+    if (storedLocation.isPresent()) {
+      Optional<Instant> latestForecastedAt = weatherForecastRepository
+          .findLatestForecastedAtSince(storedLocation.get(), forecastedAt);
+      if (latestForecastedAt.isPresent()) {
+        log.debug("저장된 예보 사용 - x={}, y={}, forecastedAt={}", x, y, latestForecastedAt.get());
+        List<WeatherForecast> stored = weatherForecastRepository
+            .findAllFetchByLocationAndForecastedAt(storedLocation.get(), latestForecastedAt.get());
+        return toUpcomingDtos(filterFirstForecastTime(stored));
+      }
+    }
+
     log.info("기상청 API 호출 파라미터 - baseDate={}, baseTime={}, x={}, y={}",
         baseDate, baseTime, x, y);
 
-    // 3. 기상청 OpenAPI 호출
+    // 4. 기상청 OpenAPI 호출
     List<VilageFcstResponse.FcstItem> items =
         weatherClient.getForecast(baseDate, baseTime, x, y)
             .getResponse()
@@ -86,11 +128,11 @@ public class WeatherForecastServiceImpl implements WeatherForecastService {
       return Collections.emptyList();
     }
 
-    // 4. TMX/TMN 맵 추출
+    // 5. TMX/TMN 맵 추출
     Map<String, Double> tmxMap = extractValueByDate(items, "TMX");
     Map<String, Double> tmnMap = extractValueByDate(items, "TMN");
 
-    // 5. 선택된 fcstTime 필터링
+    // 6. 선택된 fcstTime 필터링
     String selectedFcstTime = items.get(0).getFcstTime();
     log.debug("선택된 fcstTime: {}", selectedFcstTime);
 
@@ -104,17 +146,14 @@ public class WeatherForecastServiceImpl implements WeatherForecastService {
         filteredItems.stream().map(FcstItem::getFcstTime).distinct().toList()
     );
 
-    // 6. Kakao API로 locationNames 조회
-    List<String> locationNames = kakaoLocalClient.getRegionNames(latitude,longitude);
-
-    // 위치 엔티티 재사용 로직 추가
-    WeatherLocation location = weatherLocationRepository
-        .findByXAndY(x, y)
+    // 7. 위치 엔티티 재사용, 처음 조회하는 격자일 때만 Kakao API로 locationNames 조회
+    WeatherLocation location = storedLocation
         .orElseGet(() -> weatherLocationRepository.save(
-            new WeatherLocation(x, y, latitude, longitude, locationNames)
+            new WeatherLocation(x, y, latitude, longitude,
+                kakaoLocalClient.getRegionNames(latitude, longitude))
         ));
 
-    // 7. Factory로 엔티티 변환
+    // 8. Factory로 엔티티 변환
     List<WeatherForecast> forecasts = weatherForecastFactory.createForecasts(
         filteredItems,
         location, // location 객체 전달
@@ -122,34 +161,53 @@ public class WeatherForecastServiceImpl implements WeatherForecastService {
         tmnMap
     );
 
-    // 8. 중복 방지 + DB 엔티티 병합
-    List<WeatherForecast> merged = new ArrayList<>();
+    // 9. 중복 방지 + DB 엔티티 병합 (이미 저장된 예보는 한 번에 조회해 예보 시각으로 매칭)
+    Map<Instant, WeatherForecast> existing = weatherForecastRepository
+        .findAllFetchByLocationAndForecastedAt(location, forecastedAt).stream()
+        .collect(Collectors.toMap(WeatherForecast::getForecastAt, f -> f, (f1, f2) -> f1));
 
+    List<WeatherForecast> merged = new ArrayList<>();
+    List<WeatherForecast> newForecasts = new ArrayList<>();
     for (WeatherForecast f : forecasts) {
-      weatherForecastRepository.findByLocationAndForecastAtAndForecastedAt(
-          f.getLocation(), f.getForecastAt(), f.getForecastedAt()
-      ).ifPresentOrElse(
-          existing -> merged.add(existing), // 이미 DB에 있으면 기존 엔티티 사용
-          () -> merged.add(weatherForecastRepository.save(f)) // 없으면 저장 후 추가
-      );
+      WeatherForecast stored = existing.get(f.getForecastAt());
+      if (stored != null) {
+        merged.add(stored); // 이미 DB에 있으면 기존 엔티티 사용
+      } else {
+        newForecasts.add(f);
+      }
     }
+    merged.addAll(weatherForecastRepository.saveAll(newForecasts)); // 없으면 저장 후 추가
 
-    // 9. 오늘 이후 데이터만 필터링
-    String today = LocalDate.now(ZoneId.of("Asia/Seoul"))
-        .format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    return toUpcomingDtos(merged);
+  }
+
+  // API 경로와 같은 기준: 발표 이후 첫 예보 시각과 같은 시각의 예보만 사용
+  private List<WeatherForecast> filterFirstForecastTime(List<WeatherForecast> forecasts) {
+    if (forecasts.isEmpty()) {
+      return forecasts;
+    }
+    LocalTime firstTime = forecasts.stream()
+        .min(Comparator.comparing(WeatherForecast::getForecastAt))
+        .map(f -> f.getForecastAt().atZone(ZONE).toLocalTime())
+        .orElseThrow();
+    return forecasts.stream()
+        .filter(f -> f.getForecastAt().atZone(ZONE).toLocalTime().equals(firstTime))
+        .toList();
+  }
+
+  // 10. 오늘 이후 데이터만 필터링
+  private List<WeatherDto> toUpcomingDtos(List<WeatherForecast> forecasts) {
+    String today = LocalDate.now(ZONE).format(DATE_FORMAT);
 
-    List<WeatherForecast> filtered = merged.stream()
+    return forecasts.stream()
         .filter(f -> {
           String fcstDate = f.getForecastAt()
-              .atZone(ZoneId.of("Asia/Seoul"))
+              .atZone(ZONE)
               .toLocalDate()
-              .format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+              .format(DATE_FORMAT);
           return fcstDate.compareTo(today) >= 0; // 오늘 이후만
         })
         .sorted(Comparator.comparing(WeatherForecast::getForecastAt))
-        .toList();
-
-    return filtered.stream()
         .map(weatherMapper::toDto)
         .toList();
   }
@@ -250,6 +250,14 @@ CREATE TABLE feeds
         REFERENCES weather_forecasts (id) ON DELETE SET NULL
 );
 
+-- feeds 커서 페이지네이션 인덱스 (정렬 컬럼 + id tie-breaker와 일치)
+CREATE INDEX IF NOT EXISTS idx_feeds_created_at_id ON feeds (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_feeds_like_count_created_at_id ON feeds (like_count DESC, created_at DESC, id DESC);
+-- 작성자 필터 + 최신순
+CREATE INDEX IF NOT EXISTS idx_feeds_user_created_at_id ON feeds (user_id, created_at DESC, id DESC);
+-- 날씨(하늘 상태/강수) 필터는 weather_forecasts 조인으로 처리
+CREATE INDEX IF NOT EXISTS idx_feeds_forecast_id ON feeds (forecast_id);
+
 -- feed_clothes 테이블
 CREATE TABLE feed_clothes
 (
@@ -289,6 +297,15 @@ CREATE TABLE feed_likes
         REFERENCES feeds (id) ON DELETE CASCADE
 );
 
+-- 좋아요 수 flush 묶음 기록 (같은 묶음이 두 번 반영되지 않도록 UPDATE 와 같은 트랜잭션에서 기록)
+CREATE TABLE feed_like_flush_batches
+(
+    batch_id   UUID PRIMARY KEY,
+    flushed_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+CREATE INDEX IF NOT EXISTS idx_feed_like_flush_batches_flushed_at
+    ON feed_like_flush_batches (flushed_at);
+
 -- follows 테이블
 CREATE TABLE follows
 (
@@ -326,10 +343,20 @@ CREATE TABLE notifications
     content     VARCHAR(255) NOT NULL,
     level       VARCHAR(20)  NOT NULL,
     created_at  TIMESTAMPTZ  NOT NULL DEFAULT NOW(),
+    followee_id UUID,
     CONSTRAINT fk_receiver FOREIGN KEY (receiver_id)
+        REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT fk_followee FOREIGN KEY (followee_id)
         REFERENCES users (id) ON DELETE CASCADE
 );
 
+-- 수신자별 알림 목록 커서 조회 (정렬 컬럼 + id tie-breaker와 일치)
+CREATE INDEX IF NOT EXISTS idx_notifications_receiver_created_at_id
+    ON notifications (receiver_id, created_at DESC, id DESC);
+-- 팔로워가 많은 작성자의 새 피드 알림 (receiver_id 없이 한 건만 저장, 조회 시 팔로우 관계로 병합)
+CREATE INDEX IF NOT EXISTS idx_notifications_followee_created_at
+    ON notifications (followee_id, created_at DESC) WHERE followee_id IS NOT NULL;
+
 -- notification_read_status 테이블
 CREATE TABLE notification_read_status (
     id              UUID PRIMARY KEY,
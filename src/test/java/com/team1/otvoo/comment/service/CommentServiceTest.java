@@ -11,6 +11,7 @@ import com.team1.otvoo.exception.RestException;
 import com.team1.otvoo.feed.entity.Feed;
 import com.team1.otvoo.feed.repository.FeedRepository;
 import com.team1.otvoo.follow.event.FollowEvent;
+import com.team1.otvoo.storage.S3ImageStorage;
 import com.team1.otvoo.user.dto.AuthorDto;
 import com.team1.otvoo.user.entity.User;
 import com.team1.otvoo.user.repository.UserRepository;
@@ -47,6 +48,8 @@ public class CommentServiceTest {
   CommentMapper commentMapper;
   @Mock
   private ApplicationEventPublisher eventPublisher;
+  @Mock
+  S3ImageStorage s3ImageStorage;
   @InjectMocks
   CommentServiceImpl commentService;
 
@@ -133,22 +136,42 @@ public class CommentServiceTest {
   void comment_find_with_cursor_success() {
     // given
     UUID feedId = UUID.randomUUID();
+    UUID authorId = UUID.randomUUID();
     CommentDto commentDto = new CommentDto(
         UUID.randomUUID(),
         Instant.now(),
         feedId,
-        new AuthorDto(UUID.randomUUID(), "test", "test.url"),
+        new AuthorDto(authorId, "test", "test.key"),
         "testComment");
+    CommentDto sameAuthorCommentDto = new CommentDto(
+        UUID.randomUUID(),
+        Instant.now(),
+        feedId,
+        new AuthorDto(authorId, "test", "test.key"),
+        "testComment2");
+    CommentDto noImageCommentDto = new CommentDto(
+        UUID.randomUUID(),
+        Instant.now(),
+        feedId,
+        new AuthorDto(UUID.randomUUID(), "noImage", null),
+        "testComment3");
     CommentCursor commentCursor = mock(CommentCursor.class);
 
-    Slice<CommentDto> commentDtoSlice = new SliceImpl<>(List.of(commentDto));
+    Slice<CommentDto> commentDtoSlice = new SliceImpl<>(
+        List.of(commentDto, sameAuthorCommentDto, noImageCommentDto));
     given(commentRepository.findCommentsWithCursor(any(), any())).willReturn(commentDtoSlice);
+    given(s3ImageStorage.getPresignedUrl("test.key")).willReturn("presigned.url");
 
     // when
     Slice<CommentDto> results = commentService.getCommentsWithCursor(commentCursor, feedId);
 
     // then
-    assertThat(results.getContent().size()).isEqualTo(1);
+    assertThat(results.getContent().size()).isEqualTo(3);
     assertThat(results.getContent().get(0).content()).isEqualTo("testComment");
+    assertThat(results.getContent().get(0).author().getProfileImageUrl()).isEqualTo("presigned.url");
+    assertThat(results.getContent().get(1).author().getProfileImageUrl()).isEqualTo("presigned.url");
+    assertThat(results.getContent().get(2).author().getProfileImageUrl()).isNull();
+    // 같은 objectKey는 한 번만 presign
+    then(s3ImageStorage).should(times(1)).getPresignedUrl("test.key");
   }
 }
\ No newline at end of file
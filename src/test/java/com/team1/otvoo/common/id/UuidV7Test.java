@@ -0,0 +1,63 @@
+package com.team1.otvoo.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UuidV7Test {
+
+  @Test
+  @DisplayName("version 7, RFC 4122 variant UUID를 생성한다")
+  void randomUUID_hasVersion7AndVariant() {
+    // when
+    UUID uuid = UuidV7.randomUUID();
+
+    // then
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("상위 48비트에 생성 시각(epoch millis)을 담는다")
+  void randomUUID_embedsTimestamp() {
+    // given
+    long before = System.currentTimeMillis();
+
+    // when
+    UUID uuid = UuidV7.randomUUID();
+
+    // then
+    assertThat(UuidV7.timestampOf(uuid)).isGreaterThanOrEqualTo(before);
+  }
+
+  @Test
+  @DisplayName("연속 생성된 UUID는 생성 순서대로 정렬되고 중복되지 않는다")
+  void randomUUID_isMonotonicAndUnique() {
+    // given
+    List<UUID> uuids = new ArrayList<>();
+
+    // when
+    for (int i = 0; i < 10_000; i++) {
+      uuids.add(UuidV7.randomUUID());
+    }
+
+    // then
+    List<UUID> sorted = new ArrayList<>(uuids);
+    sorted.sort(UUID::compareTo);
+    assertThat(sorted).containsExactlyElementsOf(uuids);
+    assertThat(new HashSet<>(uuids)).hasSize(uuids.size());
+  }
+
+  @Test
+  @DisplayName("UUIDv7이 아닌 값의 시각 조회는 예외를 던진다")
+  void timestampOf_throws_whenNotVersion7() {
+    assertThatThrownBy(() -> UuidV7.timestampOf(UUID.randomUUID()))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -8,7 +8,7 @@ import com.team1.otvoo.directmessage.event.DirectMessageEvent;
 import com.team1.otvoo.directmessage.repository.DirectMessageRepository;
 import com.team1.otvoo.directmessage.repository.DirectMessageRepositoryCustom;
 import com.team1.otvoo.exception.RestException;
-import com.team1.otvoo.storage.S3ImageStorageAdapter;
+import com.team1.otvoo.storage.S3ImageStorage;
 import com.team1.otvoo.user.dto.UserSummary;
 import com.team1.otvoo.user.entity.User;
 import com.team1.otvoo.user.repository.UserRepository;
@@ -49,7 +49,7 @@ class DirectMessageServiceImplTest {
   private ApplicationEventPublisher eventPublisher;
 
   @Mock
-  private S3ImageStorageAdapter s3ImageStorageAdapter;
+  private S3ImageStorage s3ImageStorage;
 
   @InjectMocks
   private DirectMessageServiceImpl directMessageService;
@@ -177,8 +177,8 @@ class DirectMessageServiceImplTest {
         .thenReturn(rawList);
     when(directMessageRepositoryCustom.countDirectMessagesBetweenUsers(senderId, receiverId)).thenReturn(1L);
 
-    when(s3ImageStorageAdapter.getPresignedUrl("senderKey")).thenReturn("presignedSenderUrl");
-    when(s3ImageStorageAdapter.getPresignedUrl("receiverKey")).thenReturn("presignedReceiverUrl");
+    when(s3ImageStorage.getPresignedUrl("senderKey")).thenReturn("presignedSenderUrl");
+    when(s3ImageStorage.getPresignedUrl("receiverKey")).thenReturn("presignedReceiverUrl");
 
     // when
     DirectMessageDtoCursorResponse response = directMessageService.getDirectMessagesBetweenUsers(senderId, receiverId, cursorStr, idAfterStr, limit);
@@ -0,0 +1,218 @@
+package com.team1.otvoo.feed.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team1.otvoo.config.props.FeedPageCacheProperties;
+import com.team1.otvoo.feed.dto.FeedDto;
+import com.team1.otvoo.feed.dto.FeedSearchCondition;
+import com.team1.otvoo.feed.repository.FeedLikeRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FeedPageCacheTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+  @Mock
+  private HashOperations<String, Object, Object> hashOperations;
+  @Mock
+  private FeedLikeRepository feedLikeRepository;
+
+  private FeedPageCache feedPageCache;
+
+  private final UUID userId = UUID.randomUUID();
+  private final UUID feedId = UUID.randomUUID();
+  private final FeedSearchCondition condition = FeedSearchCondition.builder()
+      .limit(10)
+      .sortBy("createdAt")
+      .sortDirection("DESCENDING")
+      .build();
+
+  @BeforeEach
+  void setUp() {
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.registerModule(new JavaTimeModule());
+
+    feedPageCache = new FeedPageCache(stringRedisTemplate, objectMapper, feedLikeRepository,
+        new FeedPageCacheProperties());
+
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    given(stringRedisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+    given(valueOperations.multiGet(anyList())).willReturn(new ArrayList<>(List.of("7")));
+    given(hashOperations.multiGet(eq("feed:liked-by-me:" + userId), anyList()))
+        .willReturn(new ArrayList<>(List.of("1")));
+  }
+
+  @Test
+  @DisplayName("첫 페이지 조건만 캐시 대상")
+  void isCacheable() {
+    assertThat(feedPageCache.isCacheable(condition)).isTrue();
+    assertThat(feedPageCache.isCacheable(FeedSearchCondition.builder()
+        .cursor("2025-01-01T00:00:00Z")
+        .idAfter(UUID.randomUUID())
+        .build())).isFalse();
+    assertThat(feedPageCache.isCacheable(FeedSearchCondition.builder()
+        .keywordLike("코디")
+        .build())).isFalse();
+  }
+
+  @Test
+  @DisplayName("로컬 캐시에 적재된 페이지는 로더를 다시 호출하지 않음")
+  void getOrLoad_localHit() {
+    // given
+    AtomicInteger loadCount = new AtomicInteger();
+
+    // when
+    feedPageCache.getOrLoad(condition, userId, () -> {
+      loadCount.incrementAndGet();
+      return new SliceImpl<>(List.of(feedDto()));
+    });
+    feedPageCache.getOrLoad(condition, userId, () -> {
+      loadCount.incrementAndGet();
+      return new SliceImpl<>(List.of(feedDto()));
+    });
+
+    // then
+    assertThat(loadCount.get()).isEqualTo(1);
+    then(valueOperations).should().set(anyString(), anyString(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("캐시된 페이지에 사용자별 likedByMe와 최신 좋아요 수를 덮어씀")
+  void getOrLoad_overlay() {
+    // given
+    FeedDto original = feedDto();
+
+    // when
+    Slice<FeedDto> result = feedPageCache.getOrLoad(condition, userId,
+        () -> new SliceImpl<>(List.of(original)));
+
+    // then
+    FeedDto feedDto = result.getContent().get(0);
+    assertThat(feedDto.isLikedByMe()).isTrue();
+    assertThat(feedDto.getLikeCount()).isEqualTo(7L);
+    // 공유 페이지 원본은 변경되지 않아야 함
+    assertThat(original.isLikedByMe()).isFalse();
+    assertThat(original.getLikeCount()).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("로드 전에 읽은 버전 키에 기록하고, 로드 도중 무효화되면 로컬 캐시에서도 조회되지 않음")
+  void getOrLoad_invalidatedDuringLoad() {
+    // given
+    given(valueOperations.get("feed:page:version")).willReturn("1");
+    AtomicInteger loadCount = new AtomicInteger();
+
+    // when
+    feedPageCache.getOrLoad(condition, userId, () -> {
+      loadCount.incrementAndGet();
+      // 로드 도중 피드가 생성되어 버전이 올라감
+      given(valueOperations.get("feed:page:version")).willReturn("2");
+      feedPageCache.invalidateAll();
+      return new SliceImpl<>(List.of(feedDto()));
+    });
+    feedPageCache.getOrLoad(condition, userId, () -> {
+      loadCount.incrementAndGet();
+      return new SliceImpl<>(List.of(feedDto()));
+    });
+
+    // then
+    assertThat(loadCount.get()).isEqualTo(2);
+    then(valueOperations).should().set(startsWith("feed:page:v1:"), anyString(), any(Duration.class));
+    then(valueOperations).should().set(startsWith("feed:page:v2:"), anyString(), any(Duration.class));
+  }
+
+  @Test
+  @DisplayName("Redis에 없는 좋아요 여부는 페이지의 피드만 DB에서 읽어 비어 있는 필드에만 채움")
+  void getOrLoad_fillMissingLiked() {
+    // given
+    given(hashOperations.multiGet(eq("feed:liked-by-me:" + userId), anyList()))
+        .willReturn(Arrays.asList((Object) null));
+    given(feedLikeRepository.findLikedFeedIds(userId, List.of(feedId))).willReturn(List.of(feedId));
+
+    // when
+    Slice<FeedDto> result = feedPageCache.getOrLoad(condition, userId,
+        () -> new SliceImpl<>(List.of(feedDto())));
+
+    // then
+    assertThat(result.getContent().get(0).isLikedByMe()).isTrue();
+    then(stringRedisTemplate).should().execute(any(RedisScript.class),
+        eq(List.of("feed:liked-by-me:" + userId)), eq("3600"), eq(feedId.toString()), eq("1"));
+  }
+
+  @Test
+  @DisplayName("좋아요/취소는 적재 여부와 무관하게 항상 기록")
+  void markLiked_alwaysWrites() {
+    // when
+    feedPageCache.markLiked(userId, feedId);
+    feedPageCache.markUnliked(userId, feedId);
+
+    // then
+    then(stringRedisTemplate).should().execute(any(RedisScript.class),
+        eq(List.of("feed:liked-by-me:" + userId)), eq(feedId.toString()), eq("1"), eq("3600"));
+    then(stringRedisTemplate).should().execute(any(RedisScript.class),
+        eq(List.of("feed:liked-by-me:" + userId)), eq(feedId.toString()), eq("0"), eq("3600"));
+  }
+
+  @Test
+  @DisplayName("Redis 장애 시 로더 결과와 DB 기준 likedByMe로 대체")
+  void getOrLoad_redisFailure() {
+    // given
+    RedisConnectionFailureException failure = new RedisConnectionFailureException("down");
+    given(valueOperations.get(anyString())).willThrow(failure);
+    given(valueOperations.multiGet(anyList())).willThrow(failure);
+    given(hashOperations.multiGet(anyString(), anyList())).willThrow(failure);
+    given(feedLikeRepository.findLikedFeedIds(userId, List.of(feedId))).willReturn(List.of());
+
+    // when
+    Slice<FeedDto> result = feedPageCache.getOrLoad(condition, userId,
+        () -> new SliceImpl<>(List.of(feedDto())));
+
+    // then
+    FeedDto feedDto = result.getContent().get(0);
+    assertThat(feedDto.getLikeCount()).isEqualTo(3L);
+    assertThat(feedDto.isLikedByMe()).isFalse();
+    then(valueOperations).should(never()).set(anyString(), anyString(), any(Duration.class));
+  }
+
+  private FeedDto feedDto() {
+    return FeedDto.builder()
+        .id(feedId)
+        .content("test")
+        .likeCount(3L)
+        .build();
+  }
+}
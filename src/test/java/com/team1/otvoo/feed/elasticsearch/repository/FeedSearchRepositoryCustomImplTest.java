@@ -0,0 +1,119 @@
+package com.team1.otvoo.feed.elasticsearch.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.team1.otvoo.feed.dto.FeedDto;
+import com.team1.otvoo.feed.dto.FeedSearchCondition;
+import com.team1.otvoo.feed.elasticsearch.document.FeedDocument;
+import com.team1.otvoo.storage.S3ImageStorage;
+import com.team1.otvoo.user.dto.AuthorDto;
+import com.team1.otvoo.user.resolver.ProfileImageUrlResolver;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FeedSearchRepositoryCustomImplTest {
+
+  @Mock
+  private ElasticsearchOperations elasticsearchOperations;
+  @Mock
+  private S3ImageStorage s3ImageStorage;
+  @Mock
+  private ProfileImageUrlResolver profileImageUrlResolver;
+
+  @InjectMocks
+  private FeedSearchRepositoryCustomImpl feedSearchRepositoryCustom;
+
+  @Test
+  @DisplayName("limit + 1 건을 조회해 다음 페이지가 있으면 limit 건만 반환")
+  void searchFeeds_hasNext() {
+    // given
+    givenHits(3);
+    given(profileImageUrlResolver.resolveAll(anyList())).willReturn(Map.of());
+
+    // when
+    Slice<FeedDto> result = feedSearchRepositoryCustom.searchFeeds(condition(2, null));
+
+    // then
+    assertThat(result.getContent()).hasSize(2);
+    assertThat(result.hasNext()).isTrue();
+
+    ArgumentCaptor<NativeQuery> captor = ArgumentCaptor.forClass(NativeQuery.class);
+    then(elasticsearchOperations).should().search(captor.capture(), eq(FeedDocument.class));
+    NativeQuery query = captor.getValue();
+    assertThat(query.getPageable().getPageSize()).isEqualTo(3);
+    assertThat(query.getTrackTotalHits()).isFalse();
+    assertThat(query.getSourceFilter().getIncludes()).contains("feedId", "ootds");
+    assertThat(query.getRequestCache()).isTrue();
+  }
+
+  @Test
+  @DisplayName("조회 결과가 정확히 limit 건이면 다음 페이지 없음")
+  void searchFeeds_exactBoundary() {
+    // given
+    givenHits(2);
+    given(profileImageUrlResolver.resolveAll(anyList())).willReturn(Map.of());
+
+    // when
+    Slice<FeedDto> result = feedSearchRepositoryCustom.searchFeeds(condition(2, "keyword"));
+
+    // then
+    assertThat(result.getContent()).hasSize(2);
+    assertThat(result.hasNext()).isFalse();
+
+    ArgumentCaptor<NativeQuery> captor = ArgumentCaptor.forClass(NativeQuery.class);
+    then(elasticsearchOperations).should().search(captor.capture(), eq(FeedDocument.class));
+    assertThat(captor.getValue().getRequestCache()).isFalse();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenHits(int count) {
+    List<SearchHit<FeedDocument>> hitList = IntStream.range(0, count)
+        .mapToObj(i -> {
+          SearchHit<FeedDocument> hit = mock(SearchHit.class);
+          given(hit.getContent()).willReturn(FeedDocument.builder()
+              .feedId(UUID.randomUUID().toString())
+              .author(new AuthorDto(UUID.randomUUID(), "author", null))
+              .ootds(List.of())
+              .build());
+          return hit;
+        })
+        .toList();
+    SearchHits<FeedDocument> hits = mock(SearchHits.class);
+    given(hits.getSearchHits()).willReturn(hitList);
+    given(elasticsearchOperations.search(any(NativeQuery.class), eq(FeedDocument.class)))
+        .willReturn(hits);
+  }
+
+  private FeedSearchCondition condition(int limit, String keyword) {
+    return FeedSearchCondition.builder()
+        .limit(limit)
+        .sortBy("createdAt")
+        .sortDirection("DESCENDING")
+        .keywordLike(keyword)
+        .build();
+  }
+}
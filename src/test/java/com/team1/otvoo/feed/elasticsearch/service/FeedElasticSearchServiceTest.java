@@ -2,25 +2,27 @@ package com.team1.otvoo.feed.elasticsearch.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.times;
 
+import com.team1.otvoo.feed.cache.FeedPageCache;
 import com.team1.otvoo.feed.dto.FeedDto;
 import com.team1.otvoo.feed.dto.FeedSearchCondition;
 import com.team1.otvoo.feed.elasticsearch.repository.FeedSearchRepository;
 import com.team1.otvoo.feed.entity.Feed;
 import com.team1.otvoo.feed.repository.FeedLikeRepository;
 import com.team1.otvoo.feed.repository.FeedRepository;
+import com.team1.otvoo.feed.service.FeedLikeCountBuffer;
 import com.team1.otvoo.security.CustomUserDetails;
 import com.team1.otvoo.user.dto.AuthorDto;
-import com.team1.otvoo.user.entity.Profile;
 import com.team1.otvoo.user.entity.User;
-import com.team1.otvoo.user.repository.ProfileRepository;
-import com.team1.otvoo.user.resolver.ProfileImageUrlResolver;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -43,9 +45,9 @@ class FeedElasticSearchServiceTest {
   @Mock
   private FeedLikeRepository feedLikeRepository;
   @Mock
-  private ProfileImageUrlResolver profileImageUrlResolver;
+  private FeedPageCache feedPageCache;
   @Mock
-  private ProfileRepository profileRepository;
+  private FeedLikeCountBuffer feedLikeCountBuffer;
 
   @InjectMocks
   private FeedElasticSearchService feedElasticSearchService;
@@ -71,11 +73,10 @@ class FeedElasticSearchServiceTest {
     // given
     UUID feedId = UUID.randomUUID();
     UUID authorUserId = UUID.randomUUID();
-    UUID profileId = UUID.randomUUID();
 
     FeedDto dto = FeedDto.builder()
         .id(feedId)
-        .author(new AuthorDto(authorUserId, "author", null))
+        .author(new AuthorDto(authorUserId, "author", "http://image-url"))
         .build();
 
     Slice<FeedDto> slice = new SliceImpl<>(List.of(dto));
@@ -87,15 +88,8 @@ class FeedElasticSearchServiceTest {
     ReflectionTestUtils.setField(feed, "id", feedId);
     ReflectionTestUtils.setField(feed, "commentCount", 5L);
 
-    Profile profile = new Profile("profile", user);
-    ReflectionTestUtils.setField(profile, "id", profileId);
-    given(profileRepository.findByUserId(authorUserId)).willReturn(Optional.of(profile));
-
     given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
     given(feedLikeRepository.existsFeedLikeByFeed_IdAndLikedBy_Id(feedId, userId)).willReturn(true);
-    given(profileRepository.findByUserId(authorUserId))
-        .willReturn(Optional.of(profile));
-    given(profileImageUrlResolver.resolve(profileId)).willReturn("http://image-url");
 
     // when
     Slice<FeedDto> result = feedElasticSearchService.getFeedsWithCursor(FeedSearchCondition.builder()
@@ -105,12 +99,37 @@ class FeedElasticSearchServiceTest {
     FeedDto feedDto = result.getContent().get(0);
     assertThat(feedDto.getCommentCount()).isEqualTo(5L);
     assertThat(feedDto.isLikedByMe()).isTrue();
-    assertThat(feedDto.getAuthor().getProfileImageUrl()).isEqualTo("http://image-url");
 
     then(feedRepository).should(times(1)).findById(feedId);
     then(feedLikeRepository).should(times(1))
         .existsFeedLikeByFeed_IdAndLikedBy_Id(feedId, userId);
-    then(profileRepository).should(times(1)).findByUserId(authorUserId);
-    then(profileImageUrlResolver).should(times(1)).resolve(profileId);
+  }
+
+  @Test
+  @DisplayName("캐시 대상 조건이면 피드 페이지 캐시를 통해 조회하고 likedByMe를 개별 조회하지 않음")
+  void getFeedsWithCursor_cacheable() {
+    // given
+    FeedSearchCondition condition = FeedSearchCondition.builder()
+        .limit(10)
+        .sortBy("createdAt")
+        .sortDirection("DESCENDING")
+        .build();
+    FeedDto cached = FeedDto.builder()
+        .id(UUID.randomUUID())
+        .likedByMe(true)
+        .build();
+    Slice<FeedDto> cachedSlice = new SliceImpl<>(List.of(cached));
+
+    given(feedPageCache.isCacheable(condition)).willReturn(true);
+    given(feedPageCache.getOrLoad(eq(condition), eq(userId), any(Supplier.class)))
+        .willReturn(cachedSlice);
+
+    // when
+    Slice<FeedDto> result = feedElasticSearchService.getFeedsWithCursor(condition);
+
+    // then
+    assertThat(result).isSameAs(cachedSlice);
+    then(feedSearchRepository).should(never()).searchFeeds(any(FeedSearchCondition.class));
+    then(feedLikeRepository).shouldHaveNoInteractions();
   }
 }
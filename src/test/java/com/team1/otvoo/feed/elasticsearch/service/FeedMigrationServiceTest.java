@@ -0,0 +1,90 @@
+package com.team1.otvoo.feed.elasticsearch.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import com.team1.otvoo.clothes.mapper.ClothesMapper;
+import com.team1.otvoo.clothes.repository.ClothesImageRepository;
+import com.team1.otvoo.config.props.FeedIndexingProperties;
+import com.team1.otvoo.feed.elasticsearch.index.FeedIndexManager;
+import com.team1.otvoo.feed.repository.FeedClothesRepository;
+import com.team1.otvoo.feed.repository.FeedRepository;
+import com.team1.otvoo.user.repository.UserRepository;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FeedMigrationServiceTest {
+
+  @Mock
+  private FeedRepository feedRepository;
+  @Mock
+  private FeedClothesRepository feedClothesRepository;
+  @Mock
+  private UserRepository userRepository;
+  @Mock
+  private ClothesImageRepository clothesImageRepository;
+  @Mock
+  private ClothesMapper clothesMapper;
+  @Mock
+  private ElasticsearchOperations elasticsearchOperations;
+  @Mock
+  private FeedIndexManager feedIndexManager;
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+  @Mock
+  private HashOperations<String, Object, Object> hashOperations;
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private FeedMigrationService feedMigrationService;
+
+  private static final String TARGET_INDEX = "feed_index_v1";
+
+  @BeforeEach
+  void setUp() {
+    feedMigrationService = new FeedMigrationService(feedRepository, feedClothesRepository,
+        userRepository, clothesImageRepository, clothesMapper, elasticsearchOperations,
+        feedIndexManager, stringRedisTemplate, new FeedIndexingProperties(), transactionManager);
+
+    given(stringRedisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+    given(hashOperations.entries("feed:reindex:checkpoint")).willReturn(Map.of());
+    given(feedIndexManager.createVersionedIndex()).willReturn(TARGET_INDEX);
+  }
+
+  @Test
+  @DisplayName("재색인 도중 예외가 발생하면 재색인 상태와 checkpoint 를 정리하고 예외를 다시 던짐")
+  void migrate_failure_abortsRebuild() {
+    // given
+    QueryTimeoutException failure = new QueryTimeoutException("timeout");
+    given(feedRepository.findIdsAfter(any(), any())).willThrow(failure);
+
+    // when & then
+    assertThatThrownBy(() -> feedMigrationService.migrateAllFeedsToElasticsearch())
+        .isSameAs(failure);
+
+    InOrder inOrder = inOrder(feedIndexManager, stringRedisTemplate);
+    inOrder.verify(feedIndexManager).beginRebuild(TARGET_INDEX);
+    inOrder.verify(feedIndexManager).abortRebuild(TARGET_INDEX);
+    inOrder.verify(stringRedisTemplate).delete("feed:reindex:checkpoint");
+    then(feedIndexManager).should(never()).completeRebuild(any());
+  }
+}
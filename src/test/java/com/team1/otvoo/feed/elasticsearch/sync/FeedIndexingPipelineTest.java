@@ -0,0 +1,273 @@
+package com.team1.otvoo.feed.elasticsearch.sync;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team1.otvoo.config.props.FeedIndexingProperties;
+import com.team1.otvoo.feed.elasticsearch.document.FeedDocument;
+import com.team1.otvoo.feed.elasticsearch.index.FeedIndexManager;
+import com.team1.otvoo.notification.entity.AsyncTaskFailure;
+import com.team1.otvoo.notification.repository.AsyncTaskFailureRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FeedIndexingPipelineTest {
+
+  @Mock
+  private ElasticsearchClient elasticsearchClient;
+  @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+  private ElasticsearchOperations elasticsearchOperations;
+  @Mock
+  private AsyncTaskFailureRepository asyncTaskFailureRepository;
+  @Mock
+  private FeedIndexManager feedIndexManager;
+
+  private MeterRegistry meterRegistry;
+  private FeedIndexingPipeline pipeline;
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final String feedId = UUID.randomUUID().toString();
+
+  @BeforeEach
+  void setUp() {
+    FeedIndexingProperties properties = new FeedIndexingProperties();
+    properties.setQueueCapacity(1);
+    properties.setEnqueueTimeoutMs(0);
+    properties.setMaxAttempts(3);
+    properties.setRetryBackoffMs(0);
+
+    meterRegistry = new SimpleMeterRegistry();
+    // 워커 스레드는 시작하지 않고 processBatch 를 직접 호출해 검증
+    pipeline = new FeedIndexingPipeline(elasticsearchClient, elasticsearchOperations,
+        asyncTaskFailureRepository, feedIndexManager, properties, objectMapper, meterRegistry);
+
+    given(feedIndexManager.writeIndices()).willReturn(List.of("feed_index"));
+    given(elasticsearchOperations.getElasticsearchConverter().mapObject(any()))
+        .willReturn(Document.from(Map.of("feedId", feedId, "content", "content")));
+  }
+
+  @Test
+  @DisplayName("배치의 작업을 하나의 _bulk 요청으로 전송")
+  void processBatch_success() throws Exception {
+    // given
+    given(elasticsearchClient.bulk(any(BulkRequest.class)))
+        .willReturn(bulkResponse(item(201, null), item(200, null)));
+
+    // when
+    pipeline.processBatch(List.of(
+        FeedIndexOperation.upsert(document(feedId)),
+        FeedIndexOperation.partialUpdate(UUID.randomUUID().toString(), Map.of("likeCount", 3L))));
+
+    // then
+    then(elasticsearchClient).should(times(1)).bulk(any(BulkRequest.class));
+    then(asyncTaskFailureRepository).shouldHaveNoInteractions();
+    assertThat(meterRegistry.get("feed.indexing.operations").tag("result", "success").counter()
+        .count()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("같은 문서에 대한 저장 후 삭제는 삭제 한 건으로 합쳐서 전송")
+  void processBatch_coalesce() throws Exception {
+    // given
+    given(elasticsearchClient.bulk(any(BulkRequest.class)))
+        .willReturn(bulkResponse(item(200, null)));
+
+    // when
+    pipeline.processBatch(List.of(
+        FeedIndexOperation.upsert(document(feedId)),
+        FeedIndexOperation.delete(feedId)));
+
+    // then
+    ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+    then(elasticsearchClient).should().bulk(captor.capture());
+    assertThat(captor.getValue().operations()).hasSize(1);
+    assertThat(captor.getValue().operations().get(0).isDelete()).isTrue();
+  }
+
+  @Test
+  @DisplayName("재시도 불가능한 오류는 즉시 dead-letter 처리")
+  void processBatch_nonRetryableFailure() throws Exception {
+    // given
+    given(elasticsearchClient.bulk(any(BulkRequest.class)))
+        .willReturn(bulkResponse(item(400, "mapper_parsing_exception")));
+
+    // when
+    pipeline.processBatch(List.of(FeedIndexOperation.upsert(document(feedId))));
+
+    // then
+    then(elasticsearchClient).should(times(1)).bulk(any(BulkRequest.class));
+    then(asyncTaskFailureRepository).should().saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("dead-letter payload에 작업을 다시 만들 수 있도록 전체 문서와 부분 갱신 필드를 담음")
+  @SuppressWarnings("unchecked")
+  void processBatch_deadLetterPayload() throws Exception {
+    // given
+    String otherFeedId = UUID.randomUUID().toString();
+    given(elasticsearchClient.bulk(any(BulkRequest.class)))
+        .willReturn(bulkResponse(item(400, "mapper_parsing_exception"),
+            item(400, "mapper_parsing_exception")));
+
+    // when
+    pipeline.processBatch(List.of(
+        FeedIndexOperation.upsert(document(feedId)),
+        FeedIndexOperation.partialUpdate(otherFeedId, Map.of("likeCount", 3))));
+
+    // then
+    ArgumentCaptor<List<AsyncTaskFailure>> captor = ArgumentCaptor.forClass(List.class);
+    then(asyncTaskFailureRepository).should().saveAll(captor.capture());
+    List<AsyncTaskFailure> failures = captor.getValue();
+
+    JsonNode upsert = objectMapper.readTree(failures.get(0).getPayload());
+    assertThat(upsert.get("type").asText()).isEqualTo("UPSERT");
+    assertThat(upsert.get("index").asText()).isEqualTo("feed_index");
+    assertThat(upsert.get("document").get("content").asText()).isEqualTo("content");
+
+    JsonNode partialUpdate = objectMapper.readTree(failures.get(1).getPayload());
+    assertThat(partialUpdate.get("type").asText()).isEqualTo("PARTIAL_UPDATE");
+    assertThat(partialUpdate.get("feedId").asText()).isEqualTo(otherFeedId);
+    assertThat(partialUpdate.get("partialDocument").get("likeCount").asInt()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("일시적 오류는 최대 횟수까지 재시도 후 dead-letter 처리")
+  void processBatch_retryThenDeadLetter() throws Exception {
+    // given
+    given(elasticsearchClient.bulk(any(BulkRequest.class)))
+        .willReturn(bulkResponse(item(429, "es_rejected_execution_exception")));
+
+    // when
+    pipeline.processBatch(List.of(FeedIndexOperation.upsert(document(feedId))));
+
+    // then
+    then(elasticsearchClient).should(times(3)).bulk(any(BulkRequest.class));
+    then(asyncTaskFailureRepository).should(times(1)).saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("일시적 오류 후 재시도에 성공하면 dead-letter 처리하지 않음")
+  void processBatch_retrySuccess() throws Exception {
+    // given
+    given(elasticsearchClient.bulk(any(BulkRequest.class)))
+        .willReturn(bulkResponse(item(503, "unavailable")))
+        .willReturn(bulkResponse(item(201, null)));
+
+    // when
+    pipeline.processBatch(List.of(FeedIndexOperation.upsert(document(feedId))));
+
+    // then
+    then(elasticsearchClient).should(times(2)).bulk(any(BulkRequest.class));
+    then(asyncTaskFailureRepository).should(never()).saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("조회 인덱스에 없는 문서의 부분 갱신/삭제는 건수만 세고 dead-letter 처리하지 않음")
+  void processBatch_primaryNotFound() throws Exception {
+    // given
+    given(elasticsearchClient.bulk(any(BulkRequest.class)))
+        .willReturn(bulkResponse(item(404, "document_missing_exception"), item(404, null)));
+
+    // when
+    pipeline.processBatch(List.of(
+        FeedIndexOperation.partialUpdate(feedId, Map.of("likeCount", 3L)),
+        FeedIndexOperation.delete(UUID.randomUUID().toString())));
+
+    // then
+    then(elasticsearchClient).should(times(1)).bulk(any(BulkRequest.class));
+    then(asyncTaskFailureRepository).shouldHaveNoInteractions();
+    assertThat(meterRegistry.get("feed.indexing.operations").tag("result", "not_found").counter()
+        .count()).isEqualTo(2);
+    assertThat(meterRegistry.get("feed.indexing.operations").tag("result", "dead_letter")
+        .counter().count()).isZero();
+  }
+
+  @Test
+  @DisplayName("재색인 중에는 기존/새 인덱스 양쪽에 보내고, 새 인덱스에 없는 문서의 부분 갱신 실패는 무시")
+  void processBatch_dualWrite() throws Exception {
+    // given
+    given(feedIndexManager.writeIndices()).willReturn(List.of("feed_index", "feed_index_v2"));
+    given(elasticsearchClient.bulk(any(BulkRequest.class)))
+        .willReturn(bulkResponse(item(200, null), item(404, "document_missing_exception")));
+
+    // when
+    pipeline.processBatch(List.of(
+        FeedIndexOperation.partialUpdate(feedId, Map.of("likeCount", 3L))));
+
+    // then
+    ArgumentCaptor<BulkRequest> captor = ArgumentCaptor.forClass(BulkRequest.class);
+    then(elasticsearchClient).should(times(1)).bulk(captor.capture());
+    assertThat(captor.getValue().operations()).extracting(op -> op.update().index())
+        .containsExactly("feed_index", "feed_index_v2");
+    then(feedIndexManager).should().markDirty(List.of(feedId));
+    then(asyncTaskFailureRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 dead-letter 처리")
+  void enqueue_queueFull() {
+    // when
+    pipeline.enqueue(FeedIndexOperation.delete(feedId));
+    pipeline.enqueue(FeedIndexOperation.delete(UUID.randomUUID().toString()));
+
+    // then
+    assertThat(pipeline.queueSize()).isEqualTo(1);
+    then(asyncTaskFailureRepository).should(times(1)).saveAll(anyList());
+    assertThat(meterRegistry.get("feed.indexing.queue.size").gauge().value()).isEqualTo(1);
+  }
+
+  private FeedDocument document(String id) {
+    return FeedDocument.builder()
+        .feedId(id)
+        .content("content")
+        .build();
+  }
+
+  private BulkResponseItem item(int status, String errorReason) {
+    return BulkResponseItem.of(i -> {
+      i.operationType(OperationType.Index)
+          .index("feed_index")
+          .id(feedId)
+          .status(status);
+      if (errorReason != null) {
+        i.error(e -> e.type(errorReason).reason(errorReason));
+      }
+      return i;
+    });
+  }
+
+  private BulkResponse bulkResponse(BulkResponseItem... items) {
+    return BulkResponse.of(b -> b
+        .errors(false)
+        .took(1)
+        .items(List.of(items)));
+  }
+}
@@ -1,8 +1,12 @@
 package com.team1.otvoo.feed.event;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.BDDMockito.*;
 
+import com.team1.otvoo.feed.elasticsearch.sync.FeedIndexOperation;
+import com.team1.otvoo.feed.elasticsearch.sync.FeedIndexOperation.Type;
+import com.team1.otvoo.feed.elasticsearch.sync.FeedIndexingPipeline;
 import com.team1.otvoo.feed.entity.Feed;
 import com.team1.otvoo.feed.entity.FeedLike;
 import com.team1.otvoo.notification.service.SendNotificationService;
@@ -14,6 +18,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,6 +33,9 @@ class FeedEventHandlerTest {
   @Mock
   private SendNotificationService sendNotificationService;
 
+  @Mock
+  private FeedIndexingPipeline feedIndexingPipeline;
+
   @Mock
   private User mockUser;
 
@@ -110,4 +118,25 @@ class FeedEventHandlerTest {
       then(sendNotificationService).should().sendLikeNotification(feedLike);
     }
   }
-}
\ No newline at end of file
+
+  @Nested
+  @DisplayName("피드 삭제 이벤트 처리 테스트")
+  class HandleFeedDeletedEventTests {
+
+    @Test
+    @DisplayName("성공_피드 삭제 이벤트 발생 시 색인 파이프라인에 삭제 작업 등록")
+    void handleFeedDeletedEvent_ShouldEnqueueDelete() {
+      // given
+      UUID feedId = UUID.randomUUID();
+
+      // when
+      feedEventHandler.handleFeedDeletedEvent(new FeedDeletedEvent(feedId));
+
+      // then
+      ArgumentCaptor<FeedIndexOperation> captor = ArgumentCaptor.forClass(FeedIndexOperation.class);
+      then(feedIndexingPipeline).should().enqueue(captor.capture());
+      assertThat(captor.getValue().type()).isEqualTo(Type.DELETE);
+      assertThat(captor.getValue().feedId()).isEqualTo(feedId.toString());
+    }
+  }
+}
@@ -18,6 +18,7 @@ import com.team1.otvoo.weather.repository.WeatherForecastRepository;
 import com.team1.otvoo.weather.repository.WeatherLocationRepository;
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -233,6 +235,31 @@ public class FeedRepositoryCustomImplTest extends AbstractPostgresTest {
     assertThat(result.getContent().get(0).getWeather().precipitation().type()).isEqualTo(PrecipitationType.NONE);
   }
   
+  @Test
+  @DisplayName("커서 포함 키워드 + 날씨 + 강수 검색 - createdAt ASC 정렬")
+  void searchByCondition_withCursor_withKeyword_skyStatus_precipitation_orderBy_createdAt_ASC() {
+    // given
+    FeedSearchCondition condition = FeedSearchCondition.builder()
+        .keywordLike("옷")
+        .limit(4)
+        .cursor("2024-12-17T10:00:00Z")
+        .idAfter(null)
+        .skyStatusEqual(SkyStatus.CLEAR)
+        .precipitationTypeEqual(PrecipitationType.NONE)
+        .sortBy("createdAt")
+        .sortDirection("ASCENDING")
+        .authorIdEqual(null)
+        .build();
+
+    // when
+    Slice<FeedDto> result = feedRepository.searchByCondition(condition, userId);
+
+    // then
+    assertThat(result.getContent().size()).isEqualTo(2);
+    assertThat(result.getContent().get(0).getContent()).isEqualTo("맑을 때 입는 옷2");
+    assertThat(result.getContent().get(1).getContent()).isEqualTo("맑을 때 입는 옷1");
+  }
+
   @Test
   @DisplayName("마지막 페이지가 아닌 경우 hasNext가 true")
   void searchByCondition_not_lastPage_hasNext_true() {
@@ -285,4 +312,152 @@ public class FeedRepositoryCustomImplTest extends AbstractPostgresTest {
     // then
     assertThat(result).isEmpty();
   }
+
+  @Test
+  @DisplayName("커서 + idAfter 페이징 - createdAt DESC 정렬에서 동점 포함 누락/중복 없음")
+  void searchByCondition_pagingWithIdAfter_orderBy_createdAt_DESC() {
+    assertPagingMatchesSingleQuery("createdAt", "DESCENDING");
+  }
+
+  @Test
+  @DisplayName("커서 + idAfter 페이징 - createdAt ASC 정렬에서 동점 포함 누락/중복 없음")
+  void searchByCondition_pagingWithIdAfter_orderBy_createdAt_ASC() {
+    assertPagingMatchesSingleQuery("createdAt", "ASCENDING");
+  }
+
+  @Test
+  @DisplayName("커서 + idAfter 페이징 - likeCount DESC 정렬에서 동점 포함 누락/중복 없음")
+  void searchByCondition_pagingWithIdAfter_orderBy_likeCount_DESC() {
+    assertPagingMatchesSingleQuery("likeCount", "DESCENDING");
+  }
+
+  @Test
+  @DisplayName("커서 + idAfter 페이징 - likeCount ASC 정렬에서 동점 포함 누락/중복 없음")
+  void searchByCondition_pagingWithIdAfter_orderBy_likeCount_ASC() {
+    assertPagingMatchesSingleQuery("likeCount", "ASCENDING");
+  }
+
+  @Test
+  @DisplayName("재색인용 keyset 스캔 - id 순서로 이어서 조회")
+  void findIdsAfter() {
+    // when
+    List<UUID> firstChunk = feedRepository.findIdsAfter(new UUID(0L, 0L), PageRequest.of(0, 4));
+    List<UUID> secondChunk = feedRepository.findIdsAfter(firstChunk.get(firstChunk.size() - 1),
+        PageRequest.of(0, 4));
+
+    // then
+    assertThat(firstChunk).hasSize(4);
+    assertThat(secondChunk).hasSize(2);
+    assertThat(firstChunk).doesNotContainAnyElementsOf(secondChunk);
+    assertThat(feedRepository.findAllWithWeatherByIdIn(secondChunk)).hasSize(2);
+  }
+
+  @Test
+  @DisplayName("재색인용 일괄 조회 - 예보가 없는 피드도 포함")
+  void findAllWithWeatherByIdIn_withoutForecast() {
+    // given
+    UUID feedWithForecastId = feedRepository.findIdsAfter(new UUID(0L, 0L), PageRequest.of(0, 1)).get(0);
+    User author = userRepository.findAll().get(0);
+    Feed feedWithoutForecast = Feed.builder()
+        .content("예보가 정리된 피드")
+        .weatherForecast(null)
+        .user(author)
+        .build();
+    feedRepository.save(feedWithoutForecast);
+
+    entityManager.flush();
+    entityManager.clear();
+
+    // when
+    List<Feed> result = feedRepository.findAllWithWeatherByIdIn(
+        List.of(feedWithoutForecast.getId(), feedWithForecastId));
+
+    // then
+    assertThat(result).extracting(Feed::getId)
+        .containsExactlyInAnyOrder(feedWithoutForecast.getId(), feedWithForecastId);
+    assertThat(result).filteredOn(feed -> feed.getId().equals(feedWithoutForecast.getId()))
+        .singleElement()
+        .extracting(Feed::getWeather)
+        .isNull();
+  }
+
+  @Test
+  @DisplayName("재색인 따라잡기용 존재 확인 - DB 에 있는 id 만 반환")
+  void findIdsByIdIn() {
+    // given
+    UUID existingId = feedRepository.findIdsAfter(new UUID(0L, 0L), PageRequest.of(0, 1)).get(0);
+    UUID removedId = UUID.randomUUID();
+
+    // when
+    List<UUID> result = feedRepository.findIdsByIdIn(List.of(existingId, removedId));
+
+    // then
+    assertThat(result).containsExactly(existingId);
+  }
+
+  // 페이지 경계가 동점 구간 안에 걸리도록 likeCount/createdAt이 기존 피드와 같은 피드를 추가한 뒤
+  // limit 2로 끝까지 넘긴 결과가 한 번에 조회한 결과와 순서까지 같은지 확인
+  private void assertPagingMatchesSingleQuery(String sortBy, String sortDirection) {
+    // given
+    saveTieFeeds();
+    List<UUID> expected = feedRepository.searchByCondition(FeedSearchCondition.builder()
+            .limit(100)
+            .sortBy(sortBy)
+            .sortDirection(sortDirection)
+            .build(), userId)
+        .getContent().stream()
+        .map(FeedDto::getId)
+        .toList();
+
+    // when
+    List<UUID> paged = new ArrayList<>();
+    String cursor = null;
+    UUID idAfter = null;
+    boolean hasNext = true;
+    while (hasNext) {
+      Slice<FeedDto> page = feedRepository.searchByCondition(FeedSearchCondition.builder()
+          .limit(2)
+          .cursor(cursor)
+          .idAfter(idAfter)
+          .sortBy(sortBy)
+          .sortDirection(sortDirection)
+          .build(), userId);
+      page.getContent().forEach(feedDto -> paged.add(feedDto.getId()));
+
+      FeedDto last = page.getContent().get(page.getContent().size() - 1);
+      cursor = "likeCount".equals(sortBy)
+          ? last.getLikeCount() + "_" + last.getCreatedAt()
+          : last.getCreatedAt().toString();
+      idAfter = last.getId();
+      hasNext = page.hasNext();
+    }
+
+    // then
+    assertThat(expected).hasSize(9);
+    assertThat(paged).containsExactlyElementsOf(expected);
+  }
+
+  // feed3(likeCount 4, 2024-12-19)와 createdAt/likeCount가 모두 같은 피드 2개,
+  // feed2(likeCount 3, 2024-12-20)와 모두 같은 피드 1개
+  private void saveTieFeeds() {
+    User author = userRepository.findAll().get(0);
+    WeatherForecast weatherForecast = weatherForecastRepository.findAll().get(0);
+
+    List<Feed> tieFeeds = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      Feed feed = Feed.builder()
+          .content("동점 피드" + i)
+          .weatherForecast(weatherForecast)
+          .user(author)
+          .build();
+      ReflectionTestUtils.setField(feed, "likeCount", i < 2 ? 4 : 3);
+      ReflectionTestUtils.setField(feed, "createdAt",
+          Instant.parse(i < 2 ? "2024-12-19T10:00:00Z" : "2024-12-20T10:00:00Z"));
+      tieFeeds.add(feed);
+    }
+    feedRepository.saveAll(tieFeeds);
+
+    entityManager.flush();
+    entityManager.clear();
+  }
 }
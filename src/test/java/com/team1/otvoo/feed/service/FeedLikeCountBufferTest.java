@@ -0,0 +1,261 @@
+package com.team1.otvoo.feed.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.team1.otvoo.feed.dto.FeedDto;
+import com.team1.otvoo.feed.elasticsearch.sync.FeedIndexOperation;
+import com.team1.otvoo.feed.elasticsearch.sync.FeedIndexOperation.Type;
+import com.team1.otvoo.feed.elasticsearch.sync.FeedIndexingPipeline;
+import com.team1.otvoo.feed.projection.FeedLikeCountView;
+import com.team1.otvoo.feed.repository.FeedRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FeedLikeCountBufferTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+  @Mock
+  private HashOperations<String, Object, Object> hashOperations;
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+  @Mock
+  private FeedRepository feedRepository;
+  @Mock
+  private FeedIndexingPipeline feedIndexingPipeline;
+
+  @InjectMocks
+  private FeedLikeCountBuffer feedLikeCountBuffer;
+
+  private static final List<String> MOVE_KEYS =
+      List.of("feed:like-delta", "feed:like-delta:flushing", "feed:like-delta:flushing:batch");
+  private static final List<String> COMPLETE_KEYS =
+      List.of("feed:like-delta:flushing", "feed:like-delta:flushing:batch");
+
+  private final UUID feedId = UUID.randomUUID();
+  private final UUID batchId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    ReflectionTestUtils.setField(feedLikeCountBuffer, "FLUSH_LOCK_TTL_MS", 30000L);
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    given(stringRedisTemplate.opsForHash()).willReturn(hashOperations);
+  }
+
+  @Test
+  @DisplayName("트랜잭션 밖에서는 증감량을 바로 Redis Hash에 누적")
+  void add_withoutTransaction() {
+    // when
+    feedLikeCountBuffer.add(feedId, 1);
+
+    // then
+    then(hashOperations).should().increment("feed:like-delta", feedId.toString(), 1L);
+    then(jdbcTemplate).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("Redis 장애 시 증감량을 DB에 직접 반영")
+  void add_redisFailure() {
+    // given
+    given(hashOperations.increment(anyString(), any(), anyLong()))
+        .willThrow(new RedisConnectionFailureException("down"));
+
+    // when
+    feedLikeCountBuffer.add(feedId, -1);
+
+    // then
+    then(jdbcTemplate).should().update(anyString(), eq(-1L), eq(feedId));
+  }
+
+  @Test
+  @DisplayName("조회 결과에 아직 반영되지 않은 증감량을 더함")
+  void applyPendingDeltas() {
+    // given
+    FeedDto feedDto = FeedDto.builder().id(feedId).likeCount(3L).build();
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willReturn("2");
+
+    // when
+    feedLikeCountBuffer.applyPendingDeltas(List.of(feedDto));
+
+    // then
+    assertThat(feedDto.getLikeCount()).isEqualTo(5L);
+  }
+
+  @Test
+  @DisplayName("여러 피드의 증감량을 요청한 순서대로 합산 결과에서 읽음")
+  void pendingDeltas_multipleFeeds() {
+    // given
+    UUID otherFeedId = UUID.randomUUID();
+    UUID unchangedFeedId = UUID.randomUUID();
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willReturn("2,-1,0");
+
+    // when
+    Map<UUID, Long> result = feedLikeCountBuffer.pendingDeltas(
+        List.of(feedId, otherFeedId, unchangedFeedId));
+
+    // then
+    assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(feedId, 2L, otherFeedId, -1L));
+  }
+
+  @Test
+  @DisplayName("flush 시 누적분을 batch id와 함께 배치 UPDATE로 반영하고 최종 값을 색인 파이프라인에 전달")
+  @SuppressWarnings("unchecked")
+  void flush_success() {
+    // given
+    givenFlushingBatch();
+    given(jdbcTemplate.update(startsWith("INSERT INTO feed_like_flush_batches"), eq(batchId)))
+        .willReturn(1);
+    given(stringRedisTemplate.execute(any(RedisScript.class), eq(COMPLETE_KEYS), any(Object[].class)))
+        .willReturn(1L);
+
+    // when
+    feedLikeCountBuffer.flush();
+
+    // then
+    ArgumentCaptor<List<Object[]>> argsCaptor = ArgumentCaptor.forClass(List.class);
+    then(jdbcTemplate).should().batchUpdate(anyString(), argsCaptor.capture());
+    assertThat(argsCaptor.getValue()).hasSize(1);
+    assertThat(argsCaptor.getValue().get(0)).containsExactly(3L, feedId);
+
+    ArgumentCaptor<FeedIndexOperation> operationCaptor =
+        ArgumentCaptor.forClass(FeedIndexOperation.class);
+    then(feedIndexingPipeline).should().enqueue(operationCaptor.capture());
+    assertThat(operationCaptor.getValue().type()).isEqualTo(Type.PARTIAL_UPDATE);
+    assertThat(operationCaptor.getValue().partialDocument()).containsEntry("likeCount", 10L);
+
+    then(stringRedisTemplate).should().execute(any(RedisScript.class), eq(COMPLETE_KEYS),
+        eq(batchId.toString()));
+
+    // 락은 자신이 잡은 토큰으로만 해제
+    ArgumentCaptor<String> tokenCaptor = ArgumentCaptor.forClass(String.class);
+    then(valueOperations).should().setIfAbsent(eq("feed:like-delta:lock"), tokenCaptor.capture(),
+        any(Duration.class));
+    then(stringRedisTemplate).should().execute(any(RedisScript.class),
+        eq(List.of("feed:like-delta:lock")), eq(tokenCaptor.getValue()));
+    then(stringRedisTemplate).should(never()).delete(anyString());
+    // 오래된 batch id 정리는 flush 에서 하지 않음
+    then(jdbcTemplate).should(never()).update(startsWith("DELETE FROM feed_like_flush_batches"));
+  }
+
+  @Test
+  @DisplayName("오래된 batch id 기록은 별도 정리 작업에서 삭제")
+  void cleanupFlushBatches() {
+    // given
+    given(jdbcTemplate.update(startsWith("DELETE FROM feed_like_flush_batches"))).willReturn(3);
+
+    // when
+    feedLikeCountBuffer.cleanupFlushBatches();
+
+    // then
+    then(jdbcTemplate).should(times(1)).update(startsWith("DELETE FROM feed_like_flush_batches"));
+  }
+
+  @Test
+  @DisplayName("DB 커밋 후 flush 용 키 제거에 실패해도 다음 flush에서 같은 묶음을 다시 더하지 않음")
+  void flush_completeFailsAfterCommit() {
+    // given
+    givenFlushingBatch();
+    // 첫 flush에서 batch id가 기록되었으므로 두 번째 삽입은 0건
+    given(jdbcTemplate.update(startsWith("INSERT INTO feed_like_flush_batches"), eq(batchId)))
+        .willReturn(1)
+        .willReturn(0);
+    given(stringRedisTemplate.execute(any(RedisScript.class), eq(COMPLETE_KEYS), any(Object[].class)))
+        .willThrow(new RedisConnectionFailureException("down"))
+        .willReturn(1L);
+
+    // when
+    feedLikeCountBuffer.flush();
+    feedLikeCountBuffer.flush();
+
+    // then
+    then(jdbcTemplate).should(times(1)).batchUpdate(anyString(), anyList());
+    then(stringRedisTemplate).should(times(2)).execute(any(RedisScript.class), eq(COMPLETE_KEYS),
+        eq(batchId.toString()));
+    then(feedIndexingPipeline).should(times(1)).enqueue(any());
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 flush 중이면 아무 작업도 하지 않음")
+  void flush_locked() {
+    // given
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(false);
+
+    // when
+    feedLikeCountBuffer.flush();
+
+    // then
+    then(jdbcTemplate).shouldHaveNoInteractions();
+    then(feedIndexingPipeline).shouldHaveNoInteractions();
+    then(stringRedisTemplate).should(never()).delete(anyString());
+  }
+
+  // 락 획득 후 flush 용 키에 batchId 묶음(feedId +3)이 있는 상태
+  @SuppressWarnings("unchecked")
+  private void givenFlushingBatch() {
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(true);
+    given(stringRedisTemplate.execute(any(RedisScript.class), eq(MOVE_KEYS), any(Object[].class)))
+        .willReturn(batchId.toString());
+    given(hashOperations.entries("feed:like-delta:flushing"))
+        .willReturn(Map.of(feedId.toString(), "3"));
+    willAnswer(invocation -> {
+      ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+      return null;
+    }).given(transactionTemplate).executeWithoutResult(any());
+
+    FeedLikeCountView view = new FeedLikeCountView() {
+      @Override
+      public UUID getId() {
+        return feedId;
+      }
+
+      @Override
+      public long getLikeCount() {
+        return 10L;
+      }
+    };
+    given(feedRepository.findLikeCountsByIdIn(any())).willReturn(List.of(view));
+  }
+}
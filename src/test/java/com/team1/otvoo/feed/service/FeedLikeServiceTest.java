@@ -12,6 +12,7 @@ import com.team1.otvoo.exception.RestException;
 import com.team1.otvoo.feed.entity.Feed;
 import com.team1.otvoo.feed.entity.FeedLike;
 import com.team1.otvoo.feed.event.FeedLikeEvent;
+import com.team1.otvoo.feed.event.FeedUnlikeEvent;
 import com.team1.otvoo.feed.repository.FeedLikeRepository;
 import com.team1.otvoo.feed.repository.FeedRepository;
 import com.team1.otvoo.security.CustomUserDetails;
@@ -48,6 +49,8 @@ public class FeedLikeServiceTest {
   @Mock
   private CustomUserDetails customUserDetails;
   @Mock
+  private FeedLikeCountBuffer feedLikeCountBuffer;
+  @Mock
   private ApplicationEventPublisher eventPublisher;
 
   private User user;
@@ -89,7 +92,7 @@ public class FeedLikeServiceTest {
     // then
     then(feedRepository).should(times(1)).findById(feedId);
     then(feedLikeRepository).should(times(1)).save(any(FeedLike.class));
-    then(feedRepository).should(times(1)).incrementLikeCount(feedId);
+    then(feedLikeCountBuffer).should(times(1)).add(feedId, 1);
 
     ArgumentCaptor<FeedLikeEvent> eventCaptor = ArgumentCaptor.forClass(FeedLikeEvent.class);
     then(eventPublisher).should().publishEvent(eventCaptor.capture());
@@ -107,7 +110,7 @@ public class FeedLikeServiceTest {
         .hasMessageContaining(ErrorCode.FEED_NOT_FOUND.getMessage());
 
     then(feedLikeRepository).should(never()).save(any());
-    then(feedRepository).should(never()).incrementLikeCount(any());
+    then(feedLikeCountBuffer).shouldHaveNoInteractions();
     then(eventPublisher).shouldHaveNoInteractions();
   }
 
@@ -120,6 +123,7 @@ public class FeedLikeServiceTest {
     given(securityContext.getAuthentication()).willReturn(authentication);
     given(authentication.getPrincipal()).willReturn(customUserDetails);
     given(customUserDetails.getUser()).willReturn(user);
+    given(feedLikeRepository.deleteByFeed_IdAndLikedBy_Id(feedId, userId)).willReturn(1L);
 
     // when
     feedLikeService.delete(feedId);
@@ -127,7 +131,8 @@ public class FeedLikeServiceTest {
     // then
     then(feedRepository).should(times(1)).findById(feedId);
     then(feedLikeRepository).should(times(1)).deleteByFeed_IdAndLikedBy_Id(feedId, userId);
-    then(feedRepository).should(times(1)).decrementLikerCount(feedId);
+    then(feedLikeCountBuffer).should(times(1)).add(feedId, -1);
+    then(eventPublisher).should().publishEvent(any(FeedUnlikeEvent.class));
   }
 
   @Test
@@ -142,6 +147,25 @@ public class FeedLikeServiceTest {
         .hasMessageContaining(ErrorCode.FEED_NOT_FOUND.getMessage());
 
     then(feedLikeRepository).should(never()).deleteByFeed_IdAndLikedBy_Id(any(), any());
-    then(feedRepository).should(never()).decrementLikerCount(any());
+    then(feedLikeCountBuffer).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("좋아요 취소 - 누른 좋아요가 없으면 좋아요 수를 감소시키지 않음")
+  void feedLike_delete_when_not_liked() {
+    // given
+    given(feedRepository.findById(feedId)).willReturn(Optional.of(feed));
+    SecurityContextHolder.setContext(securityContext);
+    given(securityContext.getAuthentication()).willReturn(authentication);
+    given(authentication.getPrincipal()).willReturn(customUserDetails);
+    given(customUserDetails.getUser()).willReturn(user);
+    given(feedLikeRepository.deleteByFeed_IdAndLikedBy_Id(feedId, userId)).willReturn(0L);
+
+    // when
+    feedLikeService.delete(feedId);
+
+    // then
+    then(feedLikeCountBuffer).shouldHaveNoInteractions();
+    then(eventPublisher).shouldHaveNoInteractions();
   }
 }
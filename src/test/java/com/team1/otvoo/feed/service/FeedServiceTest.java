@@ -17,6 +17,7 @@ import com.team1.otvoo.clothes.mapper.ClothesMapper;
 import com.team1.otvoo.clothes.repository.ClothesImageRepository;
 import com.team1.otvoo.clothes.repository.ClothesRepository;
 import com.team1.otvoo.exception.RestException;
+import com.team1.otvoo.feed.cache.FeedPageCache;
 import com.team1.otvoo.feed.dto.FeedCreateRequest;
 import com.team1.otvoo.feed.dto.FeedDto;
 import com.team1.otvoo.feed.dto.FeedSearchCondition;
@@ -31,13 +32,12 @@ import com.team1.otvoo.feed.repository.FeedRepository;
 import com.team1.otvoo.security.CustomUserDetails;
 import com.team1.otvoo.storage.S3ImageStorage;
 import com.team1.otvoo.user.dto.AuthorDto;
-import com.team1.otvoo.user.entity.Profile;
 import com.team1.otvoo.user.entity.User;
-import com.team1.otvoo.user.repository.ProfileRepository;
 import com.team1.otvoo.user.repository.UserRepository;
 import com.team1.otvoo.user.resolver.ProfileImageUrlResolver;
 import com.team1.otvoo.weather.repository.WeatherForecastRepository;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -68,8 +68,6 @@ public class FeedServiceTest {
   @Mock
   FeedClothesRepository feedClothesRepository;
   @Mock
-  ProfileRepository profileRepository;
-  @Mock
   FeedRepository feedRepository;
   @Mock
   ClothesMapper clothesMapper;
@@ -83,6 +81,10 @@ public class FeedServiceTest {
   ApplicationEventPublisher eventPublisher;
   @Mock
   S3ImageStorage s3ImageStorage;
+  @Mock
+  FeedPageCache feedPageCache;
+  @Mock
+  FeedLikeCountBuffer feedLikeCountBuffer;
   @InjectMocks
   FeedServiceImpl feedService;
 
@@ -275,9 +277,8 @@ public class FeedServiceTest {
 
     Slice<FeedDto> feedSlice = new SliceImpl<>(List.of(feedDto));
     given(feedRepository.searchByCondition(any(),any())).willReturn(feedSlice);
-    given(profileRepository.findByUserId(any())).willReturn(
-        Optional.ofNullable(mock(Profile.class)));
-    given(profileImageUrlResolver.resolve(any())).willReturn("presigned.url");
+    given(profileImageUrlResolver.resolveAll(List.of(authorDto.getUserId())))
+        .willReturn(Map.of(authorDto.getUserId(), "profile.url"));
 
     Authentication authentication = mock(Authentication.class);
     CustomUserDetails customUserDetails = mock(CustomUserDetails.class);
@@ -316,5 +317,7 @@ public class FeedServiceTest {
     assertThat(result.getContent()).hasSize(1);
     assertThat(result.getContent().get(0).getContent()).isEqualTo("test");
     assertThat(result.getContent().get(0).getOotds()).containsExactly(ootdDto);
+    assertThat(result.getContent().get(0).getAuthor().getProfileImageUrl()).isEqualTo("profile.url");
+    then(profileImageUrlResolver).should(never()).resolve(any());
   }
 }
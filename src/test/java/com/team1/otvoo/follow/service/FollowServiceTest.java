@@ -21,7 +21,8 @@ import com.team1.otvoo.follow.dto.FollowSummaryDto;
 import com.team1.otvoo.follow.entity.Follow;
 import com.team1.otvoo.follow.event.FollowEvent;
 import com.team1.otvoo.follow.repository.FollowRepository;
-import com.team1.otvoo.storage.S3ImageStorageAdapter;
+import com.team1.otvoo.notification.service.NotificationUnreadCounter;
+import com.team1.otvoo.storage.S3ImageStorage;
 import com.team1.otvoo.user.dto.UserSummary;
 import com.team1.otvoo.user.entity.User;
 import com.team1.otvoo.user.repository.UserRepository;
@@ -63,7 +64,10 @@ public class FollowServiceTest {
   private ApplicationEventPublisher eventPublisher;
 
   @Mock
-  private S3ImageStorageAdapter s3ImageStorageAdapter;
+  private S3ImageStorage s3ImageStorage;
+
+  @Mock
+  private NotificationUnreadCounter unreadCounter;
 
   private UUID followeeId;
   private UUID followerId;
@@ -99,7 +103,7 @@ public class FollowServiceTest {
         new UserSummary(followerId, "followerName", "http://image.com/follower.jpg")
     );
 
-    given(s3ImageStorageAdapter.getPresignedUrl(anyString()))
+    given(s3ImageStorage.getPresignedUrl(anyString()))
         .willAnswer(invocation -> invocation.getArgument(0));
   }
 
@@ -141,6 +145,8 @@ public class FollowServiceTest {
       FollowEvent publishedEvent = eventCaptor.getValue();
       assertThat(publishedEvent.follower()).isEqualTo(follower);
       assertThat(publishedEvent.followee()).isEqualTo(followee);
+
+      then(unreadCounter).should().follow(followerId, followeeId, follow.getCreatedAt());
     }
 
     @Test
@@ -230,6 +236,7 @@ public class FollowServiceTest {
 
       then(followRepository).should().findById(followId);
       then(followRepository).should().delete(follow);
+      then(unreadCounter).should().unfollow(followerId, followeeId);
     }
 
     @Test
@@ -407,6 +414,37 @@ public class FollowServiceTest {
       then(userRepository).should().findById(eq(followerId));
     }
 
+    @Test
+    @DisplayName("성공_조회된 이미지 키를 키별로 한 번만 presign하고 이미지가 없으면 null 유지")
+    void getFollowingList_Success_PresignsFetchedObjectKeysOnce() {
+      // given
+      int limit = 20;
+      UserSummary followeeWithoutImage = new UserSummary(UUID.randomUUID(), "noImage", null);
+      List<FollowCursorDto> mockFollowCursorDtos = List.of(
+          new FollowCursorDto(UUID.randomUUID(), Instant.now(), followDto.followee(), followDto.follower()),
+          new FollowCursorDto(UUID.randomUUID(), Instant.now().minusSeconds(1), followeeWithoutImage, followDto.follower())
+      );
+
+      given(followRepository.findFollowingsWithCursor(any(UUID.class), any(), any(), eq(limit + 1), any()))
+          .willReturn(mockFollowCursorDtos);
+      given(userRepository.findById(followerId)).willReturn(Optional.of(follower));
+      given(s3ImageStorage.getPresignedUrl(anyString()))
+          .willAnswer(invocation -> "presigned:" + invocation.getArgument(0));
+
+      // when
+      FollowListResponse response = followService.getFollowingList(followerId, null, null, limit, null);
+
+      // then
+      assertThat(response.data().get(0).followee().profileImageUrl())
+          .isEqualTo("presigned:http://image.com/followee.jpg");
+      assertThat(response.data().get(1).followee().profileImageUrl()).isNull();
+      assertThat(response.data().get(1).follower().profileImageUrl())
+          .isEqualTo("presigned:http://image.com/follower.jpg");
+
+      then(s3ImageStorage).should().getPresignedUrl("http://image.com/followee.jpg");
+      then(s3ImageStorage).should().getPresignedUrl("http://image.com/follower.jpg");
+    }
+
     @Test
     @DisplayName("성공_결과가 없는 경우")
     void getFollowingList_Success_WhenResultIsEmpty() {
@@ -0,0 +1,205 @@
+package com.team1.otvoo.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.team1.otvoo.common.AbstractPostgresTest;
+import com.team1.otvoo.config.QueryDslConfig;
+import com.team1.otvoo.follow.entity.Follow;
+import com.team1.otvoo.notification.entity.Notification;
+import com.team1.otvoo.notification.entity.NotificationLevel;
+import com.team1.otvoo.notification.entity.NotificationReadStatus;
+import com.team1.otvoo.notification.projection.PersonalUnreadCountView;
+import com.team1.otvoo.notification.projection.SharedReadView;
+import com.team1.otvoo.user.entity.User;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest
+@Import(QueryDslConfig.class)
+public class NotificationRepositoryCustomImplTest extends AbstractPostgresTest {
+
+  @Autowired
+  private NotificationRepository notificationRepository;
+
+  @Autowired
+  private NotificationReadStatusRepository readStatusRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private static final Instant USER_CREATED_AT = Instant.parse("2025-01-01T00:00:00Z");
+
+  private User reader;
+  private User nonFollower;
+  private Notification personal;
+  private Notification followeeNotification;
+  private Notification broadcast;
+  private Notification readFolloweeNotification;
+
+  @BeforeEach
+  void setUp() {
+    reader = user("reader@test.com");
+    nonFollower = user("non-follower@test.com");
+    User followee = user("followee@test.com");
+    User lateFollowee = user("late-followee@test.com");
+    User notFollowed = user("not-followed@test.com");
+
+    follow(followee, reader, "2025-02-01T00:00:00Z");
+    // 알림이 작성된 뒤에 팔로우한 작성자
+    follow(lateFollowee, reader, "2025-03-01T00:00:00Z");
+
+    personal = notification(new Notification(reader, "개인", "개인 알림", NotificationLevel.INFO),
+        "2025-02-05T00:00:00Z");
+    followeeNotification = notification(followeeNotification(followee), "2025-02-10T00:00:00Z");
+    notification(followeeNotification(notFollowed), "2025-02-11T00:00:00Z");
+    notification(followeeNotification(lateFollowee), "2025-02-15T00:00:00Z");
+    readFolloweeNotification = notification(followeeNotification(followee), "2025-02-20T00:00:00Z");
+    broadcast = notification(new Notification(null, "공지", "전체 알림", NotificationLevel.INFO),
+        "2025-02-25T00:00:00Z");
+
+    entityManager.persist(new NotificationReadStatus(reader, readFolloweeNotification));
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  @DisplayName("팔로워에게는 팔로우 이후 작성된 팔로워 대상 알림을 개인 알림, 브로드캐스트와 함께 최신순으로 조회")
+  void findUnreadNotificationsWithCursor_follower() {
+    // when
+    List<Notification> result = notificationRepository.findUnreadNotificationsWithCursor(
+        reader.getId(), USER_CREATED_AT, null, null, 10);
+
+    // then
+    assertThat(result).extracting(Notification::getId).containsExactly(
+        broadcast.getId(), followeeNotification.getId(), personal.getId());
+  }
+
+  @Test
+  @DisplayName("팔로워 대상 알림의 읽지 않은 수는 팔로우 이후 작성되고 읽지 않은 알림만 집계")
+  void countUnreadNotifications_follower() {
+    // when
+    long count = notificationRepository.countUnreadNotifications(reader.getId(), USER_CREATED_AT);
+
+    // then
+    assertThat(count).isEqualTo(3L);
+  }
+
+  @Test
+  @DisplayName("팔로우하지 않는 사용자에게는 팔로워 대상 알림이 조회되지 않음")
+  void findUnreadNotificationsWithCursor_nonFollower() {
+    // when
+    List<Notification> result = notificationRepository.findUnreadNotificationsWithCursor(
+        nonFollower.getId(), USER_CREATED_AT, null, null, 10);
+    long count = notificationRepository.countUnreadNotifications(nonFollower.getId(),
+        USER_CREATED_AT);
+
+    // then
+    assertThat(result).extracting(Notification::getId).containsExactly(broadcast.getId());
+    assertThat(count).isEqualTo(1L);
+  }
+
+  @Test
+  @DisplayName("커서 이후의 병합 목록을 같은 정렬 기준으로 이어서 조회")
+  void findUnreadNotificationsWithCursor_withCursor() {
+    // when
+    List<Notification> result = notificationRepository.findUnreadNotificationsWithCursor(
+        reader.getId(), USER_CREATED_AT, followeeNotification.getCreatedAt(),
+        followeeNotification.getId(), 10);
+
+    // then
+    assertThat(result).extracting(Notification::getId).containsExactly(personal.getId());
+  }
+
+  @Test
+  @DisplayName("재계산용 개인 알림 수와 읽은 공유 알림을 여러 사용자에 대해 한 번에 조회")
+  void findByUserIdIn_grouped() {
+    // when
+    List<PersonalUnreadCountView> counts = notificationRepository
+        .countUnreadPersonalNotificationsByReceiverIdIn(
+            List.of(reader.getId(), nonFollower.getId()));
+    List<SharedReadView> reads = readStatusRepository.findReadSharedNotificationsByUserIdIn(
+        List.of(reader.getId(), nonFollower.getId()));
+
+    // then
+    assertThat(counts).extracting(PersonalUnreadCountView::getReceiverId,
+        PersonalUnreadCountView::getUnreadCount).containsExactly(tuple(reader.getId(), 1L));
+    assertThat(reads).extracting(SharedReadView::getUserId, SharedReadView::getNotificationId,
+            SharedReadView::getFolloweeId)
+        .containsExactly(tuple(reader.getId(), readFolloweeNotification.getId(),
+            readFolloweeNotification.getFolloweeId()));
+  }
+
+  @Test
+  @DisplayName("일괄 읽음 처리용 공유 알림은 커서와 개수 제한으로 나눠 최신순으로 조회")
+  void findUnreadSharedNotifications_paged() {
+    // when
+    List<Notification> firstPage = notificationRepository.findUnreadSharedNotifications(
+        reader.getId(), USER_CREATED_AT, null, Instant.parse("2025-03-01T00:00:00Z"), null, null, 1);
+    Notification last = firstPage.get(firstPage.size() - 1);
+    List<Notification> secondPage = notificationRepository.findUnreadSharedNotifications(
+        reader.getId(), USER_CREATED_AT, null, Instant.parse("2025-03-01T00:00:00Z"),
+        last.getCreatedAt(), last.getId(), 1);
+    List<Notification> thirdPage = notificationRepository.findUnreadSharedNotifications(
+        reader.getId(), USER_CREATED_AT, null, Instant.parse("2025-03-01T00:00:00Z"),
+        secondPage.get(0).getCreatedAt(), secondPage.get(0).getId(), 1);
+
+    // then
+    assertThat(firstPage).extracting(Notification::getId).containsExactly(broadcast.getId());
+    assertThat(secondPage).extracting(Notification::getId)
+        .containsExactly(followeeNotification.getId());
+    assertThat(thirdPage).isEmpty();
+  }
+
+  @Test
+  @DisplayName("읽음 기록은 한 문장으로 저장하고 이미 읽은 알림을 제외한 저장된 알림 id 만 반환")
+  void bulkInsertIgnoringDuplicates() {
+    // when
+    List<UUID> inserted = readStatusRepository.bulkInsertIgnoringDuplicates(reader.getId(),
+        List.of(broadcast.getId(), readFolloweeNotification.getId(), followeeNotification.getId()));
+
+    // then
+    assertThat(inserted).containsExactlyInAnyOrder(broadcast.getId(), followeeNotification.getId());
+    assertThat(readStatusRepository.existsByUserIdAndNotificationId(reader.getId(),
+        broadcast.getId())).isTrue();
+    assertThat(notificationRepository.countUnreadNotifications(reader.getId(), USER_CREATED_AT))
+        .isEqualTo(1L);
+  }
+
+  private User user(String email) {
+    User user = User.builder()
+        .email(email)
+        .password("test1234!")
+        .build();
+    ReflectionTestUtils.setField(user, "createdAt", USER_CREATED_AT);
+    entityManager.persist(user);
+    return user;
+  }
+
+  private void follow(User followee, User follower, String createdAt) {
+    Follow follow = new Follow(followee, follower);
+    ReflectionTestUtils.setField(follow, "createdAt", Instant.parse(createdAt));
+    entityManager.persist(follow);
+  }
+
+  private Notification followeeNotification(User followee) {
+    return Notification.forFollowersOf(followee.getId(), "새 피드", "새 피드 알림",
+        NotificationLevel.INFO);
+  }
+
+  private Notification notification(Notification notification, String createdAt) {
+    ReflectionTestUtils.setField(notification, "createdAt", Instant.parse(createdAt));
+    entityManager.persist(notification);
+    return notification;
+  }
+}
@@ -14,14 +14,18 @@ import static org.mockito.Mockito.spy;
 
 import com.team1.otvoo.exception.ErrorCode;
 import com.team1.otvoo.exception.RestException;
+import com.team1.otvoo.follow.entity.Follow;
+import com.team1.otvoo.follow.repository.FollowRepository;
 import com.team1.otvoo.notification.dto.NotificationDto;
 import com.team1.otvoo.notification.dto.NotificationDtoCursorResponse;
+import com.team1.otvoo.notification.dto.NotificationReadRequest;
 import com.team1.otvoo.notification.entity.Notification;
 import com.team1.otvoo.notification.entity.NotificationLevel;
 import com.team1.otvoo.notification.entity.NotificationReadStatus;
 import com.team1.otvoo.notification.mapper.NotificationMapper;
 import com.team1.otvoo.notification.repository.NotificationReadStatusRepository;
 import com.team1.otvoo.notification.repository.NotificationRepository;
+import com.team1.otvoo.notification.service.NotificationUnreadCounter.UnreadCount;
 import com.team1.otvoo.user.entity.User;
 import com.team1.otvoo.user.repository.UserRepository;
 import java.time.Instant;
@@ -60,6 +64,12 @@ public class NotificationServiceTest {
   @Mock
   private NotificationMapper notificationMapper;
 
+  @Mock
+  private NotificationUnreadCounter unreadCounter;
+
+  @Mock
+  private FollowRepository followRepository;
+
   private UUID receiverId;
   private UUID notificationId;
   private User receiver;
@@ -68,6 +78,7 @@ public class NotificationServiceTest {
   private String title;
   private String content;
   private NotificationLevel level;
+  private Instant userCreatedAt;
 
   @BeforeEach
   void setUp() {
@@ -76,6 +87,7 @@ public class NotificationServiceTest {
     title = "ㅇㅇ님이 댓글을 달았어요.";
     content = "댓글 내용";
     level = NotificationLevel.INFO;
+    userCreatedAt = Instant.now().minus(30, ChronoUnit.DAYS);
 
     // receiver
     receiver = spy(new User("test@receiver.com", "password123"));
@@ -95,6 +107,8 @@ public class NotificationServiceTest {
         content,
         level
     );
+
+    ReflectionTestUtils.setField(notificationService, "READ_BATCH_SIZE", 500);
   }
 
   @Nested
@@ -111,9 +125,9 @@ public class NotificationServiceTest {
       List<Notification> mockNotifications = createMockNotificationList(limit + 1);
       List<NotificationDto> mockNotificationDtos = mockNotifications.stream().map(n -> notificationDto).collect(Collectors.toList());
 
-      given(notificationRepository.findUnreadNotificationsWithCursor(any(UUID.class), any(), any(), eq(limit + 1)))
+      given(unreadCounter.find(receiverId)).willReturn(Optional.of(new UnreadCount(userCreatedAt, 100L)));
+      given(notificationRepository.findUnreadNotificationsWithCursor(any(UUID.class), any(), any(), any(), eq(limit + 1)))
           .willReturn(mockNotifications);
-      given(notificationRepository.countUnreadNotifications(receiverId)).willReturn(100L);
       given(notificationMapper.toDtoList(mockNotifications.subList(0, limit))).willReturn(mockNotificationDtos.subList(0, limit));
 
       // when
@@ -129,8 +143,8 @@ public class NotificationServiceTest {
       assertThat(response.nextCursor()).isEqualTo(lastNotificationInPage.getCreatedAt().toString());
       assertThat(response.nextIdAfter()).isEqualTo(lastNotificationInPage.getId());
 
-      then(notificationRepository).should().findUnreadNotificationsWithCursor(eq(receiverId), isNull(), isNull(), eq(limit + 1));
-      then(notificationRepository).should().countUnreadNotifications(eq(receiverId));
+      then(notificationRepository).should().findUnreadNotificationsWithCursor(eq(receiverId), eq(userCreatedAt), isNull(), isNull(), eq(limit + 1));
+      then(notificationRepository).should(never()).countUnreadNotifications(any(), any());
       then(notificationMapper).should().toDtoList(mockNotifications.subList(0, limit));
     }
 
@@ -145,9 +159,9 @@ public class NotificationServiceTest {
       List<Notification> mockNotifications = createMockNotificationList(resultSize);
       List<NotificationDto> mockNotificationDtos = mockNotifications.stream().map(n -> notificationDto).collect(Collectors.toList());
 
-      given(notificationRepository.findUnreadNotificationsWithCursor(any(UUID.class), any(), any(), eq(limit + 1)))
+      given(unreadCounter.find(receiverId)).willReturn(Optional.of(new UnreadCount(userCreatedAt, resultSize)));
+      given(notificationRepository.findUnreadNotificationsWithCursor(any(UUID.class), any(), any(), any(), eq(limit + 1)))
           .willReturn(mockNotifications);
-      given(notificationRepository.countUnreadNotifications(receiverId)).willReturn((long) resultSize);
       given(notificationMapper.toDtoList(mockNotifications)).willReturn(mockNotificationDtos);
 
       // when
@@ -163,8 +177,8 @@ public class NotificationServiceTest {
       assertThat(response.nextCursor()).isEqualTo(lastNotificationInPage.getCreatedAt().toString());
       assertThat(response.nextIdAfter()).isEqualTo(lastNotificationInPage.getId());
 
-      then(notificationRepository).should().findUnreadNotificationsWithCursor(eq(receiverId), isNull(), isNull(), eq(limit + 1));
-      then(notificationRepository).should().countUnreadNotifications(eq(receiverId));
+      then(notificationRepository).should().findUnreadNotificationsWithCursor(eq(receiverId), eq(userCreatedAt), isNull(), isNull(), eq(limit + 1));
+      then(notificationRepository).should(never()).countUnreadNotifications(any(), any());
       then(notificationMapper).should().toDtoList(mockNotifications);
     }
 
@@ -174,7 +188,8 @@ public class NotificationServiceTest {
       // given
       int limit = 20;
 
-      given(notificationRepository.findUnreadNotificationsWithCursor(any(UUID.class), any(), any(), eq(limit + 1)))
+      given(unreadCounter.find(receiverId)).willReturn(Optional.of(new UnreadCount(userCreatedAt, 0L)));
+      given(notificationRepository.findUnreadNotificationsWithCursor(any(UUID.class), any(), any(), any(), eq(limit + 1)))
           .willReturn(Collections.emptyList());
 
       // when
@@ -187,11 +202,36 @@ public class NotificationServiceTest {
       assertThat(response.nextCursor()).isNull();
       assertThat(response.nextIdAfter()).isNull();
 
-      then(notificationRepository).should().findUnreadNotificationsWithCursor(eq(receiverId), isNull(), isNull(), eq(limit + 1));
-      then(notificationRepository).should(never()).countUnreadNotifications(eq(receiverId));
+      then(notificationRepository).should().findUnreadNotificationsWithCursor(eq(receiverId), eq(userCreatedAt), isNull(), isNull(), eq(limit + 1));
+      then(notificationRepository).should(never()).countUnreadNotifications(any(), any());
       then(notificationMapper).shouldHaveNoInteractions();
     }
 
+    @Test
+    @DisplayName("성공_읽지 않은 알림 수 캐시가 없으면 DB 에서 한 번 계산해 채움")
+    void getList_Success_WhenUnreadCountNotCached() {
+      // given
+      int limit = 20;
+      ReflectionTestUtils.setField(receiver, "createdAt", userCreatedAt);
+      List<Notification> mockNotifications = createMockNotificationList(1);
+
+      given(unreadCounter.find(receiverId))
+          .willReturn(Optional.empty())
+          .willReturn(Optional.of(new UnreadCount(userCreatedAt, 4L)));
+      given(userRepository.findById(receiverId)).willReturn(Optional.of(receiver));
+      given(notificationRepository.findUnreadNotificationsWithCursor(any(UUID.class), any(), any(), any(), eq(limit + 1)))
+          .willReturn(mockNotifications);
+      given(notificationMapper.toDtoList(mockNotifications)).willReturn(List.of(notificationDto));
+
+      // when
+      NotificationDtoCursorResponse response = notificationService.getList(receiverId, null, null, limit);
+
+      // then
+      assertThat(response.totalCount()).isEqualTo(4L);
+      then(unreadCounter).should().seed(receiverId, userCreatedAt);
+      then(notificationRepository).should(never()).countUnreadNotifications(any(), any());
+    }
+
     @Test
     @DisplayName("실패_유효하지 않은 cursor 포맷")
     void getList_Failure_ShouldThrowException_WithInvalidCursorFormat() {
@@ -227,6 +267,7 @@ public class NotificationServiceTest {
       // then
       then(notificationRepository).should().findById(notificationId);
       then(notificationRepository).should().delete(notification);
+      then(unreadCounter).should().decrement(receiverId);
       then(readStatusRepository).shouldHaveNoInteractions();
     }
 
@@ -254,6 +295,70 @@ public class NotificationServiceTest {
       then(userRepository).should().findById(userId);
       then(readStatusRepository).should().save(any(NotificationReadStatus.class));
       then(notificationRepository).should(never()).delete(notification);
+      then(unreadCounter).should().markSharedNotificationsRead(userId, List.of(notification));
+    }
+
+    @Test
+    @DisplayName("성공_팔로워 대상 알림_팔로우 이후 작성된 알림")
+    void readNotification_Success_FolloweeNotification() {
+      // given
+      UUID userId = UUID.randomUUID();
+      UUID followeeId = UUID.randomUUID();
+      Notification followeeNotification = followeeNotification(followeeId, Instant.now());
+      given(notificationRepository.findById(notificationId))
+          .willReturn(Optional.of(followeeNotification));
+      given(followRepository.findByFolloweeIdAndFollowerId(followeeId, userId))
+          .willReturn(Optional.of(follow(Instant.now().minus(1, ChronoUnit.DAYS))));
+      given(readStatusRepository.existsByUserIdAndNotificationId(userId, notificationId))
+          .willReturn(false);
+      given(userRepository.findById(userId)).willReturn(Optional.of(mock(User.class)));
+
+      // when
+      notificationService.readNotification(notificationId, userId);
+
+      // then
+      then(readStatusRepository).should().save(any(NotificationReadStatus.class));
+      then(unreadCounter).should()
+          .markSharedNotificationsRead(userId, List.of(followeeNotification));
+    }
+
+    @Test
+    @DisplayName("실패_팔로워 대상 알림_팔로우하지 않는 작성자의 알림")
+    void readNotification_Failure_FolloweeNotification_WhenNotFollowing() {
+      // given
+      UUID userId = UUID.randomUUID();
+      UUID followeeId = UUID.randomUUID();
+      given(notificationRepository.findById(notificationId))
+          .willReturn(Optional.of(followeeNotification(followeeId, Instant.now())));
+      given(followRepository.findByFolloweeIdAndFollowerId(followeeId, userId))
+          .willReturn(Optional.empty());
+
+      // when & then
+      RestException exception = assertThrows(RestException.class,
+          () -> notificationService.readNotification(notificationId, userId));
+
+      assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ACCESS_DENIED);
+      then(readStatusRepository).shouldHaveNoInteractions();
+      then(unreadCounter).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("실패_팔로워 대상 알림_팔로우 이전에 작성된 알림")
+    void readNotification_Failure_FolloweeNotification_WhenCreatedBeforeFollow() {
+      // given
+      UUID userId = UUID.randomUUID();
+      UUID followeeId = UUID.randomUUID();
+      given(notificationRepository.findById(notificationId)).willReturn(Optional.of(
+          followeeNotification(followeeId, Instant.now().minus(2, ChronoUnit.DAYS))));
+      given(followRepository.findByFolloweeIdAndFollowerId(followeeId, userId))
+          .willReturn(Optional.of(follow(Instant.now().minus(1, ChronoUnit.DAYS))));
+
+      // when & then
+      RestException exception = assertThrows(RestException.class,
+          () -> notificationService.readNotification(notificationId, userId));
+
+      assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ACCESS_DENIED);
+      then(readStatusRepository).shouldHaveNoInteractions();
     }
 
     @Test
@@ -276,6 +381,7 @@ public class NotificationServiceTest {
       then(readStatusRepository).should().existsByUserIdAndNotificationId(userId, notificationId);
       then(userRepository).shouldHaveNoInteractions();
       then(readStatusRepository).should(never()).save(any());
+      then(unreadCounter).shouldHaveNoInteractions();
     }
 
     @Test
@@ -318,6 +424,156 @@ public class NotificationServiceTest {
 
   }
 
+  @Nested
+  @DisplayName("알림 일괄 읽음 처리 테스트")
+  class ReadNotificationsTests {
+
+    @Test
+    @DisplayName("성공_선택한 알림을 한 번의 삭제와 한 번의 배치 저장으로 처리")
+    void readNotifications_Success_SelectedIds() {
+      // given
+      UUID broadcastId = UUID.randomUUID();
+      UUID followeeNotificationId = UUID.randomUUID();
+      Notification broadcast = mock(Notification.class);
+      given(broadcast.getId()).willReturn(broadcastId);
+      Notification followeeNotification = mock(Notification.class);
+      given(followeeNotification.getId()).willReturn(followeeNotificationId);
+      given(followeeNotification.getFolloweeId()).willReturn(UUID.randomUUID());
+
+      List<UUID> ids = List.of(notificationId, broadcastId, followeeNotificationId, broadcastId);
+      List<UUID> distinctIds = List.of(notificationId, broadcastId, followeeNotificationId);
+      given(unreadCounter.find(receiverId))
+          .willReturn(Optional.of(new UnreadCount(userCreatedAt, 5L)));
+      given(notificationRepository.deletePersonalNotifications(receiverId, distinctIds, null))
+          .willReturn(1L);
+      given(notificationRepository.findUnreadSharedNotifications(receiverId, userCreatedAt,
+          distinctIds, null, null, null, 500)).willReturn(List.of(broadcast, followeeNotification));
+      given(readStatusRepository.bulkInsertIgnoringDuplicates(receiverId,
+          List.of(broadcastId, followeeNotificationId)))
+          .willReturn(List.of(broadcastId, followeeNotificationId));
+
+      // when
+      notificationService.readNotifications(receiverId, new NotificationReadRequest(ids, null));
+
+      // then
+      then(readStatusRepository).should().bulkInsertIgnoringDuplicates(receiverId,
+          List.of(broadcastId, followeeNotificationId));
+      then(unreadCounter).should().decrement(receiverId, 1L);
+      then(unreadCounter).should().markSharedNotificationsRead(receiverId,
+          List.of(broadcast, followeeNotification));
+      then(readStatusRepository).should(never()).existsByUserIdAndNotificationId(any(), any());
+      then(userRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("성공_다른 요청이 먼저 읽음 처리한 알림은 읽음 반영에서 제외")
+    void readNotifications_Success_ConcurrentlyReadExcluded() {
+      // given
+      UUID broadcastId = UUID.randomUUID();
+      UUID followeeNotificationId = UUID.randomUUID();
+      UUID otherFolloweeNotificationId = UUID.randomUUID();
+      Notification broadcast = mock(Notification.class);
+      given(broadcast.getId()).willReturn(broadcastId);
+      Notification followeeNotification = mock(Notification.class);
+      given(followeeNotification.getId()).willReturn(followeeNotificationId);
+      given(followeeNotification.getFolloweeId()).willReturn(UUID.randomUUID());
+      Notification otherFolloweeNotification = mock(Notification.class);
+      given(otherFolloweeNotification.getId()).willReturn(otherFolloweeNotificationId);
+      given(otherFolloweeNotification.getFolloweeId()).willReturn(UUID.randomUUID());
+
+      List<UUID> ids = List.of(broadcastId, followeeNotificationId, otherFolloweeNotificationId);
+      given(unreadCounter.find(receiverId))
+          .willReturn(Optional.of(new UnreadCount(userCreatedAt, 5L)));
+      given(notificationRepository.deletePersonalNotifications(receiverId, ids, null))
+          .willReturn(0L);
+      given(notificationRepository.findUnreadSharedNotifications(receiverId, userCreatedAt, ids,
+          null, null, null, 500))
+          .willReturn(List.of(broadcast, followeeNotification, otherFolloweeNotification));
+      // 조회와 저장 사이에 다른 요청이 broadcast, followeeNotification 을 먼저 읽음 처리함
+      given(readStatusRepository.bulkInsertIgnoringDuplicates(receiverId, ids))
+          .willReturn(List.of(otherFolloweeNotificationId));
+
+      // when
+      notificationService.readNotifications(receiverId, new NotificationReadRequest(ids, null));
+
+      // then
+      then(unreadCounter).should().decrement(receiverId, 0L);
+      then(unreadCounter).should().markSharedNotificationsRead(receiverId,
+          List.of(otherFolloweeNotification));
+    }
+
+    @Test
+    @DisplayName("성공_id 목록이 없으면 현재 시각까지 받은 모든 알림을 읽음 처리")
+    void readNotifications_Success_AllUntilNow() {
+      // given
+      Instant before = Instant.now();
+      given(unreadCounter.find(receiverId))
+          .willReturn(Optional.of(new UnreadCount(userCreatedAt, 0L)));
+      given(notificationRepository.deletePersonalNotifications(eq(receiverId), isNull(), any()))
+          .willReturn(0L);
+      given(notificationRepository.findUnreadSharedNotifications(eq(receiverId), eq(userCreatedAt),
+          isNull(), any(), isNull(), isNull(), eq(500))).willReturn(List.of());
+
+      // when
+      notificationService.readNotifications(receiverId, new NotificationReadRequest(null, null));
+
+      // then
+      then(notificationRepository).should().deletePersonalNotifications(eq(receiverId), isNull(),
+          argThat(until -> !until.isBefore(before)));
+      then(readStatusRepository).should(never()).bulkInsertIgnoringDuplicates(any(), any());
+    }
+
+    @Test
+    @DisplayName("성공_읽지 않은 공유 알림을 묶음 크기만큼 커서로 나눠 조회하고 묶음마다 저장")
+    void readNotifications_Success_PagedByCursor() {
+      // given
+      ReflectionTestUtils.setField(notificationService, "READ_BATCH_SIZE", 2);
+      Instant until = Instant.now();
+      Notification first = sharedNotification(UUID.randomUUID(), until.minusSeconds(1));
+      Notification second = sharedNotification(UUID.randomUUID(), until.minusSeconds(2));
+      Notification third = sharedNotification(UUID.randomUUID(), until.minusSeconds(3));
+
+      given(unreadCounter.find(receiverId))
+          .willReturn(Optional.of(new UnreadCount(userCreatedAt, 3L)));
+      given(notificationRepository.deletePersonalNotifications(receiverId, null, until))
+          .willReturn(0L);
+      given(notificationRepository.findUnreadSharedNotifications(receiverId, userCreatedAt, null,
+          until, null, null, 2)).willReturn(List.of(first, second));
+      given(notificationRepository.findUnreadSharedNotifications(receiverId, userCreatedAt, null,
+          until, second.getCreatedAt(), second.getId(), 2)).willReturn(List.of(third));
+      given(readStatusRepository.bulkInsertIgnoringDuplicates(receiverId,
+          List.of(first.getId(), second.getId())))
+          .willReturn(List.of(first.getId(), second.getId()));
+      given(readStatusRepository.bulkInsertIgnoringDuplicates(receiverId, List.of(third.getId())))
+          .willReturn(List.of(third.getId()));
+
+      // when
+      notificationService.readNotifications(receiverId, new NotificationReadRequest(null, until));
+
+      // then
+      then(unreadCounter).should().markSharedNotificationsRead(receiverId, List.of(first, second));
+      then(unreadCounter).should().markSharedNotificationsRead(receiverId, List.of(third));
+    }
+
+    @Test
+    @DisplayName("실패_존재하지 않는 사용자")
+    void readNotifications_Failure_UserNotFound() {
+      // given
+      given(unreadCounter.find(receiverId)).willReturn(Optional.empty());
+      given(userRepository.findById(receiverId)).willReturn(Optional.empty());
+
+      // when & then
+      RestException exception = assertThrows(RestException.class,
+          () -> notificationService.readNotifications(receiverId,
+              new NotificationReadRequest(List.of(notificationId), null)));
+
+      assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND);
+      then(notificationRepository).should(never()).deletePersonalNotifications(any(), any(), any());
+      then(readStatusRepository).shouldHaveNoInteractions();
+    }
+
+  }
+
   @Nested
   @DisplayName("오래된 브로드캐스트 알림 정리 스케줄러 테스트")
   class CleanupOldNotificationsTests {
@@ -327,9 +583,11 @@ public class NotificationServiceTest {
     void cleanupOldNotifications_Success() {
       // given
       Instant before = Instant.now();
-      given(readStatusRepository.deleteByCreatedAtBefore(any(Instant.class)))
+      given(readStatusRepository
+          .deleteByNotificationFolloweeIdIsNullAndCreatedAtBefore(any(Instant.class)))
           .willReturn(5L); // 5개 삭제됨
-      given(notificationRepository.deleteByReceiverIsNullAndCreatedAtBefore(any(Instant.class)))
+      given(notificationRepository
+          .deleteByReceiverIsNullAndFolloweeIdIsNullAndCreatedAtBefore(any(Instant.class)))
           .willReturn(2L); // 2개 삭제됨
 
       // when
@@ -339,52 +597,78 @@ public class NotificationServiceTest {
       Instant expectedCutoff = Instant.now().minus(7, ChronoUnit.DAYS);
 
       then(readStatusRepository).should()
-          .deleteByCreatedAtBefore(argThat(cutoff ->
+          .deleteByNotificationFolloweeIdIsNullAndCreatedAtBefore(argThat(cutoff ->
               cutoff.isBefore(before.minus(7, ChronoUnit.DAYS).plusSeconds(1)) &&
                   cutoff.isAfter(expectedCutoff.minusSeconds(1))
           ));
 
       then(notificationRepository).should()
-          .deleteByReceiverIsNullAndCreatedAtBefore(argThat(cutoff ->
+          .deleteByReceiverIsNullAndFolloweeIdIsNullAndCreatedAtBefore(argThat(cutoff ->
               cutoff.isBefore(before.minus(7, ChronoUnit.DAYS).plusSeconds(1)) &&
                   cutoff.isAfter(expectedCutoff.minusSeconds(1))
           ));
     }
 
+    @Test
+    @DisplayName("성공_팔로워 대상 알림은 브로드캐스트와 별도의 보관 기간으로 정리")
+    void cleanupOldNotifications_Success_FolloweeNotificationsKeptLonger() {
+      // given
+      ReflectionTestUtils.setField(notificationService, "FOLLOWEE_RETENTION_DAYS", 30L);
+      Instant before = Instant.now();
+
+      // when
+      notificationService.cleanupOldNotifications();
+
+      // then
+      then(notificationRepository).should()
+          .deleteByFolloweeIdIsNotNullAndCreatedAtBefore(argThat(cutoff ->
+              !cutoff.isAfter(before.minus(30, ChronoUnit.DAYS).plusSeconds(1)) &&
+                  cutoff.isAfter(before.minus(30, ChronoUnit.DAYS).minusSeconds(1))
+          ));
+      then(unreadCounter).should().removeSharedNotificationsBefore(
+          argThat(cutoff -> cutoff.isAfter(before.minus(7, ChronoUnit.DAYS).minusSeconds(1))),
+          argThat(cutoff -> cutoff.isBefore(before.minus(29, ChronoUnit.DAYS))));
+    }
+
     @Test
     @DisplayName("실패_readStatusRepository 삭제 중 예외 발생")
     void cleanupOldNotifications_Failure_ReadStatusRepository() {
       // given
       RuntimeException expectedException = new RuntimeException("ReadStatus DB error");
-      given(readStatusRepository.deleteByCreatedAtBefore(any(Instant.class)))
+      given(readStatusRepository
+          .deleteByNotificationFolloweeIdIsNullAndCreatedAtBefore(any(Instant.class)))
           .willThrow(expectedException);
 
       // when
       notificationService.cleanupOldNotifications();
 
       // then
-      then(readStatusRepository).should().deleteByCreatedAtBefore(any(Instant.class));
+      then(readStatusRepository).should()
+          .deleteByNotificationFolloweeIdIsNullAndCreatedAtBefore(any(Instant.class));
       then(notificationRepository).should(never())
-          .deleteByReceiverIsNullAndCreatedAtBefore(any(Instant.class));
+          .deleteByReceiverIsNullAndFolloweeIdIsNullAndCreatedAtBefore(any(Instant.class));
     }
 
     @Test
     @DisplayName("실패_notificationRepository 삭제 중 예외 발생")
     void cleanupOldNotifications_Failure_NotificationRepository() {
       // given
-      given(readStatusRepository.deleteByCreatedAtBefore(any(Instant.class)))
+      given(readStatusRepository
+          .deleteByNotificationFolloweeIdIsNullAndCreatedAtBefore(any(Instant.class)))
           .willReturn(5L);
       RuntimeException expectedException = new RuntimeException("Notification DB error");
-      given(notificationRepository.deleteByReceiverIsNullAndCreatedAtBefore(any(Instant.class)))
+      given(notificationRepository
+          .deleteByReceiverIsNullAndFolloweeIdIsNullAndCreatedAtBefore(any(Instant.class)))
           .willThrow(expectedException);
 
       // when
       notificationService.cleanupOldNotifications();
 
       // then
-      then(readStatusRepository).should().deleteByCreatedAtBefore(any(Instant.class));
+      then(readStatusRepository).should()
+          .deleteByNotificationFolloweeIdIsNullAndCreatedAtBefore(any(Instant.class));
       then(notificationRepository).should()
-          .deleteByReceiverIsNullAndCreatedAtBefore(any(Instant.class));
+          .deleteByReceiverIsNullAndFolloweeIdIsNullAndCreatedAtBefore(any(Instant.class));
     }
   }
 
@@ -401,4 +685,24 @@ public class NotificationServiceTest {
         })
         .collect(Collectors.toList());
   }
+
+  private Notification followeeNotification(UUID followeeId, Instant createdAt) {
+    Notification n = Notification.forFollowersOf(followeeId, title, content, level);
+    ReflectionTestUtils.setField(n, "id", notificationId);
+    ReflectionTestUtils.setField(n, "createdAt", createdAt);
+    return n;
+  }
+
+  private Notification sharedNotification(UUID id, Instant createdAt) {
+    Notification n = new Notification(null, title, content, level);
+    ReflectionTestUtils.setField(n, "id", id);
+    ReflectionTestUtils.setField(n, "createdAt", createdAt);
+    return n;
+  }
+
+  private Follow follow(Instant createdAt) {
+    Follow follow = new Follow(mock(User.class), receiver);
+    ReflectionTestUtils.setField(follow, "createdAt", createdAt);
+    return follow;
+  }
 }
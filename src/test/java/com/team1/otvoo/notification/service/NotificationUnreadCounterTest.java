@@ -0,0 +1,427 @@
+package com.team1.otvoo.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.team1.otvoo.follow.projection.FollowingView;
+import com.team1.otvoo.follow.repository.FollowRepository;
+import com.team1.otvoo.notification.projection.PersonalUnreadCountView;
+import com.team1.otvoo.notification.projection.SharedReadView;
+import com.team1.otvoo.notification.repository.NotificationReadStatusRepository;
+import com.team1.otvoo.notification.repository.NotificationRepository;
+import com.team1.otvoo.notification.service.NotificationUnreadCounter.UnreadCount;
+import java.time.Instant;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class NotificationUnreadCounterTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+  @Mock
+  private NotificationRepository notificationRepository;
+  @Mock
+  private NotificationReadStatusRepository readStatusRepository;
+  @Mock
+  private FollowRepository followRepository;
+  @Mock
+  private HashOperations<String, Object, Object> hashOperations;
+  @Mock
+  private SetOperations<String, String> setOperations;
+  @Mock
+  private ZSetOperations<String, String> zSetOperations;
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+  @Mock
+  private Cursor<String> emptyCursor;
+
+  private NotificationUnreadCounter unreadCounter;
+  private final UUID userId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    unreadCounter = new NotificationUnreadCounter(stringRedisTemplate, notificationRepository,
+        readStatusRepository, followRepository);
+    ReflectionTestUtils.setField(unreadCounter, "TTL_SECONDS", 86400L);
+    ReflectionTestUtils.setField(unreadCounter, "SEED_TIMEOUT_MS", 30000L);
+    ReflectionTestUtils.setField(unreadCounter, "RECONCILE_BATCH_SIZE", 500);
+    given(stringRedisTemplate.<Object, Object>opsForHash()).willReturn(hashOperations);
+    given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+    given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+    given(stringRedisTemplate.scan(any(ScanOptions.class))).willReturn(emptyCursor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("개인 알림 수에 출처별 (기준 시각 이후 공유 알림 수 - 읽은 수)를 더해 반환")
+  @SuppressWarnings("unchecked")
+  void find_cached() {
+    // given
+    Instant since = Instant.parse("2025-01-01T00:00:00Z");
+    UUID followeeId = UUID.randomUUID();
+    Instant followedAt = Instant.parse("2025-02-01T00:00:00Z");
+    given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .willReturn(Arrays.asList(Map.of(
+            "count", "7",
+            "since", String.valueOf(since.toEpochMilli()),
+            "f:" + followeeId, String.valueOf(followedAt.toEpochMilli())), null, null))
+        // 브로드캐스트 3건 중 1건 읽음, 팔로워 대상 알림 2건 중 2건 읽음
+        .willReturn(List.of(3L, 1L, 2L, 2L));
+
+    // when
+    Optional<UnreadCount> result = unreadCounter.find(userId);
+
+    // then
+    assertThat(result).contains(new UnreadCount(since, 9L));
+  }
+
+  @Test
+  @DisplayName("보관 기준 시각 이전의 공유 알림과 읽음 기록은 집계 범위에서 제외하고 조회 중 Redis 에 쓰지 않음")
+  @SuppressWarnings("unchecked")
+  void find_countsFromCutoff() {
+    // given
+    Instant since = Instant.parse("2025-01-01T00:00:00Z");
+    UUID followeeId = UUID.randomUUID();
+    Instant followedAt = Instant.parse("2025-02-01T00:00:00Z");
+    Instant broadcastCutoff = Instant.parse("2025-03-01T00:00:00Z");
+    Instant followeeCutoff = Instant.parse("2025-01-15T00:00:00Z");
+    given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .willReturn(Arrays.asList(Map.of(
+                "count", "0",
+                "since", String.valueOf(since.toEpochMilli()),
+                "f:" + followeeId, String.valueOf(followedAt.toEpochMilli())),
+            String.valueOf(broadcastCutoff.toEpochMilli()),
+            String.valueOf(followeeCutoff.toEpochMilli())))
+        .willReturn(List.of(0L, 0L, 0L, 0L));
+    StringRedisConnection connection = mock(StringRedisConnection.class);
+
+    // when
+    unreadCounter.find(userId);
+
+    // then
+    ArgumentCaptor<RedisCallback<Object>> callbackCaptor =
+        ArgumentCaptor.forClass(RedisCallback.class);
+    then(stringRedisTemplate).should(times(2)).executePipelined(callbackCaptor.capture());
+    callbackCaptor.getAllValues().get(1).doInRedis(connection);
+
+    double broadcastFrom = broadcastCutoff.toEpochMilli();
+    double followeeFrom = followedAt.toEpochMilli();
+    then(connection).should()
+        .zCount("notification:broadcasts", broadcastFrom, Double.POSITIVE_INFINITY);
+    then(connection).should()
+        .zCount("notification:read:broadcast:" + userId, broadcastFrom, Double.POSITIVE_INFINITY);
+    then(connection).should()
+        .zCount("notification:followee:" + followeeId, followeeFrom, Double.POSITIVE_INFINITY);
+    then(connection).should().zCount("notification:read:followee:" + userId + ":" + followeeId,
+        followeeFrom, Double.POSITIVE_INFINITY);
+    then(connection).shouldHaveNoMoreInteractions();
+    then(stringRedisTemplate).should(never()).execute(any(RedisScript.class), anyList(),
+        any(Object[].class));
+  }
+
+  @Test
+  @DisplayName("캐시가 없으면 빈 값을 반환해 DB 에서 채우도록 함")
+  @SuppressWarnings("unchecked")
+  void find_notCached() {
+    // given
+    given(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+        .willReturn(Arrays.asList(Map.of(), null, null));
+
+    // when
+    Optional<UnreadCount> result = unreadCounter.find(userId);
+
+    // then
+    assertThat(result).isEmpty();
+    then(stringRedisTemplate).should(times(1)).executePipelined(any(RedisCallback.class));
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 읽음 처리하면 커밋 이후에 감소")
+  @SuppressWarnings("unchecked")
+  void decrement_afterCommit() {
+    // given
+    TransactionSynchronizationManager.initSynchronization();
+
+    // when
+    unreadCounter.decrement(userId);
+
+    // then
+    then(stringRedisTemplate).shouldHaveNoInteractions();
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    then(stringRedisTemplate).should()
+        .execute(any(RedisScript.class), eq(List.of("notification:unread:" + userId)), eq("-1"));
+  }
+
+  @Test
+  @DisplayName("캐시를 채울 때 읽음 ZSet 을 DB 읽음 기록으로 먼저 다시 채우고, DB 집계 전에 증감 누적용 키를 만듦")
+  @SuppressWarnings("unchecked")
+  void seed_restoresReadsAndFollowings() {
+    // given
+    UUID broadcastId = UUID.randomUUID();
+    UUID followeeId = UUID.randomUUID();
+    UUID followeeNotificationId = UUID.randomUUID();
+    Instant since = Instant.parse("2025-01-01T00:00:00Z");
+    Instant followedAt = Instant.parse("2025-02-01T00:00:00Z");
+    Instant createdAt = Instant.parse("2025-02-02T00:00:00Z");
+    List<SharedReadView> reads = List.of(
+        sharedRead(userId, broadcastId, null, createdAt),
+        sharedRead(userId, followeeNotificationId, followeeId, createdAt));
+    String key = "notification:unread:" + userId;
+    given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(key)), any(Object[].class)))
+        .willReturn(1L);
+    given(readStatusRepository.findReadSharedNotificationsByUserIdIn(List.of(userId)))
+        .willReturn(reads);
+    given(notificationRepository.countUnreadPersonalNotifications(userId)).willReturn(2L);
+    given(followRepository.findFollowingsByFollowerIdIn(List.of(userId)))
+        .willReturn(List.of(following(userId, followeeId, followedAt)));
+
+    // when
+    unreadCounter.seed(userId, since);
+
+    // then
+    InOrder inOrder = inOrder(stringRedisTemplate, zSetOperations, notificationRepository);
+    inOrder.verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(key)),
+        eq("30000"));
+    inOrder.verify(zSetOperations).add("notification:read:broadcast:" + userId,
+        Set.of(TypedTuple.of(broadcastId.toString(), (double) createdAt.toEpochMilli())));
+    inOrder.verify(zSetOperations).add(
+        "notification:read:followee:" + userId + ":" + followeeId,
+        Set.of(TypedTuple.of(followeeNotificationId.toString(),
+            (double) createdAt.toEpochMilli())));
+    inOrder.verify(notificationRepository).countUnreadPersonalNotifications(userId);
+    inOrder.verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(key)),
+        eq("2"), eq(String.valueOf(since.toEpochMilli())), eq("86400"),
+        eq("f:" + followeeId), eq(String.valueOf(followedAt.toEpochMilli())));
+    then(hashOperations).shouldHaveNoInteractions();
+    then(stringRedisTemplate).should()
+        .expire("notification:read:broadcast:" + userId, Duration.ofSeconds(86400L));
+    then(stringRedisTemplate).should().expire(
+        "notification:read:followee:" + userId + ":" + followeeId, Duration.ofSeconds(86400L));
+  }
+
+  @Test
+  @DisplayName("이미 채워진 캐시가 있으면 DB 를 조회하지 않고 덮어쓰지 않음")
+  @SuppressWarnings("unchecked")
+  void seed_alreadySeeded() {
+    // given
+    given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+        .willReturn(0L);
+
+    // when
+    unreadCounter.seed(userId, Instant.parse("2025-01-01T00:00:00Z"));
+
+    // then
+    then(stringRedisTemplate).should(times(1)).execute(any(RedisScript.class), anyList(),
+        any(Object[].class));
+    then(notificationRepository).shouldHaveNoInteractions();
+    then(readStatusRepository).shouldHaveNoInteractions();
+    then(followRepository).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("팔로워 대상 알림은 팔로워 수와 관계없이 팔로위 ZSet 에 한 건만 기록")
+  void addFolloweeNotification() {
+    // given
+    UUID followeeId = UUID.randomUUID();
+    UUID notificationId = UUID.randomUUID();
+    Instant createdAt = Instant.parse("2025-02-02T00:00:00Z");
+
+    // when
+    unreadCounter.addFolloweeNotification(followeeId, notificationId, createdAt);
+
+    // then
+    then(zSetOperations).should().add("notification:followee:" + followeeId,
+        notificationId.toString(), createdAt.toEpochMilli());
+    then(hashOperations).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서 팔로우하면 커밋 이후 캐시가 있는 사용자에만 팔로우 시각 기록")
+  @SuppressWarnings("unchecked")
+  void follow_afterCommit() {
+    // given
+    UUID followeeId = UUID.randomUUID();
+    Instant followedAt = Instant.parse("2025-02-01T00:00:00Z");
+    TransactionSynchronizationManager.initSynchronization();
+
+    // when
+    unreadCounter.follow(userId, followeeId, followedAt);
+
+    // then
+    then(stringRedisTemplate).shouldHaveNoInteractions();
+
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(TransactionSynchronization::afterCommit);
+    then(stringRedisTemplate).should().execute(any(RedisScript.class),
+        eq(List.of("notification:unread:" + userId)), eq("f:" + followeeId),
+        eq(String.valueOf(followedAt.toEpochMilli())));
+  }
+
+  @Test
+  @DisplayName("재계산 락은 실행마다 만든 토큰으로 잡고 같은 토큰일 때만 해제")
+  @SuppressWarnings("unchecked")
+  void reconcile_releasesOwnLockOnly() {
+    // given
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(true);
+
+    // when
+    unreadCounter.reconcile();
+
+    // then
+    ArgumentCaptor<String> tokenCaptor = ArgumentCaptor.forClass(String.class);
+    then(valueOperations).should().setIfAbsent(eq("notification:unread-reconcile:lock"),
+        tokenCaptor.capture(), any(Duration.class));
+    then(stringRedisTemplate).should().execute(any(RedisScript.class),
+        eq(List.of("notification:unread-reconcile:lock")), eq(tokenCaptor.getValue()));
+    then(stringRedisTemplate).should(never()).delete("notification:unread-reconcile:lock");
+  }
+
+  @Test
+  @DisplayName("재계산은 사용자 id 묶음마다 개인 알림 수/팔로우/읽음 기록을 한 번씩만 조회")
+  @SuppressWarnings("unchecked")
+  void reconcile_batchesQueriesByUserIds() {
+    // given
+    ReflectionTestUtils.setField(unreadCounter, "RECONCILE_BATCH_SIZE", 2);
+    UUID secondUserId = UUID.randomUUID();
+    UUID thirdUserId = UUID.randomUUID();
+    UUID followeeId = UUID.randomUUID();
+    Instant followedAt = Instant.parse("2025-02-01T00:00:00Z");
+    Cursor<String> counterCursor = mock(Cursor.class);
+    willAnswer(invocation -> {
+      Consumer<String> action = invocation.getArgument(0);
+      List.of(userId, secondUserId, thirdUserId)
+          .forEach(id -> action.accept("notification:unread:" + id));
+      return null;
+    }).given(counterCursor).forEachRemaining(any());
+    given(stringRedisTemplate.scan(argThat((ScanOptions options) -> options != null
+        && "notification:unread:*".equals(options.getPattern())))).willReturn(counterCursor);
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(true);
+
+    PersonalUnreadCountView count = mock(PersonalUnreadCountView.class);
+    given(count.getReceiverId()).willReturn(userId);
+    given(count.getUnreadCount()).willReturn(4L);
+    given(notificationRepository.countUnreadPersonalNotificationsByReceiverIdIn(
+        List.of(userId, secondUserId))).willReturn(List.of(count));
+    given(followRepository.findFollowingsByFollowerIdIn(List.of(userId, secondUserId)))
+        .willReturn(List.of(following(secondUserId, followeeId, followedAt)));
+
+    // when
+    unreadCounter.reconcile();
+
+    // then
+    then(notificationRepository).should(times(2))
+        .countUnreadPersonalNotificationsByReceiverIdIn(anyList());
+    then(followRepository).should(times(2)).findFollowingsByFollowerIdIn(anyList());
+    then(readStatusRepository).should(times(2)).findReadSharedNotificationsByUserIdIn(anyList());
+    then(notificationRepository).should()
+        .countUnreadPersonalNotificationsByReceiverIdIn(List.of(thirdUserId));
+
+    then(stringRedisTemplate).should().execute(any(RedisScript.class),
+        eq(List.of("notification:unread:" + userId)), eq("4"));
+    then(stringRedisTemplate).should().execute(any(RedisScript.class),
+        eq(List.of("notification:unread:" + secondUserId)), eq("0"), eq("f:" + followeeId),
+        eq(String.valueOf(followedAt.toEpochMilli())));
+    then(stringRedisTemplate).should().execute(any(RedisScript.class),
+        eq(List.of("notification:unread:" + thirdUserId)), eq("0"));
+    then(notificationRepository).should(never()).countUnreadPersonalNotifications(any());
+  }
+
+  @Test
+  @DisplayName("다른 인스턴스가 재계산 중이면 아무 작업도 하지 않음")
+  void reconcile_locked() {
+    // given
+    given(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+        .willReturn(false);
+
+    // when
+    unreadCounter.reconcile();
+
+    // then
+    then(notificationRepository).shouldHaveNoInteractions();
+    then(readStatusRepository).shouldHaveNoInteractions();
+  }
+
+  private SharedReadView sharedRead(UUID userId, UUID notificationId, UUID followeeId,
+      Instant createdAt) {
+    SharedReadView view = mock(SharedReadView.class);
+    given(view.getUserId()).willReturn(userId);
+    given(view.getNotificationId()).willReturn(notificationId);
+    given(view.getFolloweeId()).willReturn(followeeId);
+    given(view.getCreatedAt()).willReturn(createdAt);
+    return view;
+  }
+
+  private FollowingView following(UUID followerId, UUID followeeId, Instant createdAt) {
+    return new FollowingView() {
+      @Override
+      public UUID getFollowerId() {
+        return followerId;
+      }
+
+      @Override
+      public UUID getFolloweeId() {
+        return followeeId;
+      }
+
+      @Override
+      public Instant getCreatedAt() {
+        return createdAt;
+      }
+    };
+  }
+}
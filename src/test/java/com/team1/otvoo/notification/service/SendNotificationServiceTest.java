@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 
 import com.team1.otvoo.clothes.entity.ClothesAttributeDefinition;
@@ -23,6 +24,7 @@ import com.team1.otvoo.follow.repository.FollowRepository;
 import com.team1.otvoo.notification.dto.NotificationDto;
 import com.team1.otvoo.notification.entity.Notification;
 import com.team1.otvoo.notification.entity.NotificationLevel;
+import com.team1.otvoo.notification.event.FolloweeNotificationEvent;
 import com.team1.otvoo.notification.event.NotificationEvent;
 import com.team1.otvoo.notification.mapper.NotificationMapper;
 import com.team1.otvoo.notification.repository.NotificationRepository;
@@ -45,8 +47,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -97,6 +97,8 @@ public class SendNotificationServiceTest {
     followerId = UUID.randomUUID();
     notificationId = UUID.randomUUID();
 
+    ReflectionTestUtils.setField(sendNotificationService, "FAN_OUT_ON_READ_THRESHOLD", 10000L);
+
     // User entities
     user = spy(new User("test@user.com", "password123"));
     ReflectionTestUtils.setField(user, "id", userId);
@@ -323,28 +325,62 @@ public class SendNotificationServiceTest {
   class SendFeedNotificationTests {
 
     @Test
-    @DisplayName("성공 - 팔로워들에게 피드 등록 알림을 전송한다")
+    @DisplayName("성공 - 팔로워들에게 피드 등록 알림을 배치 저장하고 배치 이벤트 한 건을 발행한다")
     void sendFeedNotification_Success_ShouldSendNotificationToAllFollowers() {
-      User follower1 = spy(new User("f1@test.com", "pw"));
-      ReflectionTestUtils.setField(follower1, "id", UUID.randomUUID());
-      User follower2 = spy(new User("f2@test.com", "pw"));
-      ReflectionTestUtils.setField(follower2, "id", UUID.randomUUID());
+      UUID followerId1 = UUID.randomUUID();
+      UUID followerId2 = UUID.randomUUID();
+
+      given(profileRepository.findByUserId(userId)).willReturn(Optional.of(profile));
+      given(followRepository.findFollowerIdsAfter(eq(userId), any(UUID.class), any(Pageable.class)))
+          .willReturn(List.of(followerId1, followerId2));
+
+      // when
+      sendNotificationService.sendFeedNotification(feed);
+
+      // then
+      ArgumentCaptor<List<NotificationDto>> captor = ArgumentCaptor.forClass(List.class);
+      then(notificationRepository).should().bulkInsert(captor.capture());
+      assertThat(captor.getValue())
+          .extracting(NotificationDto::receiverId)
+          .containsExactly(followerId1, followerId2);
+      assertThat(captor.getValue()).extracting(NotificationDto::id).doesNotContainNull();
+      then(notificationRepository).should(never()).saveAll(anyList());
+
+      ArgumentCaptor<NotificationEvent> eventCaptor = ArgumentCaptor.forClass(NotificationEvent.class);
+      then(eventPublisher).should().publishEvent(eventCaptor.capture());
+      assertThat(eventCaptor.getValue().notificationDtoList()).hasSize(2);
+      assertThat(eventCaptor.getValue().broadcast()).isFalse();
+    }
 
-      List<User> followers = List.of(follower1, follower2);
-      Page<User> followerPage = new PageImpl<>(followers);
+    @Test
+    @DisplayName("성공 - 팔로워 수가 임계값 이상이면 알림을 한 건만 저장하고 팔로워 배치마다 같은 알림을 발행한다")
+    void sendFeedNotification_Success_ShouldStoreSingleNotificationWhenManyFollowers() {
+      // given
+      ReflectionTestUtils.setField(user, "followerCount", 10000L);
+      List<UUID> followerIds = List.of(UUID.randomUUID(), UUID.randomUUID());
 
       given(profileRepository.findByUserId(userId)).willReturn(Optional.of(profile));
-      given(followRepository.findFollowersByFolloweeId(eq(userId), any(Pageable.class)))
-          .willReturn(followerPage);
-      given(notificationRepository.saveAll(anyList())).willReturn(List.of(notification));
-      given(notificationMapper.toDto(any(Notification.class))).willReturn(notificationDto);
+      given(notificationRepository.save(any(Notification.class))).willReturn(notification);
+      given(notificationMapper.toDto(notification)).willReturn(notificationDto);
+      given(followRepository.findFollowerIdsAfter(eq(userId), any(UUID.class), any(Pageable.class)))
+          .willReturn(followerIds);
 
       // when
       sendNotificationService.sendFeedNotification(feed);
 
       // then
-      then(notificationRepository).should().saveAll(anyList());
-      then(eventPublisher).should().publishEvent(any(NotificationEvent.class));
+      ArgumentCaptor<Notification> notificationCaptor = ArgumentCaptor.forClass(Notification.class);
+      then(notificationRepository).should().save(notificationCaptor.capture());
+      assertThat(notificationCaptor.getValue().getReceiver()).isNull();
+      assertThat(notificationCaptor.getValue().getFolloweeId()).isEqualTo(userId);
+      then(notificationRepository).should(never()).bulkInsert(anyList());
+
+      ArgumentCaptor<FolloweeNotificationEvent> eventCaptor =
+          ArgumentCaptor.forClass(FolloweeNotificationEvent.class);
+      then(eventPublisher).should().publishEvent(eventCaptor.capture());
+      assertThat(eventCaptor.getValue().followeeId()).isEqualTo(userId);
+      assertThat(eventCaptor.getValue().notificationDto()).isEqualTo(notificationDto);
+      assertThat(eventCaptor.getValue().followerIds()).isEqualTo(followerIds);
     }
 
     @Test
@@ -352,15 +388,15 @@ public class SendNotificationServiceTest {
     void sendFeedNotification_Success_ShouldNotSendWhenNoFollowers() {
       // given
       given(profileRepository.findByUserId(userId)).willReturn(Optional.of(profile));
-      given(followRepository.findFollowersByFolloweeId(eq(userId), any(Pageable.class)))
-          .willReturn(Page.empty());
+      given(followRepository.findFollowerIdsAfter(eq(userId), any(UUID.class), any(Pageable.class)))
+          .willReturn(List.of());
 
       // when
       sendNotificationService.sendFeedNotification(feed);
 
       // then
       then(profileRepository).should().findByUserId(userId);
-      then(followRepository).should().findFollowersByFolloweeId(eq(userId), any(Pageable.class));
+      then(followRepository).should().findFollowerIdsAfter(eq(userId), any(UUID.class), any(Pageable.class));
       then(notificationRepository).shouldHaveNoInteractions();
       then(eventPublisher).shouldHaveNoInteractions();
     }
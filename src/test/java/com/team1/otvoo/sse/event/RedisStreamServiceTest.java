@@ -0,0 +1,146 @@
+package com.team1.otvoo.sse.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.team1.otvoo.sse.model.SseMessage;
+import com.team1.otvoo.sse.repository.SseConnectionRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class RedisStreamServiceTest {
+
+  @Mock
+  private StringRedisTemplate stringRedisTemplate;
+  @Mock
+  private ValueOperations<String, String> valueOperations;
+  @Mock
+  private SseConnectionRegistry sseConnectionRegistry;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+  private RedisStreamService redisStreamService;
+
+  private final UUID receiverId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    redisStreamService = new RedisStreamService(stringRedisTemplate, objectMapper,
+        sseConnectionRegistry);
+    ReflectionTestUtils.setField(redisStreamService, "INDEX_TTL_DAYS", 7L);
+    ReflectionTestUtils.setField(redisStreamService, "RECEIVER_MAX_LENGTH", 1000L);
+    ReflectionTestUtils.setField(redisStreamService, "REPLAY_MAX_COUNT", 1000L);
+    ReflectionTestUtils.setField(redisStreamService, "NODE_MAX_LENGTH", 10000L);
+    given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+  }
+
+  @Test
+  @DisplayName("개인 메시지는 수신자별 재전송 인덱스와 수신자가 연결된 노드 스트림에만 기록")
+  @SuppressWarnings("unchecked")
+  void publish_receiverIndex() {
+    // given
+    SseMessage message = SseMessage.builder()
+        .eventId(UUID.randomUUID())
+        .receiverIds(Set.of(receiverId))
+        .eventName("notifications")
+        .build();
+    given(sseConnectionRegistry.findNodeIds(Set.of(receiverId))).willReturn(Set.of("node-1"));
+
+    // when
+    redisStreamService.publish(message);
+
+    // then
+    ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+    then(stringRedisTemplate).should()
+        .execute(any(RedisScript.class), keysCaptor.capture(), any(Object[].class));
+    assertThat(keysCaptor.getValue()).containsExactly(
+        "sse-stream",
+        "sse:index:" + message.getEventId(),
+        "sse-stream:receiver:" + receiverId,
+        "sse-stream:node:node-1");
+  }
+
+  @Test
+  @DisplayName("브로드캐스트 메시지는 공용 재전송 인덱스에만 기록")
+  @SuppressWarnings("unchecked")
+  void publish_broadcastIndex() {
+    // given
+    SseMessage message = SseMessage.builder()
+        .eventId(UUID.randomUUID())
+        .broadcast(true)
+        .eventName("notifications")
+        .build();
+
+    // when
+    redisStreamService.publish(message);
+
+    // then
+    ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+    then(stringRedisTemplate).should()
+        .execute(any(RedisScript.class), keysCaptor.capture(), any(Object[].class));
+    assertThat(keysCaptor.getValue()).endsWith("sse-stream:broadcast");
+    then(sseConnectionRegistry).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("유실 메시지는 해당 사용자의 재전송 인덱스로 조회하고 마지막 이벤트는 제외")
+  void findAllByEventIdAfterAndReceiverId() throws Exception {
+    // given
+    UUID lastEventId = UUID.randomUUID();
+    SseMessage missed = SseMessage.builder()
+        .eventId(UUID.randomUUID())
+        .receiverIds(Set.of(receiverId))
+        .eventName("notifications")
+        .build();
+    given(valueOperations.get("sse:index:" + lastEventId)).willReturn("1700000000000-0");
+    given(stringRedisTemplate.execute(any(RedisScript.class),
+        eq(List.of("sse-stream:receiver:" + receiverId, "sse-stream:broadcast", "sse-stream")),
+        eq("1700000000000-0"), eq("1000")))
+        .willReturn(List.of(objectMapper.writeValueAsString(missed)));
+
+    // when
+    List<SseMessage> result =
+        redisStreamService.findAllByEventIdAfterAndReceiverId(lastEventId, receiverId);
+
+    // then
+    assertThat(result).extracting(SseMessage::getEventId).containsExactly(missed.getEventId());
+  }
+
+  @Test
+  @DisplayName("마지막 이벤트 인덱스가 없으면 빈 목록 반환")
+  void findAllByEventIdAfterAndReceiverId_indexMissing() {
+    // given
+    given(valueOperations.get(any())).willReturn(null);
+
+    // when
+    List<SseMessage> result =
+        redisStreamService.findAllByEventIdAfterAndReceiverId(UUID.randomUUID(), receiverId);
+
+    // then
+    assertThat(result).isEmpty();
+    then(stringRedisTemplate).should(never())
+        .execute(any(RedisScript.class), anyList(), any(Object[].class));
+  }
+}
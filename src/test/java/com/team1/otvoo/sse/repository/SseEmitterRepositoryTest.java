@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
 import com.team1.otvoo.sse.model.SseEmitterWrapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -139,6 +141,31 @@ class SseEmitterRepositoryTest {
     assertThat(data).contains(userId2.toString() + ":" + wrapper3.getEmitterId());
   }
 
+  @Test
+  @DisplayName("사용자로 emitter 순회_해당 사용자의 emitter 만 순회하고 연결 수 게이지에 반영")
+  void forEachByReceiverId() {
+    // given
+    UUID userId = UUID.randomUUID();
+    SseEmitterWrapper wrapper1 = SseEmitterWrapper.wrap(new SseEmitter());
+    SseEmitterWrapper wrapper2 = SseEmitterWrapper.wrap(new SseEmitter());
+    repository.save(userId, wrapper1);
+    repository.save(userId, wrapper2);
+    repository.save(UUID.randomUUID(), SseEmitterWrapper.wrap(new SseEmitter()));
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    repository.bindTo(meterRegistry);
+
+    // when
+    List<SseEmitterWrapper> visited = new ArrayList<>();
+    repository.forEachByReceiverId(userId, visited::add);
+    repository.forEachByReceiverId(UUID.randomUUID(), visited::add);
+
+    // then
+    assertThat(visited).containsExactly(wrapper1, wrapper2);
+    assertThat(meterRegistry.get("sse.connections.active").gauge().value()).isEqualTo(3);
+    assertThat(meterRegistry.get("sse.connections.users").gauge().value()).isEqualTo(2);
+  }
+
   /***********************
    * Edge Case Test - 보완 필요
    ***********************/
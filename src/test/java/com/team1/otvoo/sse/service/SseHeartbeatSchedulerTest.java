@@ -0,0 +1,97 @@
+package com.team1.otvoo.sse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.team1.otvoo.config.props.SseHeartbeatProperties;
+import com.team1.otvoo.sse.model.SseEmitterWrapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseHeartbeatSchedulerTest {
+
+  private final UUID userId = UUID.randomUUID();
+  private final AtomicLong now = new AtomicLong(100_000);
+  private SseOutboundDispatcher dispatcher;
+  private MeterRegistry meterRegistry;
+  private SseHeartbeatScheduler scheduler;
+
+  @BeforeEach
+  void setUp() {
+    SseHeartbeatProperties properties = new SseHeartbeatProperties();
+    properties.setIntervalMs(1000);
+    properties.setTickMs(100);
+
+    dispatcher = mock(SseOutboundDispatcher.class);
+    meterRegistry = new SimpleMeterRegistry();
+    // 스레드는 시작하지 않고 tick 을 직접 호출해 검증
+    scheduler = new SseHeartbeatScheduler(properties, dispatcher, meterRegistry, now::get);
+  }
+
+  @Test
+  @DisplayName("연결은 휠 한 바퀴(interval) 동안 정확히 한 번 heartbeat 대상이 됨")
+  void tick_spreadsHeartbeatsOverInterval() {
+    // given
+    SseEmitterWrapper wrapper = idleWrapper();
+    scheduler.register(userId, wrapper);
+
+    // when
+    for (int i = 0; i < scheduler.slotCount(); i++) {
+      scheduler.tick();
+    }
+
+    // then
+    assertThat(scheduler.slotCount()).isEqualTo(10);
+    then(dispatcher).should().enqueueHeartbeat(userId, wrapper);
+  }
+
+  @Test
+  @DisplayName("interval 안에 전송 이력이 있는 연결은 heartbeat 생략")
+  void tick_skipsRecentlyActiveConnection() {
+    // given
+    SseEmitterWrapper wrapper = SseEmitterWrapper.wrap(mock(SseEmitter.class));
+    wrapper.markSent(now.get() - 500);
+    scheduler.register(userId, wrapper);
+
+    // when
+    for (int i = 0; i < scheduler.slotCount(); i++) {
+      scheduler.tick();
+    }
+
+    // then
+    then(dispatcher).should(never()).enqueueHeartbeat(any(), any());
+    assertThat(meterRegistry.get("sse.heartbeat.skipped").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("해제된 연결은 heartbeat 대상에서 제외")
+  void unregister() {
+    // given
+    SseEmitterWrapper wrapper = idleWrapper();
+    scheduler.register(userId, wrapper);
+
+    // when
+    scheduler.unregister(wrapper);
+    for (int i = 0; i < scheduler.slotCount(); i++) {
+      scheduler.tick();
+    }
+
+    // then
+    then(dispatcher).should(never()).enqueueHeartbeat(any(), any());
+  }
+
+  private SseEmitterWrapper idleWrapper() {
+    SseEmitterWrapper wrapper = SseEmitterWrapper.wrap(mock(SseEmitter.class));
+    wrapper.markSent(now.get() - 5000);
+    return wrapper;
+  }
+}
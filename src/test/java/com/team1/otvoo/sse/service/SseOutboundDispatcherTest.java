@@ -0,0 +1,129 @@
+package com.team1.otvoo.sse.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.team1.otvoo.config.props.SseOutboundProperties;
+import com.team1.otvoo.config.props.SseOutboundProperties.OverflowPolicy;
+import com.team1.otvoo.sse.model.SseEmitterWrapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class SseOutboundDispatcherTest {
+
+  private final UUID receiverId = UUID.randomUUID();
+  private SseOutboundProperties properties;
+  private MeterRegistry meterRegistry;
+  // 예약된 비우기 작업을 바로 실행하지 않고 모아 둠
+  private List<Runnable> scheduled;
+
+  @BeforeEach
+  void setUp() {
+    properties = new SseOutboundProperties();
+    properties.setQueueCapacity(2);
+    meterRegistry = new SimpleMeterRegistry();
+    scheduled = new ArrayList<>();
+  }
+
+  @Test
+  @DisplayName("대기열이 가득 차면 가장 오래된 메시지를 버리고, 연결별 비우기 작업은 한 번만 예약")
+  void enqueue_dropOldest() {
+    // given
+    SseOutboundDispatcher dispatcher =
+        new SseOutboundDispatcher(properties, meterRegistry, scheduled::add);
+    SseEmitterWrapper wrapper = dispatcher.wrap(mock(SseEmitter.class));
+    SseEmitter.SseEventBuilder first = SseEmitter.event().name("first");
+    SseEmitter.SseEventBuilder second = SseEmitter.event().name("second");
+    SseEmitter.SseEventBuilder third = SseEmitter.event().name("third");
+
+    // when
+    dispatcher.enqueue(receiverId, wrapper, first);
+    dispatcher.enqueue(receiverId, wrapper, second);
+    dispatcher.enqueue(receiverId, wrapper, third);
+
+    // then
+    assertThat(wrapper.getOutbound()).containsExactly(second, third);
+    assertThat(scheduled).hasSize(1);
+    assertThat(meterRegistry.get("sse.outbound.dropped").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("sse.outbound.queue.depth").gauge().value()).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("DISCONNECT 정책이면 대기열이 가득 찬 느린 연결을 종료")
+  void enqueue_disconnect() {
+    // given
+    properties.setOverflowPolicy(OverflowPolicy.DISCONNECT);
+    SseOutboundDispatcher dispatcher =
+        new SseOutboundDispatcher(properties, meterRegistry, scheduled::add);
+    SseEmitter emitter = mock(SseEmitter.class);
+    SseEmitterWrapper wrapper = dispatcher.wrap(emitter);
+
+    // when
+    dispatcher.enqueue(receiverId, wrapper, SseEmitter.event().name("1"));
+    dispatcher.enqueue(receiverId, wrapper, SseEmitter.event().name("2"));
+    dispatcher.enqueue(receiverId, wrapper, SseEmitter.event().name("3"));
+
+    // then
+    then(emitter).should().complete();
+    assertThat(wrapper.getOutbound()).isEmpty();
+    assertThat(meterRegistry.get("sse.outbound.evicted").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("전송 실패 시 남은 메시지를 버리고 emitter 를 에러로 종료")
+  void drain_sendFailure() throws IOException {
+    // given
+    SseOutboundDispatcher dispatcher =
+        new SseOutboundDispatcher(properties, meterRegistry, scheduled::add);
+    SseEmitter emitter = mock(SseEmitter.class);
+    willThrow(new IOException("broken pipe")).given(emitter).send(any(SseEmitter.SseEventBuilder.class));
+    SseEmitterWrapper wrapper = dispatcher.wrap(emitter);
+    dispatcher.enqueue(receiverId, wrapper, SseEmitter.event().name("1"));
+    dispatcher.enqueue(receiverId, wrapper, SseEmitter.event().name("2"));
+
+    // when
+    scheduled.get(0).run();
+
+    // then
+    then(emitter).should().send(any(SseEmitter.SseEventBuilder.class));
+    then(emitter).should().completeWithError(any(IOException.class));
+    then(emitter).should(never()).complete();
+    assertThat(wrapper.getOutbound()).isEmpty();
+    assertThat(meterRegistry.get("sse.outbound.queue.depth").gauge().value()).isZero();
+  }
+
+  @Test
+  @DisplayName("heartbeat 전송 성공 시 전송 수/바이트를 기록하고, 실패 시 heartbeat 정리 수를 기록")
+  void enqueueHeartbeat_metrics() throws IOException {
+    // given
+    SseOutboundDispatcher dispatcher =
+        new SseOutboundDispatcher(properties, meterRegistry, Runnable::run);
+    SseEmitter alive = mock(SseEmitter.class);
+    SseEmitter broken = mock(SseEmitter.class);
+    willThrow(new IOException("broken pipe")).given(broken).send(any(SseEmitter.SseEventBuilder.class));
+
+    // when
+    dispatcher.enqueueHeartbeat(receiverId, dispatcher.wrap(alive));
+    dispatcher.enqueueHeartbeat(receiverId, dispatcher.wrap(broken));
+
+    // then
+    then(broken).should().completeWithError(any(IOException.class));
+    assertThat(meterRegistry.get("sse.outbound.sent").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("sse.outbound.bytes").counter().count())
+        .isEqualTo("event:ping\ndata:heartbeat\n\n".length());
+    assertThat(meterRegistry.get("sse.outbound.heartbeat.evicted").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("sse.outbound.failed").counter().count()).isEqualTo(1);
+  }
+}
@@ -6,18 +6,30 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team1.otvoo.config.props.SseOutboundProperties;
 import com.team1.otvoo.sse.event.RedisStreamService;
 import com.team1.otvoo.sse.model.SseEmitterWrapper;
 import com.team1.otvoo.sse.model.SseMessage;
+import com.team1.otvoo.sse.repository.SseConnectionRegistry;
 import com.team1.otvoo.sse.repository.SseEmitterRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +39,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,12 +51,22 @@ class SseServiceTest {
   @Mock
   private RedisStreamService redisStreamService;
 
+  @Mock
+  private SseConnectionRegistry sseConnectionRegistry;
+
+  @Mock
+  private SseHeartbeatScheduler sseHeartbeatScheduler;
+
   @InjectMocks
   private SseServiceImpl sseService;
 
   @BeforeEach
   void setUp() {
-    sseService = new SseServiceImpl(emitterRepository, redisStreamService);
+    sseService = new SseServiceImpl(emitterRepository, redisStreamService, sseConnectionRegistry,
+        // 전송 대기열을 호출 스레드에서 바로 비우도록 해 전송 결과를 동기적으로 검증
+        new SseOutboundDispatcher(new SseOutboundProperties(), new SimpleMeterRegistry(),
+            Runnable::run),
+        new ObjectMapper(), sseHeartbeatScheduler);
     ReflectionTestUtils.setField(sseService, "TIME_OUT", 1800000);
   }
 
@@ -64,6 +87,8 @@ class SseServiceTest {
 
     // then
     then(emitterRepository).should().save(eq(userId), any(SseEmitterWrapper.class));
+    then(sseConnectionRegistry).should().register(userId);
+    then(sseHeartbeatScheduler).should().register(eq(userId), any(SseEmitterWrapper.class));
     then(redisStreamService).shouldHaveNoMoreInteractions();
 
     SseEmitterWrapper savedWrapper = captor.getValue();
@@ -89,6 +114,8 @@ class SseServiceTest {
 
     given(redisStreamService.findAllByEventIdAfterAndReceiverId(lastEventId, userId))
         .willReturn(List.of(lostMessage));
+    given(redisStreamService.findAllByEventIdAfterAndReceiverId(lostMessage.getEventId(), userId))
+        .willReturn(List.of());
 
     SseEmitter spyEmitter = spy(new SseEmitter());
     ArgumentCaptor<SseEmitterWrapper> captor = ArgumentCaptor.forClass(SseEmitterWrapper.class);
@@ -110,6 +137,62 @@ class SseServiceTest {
     assertThat(savedWrapper.getEmitter()).isNotNull();
   }
 
+  @Test
+  @DisplayName("SSE 연결_성공_전송 대기열보다 많은 유실 이벤트도 버리거나 연결을 끊지 않고 모두 재전송")
+  void connect_Success_WithMoreLostEventsThanQueueCapacity_ShouldReplayAll() {
+    // given
+    UUID userId = UUID.randomUUID();
+    UUID lastEventId = UUID.randomUUID();
+    SseOutboundProperties properties = new SseOutboundProperties();
+    properties.setQueueCapacity(2);
+    properties.setOverflowPolicy(SseOutboundProperties.OverflowPolicy.DISCONNECT);
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // writer 가 대기열을 비우지 않아 대기열을 거치는 이벤트는 용량을 넘으면 바로 포화 정책이 적용됨
+    sseService = new SseServiceImpl(emitterRepository, redisStreamService, sseConnectionRegistry,
+        new SseOutboundDispatcher(properties, meterRegistry, runnable -> {
+        }), new ObjectMapper(), sseHeartbeatScheduler);
+    ReflectionTestUtils.setField(sseService, "TIME_OUT", 1800000);
+    sseService.registerFailureHandler();
+
+    List<SseMessage> lostMessages = IntStream.range(0, 5)
+        .mapToObj(i -> SseMessage.builder()
+            .eventId(UUID.randomUUID())
+            .receiverIds(Set.of(userId))
+            .broadcast(false)
+            .eventName("notification")
+            .eventData("lostNotificationInfo" + i)
+            .build())
+        .toList();
+    given(redisStreamService.findAllByEventIdAfterAndReceiverId(lastEventId, userId))
+        .willReturn(lostMessages);
+    given(redisStreamService.findAllByEventIdAfterAndReceiverId(lostMessages.get(4).getEventId(),
+        userId)).willReturn(List.of());
+
+    // when
+    SseEmitter emitter = sseService.connect(userId, lastEventId);
+
+    // then
+    ArgumentCaptor<SseEmitterWrapper> captor = ArgumentCaptor.forClass(SseEmitterWrapper.class);
+    then(emitterRepository).should().save(eq(userId), captor.capture());
+    then(emitterRepository).should(never()).delete(any(), any());
+    assertThat(captor.getValue().getOutbound()).isEmpty();
+    assertThat(meterRegistry.counter("sse.outbound.evicted").count()).isZero();
+    assertThat(meterRegistry.counter("sse.outbound.dropped").count()).isZero();
+
+    // 컨트롤러 반환 전에 쓴 이벤트는 emitter 내부 버퍼에 순서대로 쌓임
+    Collection<?> earlySends =
+        (Collection<?>) ReflectionTestUtils.getField(emitter, "earlySendAttempts");
+    String written = earlySends.stream()
+        .map(data -> String.valueOf(((ResponseBodyEmitter.DataWithMediaType) data).getData()))
+        .collect(Collectors.joining());
+    assertThat(written).contains(lostMessages.stream()
+        .map(message -> "id:" + message.getEventId())
+        .toList());
+    // 재전송 이후 등록 전까지 발행된 이벤트는 마지막으로 재전송한 이벤트 이후부터 이어서 조회
+    then(redisStreamService).should().findAllByEventIdAfterAndReceiverId(
+        lostMessages.get(4).getEventId(), userId);
+  }
+
   @Test
   @DisplayName("SSE 이벤트 전송_성공_특정 유저에게 전송(non-broadcast)")
   void sendEvent_Success_WhenNonBroadcast() throws Exception {
@@ -126,7 +209,11 @@ class SseServiceTest {
         .eventData("notificationInfo")
         .build();
 
-    given(emitterRepository.findAllByReceiverId(receiver)).willReturn(List.of(wrapper));
+    willAnswer(invocation -> {
+      Consumer<SseEmitterWrapper> action = invocation.getArgument(1);
+      action.accept(wrapper);
+      return null;
+    }).given(emitterRepository).forEachByReceiverId(eq(receiver), any());
 
     // when
     sseService.sendEvent(message);
@@ -136,6 +223,44 @@ class SseServiceTest {
   }
 
 
+  @Test
+  @DisplayName("SSE 이벤트 전송_성공_브로드캐스트는 한 번 인코딩한 프레임을 모든 emitter 에 전송")
+  void sendEvent_Success_WhenBroadcast_ShouldReuseEncodedFrame() throws IOException {
+    // given
+    SseEmitter emitter1 = mock(SseEmitter.class);
+    SseEmitter emitter2 = mock(SseEmitter.class);
+
+    willAnswer(invocation -> {
+      BiConsumer<UUID, SseEmitterWrapper> action = invocation.getArgument(0);
+      action.accept(UUID.randomUUID(), SseEmitterWrapper.wrap(emitter1));
+      action.accept(UUID.randomUUID(), SseEmitterWrapper.wrap(emitter2));
+      return null;
+    }).given(emitterRepository).forEach(any());
+
+    SseMessage message = SseMessage.builder()
+        .eventId(UUID.randomUUID())
+        .broadcast(true)
+        .eventName("notifications")
+        .eventData(Map.of("title", "새 속성"))
+        .build();
+
+    // when
+    sseService.sendEvent(message);
+
+    // then
+    ArgumentCaptor<SseEmitter.SseEventBuilder> captor1 =
+        ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+    ArgumentCaptor<SseEmitter.SseEventBuilder> captor2 =
+        ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+    then(emitter1).should().send(captor1.capture());
+    then(emitter2).should().send(captor2.capture());
+    assertThat(captor1.getValue()).isSameAs(captor2.getValue());
+
+    byte[] frame = (byte[]) captor1.getValue().build().iterator().next().getData();
+    assertThat(new String(frame, StandardCharsets.UTF_8)).isEqualTo(
+        "id:" + message.getEventId() + "\nevent:notifications\ndata:{\"title\":\"새 속성\"}\n\n");
+  }
+
   @Test
   @DisplayName("SSE 이벤트 전송_성공_모든 유저에게 전송(broadcast)")
   void sendEvent_Success_WhenBroadcast() throws IOException {
@@ -163,4 +288,79 @@ class SseServiceTest {
     // then
     then(emitter).should().send(any(SseEmitter.SseEventBuilder.class));
   }
+
+  @Test
+  @DisplayName("SSE 이벤트 전송_실패_전송에 실패한 연결은 콜백을 기다리지 않고 즉시 정리")
+  void sendEvent_Failure_ShouldRemoveEmitterImmediately() throws IOException {
+    // given
+    UUID receiver = UUID.randomUUID();
+    SseEmitter emitter = mock(SseEmitter.class);
+    willThrow(new IOException("broken pipe")).given(emitter).send(any(SseEmitter.SseEventBuilder.class));
+    SseEmitterWrapper wrapper = SseEmitterWrapper.wrap(emitter);
+
+    willAnswer(invocation -> {
+      Consumer<SseEmitterWrapper> action = invocation.getArgument(1);
+      action.accept(wrapper);
+      return null;
+    }).given(emitterRepository).forEachByReceiverId(eq(receiver), any());
+    given(emitterRepository.delete(receiver, wrapper)).willReturn(true);
+    sseService.registerFailureHandler();
+
+    SseMessage message = SseMessage.builder()
+        .eventId(UUID.randomUUID())
+        .receiverIds(Set.of(receiver))
+        .broadcast(false)
+        .eventName("notification")
+        .eventData("notificationInfo")
+        .build();
+
+    // when
+    sseService.sendEvent(message);
+
+    // then
+    then(sseHeartbeatScheduler).should().unregister(wrapper);
+    then(emitterRepository).should().delete(receiver, wrapper);
+    then(sseConnectionRegistry).should().unregister(receiver);
+    then(emitter).should().completeWithError(any(IOException.class));
+  }
+
+  @Test
+  @DisplayName("SSE 이벤트 전송_성공_수신자별 데이터가 있는 배치 메시지는 연결된 수신자에게 각자의 데이터로 전송")
+  void sendEvent_Success_WhenReceiverEventData() throws IOException {
+    // given
+    UUID connected = UUID.randomUUID();
+    UUID notConnected = UUID.randomUUID();
+    SseEmitter emitter = mock(SseEmitter.class);
+    SseEmitterWrapper wrapper = SseEmitterWrapper.wrap(emitter);
+
+    given(emitterRepository.existsByReceiverId(connected)).willReturn(true);
+    given(emitterRepository.existsByReceiverId(notConnected)).willReturn(false);
+    willAnswer(invocation -> {
+      Consumer<SseEmitterWrapper> action = invocation.getArgument(1);
+      action.accept(wrapper);
+      return null;
+    }).given(emitterRepository).forEachByReceiverId(eq(connected), any());
+
+    SseMessage message = SseMessage.builder()
+        .eventId(UUID.randomUUID())
+        .receiverIds(Set.of(connected, notConnected))
+        .broadcast(false)
+        .eventName("notifications")
+        .receiverEventData(Map.of(
+            connected, Map.of("id", "n1"),
+            notConnected, Map.of("id", "n2")))
+        .build();
+
+    // when
+    sseService.sendEvent(message);
+
+    // then
+    ArgumentCaptor<SseEmitter.SseEventBuilder> captor =
+        ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+    then(emitter).should().send(captor.capture());
+    byte[] frame = (byte[]) captor.getValue().build().iterator().next().getData();
+    assertThat(new String(frame, StandardCharsets.UTF_8)).isEqualTo(
+        "id:" + message.getEventId() + "\nevent:notifications\ndata:{\"id\":\"n1\"}\n\n");
+    then(emitterRepository).should(never()).forEachByReceiverId(eq(notConnected), any());
+  }
 }
@@ -0,0 +1,96 @@
+package com.team1.otvoo.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.team1.otvoo.config.props.S3Props;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("CachingS3ImageStorage 단위 테스트")
+@ExtendWith(MockitoExtension.class)
+class CachingS3ImageStorageTest {
+
+  private static final String KEY = "path/to/image.jpg";
+  private static final String CONTENT_TYPE = "image/jpeg";
+
+  @Mock
+  private S3ImageStorageAdapter delegate;
+
+  private SimpleMeterRegistry meterRegistry;
+  private CachingS3ImageStorage cachingS3ImageStorage;
+
+  @BeforeEach
+  void setUp() {
+    S3Props props = new S3Props();
+    props.setPresignedExpirationSeconds(600);
+    props.setPresignedCacheSafetyMarginSeconds(60);
+    props.setPresignedCacheMaxSize(100);
+
+    meterRegistry = new SimpleMeterRegistry();
+    cachingS3ImageStorage = new CachingS3ImageStorage(delegate, props, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("같은 key/contentType 조회는 캐시된 URL을 반환한다")
+  void should_returnCachedUrl_when_sameKeyRequested() {
+    // given
+    given(delegate.getPresignedUrl(KEY, CONTENT_TYPE)).willReturn("url-1");
+
+    // when
+    String first = cachingS3ImageStorage.getPresignedUrl(KEY, CONTENT_TYPE);
+    String second = cachingS3ImageStorage.getPresignedUrl(KEY, CONTENT_TYPE);
+
+    // then
+    assertThat(first).isEqualTo("url-1");
+    assertThat(second).isEqualTo("url-1");
+    verify(delegate, times(1)).getPresignedUrl(KEY, CONTENT_TYPE);
+    assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+        .isEqualTo(1.0);
+    assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("객체 삭제 시 해당 key의 캐시를 무효화한다")
+  void should_invalidateCache_when_deleted() {
+    // given
+    given(delegate.getPresignedUrl(KEY, CONTENT_TYPE)).willReturn("url-1", "url-2");
+    cachingS3ImageStorage.getPresignedUrl(KEY, CONTENT_TYPE);
+
+    // when
+    cachingS3ImageStorage.delete(KEY);
+    String afterDelete = cachingS3ImageStorage.getPresignedUrl(KEY, CONTENT_TYPE);
+
+    // then
+    assertThat(afterDelete).isEqualTo("url-2");
+    verify(delegate).delete(KEY);
+    verify(delegate, times(2)).getPresignedUrl(KEY, CONTENT_TYPE);
+  }
+
+  @Test
+  @DisplayName("만료 시간이 safety margin 이하이면 캐시하지 않는다")
+  void should_notCache_when_ttlShorterThanMargin() {
+    // given
+    S3Props props = new S3Props();
+    props.setPresignedExpirationSeconds(30);
+    props.setPresignedCacheSafetyMarginSeconds(60);
+    CachingS3ImageStorage noCache =
+        new CachingS3ImageStorage(delegate, props, new SimpleMeterRegistry());
+    given(delegate.getPresignedUrl(KEY)).willReturn("url-1");
+
+    // when
+    noCache.getPresignedUrl(KEY);
+    noCache.getPresignedUrl(KEY);
+
+    // then
+    verify(delegate, times(2)).getPresignedUrl(KEY);
+  }
+}
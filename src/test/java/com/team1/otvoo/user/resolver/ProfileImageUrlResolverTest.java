@@ -1,13 +1,20 @@
 package com.team1.otvoo.user.resolver;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.team1.otvoo.config.props.DefaultProfileImageProperties;
 import com.team1.otvoo.storage.S3ImageStorage;
 import com.team1.otvoo.user.entity.Profile; // Profile import 추가
 import com.team1.otvoo.user.entity.ProfileImage;
+import com.team1.otvoo.user.projection.ProfileImageView;
 import com.team1.otvoo.user.repository.ProfileImageRepository;
+import com.team1.otvoo.user.repository.ProfileRepository;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +33,9 @@ class ProfileImageUrlResolverTest {
   @Mock
   private ProfileImageRepository profileImageRepository;
 
+  @Mock
+  private ProfileRepository profileRepository;
+
   @Mock
   private DefaultProfileImageProperties defaultProfileImageProperties;
 
@@ -89,4 +99,64 @@ class ProfileImageUrlResolverTest {
     // then
     assertThat(result).isEqualTo(defaultUrl);
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("여러 사용자의 프로필 이미지를 한 번에 조회하고, 이미지가 없으면 기본 URL을 반환한다")
+  void resolveAll_returnsUrlMap_withDefaultForMissingImages() {
+    // given
+    UUID withImageUserId = UUID.randomUUID();
+    UUID withoutImageUserId = UUID.randomUUID();
+    UUID withoutProfileUserId = UUID.randomUUID();
+    String defaultUrl = "https://cdn.example.com/default.png";
+    String expectedUrl = "https://s3.ap-northeast-2.amazonaws.com/otvoo/presigned-url";
+
+    ProfileImageView withImage = profileImageView(withImageUserId, "images/profile/a", "image/png");
+    ProfileImageView withoutImage = profileImageView(withoutImageUserId, null, null);
+
+    when(profileRepository.findProfileImagesByUserIds(any()))
+        .thenReturn(List.of(withImage, withoutImage));
+    when(defaultProfileImageProperties.getUrl()).thenReturn(defaultUrl);
+    when(s3ImageStorage.getPresignedUrl("images/profile/a", "image/png")).thenReturn(expectedUrl);
+
+    // when
+    Map<UUID, String> result = resolver.resolveAll(
+        List.of(withImageUserId, withoutImageUserId, withoutProfileUserId, withImageUserId));
+
+    // then
+    assertThat(result)
+        .hasSize(3)
+        .containsEntry(withImageUserId, expectedUrl)
+        .containsEntry(withoutImageUserId, defaultUrl)
+        .containsEntry(withoutProfileUserId, defaultUrl);
+  }
+
+  @Test
+  @DisplayName("빈 사용자 목록이면 조회 없이 빈 맵을 반환한다")
+  void resolveAll_returnsEmptyMap_whenNoUserIds() {
+    // when
+    Map<UUID, String> result = resolver.resolveAll(List.of());
+
+    // then
+    assertThat(result).isEmpty();
+    verify(profileRepository, never()).findProfileImagesByUserIds(any());
+  }
+
+  private ProfileImageView profileImageView(UUID userId, String objectKey, String contentType) {
+    return new ProfileImageView() {
+      @Override
+      public UUID getUserId() {
+        return userId;
+      }
+
+      @Override
+      public String getObjectKey() {
+        return objectKey;
+      }
+
+      @Override
+      public String getContentType() {
+        return contentType;
+      }
+    };
+  }
+}
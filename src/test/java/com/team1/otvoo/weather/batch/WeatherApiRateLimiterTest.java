@@ -0,0 +1,51 @@
+package com.team1.otvoo.weather.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class WeatherApiRateLimiterTest {
+
+  @Test
+  void reserve_spacesCallsByInterval() {
+    // given
+    AtomicLong now = new AtomicLong(1_000_000_000L);
+    WeatherApiRateLimiter limiter = new WeatherApiRateLimiter(10, now::get); // 100ms 간격
+
+    // when
+    long first = limiter.reserve();
+    long second = limiter.reserve();
+    long third = limiter.reserve();
+
+    // then
+    assertThat(first).isZero();
+    assertThat(second).isEqualTo(100_000_000L);
+    assertThat(third).isEqualTo(200_000_000L);
+  }
+
+  @Test
+  void reserve_afterIdle_doesNotWait() {
+    // given
+    AtomicLong now = new AtomicLong(1_000_000_000L);
+    WeatherApiRateLimiter limiter = new WeatherApiRateLimiter(10, now::get);
+    limiter.reserve();
+
+    // when
+    now.addAndGet(500_000_000L);
+    long waitNanos = limiter.reserve();
+
+    // then
+    assertThat(waitNanos).isZero();
+  }
+
+  @Test
+  void reserve_withoutLimit_neverWaits() {
+    // given
+    WeatherApiRateLimiter limiter = new WeatherApiRateLimiter(0, () -> 0L);
+
+    // when & then
+    assertThat(limiter.reserve()).isZero();
+    assertThat(limiter.reserve()).isZero();
+  }
+}
@@ -15,6 +15,7 @@ import java.time.Instant;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -48,6 +49,18 @@ class WeatherForecastWriterTest {
     writer.write(chunk);
 
     // then
-    verify(weatherForecastRepository, times(1)).saveAll(anyList());
+    verify(weatherForecastRepository, times(1)).bulkInsert(anyList());
+  }
+
+  @Test
+  void write_withEmptyLists_skipsInsert() throws Exception {
+    // given
+    Chunk<List<WeatherForecast>> chunk = new Chunk<>(List.of(List.of(), List.of()));
+
+    // when
+    writer.write(chunk);
+
+    // then
+    verify(weatherForecastRepository, never()).bulkInsert(anyList());
   }
 }
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.UUID;
@@ -56,4 +57,25 @@ class WeatherLocationReaderTest {
     verify(profileRepository, times(1)).findDistinctWeatherLocationIds();
     verify(weatherLocationRepository, times(1)).findAllById(List.of(locationId));
   }
+
+  @Test
+  void read_withPartition_readsOnlyOwnLocations() {
+    // given
+    List<UUID> locationIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+        UUID.randomUUID());
+    List<UUID> ownIds = locationIds.stream()
+        .filter(id -> Math.floorMod(id.hashCode(), 2) == 1)
+        .toList();
+    ReflectionTestUtils.setField(reader, "partitionIndex", 1);
+    ReflectionTestUtils.setField(reader, "partitionCount", 2);
+    when(profileRepository.findDistinctWeatherLocationIds()).thenReturn(locationIds);
+    when(weatherLocationRepository.findAllById(ownIds)).thenReturn(List.of());
+
+    // when
+    WeatherLocation first = reader.read();
+
+    // then
+    assertThat(first).isNull();
+    verify(weatherLocationRepository, times(1)).findAllById(ownIds);
+  }
 }
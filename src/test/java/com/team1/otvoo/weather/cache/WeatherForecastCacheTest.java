@@ -0,0 +1,114 @@
+package com.team1.otvoo.weather.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import com.team1.otvoo.config.props.WeatherForecastCacheProperties;
+import com.team1.otvoo.weather.dto.WeatherDto;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class WeatherForecastCacheTest {
+
+  private final WeatherForecastCache.Key key = new WeatherForecastCache.Key(60, 127, "20250810", "1400");
+  private final List<WeatherDto> weathers = List.of(mock(WeatherDto.class));
+
+  private WeatherForecastCache cache;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    cache = new WeatherForecastCache(new WeatherForecastCacheProperties());
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void getOrLoad_concurrentRequests_loadOnce() throws Exception {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    Future<List<WeatherDto>> leader = executor.submit(() -> cache.getOrLoad(key, () -> {
+      loads.incrementAndGet();
+      loading.countDown();
+      await(release);
+      return weathers;
+    }));
+    assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    Future<List<WeatherDto>> follower = executor.submit(() -> cache.getOrLoad(key, () -> {
+      loads.incrementAndGet();
+      return weathers;
+    }));
+    release.countDown();
+
+    // then
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(weathers);
+    assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(weathers);
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(cache.getOrLoad(key, List::of)).isEqualTo(weathers); // 이후 요청은 캐시 적중
+  }
+
+  @Test
+  void getOrLoad_failure_isNotCached() {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+
+    // when
+    assertThrows(IllegalStateException.class, () -> cache.getOrLoad(key, () -> {
+      loads.incrementAndGet();
+      throw new IllegalStateException("upstream error");
+    }));
+    List<WeatherDto> result = cache.getOrLoad(key, () -> {
+      loads.incrementAndGet();
+      return weathers;
+    });
+
+    // then
+    assertThat(result).isEqualTo(weathers);
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  void getOrLoad_emptyResult_isNotCached() {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+
+    // when
+    cache.getOrLoad(key, () -> {
+      loads.incrementAndGet();
+      return List.of();
+    });
+    cache.getOrLoad(key, () -> {
+      loads.incrementAndGet();
+      return weathers;
+    });
+
+    // then
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.team1.otvoo.weather.dto.VilageFcstResponse.FcstItem;
 import com.team1.otvoo.weather.entity.*;
 import com.team1.otvoo.weather.util.ForecastParsingUtils;
+import com.team1.otvoo.weather.util.WeatherComparisonUtils;
 
 import java.time.Instant;
 import java.time.ZoneId;
@@ -95,4 +96,48 @@ class WeatherForecastFactoryTest {
     assertThat(card.getLocation().getY()).isEqualTo(ny);
     assertThat(card.getLocation().getLocationNames()).contains("서울특별시","중구","명동");
   }
+
+  @Test
+  void createForecasts_largeResponse_matchesPerItemComparison() {
+    // given: 3일 x 24시간 x 14개 카테고리 = 1008건 (알 수 없는 카테고리 포함)
+    int nx = 60, ny = 127;
+    WeatherLocation location = new WeatherLocation(nx, ny, 37.5, 127.0, List.of("서울"));
+    List<String> categories = List.of("TMP", "TMN", "TMX", "REH", "WSD", "POP", "PTY", "PCP",
+        "SKY", "UUU", "VVV", "VEC", "WAV", "SNO");
+    List<String> dates = List.of("20250810", "20250811", "20250812");
+
+    List<FcstItem> items = new ArrayList<>();
+    for (int d = 0; d < dates.size(); d++) {
+      for (int hour = 0; hour < 24; hour++) {
+        String time = String.format("%02d00", hour);
+        for (String category : categories) {
+          String value = switch (category) {
+            case "PCP" -> "강수없음";
+            case "SKY" -> "1";
+            case "PTY" -> "0";
+            default -> String.valueOf(d * 3 + hour % 7 + category.length());
+          };
+          items.add(new FcstItem("20250810", "0500", dates.get(d), time, category, value, nx, ny));
+        }
+      }
+    }
+
+    // when
+    List<WeatherForecast> results = factory.createForecasts(items, location, Map.of(), Map.of());
+
+    // then
+    assertThat(items).hasSize(1008);
+    assertThat(results).hasSize(72);
+    ZoneId KST = ZoneId.of("Asia/Seoul");
+    for (WeatherForecast forecast : results) {
+      ZonedDateTime at = forecast.getForecastAt().atZone(KST);
+      String date = String.format("%04d%02d%02d", at.getYear(), at.getMonthValue(), at.getDayOfMonth());
+      String time = String.format("%02d%02d", at.getHour(), at.getMinute());
+
+      assertThat(forecast.getTemperature().getComparedToDayBefore()).isEqualTo(
+          WeatherComparisonUtils.calculateDifferenceForDate(items, date, time, "TMP", parsingUtils));
+      assertThat(forecast.getHumidity().getComparedToDayBefore()).isEqualTo(
+          WeatherComparisonUtils.calculateDifferenceForDate(items, date, time, "REH", parsingUtils));
+    }
+  }
 }
@@ -0,0 +1,153 @@
+package com.team1.otvoo.weather.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.team1.otvoo.common.AbstractPostgresTest;
+import com.team1.otvoo.config.QueryDslConfig;
+import com.team1.otvoo.weather.entity.PrecipitationType;
+import com.team1.otvoo.weather.entity.SkyStatus;
+import com.team1.otvoo.weather.entity.WeatherForecast;
+import com.team1.otvoo.weather.entity.WeatherHumidity;
+import com.team1.otvoo.weather.entity.WeatherLocation;
+import com.team1.otvoo.weather.entity.WeatherPrecipitation;
+import com.team1.otvoo.weather.entity.WeatherTemperature;
+import com.team1.otvoo.weather.entity.WeatherWindSpeed;
+import com.team1.otvoo.weather.entity.WindStrength;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DataJpaTest
+@Import(QueryDslConfig.class)
+public class WeatherForecastRepositoryImplTest extends AbstractPostgresTest {
+
+  @Autowired
+  private WeatherForecastRepository weatherForecastRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private static final Instant FORECASTED_AT = Instant.parse("2025-08-16T14:00:00Z");
+
+  private WeatherLocation location;
+
+  @BeforeEach
+  void setUp() {
+    location = new WeatherLocation(60, 127, 37.5, 127.0, List.of("서울"));
+    entityManager.persist(location);
+    entityManager.flush();
+  }
+
+  @Test
+  @DisplayName("새 예보는 부모와 자식 4개 테이블에 모두 저장")
+  void bulkInsert_fresh() {
+    // given
+    List<WeatherForecast> forecasts = List.of(
+        forecast(FORECASTED_AT.plus(1, ChronoUnit.HOURS), 25.0, 20.0, 30.0, 1.5),
+        forecast(FORECASTED_AT.plus(2, ChronoUnit.HOURS), 26.0, 20.0, 30.0, 0.0));
+
+    // when
+    int inserted = weatherForecastRepository.bulkInsert(forecasts);
+
+    // then
+    assertThat(inserted).isEqualTo(2);
+    assertThat(count("weather_forecasts")).isEqualTo(2);
+    assertThat(count("weather_temperatures")).isEqualTo(2);
+    assertThat(count("weather_humidities")).isEqualTo(2);
+    assertThat(count("weather_precipitations")).isEqualTo(2);
+    assertThat(count("weather_wind_speeds")).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("이미 저장된 (위치, 예보 시각, 발표 시각) 예보는 건너뛰고 자식 행도 저장하지 않음")
+  void bulkInsert_conflict() {
+    // given
+    Instant duplicateForecastAt = FORECASTED_AT.plus(1, ChronoUnit.HOURS);
+    weatherForecastRepository.bulkInsert(
+        List.of(forecast(duplicateForecastAt, 25.0, 20.0, 30.0, 1.5)));
+
+    // when
+    int inserted = weatherForecastRepository.bulkInsert(List.of(
+        forecast(duplicateForecastAt, 99.0, 20.0, 30.0, 1.5),
+        forecast(FORECASTED_AT.plus(2, ChronoUnit.HOURS), 26.0, 20.0, 30.0, 0.0)));
+
+    // then
+    // 건너뛴 예보의 자식 행을 저장하면 FK 위반으로 실패하므로 저장된 부모 수만큼만 자식이 있어야 함
+    assertThat(inserted).isEqualTo(1);
+    assertThat(count("weather_forecasts")).isEqualTo(2);
+    assertThat(count("weather_temperatures")).isEqualTo(2);
+    assertThat(count("weather_humidities")).isEqualTo(2);
+    assertThat(count("weather_precipitations")).isEqualTo(2);
+    assertThat(count("weather_wind_speeds")).isEqualTo(2);
+    // 먼저 저장된 예보의 값은 그대로 유지
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT t.current FROM weather_temperatures t JOIN weather_forecasts f ON f.id = t.forecast_id " +
+            "WHERE f.forecast_at = ?", Double.class, Timestamp.from(duplicateForecastAt)))
+        .isEqualTo(25.0);
+  }
+
+  @Test
+  @DisplayName("nullable 인 최저/최고 기온과 강수량은 null 은 null 로, 값은 값 그대로 저장")
+  void bulkInsert_nullableColumns() {
+    // given
+    Instant withoutValues = FORECASTED_AT.plus(1, ChronoUnit.HOURS);
+    Instant withValues = FORECASTED_AT.plus(2, ChronoUnit.HOURS);
+    List<WeatherForecast> forecasts = List.of(
+        forecast(withoutValues, 25.0, null, null, null),
+        forecast(withValues, 26.0, 18.5, 31.5, 2.5));
+
+    // when
+    weatherForecastRepository.bulkInsert(forecasts);
+
+    // then
+    Map<String, Object> nullRow = childRow(withoutValues);
+    assertThat(nullRow.get("current")).isEqualTo(25.0);
+    assertThat(nullRow.get("min")).isNull();
+    assertThat(nullRow.get("max")).isNull();
+    assertThat(nullRow.get("compared_to_day_before")).isNull();
+    assertThat(nullRow.get("amount")).isNull();
+
+    Map<String, Object> valueRow = childRow(withValues);
+    assertThat(valueRow.get("min")).isEqualTo(18.5);
+    assertThat(valueRow.get("max")).isEqualTo(31.5);
+    assertThat(valueRow.get("amount")).isEqualTo(2.5);
+  }
+
+  private WeatherForecast forecast(Instant forecastAt, double current, Double min, Double max,
+      Double amount) {
+    WeatherForecast forecast = new WeatherForecast(FORECASTED_AT, forecastAt, SkyStatus.CLEAR);
+    forecast.setLocation(location);
+    forecast.setTemperature(new WeatherTemperature(forecast, current, min, max, null));
+    forecast.setHumidity(new WeatherHumidity(forecast, 60.0, null));
+    forecast.setPrecipitation(new WeatherPrecipitation(forecast, PrecipitationType.RAIN, amount, 30.0));
+    forecast.setWindSpeed(new WeatherWindSpeed(forecast, 2.0, WindStrength.WEAK));
+    return forecast;
+  }
+
+  private Map<String, Object> childRow(Instant forecastAt) {
+    return jdbcTemplate.queryForMap(
+        "SELECT t.current, t.min, t.max, t.compared_to_day_before, p.amount " +
+            "FROM weather_forecasts f " +
+            "JOIN weather_temperatures t ON t.forecast_id = f.id " +
+            "JOIN weather_precipitations p ON p.forecast_id = f.id " +
+            "WHERE f.forecast_at = ?", Timestamp.from(forecastAt));
+  }
+
+  private long count(String table) {
+    Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    return count != null ? count : 0L;
+  }
+}
@@ -0,0 +1,220 @@
+package com.team1.otvoo.weather.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.team1.otvoo.config.props.WeatherForecastCacheProperties;
+import com.team1.otvoo.weather.cache.WeatherForecastCache;
+import com.team1.otvoo.weather.client.KakaoLocalClient;
+import com.team1.otvoo.weather.client.WeatherClient;
+import com.team1.otvoo.weather.dto.VilageFcstResponse;
+import com.team1.otvoo.weather.dto.VilageFcstResponse.FcstItem;
+import com.team1.otvoo.weather.dto.WeatherDto;
+import com.team1.otvoo.weather.entity.SkyStatus;
+import com.team1.otvoo.weather.entity.WeatherForecast;
+import com.team1.otvoo.weather.entity.WeatherLocation;
+import com.team1.otvoo.weather.factory.WeatherForecastFactory;
+import com.team1.otvoo.weather.mapper.WeatherMapper;
+import com.team1.otvoo.weather.repository.WeatherForecastRepository;
+import com.team1.otvoo.weather.repository.WeatherLocationRepository;
+import com.team1.otvoo.weather.util.GridCoordConverter;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class WeatherForecastServiceImplTest {
+
+  @Mock
+  private GridCoordConverter gridCoordConverter;
+  @Mock
+  private KakaoLocalClient kakaoLocalClient;
+  @Mock
+  private WeatherClient weatherClient;
+  @Mock
+  private WeatherForecastFactory weatherForecastFactory;
+  @Mock
+  private WeatherMapper weatherMapper;
+  @Mock
+  private WeatherForecastRepository weatherForecastRepository;
+  @Mock
+  private WeatherLocationRepository weatherLocationRepository;
+  @Mock
+  private TransactionTemplate transactionTemplate;
+
+  private WeatherForecastServiceImpl weatherForecastService;
+
+  private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+  private static final double LONGITUDE = 126.9780;
+  private static final double LATITUDE = 37.5665;
+
+  private final WeatherLocation location =
+      new WeatherLocation(60, 127, LATITUDE, LONGITUDE, List.of("서울", "중구", "명동"));
+  private final LocalDate tomorrow = LocalDate.now(ZONE).plusDays(1);
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    weatherForecastService = new WeatherForecastServiceImpl(gridCoordConverter, kakaoLocalClient,
+        weatherClient, weatherForecastFactory, weatherMapper, weatherForecastRepository,
+        weatherLocationRepository, new WeatherForecastCache(new WeatherForecastCacheProperties()),
+        transactionTemplate);
+
+    given(gridCoordConverter.convert(LATITUDE, LONGITUDE))
+        .willReturn(new GridCoordConverter.Point(60, 127));
+    given(weatherLocationRepository.findByXAndY(60, 127)).willReturn(Optional.of(location));
+    given(transactionTemplate.execute(any()))
+        .willAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0))
+            .doInTransaction(null));
+    given(weatherMapper.toDto(any(WeatherForecast.class)))
+        .willAnswer(invocation -> toDto(invocation.getArgument(0)));
+  }
+
+  @Test
+  @DisplayName("같은 발표 시각 이후 저장된 예보가 있으면 기상청 API 를 호출하지 않고 재사용")
+  void getWeathers_storedForecasts_noApiCall() {
+    // given
+    Instant storedForecastedAt = Instant.now();
+    List<WeatherForecast> stored = List.of(
+        forecast(storedForecastedAt, tomorrow, 15),
+        forecast(storedForecastedAt, tomorrow.plusDays(1), 15));
+    given(weatherForecastRepository.findLatestForecastedAtSince(eq(location), any(Instant.class)))
+        .willReturn(Optional.of(storedForecastedAt));
+    given(weatherForecastRepository.findAllFetchByLocationAndForecastedAt(location,
+        storedForecastedAt)).willReturn(stored);
+
+    // when
+    List<WeatherDto> result = weatherForecastService.getWeathers(LONGITUDE, LATITUDE);
+
+    // then
+    assertThat(result).extracting(WeatherDto::forecastAt).containsExactly(
+        LocalDateTime.of(tomorrow, LocalTime.of(15, 0)),
+        LocalDateTime.of(tomorrow.plusDays(1), LocalTime.of(15, 0)));
+    then(weatherClient).shouldHaveNoInteractions();
+    then(kakaoLocalClient).shouldHaveNoInteractions();
+    then(weatherForecastRepository).should(never()).saveAll(anyList());
+  }
+
+  @Test
+  @DisplayName("야간 배치가 저장한 시간대별 예보는 API 경로와 같이 첫 예보 시각과 같은 시각만 사용")
+  void getWeathers_batchForecasts_reducedToFirstForecastTime() {
+    // given
+    Instant storedForecastedAt = Instant.now();
+    List<WeatherForecast> stored = List.of(
+        forecast(storedForecastedAt, tomorrow, 16),
+        forecast(storedForecastedAt, tomorrow, 15),
+        forecast(storedForecastedAt, tomorrow, 17),
+        forecast(storedForecastedAt, tomorrow.plusDays(1), 15),
+        forecast(storedForecastedAt, tomorrow.plusDays(1), 16));
+    given(weatherForecastRepository.findLatestForecastedAtSince(eq(location), any(Instant.class)))
+        .willReturn(Optional.of(storedForecastedAt));
+    given(weatherForecastRepository.findAllFetchByLocationAndForecastedAt(location,
+        storedForecastedAt)).willReturn(stored);
+
+    // when
+    List<WeatherDto> result = weatherForecastService.getWeathers(LONGITUDE, LATITUDE);
+
+    // then
+    assertThat(result).extracting(WeatherDto::forecastAt).containsExactly(
+        LocalDateTime.of(tomorrow, LocalTime.of(15, 0)),
+        LocalDateTime.of(tomorrow.plusDays(1), LocalTime.of(15, 0)));
+    then(weatherClient).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("API 로 받은 예보 중 이미 저장된 예보는 재사용하고 나머지만 한 번의 saveAll 로 저장")
+  @SuppressWarnings("unchecked")
+  void getWeathers_apiForecasts_mergedWithSingleSaveAll() {
+    // given
+    String fcstDate = tomorrow.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
+    given(weatherForecastRepository.findLatestForecastedAtSince(eq(location), any(Instant.class)))
+        .willReturn(Optional.empty());
+    given(weatherClient.getForecast(anyString(), anyString(), eq(60), eq(127)))
+        .willReturn(response(List.of(
+            new FcstItem("20250101", "0500", fcstDate, "1500", "SKY", "1", 60, 127),
+            new FcstItem("20250101", "0500", fcstDate, "1600", "SKY", "3", 60, 127))));
+
+    Instant forecastedAt = Instant.now();
+    WeatherForecast storedForecast = forecast(forecastedAt, tomorrow, 15);
+    WeatherForecast duplicateForecast = forecast(forecastedAt, tomorrow, 15);
+    WeatherForecast newForecast = forecast(forecastedAt, tomorrow.plusDays(1), 15);
+    given(weatherForecastFactory.createForecasts(anyList(), eq(location), anyMap(), anyMap()))
+        .willReturn(List.of(duplicateForecast, newForecast));
+    given(weatherForecastRepository.findAllFetchByLocationAndForecastedAt(eq(location),
+        any(Instant.class))).willReturn(List.of(storedForecast));
+    given(weatherForecastRepository.saveAll(anyList()))
+        .willAnswer(invocation -> invocation.getArgument(0));
+
+    // when
+    List<WeatherDto> result = weatherForecastService.getWeathers(LONGITUDE, LATITUDE);
+
+    // then
+    ArgumentCaptor<List<WeatherForecast>> saveCaptor = ArgumentCaptor.forClass(List.class);
+    then(weatherForecastRepository).should(times(1)).saveAll(saveCaptor.capture());
+    assertThat(saveCaptor.getValue()).containsExactly(newForecast);
+
+    // 선택된 fcstTime(첫 항목) 의 예보만 변환
+    ArgumentCaptor<List<FcstItem>> itemsCaptor = ArgumentCaptor.forClass(List.class);
+    then(weatherForecastFactory).should()
+        .createForecasts(itemsCaptor.capture(), eq(location), anyMap(), anyMap());
+    assertThat(itemsCaptor.getValue()).extracting(FcstItem::getFcstTime).containsOnly("1500");
+
+    then(weatherMapper).should().toDto(storedForecast);
+    then(weatherMapper).should(never()).toDto(duplicateForecast);
+    then(kakaoLocalClient).should(never()).getRegionNames(anyDouble(), anyDouble());
+    then(weatherLocationRepository).should(never()).save(any());
+    assertThat(result).hasSize(2);
+  }
+
+  private WeatherForecast forecast(Instant forecastedAt, LocalDate date, int hour) {
+    WeatherForecast forecast = new WeatherForecast(forecastedAt,
+        LocalDateTime.of(date, LocalTime.of(hour, 0)).atZone(ZONE).toInstant(), SkyStatus.CLEAR);
+    forecast.setLocation(location);
+    return forecast;
+  }
+
+  private WeatherDto toDto(WeatherForecast forecast) {
+    return new WeatherDto(null,
+        LocalDateTime.ofInstant(forecast.getForecastedAt(), ZONE),
+        LocalDateTime.ofInstant(forecast.getForecastAt(), ZONE),
+        null, forecast.getSkyStatus(), null, null, null, null);
+  }
+
+  private VilageFcstResponse response(List<FcstItem> items) {
+    VilageFcstResponse.Items responseItems = new VilageFcstResponse.Items();
+    responseItems.setItem(items);
+    VilageFcstResponse.ResponseBody body = new VilageFcstResponse.ResponseBody();
+    body.setItems(responseItems);
+    VilageFcstResponse.Response response = new VilageFcstResponse.Response();
+    response.setBody(body);
+    VilageFcstResponse vilageFcstResponse = new VilageFcstResponse();
+    vilageFcstResponse.setResponse(response);
+    return vilageFcstResponse;
+  }
+}